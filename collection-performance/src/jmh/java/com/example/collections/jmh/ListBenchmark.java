@@ -0,0 +1,324 @@
+package com.example.collections.jmh;
+
+import com.example.collections.ListRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * JMH-бенчмарки, повторяющие сценарии ListPerformanceTester
+ * Одно выполнение метода соответствует одному прогону сценария на operationCount операций
+ *
+ * Запуск: mvn -Pjmh package -DskipTests && java -jar target/benchmarks.jar
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ListBenchmark {
+
+    private static final long SEED = 42L;
+
+    /**
+     * Общие параметры: тип списка и количество операций
+     */
+    @State(Scope.Benchmark)
+    public static class ListParams {
+
+        /**
+         * Имя реализации из ListRegistry; сценарии чтения используют ReadParams (с Arrays.asList),
+         * сценарии с ListIterator.add/remove - IteratorParams
+         */
+        @Param({"ArrayList", "LinkedList", "Vector", "CopyOnWriteArrayList", "SynchronizedList", "ChunkedList",
+                "AdaptiveList"})
+        public String listType;
+
+        @Param({"1000", "10000"})
+        public int operationCount;
+
+        private Supplier<List<Integer>> supplier;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            supplier = ListRegistry.defaults(operationCount).get(listType);
+        }
+
+        List<Integer> newList() {
+            return supplier.get();
+        }
+
+        List<Integer> newFilledList(int size) {
+            return fill(newList(), size);
+        }
+    }
+
+    /**
+     * Параметры сценариев с ListIterator.add/remove: CopyOnWriteArrayList их не поддерживает и не участвует
+     */
+    @State(Scope.Benchmark)
+    public static class IteratorParams {
+
+        @Param({"ArrayList", "LinkedList", "Vector", "SynchronizedList", "ChunkedList", "AdaptiveList"})
+        public String listType;
+
+        @Param({"1000", "10000"})
+        public int operationCount;
+
+        private Supplier<List<Integer>> supplier;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            supplier = ListRegistry.defaults(operationCount).get(listType);
+        }
+    }
+
+    /**
+     * Параметры сценариев чтения: к изменяемым реализациям добавляется Arrays.asList фиксированной длины
+     */
+    @State(Scope.Benchmark)
+    public static class ReadParams {
+
+        @Param({"ArrayList", "LinkedList", "Vector", "CopyOnWriteArrayList", "SynchronizedList", "Arrays.asList",
+                "ChunkedList", "AdaptiveList"})
+        public String listType;
+
+        @Param({"1000", "10000"})
+        public int operationCount;
+
+        private Supplier<List<Integer>> supplier;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            supplier = ListRegistry.defaults(operationCount).get(listType);
+        }
+    }
+
+    /**
+     * Заполненный список для правки через ListIterator, пересоздаваемый перед каждым вызовом
+     */
+    @State(Scope.Thread)
+    public static class IteratorList {
+        List<Integer> list;
+
+        @Setup(Level.Invocation)
+        public void setUp(IteratorParams params) {
+            list = fill(params.supplier.get(), params.operationCount);
+        }
+    }
+
+    private static List<Integer> fill(List<Integer> list, int size) {
+        for (int i = list.size(); i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Пустой список, создаваемый заново перед каждым вызовом
+     */
+    @State(Scope.Thread)
+    public static class EmptyList {
+        List<Integer> list;
+        Random random;
+
+        @Setup(Level.Invocation)
+        public void setUp(ListParams params) {
+            list = params.newList();
+            random = new Random(SEED);
+        }
+    }
+
+    /**
+     * Список с небольшим начальным наполнением, как в testAddToRandomPosition
+     */
+    @State(Scope.Thread)
+    public static class SeededList {
+        List<Integer> list;
+        Random random;
+
+        @Setup(Level.Invocation)
+        public void setUp(ListParams params) {
+            list = params.newFilledList(Math.min(params.operationCount, 100));
+            random = new Random(SEED);
+        }
+    }
+
+    /**
+     * Заполненный список, пересоздаваемый перед каждым вызовом (сценарии удаления)
+     */
+    @State(Scope.Thread)
+    public static class FilledList {
+        List<Integer> list;
+        Random random;
+
+        @Setup(Level.Invocation)
+        public void setUp(ListParams params) {
+            list = params.newFilledList(params.operationCount);
+            random = new Random(SEED);
+        }
+    }
+
+    /**
+     * Заполненный список только для чтения, создаётся один раз на прогон
+     */
+    @State(Scope.Thread)
+    public static class ReadOnlyList {
+        List<Integer> list;
+        int[] randomIndexes;
+
+        @Setup(Level.Trial)
+        public void setUp(ReadParams params) {
+            list = fill(params.supplier.get(), params.operationCount);
+            Random random = new Random(SEED);
+            randomIndexes = new int[params.operationCount];
+            for (int i = 0; i < randomIndexes.length; i++) {
+                randomIndexes[i] = random.nextInt(params.operationCount);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Integer> addToBeginning(ListParams params, EmptyList state) {
+        List<Integer> list = state.list;
+        for (int i = 0; i < params.operationCount; i++) {
+            list.add(0, i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> addToEnd(ListParams params, EmptyList state) {
+        List<Integer> list = state.list;
+        for (int i = 0; i < params.operationCount; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> addToRandomPosition(ListParams params, SeededList state) {
+        List<Integer> list = state.list;
+        for (int i = 0; i < params.operationCount; i++) {
+            int position = list.isEmpty() ? 0 : state.random.nextInt(list.size());
+            list.add(position, i);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public void getByIndex(ReadParams params, ReadOnlyList state, Blackhole blackhole) {
+        List<Integer> list = state.list;
+        for (int i = 0; i < params.operationCount; i++) {
+            blackhole.consume(list.get(i % list.size()));
+        }
+    }
+
+    @Benchmark
+    public void getByRandomIndex(ReadParams params, ReadOnlyList state, Blackhole blackhole) {
+        List<Integer> list = state.list;
+        for (int index : state.randomIndexes) {
+            blackhole.consume(list.get(index));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> removeFromBeginning(FilledList state) {
+        List<Integer> list = state.list;
+        while (!list.isEmpty()) {
+            list.remove(0);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeFromEnd(FilledList state) {
+        List<Integer> list = state.list;
+        while (!list.isEmpty()) {
+            list.remove(list.size() - 1);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> removeFromRandomPosition(FilledList state) {
+        List<Integer> list = state.list;
+        while (!list.isEmpty()) {
+            list.remove(state.random.nextInt(list.size()));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public void searchElement(ReadParams params, ReadOnlyList state, Blackhole blackhole) {
+        List<Integer> list = state.list;
+        for (int i = 0; i < params.operationCount; i++) {
+            blackhole.consume(list.contains(i));
+        }
+    }
+
+    @Benchmark
+    public void iteration(ReadOnlyList state, Blackhole blackhole) {
+        for (Integer value : state.list) {
+            blackhole.consume(value);
+        }
+    }
+
+    @Benchmark
+    public List<Integer> iteratorInsert(IteratorList state, Blackhole blackhole) {
+        ListIterator<Integer> iterator = state.list.listIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+            iterator.add(-1);
+        }
+        return state.list;
+    }
+
+    @Benchmark
+    public List<Integer> iteratorRemove(IteratorList state) {
+        ListIterator<Integer> iterator = state.list.listIterator();
+        boolean remove = true;
+        while (iterator.hasNext()) {
+            iterator.next();
+            if (remove) {
+                iterator.remove();
+            }
+            remove = !remove;
+        }
+        return state.list;
+    }
+
+    @Benchmark
+    public boolean removeIf(FilledList state) {
+        int[] position = {0};
+        return state.list.removeIf(value -> (position[0]++ & 1) == 0);
+    }
+
+    @Benchmark
+    public List<Integer> replaceMiddle(FilledList state) {
+        List<Integer> list = state.list;
+        int from = list.size() / 4;
+        int to = from + list.size() / 2;
+        List<Integer> replacement = new ArrayList<>(list.subList(from, to));
+        list.subList(from, to).clear();
+        list.addAll(from, replacement);
+        return list;
+    }
+}
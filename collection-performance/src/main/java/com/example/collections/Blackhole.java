@@ -0,0 +1,65 @@
+package com.example.collections;
+
+/**
+ * Приёмник результатов замеряемых циклов, не дающий JIT удалить вычисления как мёртвый код
+ * Значение сравнивается с volatile-полями, которые никогда не совпадают, но JIT не может это доказать,
+ * поэтому результат обязан быть вычислен; само сравнение стоит порядка одного такта.
+ * Схема та же, что у org.openjdk.jmh.infra.Blackhole. Экземпляр не предназначен для общего
+ * использования из нескольких потоков
+ */
+public final class Blackhole {
+
+    private volatile int int1 = 1;
+    private volatile int int2 = 2;
+    private volatile long long1 = 1;
+    private volatile long long2 = 2;
+    private volatile boolean boolean1 = false;
+    private volatile boolean boolean2 = true;
+    private volatile Object object1 = new Object();
+
+    /**
+     * Сюда попадает значение, только если условие «никогда» всё же выполнилось
+     */
+    private Object escape;
+
+    /**
+     * @param value потребляемое значение
+     */
+    public void consume(int value) {
+        if (value == int1 & value == int2) {
+            escape = value;
+        }
+    }
+
+    /**
+     * @param value потребляемое значение
+     */
+    public void consume(long value) {
+        if (value == long1 & value == long2) {
+            escape = value;
+        }
+    }
+
+    /**
+     * @param value потребляемое значение
+     */
+    public void consume(boolean value) {
+        if (value == boolean1 & value == boolean2) {
+            escape = value;
+        }
+    }
+
+    /**
+     * @param value потребляемый объект
+     */
+    public void consume(Object value) {
+        if (value == object1) {
+            escape = value;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Blackhole" + (escape == null ? "" : "*");
+    }
+}
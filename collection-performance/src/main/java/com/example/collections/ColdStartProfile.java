@@ -0,0 +1,88 @@
+package com.example.collections;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Набор флагов JVM для замеров холодного старта
+ */
+public enum ColdStartProfile {
+    DEFAULT("default", "CDS JDK, многоуровневая компиляция"),
+    NO_CDS("no-cds", "без CDS", "-Xshare:off"),
+    APP_CDS("appcds", "AppCDS-архив, снятый отдельным запуском"),
+    C1_ONLY("c1", "только C1", "-XX:TieredStopAtLevel=1"),
+    C2_ONLY("c2", "без многоуровневой компиляции", "-XX:-TieredCompilation");
+
+    private final String name;
+    private final String description;
+    private final List<String> flags;
+
+    ColdStartProfile(String name, String description, String... flags) {
+        this.name = name;
+        this.description = description;
+        this.flags = Collections.unmodifiableList(Arrays.asList(flags));
+    }
+
+    /**
+     * Находит профиль по имени
+     * @param name имя профиля (default, no-cds, appcds, c1, c2)
+     * @return профиль
+     * @throws IllegalArgumentException если профиль неизвестен
+     */
+    public static ColdStartProfile parse(String name) {
+        for (ColdStartProfile profile : values()) {
+            if (profile.name.equals(name.trim().toLowerCase(Locale.ROOT))) {
+                return profile;
+            }
+        }
+        throw new IllegalArgumentException("Неизвестный профиль холодного старта: " + name);
+    }
+
+    /**
+     * @return имя профиля для командной строки
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return описание профиля
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * @return нужен ли перед замерами обучающий запуск, создающий AppCDS-архив
+     */
+    public boolean needsArchive() {
+        return this == APP_CDS;
+    }
+
+    /**
+     * Флаги дочерней JVM
+     * @param archive AppCDS-архив (для APP_CDS) или null
+     * @return флаги профиля
+     */
+    public List<String> getFlags(Path archive) {
+        if (!needsArchive()) {
+            return flags;
+        }
+        List<String> archiveFlags = new ArrayList<>(flags);
+        archiveFlags.add("-XX:SharedArchiveFile=" + archive);
+        return archiveFlags;
+    }
+
+    /**
+     * Флаг обучающего запуска, сохраняющего загруженные классы в архив (JDK 13+)
+     * @param archive путь к создаваемому архиву
+     * @return флаг JVM
+     */
+    static String archiveFlag(Path archive) {
+        return "-XX:ArchiveClassesAtExit=" + archive;
+    }
+}
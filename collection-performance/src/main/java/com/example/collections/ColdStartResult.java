@@ -0,0 +1,140 @@
+package com.example.collections;
+
+import java.util.Arrays;
+
+/**
+ * Холодный старт одной реализации в одном тесте с одним профилем флагов JVM
+ * Кривая задержек - медиана по запускам времени каждого вызова теста, начиная с первого
+ */
+public class ColdStartResult {
+
+    /**
+     * Вызов считается вышедшим на плато, если медиана окна вызовов не больше плато на эту долю
+     */
+    static final double STEADY_TOLERANCE = 0.2;
+    private static final int STEADY_WINDOW = 5;
+
+    private final ColdStartProfile profile;
+    private final String scenario;
+    private final String implementation;
+    private final long[] startupNanos;
+    private final long[][] curves;
+
+    /**
+     * Конструктор
+     * @param profile профиль флагов JVM
+     * @param scenario название теста
+     * @param implementation имя реализации
+     * @param startupNanos время от старта JVM до main по запускам, нс
+     * @param curves время каждого вызова по запускам, нс; все кривые одной длины
+     */
+    public ColdStartResult(ColdStartProfile profile, String scenario, String implementation,
+                           long[] startupNanos, long[][] curves) {
+        if (curves.length == 0 || curves.length != startupNanos.length) {
+            throw new IllegalArgumentException("Нужен хотя бы один запуск со временем старта и кривой");
+        }
+        this.profile = profile;
+        this.scenario = scenario;
+        this.implementation = implementation;
+        this.startupNanos = startupNanos.clone();
+        this.curves = curves.clone();
+    }
+
+    /**
+     * @return профиль флагов JVM
+     */
+    public ColdStartProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * @return название теста
+     */
+    public String getScenario() {
+        return scenario;
+    }
+
+    /**
+     * @return имя реализации
+     */
+    public String getImplementation() {
+        return implementation;
+    }
+
+    /**
+     * @return количество запусков JVM
+     */
+    public int getRuns() {
+        return curves.length;
+    }
+
+    /**
+     * @return медиана времени от старта JVM до main, нс
+     */
+    public double getStartupNanos() {
+        return median(startupNanos);
+    }
+
+    /**
+     * @return медиана времени от старта JVM до завершения первого вызова теста, нс
+     */
+    public double getTimeToFirstOperationNanos() {
+        long[] total = new long[curves.length];
+        for (int run = 0; run < curves.length; run++) {
+            total[run] = startupNanos[run] + curves[run][0];
+        }
+        return median(total);
+    }
+
+    /**
+     * @return медиана по запускам времени каждого вызова, нс
+     */
+    public double[] getCurve() {
+        double[] curve = new double[curves[0].length];
+        long[] column = new long[curves.length];
+        for (int call = 0; call < curve.length; call++) {
+            for (int run = 0; run < curves.length; run++) {
+                column[run] = curves[run][call];
+            }
+            curve[call] = median(column);
+        }
+        return curve;
+    }
+
+    /**
+     * @return плато - медиана последней четверти кривой, нс
+     */
+    public double getSteadyNanos() {
+        double[] curve = getCurve();
+        return median(Arrays.copyOfRange(curve, curve.length - Math.max(1, curve.length / 4), curve.length));
+    }
+
+    /**
+     * @return номер вызова (с 1), начиная с которого медиана окна из нескольких вызовов
+     *         не больше плато на STEADY_TOLERANCE
+     */
+    public int getSteadyCall() {
+        double[] curve = getCurve();
+        double limit = getSteadyNanos() * (1 + STEADY_TOLERANCE);
+        int window = Math.min(STEADY_WINDOW, curve.length);
+        for (int call = 0; call + window <= curve.length; call++) {
+            if (median(Arrays.copyOfRange(curve, call, call + window)) <= limit) {
+                return call + 1;
+            }
+        }
+        return curve.length;
+    }
+
+    private static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return TimingStatistics.percentile(sorted, 50);
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.collections;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Замеры холодного старта: каждая пара «тест - реализация» выполняется в новой JVM без прогрева
+ * Дочерняя JVM сообщает время от своего старта до main и время каждого из первых вызовов теста;
+ * запуск повторяется несколько раз для каждого профиля флагов JVM. Для профиля APP_CDS
+ * перед замерами выполняется обучающий запуск, сохраняющий загруженные классы в архив
+ */
+public class ColdStartRunner {
+
+    private final int operationCount;
+    private final int calls;
+    private final int runs;
+    private final List<String> jvmFlags;
+    private final List<ColdStartProfile> profiles;
+
+    /**
+     * Конструктор
+     * @param operationCount количество операций в одном вызове теста
+     * @param calls количество вызовов теста в одной JVM
+     * @param runs количество запусков JVM для каждой пары и профиля
+     * @param jvmFlags общие флаги дочерних JVM
+     * @param profiles сравниваемые профили флагов
+     */
+    public ColdStartRunner(int operationCount, int calls, int runs, List<String> jvmFlags,
+                           List<ColdStartProfile> profiles) {
+        if (calls < 1 || runs < 1 || profiles.isEmpty()) {
+            throw new IllegalArgumentException("Нужны хотя бы один вызов, один запуск и один профиль");
+        }
+        this.operationCount = operationCount;
+        this.calls = calls;
+        this.runs = runs;
+        this.jvmFlags = jvmFlags.stream().filter(flag -> !flag.isEmpty()).collect(Collectors.toList());
+        this.profiles = new ArrayList<>(profiles);
+    }
+
+    /**
+     * Выполняет замеры для выбранных тестов и всех реализаций реестра
+     * @param scenarioFilter фильтр по названию теста
+     * @param registry реестр; в дочерние JVM передаются только имена реализаций
+     * @param onSkip получает сообщение, если профиль пропущен (например, JVM не умеет создавать архив)
+     * @return результаты по тестам, реализациям и профилям; неподдерживаемые операции пропускаются
+     */
+    public List<ColdStartResult> run(Predicate<String> scenarioFilter, ListRegistry registry, Consumer<String> onSkip) {
+        List<String> scenarios = new ListPerformanceTester(operationCount,
+                new MeasurementConfig(0, 0, 1), registry).getScenarioNames();
+        List<String> implementations = new ArrayList<>(registry.getNames());
+        implementations.addAll(registry.getPrimitiveNames());
+
+        Path archiveDirectory = null;
+        try {
+            archiveDirectory = Files.createTempDirectory("cold-start-cds");
+            List<ColdStartResult> results = new ArrayList<>();
+            for (int scenario = 0; scenario < scenarios.size(); scenario++) {
+                if (!scenarioFilter.test(scenarios.get(scenario))) {
+                    continue;
+                }
+                for (String implementation : implementations) {
+                    String description = scenarios.get(scenario) + " / " + implementation;
+                    for (ColdStartProfile profile : profiles) {
+                        Path archive = archiveDirectory.resolve(scenario + "-" + implementation + ".jsa");
+                        if (profile.needsArchive() && !train(scenario, implementation, archive, description)) {
+                            onSkip.accept(profile.getName() + " для " + description
+                                    + ": не удалось создать AppCDS-архив (нужны JDK 13+ и classpath только из jar-файлов)");
+                            continue;
+                        }
+                        ColdStartResult result = measure(profile, profile.getFlags(archive),
+                                scenario, scenarios.get(scenario), implementation, description);
+                        if (result == null) {
+                            // Реализация не поддерживает операцию - остальные профили тоже не помогут
+                            break;
+                        }
+                        results.add(result);
+                    }
+                }
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось создать каталог для AppCDS-архивов", e);
+        } finally {
+            deleteRecursively(archiveDirectory);
+        }
+    }
+
+    private ColdStartResult measure(ColdStartProfile profile, List<String> profileFlags, int scenarioIndex,
+                                    String scenario, String implementation, String description) {
+        long[] startup = new long[runs];
+        long[][] curves = new long[runs][];
+        for (int run = 0; run < runs; run++) {
+            String line = ForkScheduler.launch(command(profileFlags, scenarioIndex, implementation),
+                    description + " (" + profile.getName() + ")");
+            long[][] parsed = parseResult(line);
+            if (parsed == null) {
+                return null;
+            }
+            startup[run] = parsed[0][0];
+            curves[run] = parsed[1];
+        }
+        return new ColdStartResult(profile, scenario, implementation, startup, curves);
+    }
+
+    /**
+     * Обучающий запуск: тот же тест в JVM, сохраняющей загруженные классы в архив при выходе
+     * @return создан ли архив
+     */
+    private boolean train(int scenarioIndex, String implementation, Path archive, String description) {
+        if (Files.exists(archive)) {
+            return true;
+        }
+        List<String> flags = Collections.singletonList(ColdStartProfile.archiveFlag(archive));
+        try {
+            ForkScheduler.launch(command(flags, scenarioIndex, implementation), description + " (обучение CDS)");
+        } catch (IllegalStateException e) {
+            return false;
+        }
+        return Files.exists(archive);
+    }
+
+    /**
+     * Команда запуска дочерней JVM
+     * @param profileFlags флаги профиля
+     * @param scenarioIndex номер теста в getScenarioNames
+     * @param implementation имя реализации
+     * @return аргументы для ProcessBuilder
+     */
+    List<String> command(List<String> profileFlags, int scenarioIndex, String implementation) {
+        List<String> flags = new ArrayList<>(jvmFlags);
+        flags.addAll(profileFlags);
+        List<String> command = ForkScheduler.javaCommand(flags, ColdStartRunner.class);
+        command.add(String.valueOf(scenarioIndex));
+        command.add(implementation);
+        command.add(String.valueOf(operationCount));
+        command.add(String.valueOf(calls));
+        return command;
+    }
+
+    /**
+     * Формирует строку результата дочерней JVM
+     * @param startupNanos время от старта JVM до main, нс
+     * @param curve время каждого вызова, нс, или null, если реализация не поддерживает операцию
+     * @return строка с префиксом ForkScheduler.RESULT_PREFIX
+     */
+    static String formatResult(long startupNanos, long[] curve) {
+        if (curve == null) {
+            return ForkScheduler.RESULT_PREFIX + " " + ForkScheduler.UNSUPPORTED;
+        }
+        return ForkScheduler.RESULT_PREFIX + " " + startupNanos + " "
+                + Arrays.stream(curve).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    /**
+     * Разбирает строку результата дочерней JVM
+     * @param line строка, сформированная formatResult
+     * @return {{время до main}, кривая} или null, если реализация не поддерживает операцию
+     * @throws IllegalArgumentException если строка повреждена
+     */
+    static long[][] parseResult(String line) {
+        String[] fields = line.split(" ");
+        if (fields.length == 2 && ForkScheduler.UNSUPPORTED.equals(fields[1])) {
+            return null;
+        }
+        if (fields.length != 3 || !ForkScheduler.RESULT_PREFIX.equals(fields[0])) {
+            throw new IllegalArgumentException("Некорректный результат дочерней JVM: " + line);
+        }
+        try {
+            return new long[][] {
+                    {Long.parseLong(fields[1])},
+                    Arrays.stream(fields[2].split(",")).mapToLong(Long::parseLong).toArray()};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный результат дочерней JVM: " + line, e);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted((left, right) -> right.compareTo(left)).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            // Временный каталог останется - это не влияет на результаты
+        }
+    }
+
+    /**
+     * Точка входа дочерней JVM: выполняет один тест на одной реализации без прогрева и печатает кривую
+     * @param args номер теста, реализация, количество операций в вызове, количество вызовов
+     */
+    public static void main(String[] args) {
+        // Время до main берётся из RuntimeMXBean; загрузка самого MXBean из него вычитается
+        long beforeUptime = System.nanoTime();
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        long startupNanos = Math.max(0, TimeUnit.MILLISECONDS.toNanos(uptimeMillis)
+                - (System.nanoTime() - beforeUptime));
+
+        int scenarioIndex = Integer.parseInt(args[0]);
+        String implementation = args[1];
+        int operationCount = Integer.parseInt(args[2]);
+        int calls = Integer.parseInt(args[3]);
+
+        ListRegistry registry = Main.createRegistry(operationCount, null, Collections.singletonList(implementation));
+        ListPerformanceTester tester = new ListPerformanceTester(operationCount, new MeasurementConfig(0, 0, 1),
+                registry);
+        long[] curve;
+        try {
+            curve = tester.runCold(tester.getScenarioNames().get(scenarioIndex), implementation, calls);
+        } catch (UnsupportedOperationException e) {
+            curve = null;
+        }
+        System.out.println(formatResult(startupNanos, curve));
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.collections;
+
+/**
+ * Подбор асимптотической сложности по времени одной операции на разных размерах
+ * Для каждой модели t(n) = a + b * f(n) коэффициенты подбираются взвешенным методом наименьших квадратов
+ * по относительной ошибке; выбирается самая простая модель, ошибка которой близка к лучшей
+ */
+public class ComplexityFit {
+
+    /**
+     * Минимальное количество размеров для подбора
+     */
+    public static final int MIN_POINTS = 3;
+
+    /**
+     * Допуск по относительной ошибке, в пределах которого предпочитается более простая модель
+     */
+    private static final double SIMPLER_MODEL_TOLERANCE = 0.05;
+
+    /**
+     * Класс сложности одной операции
+     */
+    public enum Complexity {
+        CONSTANT("O(1)"),
+        LOGARITHMIC("O(log n)"),
+        LINEAR("O(n)"),
+        LINEARITHMIC("O(n log n)"),
+        QUADRATIC("O(n^2)");
+
+        private final String label;
+
+        Complexity(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @param n размер
+         * @return значение функции роста f(n)
+         */
+        double apply(double n) {
+            switch (this) {
+                case CONSTANT:
+                    return 1;
+                case LOGARITHMIC:
+                    return Math.log(n);
+                case LINEAR:
+                    return n;
+                case LINEARITHMIC:
+                    return n * Math.log(n);
+                default:
+                    return n * n;
+            }
+        }
+
+        /**
+         * @return обозначение в O-нотации
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final Complexity complexity;
+    private final double constant;
+    private final double coefficient;
+    private final double error;
+
+    private ComplexityFit(Complexity complexity, double constant, double coefficient, double error) {
+        this.complexity = complexity;
+        this.constant = constant;
+        this.coefficient = coefficient;
+        this.error = error;
+    }
+
+    /**
+     * Подбирает сложность по замерам
+     * @param sizes размеры (по возрастанию)
+     * @param perOperationNanos время одной операции на каждом размере; NaN - замера нет
+     * @return подобранная модель или null, если замеров меньше MIN_POINTS
+     */
+    public static ComplexityFit fit(int[] sizes, double[] perOperationNanos) {
+        if (sizes.length != perOperationNanos.length) {
+            throw new IllegalArgumentException("Количество размеров не совпадает с количеством замеров");
+        }
+        int count = 0;
+        for (double time : perOperationNanos) {
+            if (!Double.isNaN(time) && time > 0) {
+                count++;
+            }
+        }
+        if (count < MIN_POINTS) {
+            return null;
+        }
+        double[] n = new double[count];
+        double[] t = new double[count];
+        for (int i = 0, j = 0; i < sizes.length; i++) {
+            if (!Double.isNaN(perOperationNanos[i]) && perOperationNanos[i] > 0) {
+                n[j] = sizes[i];
+                t[j++] = perOperationNanos[i];
+            }
+        }
+
+        ComplexityFit[] fits = new ComplexityFit[Complexity.values().length];
+        double bestError = Double.MAX_VALUE;
+        for (Complexity complexity : Complexity.values()) {
+            fits[complexity.ordinal()] = fitModel(complexity, n, t);
+            bestError = Math.min(bestError, fits[complexity.ordinal()].error);
+        }
+        for (ComplexityFit fit : fits) {
+            if (fit.error <= bestError + SIMPLER_MODEL_TOLERANCE) {
+                return fit;
+            }
+        }
+        return fits[fits.length - 1];
+    }
+
+    /**
+     * Подбирает a и b для t = a + b * f(n) с весами 1/t^2 (минимизация относительной ошибки), a, b &gt;= 0
+     */
+    private static ComplexityFit fitModel(Complexity complexity, double[] n, double[] t) {
+        double sumW = 0;
+        double sumWf = 0;
+        double sumWt = 0;
+        double sumWff = 0;
+        double sumWft = 0;
+        for (int i = 0; i < n.length; i++) {
+            double w = 1 / (t[i] * t[i]);
+            double f = complexity.apply(n[i]);
+            sumW += w;
+            sumWf += w * f;
+            sumWt += w * t[i];
+            sumWff += w * f * f;
+            sumWft += w * f * t[i];
+        }
+
+        double a;
+        double b;
+        double determinant = sumW * sumWff - sumWf * sumWf;
+        if (complexity == Complexity.CONSTANT || determinant <= 0) {
+            a = sumWt / sumW;
+            b = 0;
+        } else {
+            b = (sumW * sumWft - sumWf * sumWt) / determinant;
+            a = (sumWt - b * sumWf) / sumW;
+            if (b < 0) {
+                a = sumWt / sumW;
+                b = 0;
+            } else if (a < 0) {
+                a = 0;
+                b = sumWft / sumWff;
+            }
+        }
+
+        double sumOfSquares = 0;
+        for (int i = 0; i < n.length; i++) {
+            double relative = (t[i] - a - b * complexity.apply(n[i])) / t[i];
+            sumOfSquares += relative * relative;
+        }
+        return new ComplexityFit(complexity, a, b, Math.sqrt(sumOfSquares / n.length));
+    }
+
+    /**
+     * @return подобранный класс сложности
+     */
+    public Complexity getComplexity() {
+        return complexity;
+    }
+
+    /**
+     * @return постоянная составляющая времени операции a, нс
+     */
+    public double getConstant() {
+        return constant;
+    }
+
+    /**
+     * @return коэффициент при функции роста b, нс
+     */
+    public double getCoefficient() {
+        return coefficient;
+    }
+
+    /**
+     * @return среднеквадратичная относительная ошибка модели (0.1 = 10%)
+     */
+    public double getError() {
+        return error;
+    }
+
+    /**
+     * @param n размер
+     * @return предсказанное моделью время одной операции, нс
+     */
+    public double predict(double n) {
+        return constant + coefficient * complexity.apply(n);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (error=%.0f%%)", complexity.getLabel(), error * 100);
+    }
+}
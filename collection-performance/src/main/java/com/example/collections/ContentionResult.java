@@ -0,0 +1,149 @@
+package com.example.collections;
+
+/**
+ * Результат одного прогона конкурентного теста: реализация, состав потоков
+ * и количество операций, выполненных каждым потоком за отведённое время
+ */
+public class ContentionResult {
+
+    private final String implementationName;
+    private final int readerThreads;
+    private final int writerThreads;
+    private final long durationNanos;
+    private final long[] operationsPerThread;
+
+    /**
+     * Конструктор
+     * @param implementationName имя реализации списка
+     * @param readerThreads количество потоков-читателей
+     * @param writerThreads количество потоков-писателей
+     * @param durationNanos фактическая длительность прогона в наносекундах
+     * @param operationsPerThread операции каждого потока: сначала читатели, затем писатели
+     */
+    public ContentionResult(String implementationName, int readerThreads, int writerThreads,
+                            long durationNanos, long[] operationsPerThread) {
+        if (operationsPerThread.length != readerThreads + writerThreads) {
+            throw new IllegalArgumentException("Количество счётчиков не совпадает с количеством потоков");
+        }
+        this.implementationName = implementationName;
+        this.readerThreads = readerThreads;
+        this.writerThreads = writerThreads;
+        this.durationNanos = durationNanos;
+        this.operationsPerThread = operationsPerThread.clone();
+    }
+
+    /**
+     * @return имя реализации списка
+     */
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    /**
+     * @return количество потоков-читателей
+     */
+    public int getReaderThreads() {
+        return readerThreads;
+    }
+
+    /**
+     * @return количество потоков-писателей
+     */
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    /**
+     * @return общее количество потоков
+     */
+    public int getThreadCount() {
+        return readerThreads + writerThreads;
+    }
+
+    /**
+     * @return фактическая длительность прогона в наносекундах
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    /**
+     * @return операции каждого потока: сначала читатели, затем писатели
+     */
+    public long[] getOperationsPerThread() {
+        return operationsPerThread.clone();
+    }
+
+    /**
+     * @return суммарное количество операций всех потоков
+     */
+    public long getTotalOperations() {
+        long total = 0;
+        for (long operations : operationsPerThread) {
+            total += operations;
+        }
+        return total;
+    }
+
+    /**
+     * @return суммарная пропускная способность, операций в секунду
+     */
+    public double getOperationsPerSecond() {
+        return durationNanos == 0 ? 0 : getTotalOperations() * 1e9 / durationNanos;
+    }
+
+    /**
+     * @return суммарная пропускная способность читателей, операций в секунду
+     */
+    public double getReadsPerSecond() {
+        return throughput(0, readerThreads);
+    }
+
+    /**
+     * @return суммарная пропускная способность писателей, операций в секунду
+     */
+    public double getWritesPerSecond() {
+        return throughput(readerThreads, operationsPerThread.length);
+    }
+
+    private double throughput(int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total += operationsPerThread[i];
+        }
+        return durationNanos == 0 ? 0 : total * 1e9 / durationNanos;
+    }
+
+    /**
+     * Индекс справедливости Джайна: 1 - все потоки выполнили поровну, 1/n - всю работу сделал один поток
+     * @return индекс справедливости от 1/n до 1
+     */
+    public double getFairness() {
+        double sum = 0;
+        double sumOfSquares = 0;
+        for (long operations : operationsPerThread) {
+            sum += operations;
+            sumOfSquares += (double) operations * operations;
+        }
+        return sumOfSquares == 0 ? 1 : sum * sum / (operationsPerThread.length * sumOfSquares);
+    }
+
+    /**
+     * @return отношение операций самого медленного потока к самому быстрому
+     */
+    public double getMinMaxRatio() {
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (long operations : operationsPerThread) {
+            min = Math.min(min, operations);
+            max = Math.max(max, operations);
+        }
+        return max == 0 ? 1 : (double) min / max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d readers, %d writers, %.0f ops/s, fairness=%.2f",
+                implementationName, readerThreads, writerThreads, getOperationsPerSecond(), getFairness());
+    }
+}
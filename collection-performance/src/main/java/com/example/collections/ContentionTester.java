@@ -0,0 +1,279 @@
+package com.example.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Многопоточный тест: читатели и писатели одновременно работают с общим списком
+ * Потоки стартуют одновременно по барьеру и работают фиксированное время;
+ * считаются операции каждого потока, по ним - пропускная способность и справедливость
+ */
+public class ContentionTester {
+
+    /**
+     * Предел размера списка при нагрузке APPEND: по его достижении прогон завершается досрочно
+     */
+    static final int APPEND_LIMIT = 1 << 22;
+    private static final int LIMIT_CHECK_MASK = 1023;
+
+    /**
+     * Вид нагрузки писателей
+     */
+    public enum Workload {
+        /**
+         * Писатели чередуют add в конец и remove, размер списка постоянен
+         */
+        MIXED,
+        /**
+         * Писатели только добавляют в конец, читатели читают по всей текущей длине
+         */
+        APPEND
+    }
+
+    private final int initialSize;
+    private final long durationMillis;
+    private final ListRegistry registry;
+    private final Workload workload;
+
+    /**
+     * Конструктор с потокобезопасными реализациями по умолчанию
+     * @param initialSize начальный размер общего списка
+     * @param durationMillis длительность одного прогона в миллисекундах
+     */
+    public ContentionTester(int initialSize, long durationMillis) {
+        this(initialSize, durationMillis, ListRegistry.concurrent());
+    }
+
+    /**
+     * Конструктор
+     * @param initialSize начальный размер общего списка
+     * @param durationMillis длительность одного прогона в миллисекундах
+     * @param registry реестр потокобезопасных реализаций списков
+     */
+    public ContentionTester(int initialSize, long durationMillis, ListRegistry registry) {
+        this(initialSize, durationMillis, registry, Workload.MIXED);
+    }
+
+    /**
+     * Конструктор
+     * @param initialSize начальный размер общего списка
+     * @param durationMillis длительность одного прогона в миллисекундах
+     * @param registry реестр потокобезопасных реализаций списков
+     * @param workload вид нагрузки писателей
+     */
+    public ContentionTester(int initialSize, long durationMillis, ListRegistry registry, Workload workload) {
+        if (initialSize < 1) {
+            throw new IllegalArgumentException("Начальный размер списка должен быть положительным");
+        }
+        if (durationMillis < 1) {
+            throw new IllegalArgumentException("Длительность прогона должна быть положительной");
+        }
+        this.initialSize = initialSize;
+        this.durationMillis = durationMillis;
+        this.registry = registry;
+        this.workload = workload;
+    }
+
+    /**
+     * @return реестр тестируемых реализаций
+     */
+    public ListRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * @return вид нагрузки писателей
+     */
+    public Workload getWorkload() {
+        return workload;
+    }
+
+    /**
+     * Прогоняет все реализации при 1, 2, 4 ... maxThreads потоках
+     * Перед каждым учитываемым прогоном выполняется такой же прогон без учёта, чтобы код реализации
+     * и потоков успел скомпилироваться JIT и первая конфигурация не измеряла интерпретатор
+     * Реализации, не поддерживающие операции нагрузки (например, remove у списка только для добавления),
+     * пропускаются
+     * @param maxThreads максимальное количество потоков
+     * @param writerPercent доля писателей среди потоков в процентах
+     * @return результаты по реализациям и количеству потоков
+     */
+    public List<ContentionResult> runScaling(int maxThreads, int writerPercent) {
+        List<ContentionResult> results = new ArrayList<>();
+        for (String name : registry.getNames()) {
+            try {
+                for (int threads : threadCounts(maxThreads)) {
+                    int writers = writersFor(threads, writerPercent);
+                    run(name, threads - writers, writers);
+                    results.add(run(name, threads - writers, writers));
+                }
+            } catch (UnsupportedOperationException e) {
+                // Реализация не подходит для этой нагрузки
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Выполняет один прогон: заполняет список, запускает потоки по барьеру и останавливает их через заданное время
+     * Читатель выполняет get по случайному индексу; при нагрузке MIXED писатель чередует add в конец и remove
+     * своего элемента, поэтому размер списка не опускается ниже начального, при APPEND - только добавляет
+     * @param name имя реализации из реестра
+     * @param readers количество потоков-читателей
+     * @param writers количество потоков-писателей
+     * @return результат прогона
+     */
+    public ContentionResult run(String name, int readers, int writers) {
+        if (readers < 0 || writers < 0 || readers + writers == 0) {
+            throw new IllegalArgumentException("Нужен хотя бы один поток");
+        }
+        List<Integer> list = registry.get(name).get();
+        for (int i = list.size(); i < initialSize; i++) {
+            list.add(i);
+        }
+
+        int threadCount = readers + writers;
+        long[] operations = new long[threadCount];
+        long[] sinks = new long[threadCount];
+        CyclicBarrier start = new CyclicBarrier(threadCount + 1);
+        CountDownLatch finished = new CountDownLatch(1);
+        StopFlag stop = new StopFlag();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            int index = i;
+            Runnable body = i < readers
+                    ? () -> read(list, stop, operations, sinks, index)
+                    : workload == Workload.APPEND
+                    ? () -> append(list, stop, finished, operations, index)
+                    : () -> write(list, stop, operations, index);
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    body.run();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                    stop.stopped = true;
+                    finished.countDown();
+                }
+            }, name + "-" + (i < readers ? "reader-" : "writer-") + i);
+            thread.start();
+            threads.add(thread);
+        }
+
+        long elapsed;
+        try {
+            start.await();
+            long startTime = System.nanoTime();
+            finished.await(durationMillis, TimeUnit.MILLISECONDS);
+            stop.stopped = true;
+            elapsed = System.nanoTime() - startTime;
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop.stopped = true;
+            throw new IllegalStateException("Прогон прерван", e);
+        } catch (BrokenBarrierException e) {
+            throw new IllegalStateException("Не удалось запустить потоки одновременно", e);
+        }
+
+        if (failure.get() instanceof UnsupportedOperationException) {
+            throw (UnsupportedOperationException) failure.get();
+        }
+        if (failure.get() != null) {
+            throw new IllegalStateException("Ошибка в потоке теста " + name, failure.get());
+        }
+        ListPerformanceTester.release(list);
+        return new ContentionResult(name, readers, writers, elapsed, operations);
+    }
+
+    private void read(List<Integer> list, StopFlag stop, long[] operations, long[] sinks, int index) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long count = 0;
+        long sink = 0;
+        boolean growing = workload == Workload.APPEND;
+        while (!stop.stopped) {
+            // Список при APPEND только растёт, поэтому индекс меньше прочитанного size() корректен
+            int bound = growing ? list.size() : initialSize;
+            sink += list.get(random.nextInt(bound));
+            count++;
+        }
+        operations[index] = count;
+        // Результат чтений сохраняется, чтобы JIT не удалил их как мёртвый код
+        sinks[index] = sink;
+    }
+
+    private void write(List<Integer> list, StopFlag stop, long[] operations, int index) {
+        long count = 0;
+        boolean added = false;
+        while (!stop.stopped) {
+            if (added) {
+                // Свой элемент ещё в списке, поэтому размер не меньше initialSize + 1
+                list.remove(initialSize);
+            } else {
+                list.add(index);
+            }
+            added = !added;
+            count++;
+        }
+        operations[index] = count;
+    }
+
+    private void append(List<Integer> list, StopFlag stop, CountDownLatch finished, long[] operations, int index) {
+        long count = 0;
+        while (!stop.stopped) {
+            list.add(index);
+            count++;
+            if ((count & LIMIT_CHECK_MASK) == 0 && list.size() >= APPEND_LIMIT) {
+                // Ограничение памяти: прогон завершается для всех потоков
+                stop.stopped = true;
+                finished.countDown();
+            }
+        }
+        operations[index] = count;
+    }
+
+    /**
+     * @param maxThreads максимальное количество потоков
+     * @return степени двойки до maxThreads и само maxThreads
+     */
+    static List<Integer> threadCounts(int maxThreads) {
+        if (maxThreads < 1) {
+            throw new IllegalArgumentException("Нужен хотя бы один поток");
+        }
+        List<Integer> counts = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            counts.add(threads);
+        }
+        counts.add(maxThreads);
+        return counts;
+    }
+
+    /**
+     * @param threads общее количество потоков
+     * @param writerPercent доля писателей в процентах
+     * @return количество писателей (округлённое)
+     */
+    static int writersFor(int threads, int writerPercent) {
+        if (writerPercent < 0 || writerPercent > 100) {
+            throw new IllegalArgumentException("Доля писателей должна быть от 0 до 100%");
+        }
+        return Math.round(threads * writerPercent / 100f);
+    }
+
+    /**
+     * Флаг остановки, общий для потоков одного прогона
+     */
+    private static final class StopFlag {
+        private volatile boolean stopped;
+    }
+}
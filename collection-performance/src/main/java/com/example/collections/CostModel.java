@@ -0,0 +1,228 @@
+package com.example.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Модель стоимости операций по замерам: время одной операции каждой реализации в зависимости от размера
+ * и память на элемент. По модели предсказываются время операции смеси и размер списка для профиля нагрузки,
+ * и реализации ранжируются. Операции смеси сопоставлены тестам ListPerformanceTester (см. getScenario);
+ * set оценивается по get. Между размерами и за их пределами время берётся из подобранной сложности
+ * (ComplexityFit); если размеров меньше трёх - из замера на ближайшем размере, а выше него растёт линейно
+ */
+public class CostModel {
+
+    private static final Map<WorkloadMix.Operation, String> SCENARIOS = new EnumMap<>(WorkloadMix.Operation.class);
+
+    static {
+        SCENARIOS.put(WorkloadMix.Operation.GET, "get(случайный индекс)");
+        SCENARIOS.put(WorkloadMix.Operation.SET, "get(случайный индекс)");
+        SCENARIOS.put(WorkloadMix.Operation.ADD, "add(в конец)");
+        SCENARIOS.put(WorkloadMix.Operation.INSERT, "add(случайная позиция)");
+        SCENARIOS.put(WorkloadMix.Operation.REMOVE, "remove(случайная позиция)");
+        SCENARIOS.put(WorkloadMix.Operation.REMOVE_LAST, "remove(из конца)");
+        SCENARIOS.put(WorkloadMix.Operation.CONTAINS, "search(contains)");
+    }
+
+    private final Map<String, Map<WorkloadMix.Operation, Curve>> curves = new LinkedHashMap<>();
+    private final Map<String, Double> bytesPerElement = new LinkedHashMap<>();
+
+    private CostModel() {
+    }
+
+    /**
+     * @param operation операция смеси
+     * @return название теста, по которому оценивается операция
+     */
+    public static String getScenario(WorkloadMix.Operation operation) {
+        return SCENARIOS.get(operation);
+    }
+
+    /**
+     * @param scenarioName название теста
+     * @return true, если тест нужен модели (удобно как фильтр для SizeSweep.run)
+     */
+    public static boolean isModelScenario(String scenarioName) {
+        return SCENARIOS.containsValue(scenarioName);
+    }
+
+    /**
+     * Строит модель по прогону на ряде размеров
+     * @param sweep результаты SizeSweep (нужны тесты, для которых isModelScenario)
+     * @param footprint занимаемая память или null, если память не учитывается
+     * @return модель стоимости
+     */
+    public static CostModel fromSweep(SweepResult sweep, FootprintResult footprint) {
+        CostModel model = new CostModel();
+        int[] sizes = sweep.getSizes().stream().mapToInt(Integer::intValue).toArray();
+        for (Map.Entry<WorkloadMix.Operation, String> entry : SCENARIOS.entrySet()) {
+            if (!sweep.getScenarioNames().contains(entry.getValue())) {
+                continue;
+            }
+            for (String name : sweep.getImplementationNames(entry.getValue())) {
+                model.put(name, entry.getKey(), sizes, sweep.getPerOperationNanos(entry.getValue(), name));
+            }
+        }
+        model.putFootprint(footprint);
+        return model;
+    }
+
+    /**
+     * Строит модель по результатам одного прогона (один размер: количество операций теста)
+     * @param results результаты тестов
+     * @param footprint занимаемая память или null
+     * @return модель стоимости
+     */
+    public static CostModel fromResults(PerformanceResult[] results, FootprintResult footprint) {
+        CostModel model = new CostModel();
+        for (Map.Entry<WorkloadMix.Operation, String> entry : SCENARIOS.entrySet()) {
+            for (PerformanceResult result : results) {
+                if (!result.getOperationName().equals(entry.getValue())) {
+                    continue;
+                }
+                int size = result.getOperationCount();
+                for (String name : result.getImplementationNames()) {
+                    TimingStatistics statistics = result.getStatistics(name);
+                    double nanos = statistics == null ? Double.NaN : statistics.getMean() / size;
+                    model.put(name, entry.getKey(), new int[] {size}, new double[] {nanos});
+                }
+            }
+        }
+        model.putFootprint(footprint);
+        return model;
+    }
+
+    private void put(String name, WorkloadMix.Operation operation, int[] sizes, double[] nanos) {
+        curves.computeIfAbsent(name, key -> new EnumMap<>(WorkloadMix.Operation.class))
+                .put(operation, new Curve(sizes, nanos));
+    }
+
+    private void putFootprint(FootprintResult footprint) {
+        if (footprint == null) {
+            return;
+        }
+        for (String name : footprint.getImplementationNames()) {
+            MemoryFootprint memory = footprint.getFootprint(name);
+            bytesPerElement.put(name, memory.perElement(memory.getTotalBytes() + memory.getOffHeapBytes()));
+        }
+    }
+
+    /**
+     * @return реализации, для которых есть замеры
+     */
+    public Set<String> getImplementationNames() {
+        Set<String> names = new LinkedHashSet<>(curves.keySet());
+        names.addAll(bytesPerElement.keySet());
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * @param implementation имя реализации
+     * @param operation операция смеси
+     * @param size размер списка
+     * @return предсказанное время одной операции в нс или NaN, если замеров нет (операция не поддерживается)
+     */
+    public double predictNanos(String implementation, WorkloadMix.Operation operation, int size) {
+        Map<WorkloadMix.Operation, Curve> byOperation = curves.get(implementation);
+        Curve curve = byOperation == null ? null : byOperation.get(operation);
+        return curve == null ? Double.NaN : curve.predict(size);
+    }
+
+    /**
+     * @param implementation имя реализации
+     * @param size размер списка
+     * @return предсказанный размер списка в байтах или -1, если память не измерялась
+     */
+    public long predictBytes(String implementation, int size) {
+        Double perElement = bytesPerElement.get(implementation);
+        return perElement == null ? -1 : Math.round(perElement * size);
+    }
+
+    /**
+     * Ранжирует реализации под профиль: сначала подходящие по возрастанию времени операции смеси,
+     * затем неподходящие с причиной. При ограничении памяти реализация без замера памяти не подходит.
+     * Для нескольких потоков подходят только потокобезопасные реализации
+     * (ListRegistry.THREAD_SAFE), но время берётся однопоточное: конкуренция за блокировки не учитывается,
+     * и синхронизированные и неблокирующие списки ранжируются по стоимости без конкуренции
+     * @param profile профиль нагрузки
+     * @return прогнозы по всем реализациям модели
+     */
+    public List<Recommendation> recommend(WorkloadProfile profile) {
+        List<Recommendation> recommendations = new ArrayList<>();
+        for (String name : getImplementationNames()) {
+            double nanos = 0;
+            String missing = null;
+            for (Map.Entry<WorkloadMix.Operation, Integer> entry : profile.getMix().getWeights().entrySet()) {
+                if (entry.getValue() == 0) {
+                    continue;
+                }
+                double operationNanos = predictNanos(name, entry.getKey(), profile.getSize());
+                if (Double.isNaN(operationNanos)) {
+                    missing = missing == null ? entry.getKey().getKey() : missing + ", " + entry.getKey().getKey();
+                } else {
+                    nanos += profile.getMix().getShare(entry.getKey()) * operationNanos;
+                }
+            }
+            long bytes = predictBytes(name, profile.getSize());
+
+            String rejection = null;
+            if (missing != null) {
+                nanos = Double.NaN;
+                rejection = "нет замеров: " + missing;
+            } else if (profile.getThreads() > 1 && !ListRegistry.THREAD_SAFE.contains(name)) {
+                rejection = "не потокобезопасен";
+            } else if (profile.getMemoryBudgetBytes() != WorkloadProfile.UNLIMITED_MEMORY && bytes < 0) {
+                rejection = "память не измерена";
+            } else if (bytes > profile.getMemoryBudgetBytes()) {
+                rejection = "больше ограничения памяти";
+            }
+            recommendations.add(new Recommendation(name, nanos, bytes, rejection));
+        }
+        recommendations.sort(Comparator.comparing((Recommendation r) -> !r.isEligible())
+                .thenComparing(r -> Double.isNaN(r.getNanosPerOperation()))
+                .thenComparingDouble(Recommendation::getNanosPerOperation));
+        return recommendations;
+    }
+
+    /**
+     * Время одной операции на измеренных размерах и подобранная по нему сложность
+     */
+    private static final class Curve {
+        private final int[] sizes;
+        private final double[] nanos;
+        private final ComplexityFit fit;
+
+        Curve(int[] sizes, double[] nanos) {
+            this.sizes = sizes.clone();
+            this.nanos = nanos.clone();
+            this.fit = ComplexityFit.fit(this.sizes, this.nanos);
+        }
+
+        double predict(int size) {
+            if (fit != null) {
+                return Math.max(0, fit.predict(size));
+            }
+            int nearest = -1;
+            for (int i = 0; i < sizes.length; i++) {
+                if (Double.isNaN(nanos[i])) {
+                    continue;
+                }
+                if (nearest < 0 || Math.abs(sizes[i] - size) < Math.abs(sizes[nearest] - size)) {
+                    nearest = i;
+                }
+            }
+            if (nearest < 0) {
+                return Double.NaN;
+            }
+            // Без подобранной сложности рост выше последнего замера считается линейным (оценка сверху)
+            return nanos[nearest] * Math.max(1, (double) size / sizes[nearest]);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.collections;
+
+import org.openjdk.jol.info.GraphLayout;
+import org.openjdk.jol.util.Multiset;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Измеряет память, удерживаемую заполненным списком
+ * Граф объектов обходится JOL (GraphLayout) с разбивкой по классам,
+ * а прирост кучи независимо проверяется по MemoryMXBean после принудительной сборки мусора
+ * При первом обращении JOL пытается подключить к себе агент; без -Djdk.attach.allowAttachSelf=true
+ * он печатает "WARNING: Unable to get Instrumentation" и считает размеры через Unsafe - на результат
+ * это не влияет. Флаг читается только при старте JVM, поэтому задаётся в командной строке (в тестах - surefire)
+ */
+public class FootprintMeter {
+
+    private static final int MAX_GC_ATTEMPTS = 10;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final List<BufferPoolMXBean> bufferPools =
+            ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class);
+
+    /**
+     * Создаёт и заполняет список, затем измеряет занимаемую им память
+     * @param filledList фабрика, возвращающая уже заполненный список
+     * @param elementCount количество элементов в списке
+     * @param elementType класс элементов (например, Integer.class; для примитивных списков - null)
+     * @return занимаемая память
+     */
+    public MemoryFootprint measure(Supplier<?> filledList, int elementCount, Class<?> elementType) {
+        forceGc();
+        long heapBefore = memoryBean.getHeapMemoryUsage().getUsed();
+        long offHeapBefore = offHeapUsed();
+
+        Object list = filledList.get();
+
+        forceGc();
+        long retainedHeap = Math.max(0, memoryBean.getHeapMemoryUsage().getUsed() - heapBefore);
+        long offHeap = Math.max(0, offHeapUsed() - offHeapBefore);
+
+        Multiset<Class<?>> classSizes = GraphLayout.parseInstance(list).getClassSizes();
+        long arrays = 0;
+        long elements = 0;
+        long nodes = 0;
+        for (Class<?> type : classSizes.keys()) {
+            long size = classSizes.count(type);
+            if (type.equals(elementType)) {
+                elements += size;
+            } else if (type.isArray()) {
+                arrays += size;
+            } else {
+                nodes += size;
+            }
+        }
+
+        Reference.reachabilityFence(list);
+        return new MemoryFootprint(elementCount, arrays, nodes, elements, retainedHeap, offHeap);
+    }
+
+    /**
+     * Вызывает сборку мусора, пока не будет собран контрольный объект
+     */
+    private void forceGc() {
+        WeakReference<Object> sentinel = new WeakReference<>(new Object());
+        for (int attempt = 0; attempt < MAX_GC_ATTEMPTS && sentinel.get() != null; attempt++) {
+            System.gc();
+        }
+        // Повторная сборка добирает объекты, ставшие недостижимыми после финализации
+        System.gc();
+    }
+
+    private long offHeapUsed() {
+        long used = 0;
+        for (BufferPoolMXBean pool : bufferPools) {
+            used += Math.max(0, pool.getMemoryUsed());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Результат измерения занимаемой памяти для всех реализаций списка одного размера
+ */
+public class FootprintResult {
+
+    private final int elementCount;
+    private final Map<String, MemoryFootprint> footprints;
+
+    /**
+     * Конструктор
+     * @param elementCount количество элементов в каждом списке
+     * @param footprints занимаемая память по имени реализации
+     */
+    public FootprintResult(int elementCount, Map<String, MemoryFootprint> footprints) {
+        this.elementCount = elementCount;
+        this.footprints = Collections.unmodifiableMap(new LinkedHashMap<>(footprints));
+    }
+
+    /**
+     * @return количество элементов в каждом списке
+     */
+    public int getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * @return имена реализаций в порядке регистрации
+     */
+    public Set<String> getImplementationNames() {
+        return footprints.keySet();
+    }
+
+    /**
+     * @param name имя реализации
+     * @return занимаемая память
+     */
+    public MemoryFootprint getFootprint(String name) {
+        MemoryFootprint footprint = footprints.get(name);
+        if (footprint == null) {
+            throw new IllegalArgumentException("Нет результата для реализации: " + name);
+        }
+        return footprint;
+    }
+
+    /**
+     * @return имена реализаций от самой компактной к самой объёмной
+     */
+    public List<String> getRanking() {
+        List<String> ranking = new ArrayList<>(footprints.keySet());
+        ranking.sort(Comparator.comparingLong(name -> footprints.get(name).getTotalBytes()
+                + footprints.get(name).getOffHeapBytes()));
+        return ranking;
+    }
+
+}
@@ -0,0 +1,286 @@
+package com.example.collections;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Запускает каждую пару «тест - реализация» в отдельной JVM
+ * Так профили JIT и состояние кучи одного теста не влияют на другие: в общей JVM вызовы методов List
+ * после нескольких реализаций становятся мегаморфными. Дочерняя JVM выполняет прогрев и замеры как обычно
+ * и печатает сырые замеры одной строкой с префиксом RESULT_PREFIX; статистика пересчитывается здесь же.
+ * При parallelism &gt; 1 процессы выполняются одновременно и делят ядра, поэтому точность ниже
+ */
+public class ForkScheduler {
+
+    /**
+     * Префикс строки результата в выводе дочерней JVM; остальной вывод попадает только в сообщение об ошибке
+     */
+    static final String RESULT_PREFIX = "FORK-RESULT";
+    static final String UNSUPPORTED = "UNSUPPORTED";
+    private static final String NO_JIT = "-";
+    private static final int OUTPUT_TAIL_LINES = 20;
+
+    private final int operationCount;
+    private final MeasurementConfig config;
+    private final List<String> jvmFlags;
+    private final int parallelism;
+    private final Path mappedDirectory;
+
+    /**
+     * Конструктор
+     * @param operationCount количество операций в каждом тесте
+     * @param config настройки прогрева и замеров для дочерних JVM
+     * @param jvmFlags флаги дочерних JVM (например, -Xmx1g -XX:+UseParallelGC)
+     * @param parallelism сколько дочерних JVM выполняется одновременно
+     * @param mappedDirectory каталог для списка в отображённом файле или null
+     */
+    public ForkScheduler(int operationCount, MeasurementConfig config, List<String> jvmFlags, int parallelism,
+                         Path mappedDirectory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Нужна хотя бы одна дочерняя JVM одновременно");
+        }
+        this.operationCount = operationCount;
+        this.config = config;
+        this.jvmFlags = jvmFlags.stream().filter(flag -> !flag.isEmpty()).collect(Collectors.toList());
+        this.parallelism = parallelism;
+        this.mappedDirectory = mappedDirectory;
+    }
+
+    /**
+     * Выполняет выбранные тесты на всех реализациях реестра, по одной JVM на пару
+     * @param scenarioFilter фильтр по названию теста
+     * @param registry реестр; в дочерние JVM передаются только имена реализаций
+     * @return результаты в том же порядке, что и у ListPerformanceTester.runTests
+     */
+    public PerformanceResult[] run(Predicate<String> scenarioFilter, ListRegistry registry) {
+        List<String> scenarios = new ListPerformanceTester(operationCount, config, registry).getScenarioNames();
+        List<String> implementations = new ArrayList<>(registry.getNames());
+        implementations.addAll(registry.getPrimitiveNames());
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            Map<String, Map<String, Future<TimingStatistics>>> futures = new LinkedHashMap<>();
+            for (int scenario = 0; scenario < scenarios.size(); scenario++) {
+                if (!scenarioFilter.test(scenarios.get(scenario))) {
+                    continue;
+                }
+                Map<String, Future<TimingStatistics>> perImplementation = new LinkedHashMap<>();
+                for (String implementation : implementations) {
+                    List<String> command = command(scenario, implementation);
+                    String description = scenarios.get(scenario) + " / " + implementation;
+                    perImplementation.put(implementation, executor.submit(() -> fork(command, description)));
+                }
+                futures.put(scenarios.get(scenario), perImplementation);
+            }
+
+            List<PerformanceResult> results = new ArrayList<>();
+            for (Map.Entry<String, Map<String, Future<TimingStatistics>>> scenario : futures.entrySet()) {
+                Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+                for (Map.Entry<String, Future<TimingStatistics>> implementation : scenario.getValue().entrySet()) {
+                    statistics.put(implementation.getKey(), await(implementation.getValue()));
+                }
+                results.add(new PerformanceResult(scenario.getKey(), operationCount, statistics));
+            }
+            return results.toArray(new PerformanceResult[0]);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static TimingStatistics await(Future<TimingStatistics> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ожидание дочерней JVM прервано", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Команда запуска дочерней JVM: тот же java и classpath, что у текущей
+     * Тест передаётся номером, а не названием, чтобы не зависеть от кодировки командной строки
+     * @param scenarioIndex номер теста в getScenarioNames
+     * @param implementation имя реализации
+     * @return аргументы для ProcessBuilder
+     */
+    List<String> command(int scenarioIndex, String implementation) {
+        List<String> command = javaCommand(jvmFlags, ForkScheduler.class);
+        command.add(String.valueOf(scenarioIndex));
+        command.add(implementation);
+        command.add(String.valueOf(operationCount));
+        command.add(String.valueOf(config.getMinWarmupIterations()));
+        command.add(String.valueOf(config.getMaxWarmupIterations()));
+        command.add(String.valueOf(config.getMeasurementIterations()));
+        command.add(String.valueOf(config.getSteadyStateWindow()));
+        command.add(String.valueOf(config.getSteadyStateThreshold()));
+        if (mappedDirectory != null) {
+            command.add(mappedDirectory.toString());
+        }
+        return command;
+    }
+
+    /**
+     * Начало команды запуска дочерней JVM с тем же java и classpath, что у текущей
+     * @param jvmFlags флаги дочерней JVM
+     * @param mainClass класс с точкой входа
+     * @return изменяемый список аргументов, к которому добавляются аргументы точки входа
+     */
+    static List<String> javaCommand(List<String> jvmFlags, Class<?> mainClass) {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmFlags);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        return command;
+    }
+
+    private static TimingStatistics fork(List<String> command, String description) {
+        return parseResult(launch(command, description));
+    }
+
+    /**
+     * Запускает дочернюю JVM и дожидается её строки результата
+     * @param command команда запуска
+     * @param description что выполняет дочерняя JVM, для сообщения об ошибке
+     * @return строка с префиксом RESULT_PREFIX
+     * @throws IllegalStateException если JVM завершилась с ошибкой или без результата
+     */
+    static String launch(List<String> command, String description) {
+        Process process;
+        try {
+            process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось запустить дочернюю JVM", e);
+        }
+
+        String resultLine = null;
+        Deque<String> tail = new ArrayDeque<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    resultLine = line;
+                } else {
+                    tail.addLast(line);
+                    if (tail.size() > OUTPUT_TAIL_LINES) {
+                        tail.removeFirst();
+                    }
+                }
+            }
+            int exitCode = process.waitFor();
+            if (exitCode != 0 || resultLine == null) {
+                throw new IllegalStateException("Дочерняя JVM (" + description + ") завершилась с кодом "
+                        + exitCode + " без результата:" + System.lineSeparator()
+                        + String.join(System.lineSeparator(), tail));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать вывод дочерней JVM", e);
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ожидание дочерней JVM прервано", e);
+        }
+        return resultLine;
+    }
+
+    /**
+     * Формирует строку результата дочерней JVM
+     * @param statistics статистика или null, если реализация не поддерживает операцию
+     * @return строка с префиксом RESULT_PREFIX
+     */
+    static String formatResult(TimingStatistics statistics) {
+        if (statistics == null) {
+            return RESULT_PREFIX + " " + UNSUPPORTED;
+        }
+        ResourceUsage usage = statistics.getResourceUsage();
+        JitActivity jit = statistics.getJitActivity();
+        return RESULT_PREFIX + " " + statistics.getWarmupIterations() + " " + statistics.isSteadyState()
+                + " " + usage.getAllocatedBytes() + " " + usage.getGcCount() + " " + usage.getGcTimeMillis()
+                + " " + join(statistics.getRawSamples())
+                + " " + (jit.isSupported() ? jit.getWarmupCompilationMillis() + " " + join(jit.getCompilationMillis())
+                        : NO_JIT + " " + NO_JIT);
+    }
+
+    private static String join(long[] values) {
+        return Arrays.stream(values).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static long[] split(String values) {
+        return Arrays.stream(values.split(",")).mapToLong(Long::parseLong).toArray();
+    }
+
+    /**
+     * Восстанавливает статистику из строки результата дочерней JVM
+     * @param line строка, сформированная formatResult
+     * @return статистика или null, если реализация не поддерживает операцию
+     * @throws IllegalArgumentException если строка повреждена
+     */
+    static TimingStatistics parseResult(String line) {
+        String[] fields = line.split(" ");
+        if (fields.length == 2 && UNSUPPORTED.equals(fields[1])) {
+            return null;
+        }
+        if (fields.length != 9 || !RESULT_PREFIX.equals(fields[0])) {
+            throw new IllegalArgumentException("Некорректный результат дочерней JVM: " + line);
+        }
+        try {
+            long[] samples = split(fields[6]);
+            ResourceUsage usage = new ResourceUsage(Long.parseLong(fields[3]), Double.parseDouble(fields[4]),
+                    Double.parseDouble(fields[5]));
+            JitActivity jit = NO_JIT.equals(fields[7])
+                    ? JitActivity.UNSUPPORTED
+                    : new JitActivity(Long.parseLong(fields[7]), split(fields[8]));
+            return new TimingStatistics(samples, Integer.parseInt(fields[1]), Boolean.parseBoolean(fields[2]), usage,
+                    jit);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный результат дочерней JVM: " + line, e);
+        }
+    }
+
+    /**
+     * Точка входа дочерней JVM: выполняет один тест на одной реализации и печатает результат
+     * @param args номер теста, реализация, количество операций, минимум и максимум итераций прогрева,
+     *             число замеров, окно и порог стабильности, [каталог для отображённого файла]
+     */
+    public static void main(String[] args) {
+        int scenarioIndex = Integer.parseInt(args[0]);
+        String implementation = args[1];
+        int operationCount = Integer.parseInt(args[2]);
+        MeasurementConfig config = new MeasurementConfig(Integer.parseInt(args[3]), Integer.parseInt(args[4]),
+                Integer.parseInt(args[5]), Integer.parseInt(args[6]), Double.parseDouble(args[7]));
+        Path mappedDirectory = args.length > 8 ? Paths.get(args[8]) : null;
+
+        ListRegistry registry = Main.createRegistry(operationCount, mappedDirectory,
+                Collections.singletonList(implementation));
+        ListPerformanceTester tester = new ListPerformanceTester(operationCount, config, registry);
+        String scenario = tester.getScenarioNames().get(scenarioIndex);
+        PerformanceResult[] results = tester.runTests(scenario::equals);
+        System.out.println(formatResult(results[0].getStatistics(implementation)));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.collections;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Распределение позиций, к которым обращается смешанная нагрузка
+ * Позиции генерируются заранее, до замеряемого участка
+ */
+public enum IndexDistribution {
+
+    /**
+     * Равномерно по всему списку
+     */
+    UNIFORM,
+
+    /**
+     * Подряд: 0, 1, 2 ... с возвратом в начало
+     */
+    SEQUENTIAL,
+
+    /**
+     * 90% обращений приходится на первые 10% позиций
+     */
+    HOTSPOT,
+
+    /**
+     * Закон Ципфа с показателем 0.99: позиция k выбирается с вероятностью, пропорциональной 1/(k+1)^0.99
+     */
+    ZIPF;
+
+    private static final double HOT_ACCESS_SHARE = 0.9;
+    private static final double HOT_SET_SHARE = 0.1;
+    private static final double ZIPF_EXPONENT = 0.99;
+
+    /**
+     * Генерирует позиции
+     * @param count количество позиций
+     * @param range позиции берутся из диапазона [0, range)
+     * @param random генератор случайных чисел
+     * @return позиции
+     */
+    public int[] sample(int count, int range, Random random) {
+        if (range < 1) {
+            throw new IllegalArgumentException("Диапазон позиций должен быть положительным");
+        }
+        int[] indices = new int[count];
+        switch (this) {
+            case UNIFORM:
+                for (int i = 0; i < count; i++) {
+                    indices[i] = random.nextInt(range);
+                }
+                break;
+            case SEQUENTIAL:
+                for (int i = 0; i < count; i++) {
+                    indices[i] = i % range;
+                }
+                break;
+            case HOTSPOT:
+                int hotSet = Math.max(1, (int) (range * HOT_SET_SHARE));
+                for (int i = 0; i < count; i++) {
+                    boolean hot = random.nextDouble() < HOT_ACCESS_SHARE || hotSet == range;
+                    indices[i] = hot ? random.nextInt(hotSet) : hotSet + random.nextInt(range - hotSet);
+                }
+                break;
+            default:
+                double[] cumulative = zipfCumulative(range);
+                for (int i = 0; i < count; i++) {
+                    int position = Arrays.binarySearch(cumulative, random.nextDouble());
+                    indices[i] = Math.min(range - 1, position >= 0 ? position : -position - 1);
+                }
+                break;
+        }
+        return indices;
+    }
+
+    /**
+     * @param range количество позиций
+     * @return нормированная функция распределения Ципфа по позициям
+     */
+    private static double[] zipfCumulative(int range) {
+        double[] cumulative = new double[range];
+        double sum = 0;
+        for (int k = 0; k < range; k++) {
+            sum += 1 / Math.pow(k + 1, ZIPF_EXPONENT);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < range; k++) {
+            cumulative[k] /= sum;
+        }
+        return cumulative;
+    }
+}
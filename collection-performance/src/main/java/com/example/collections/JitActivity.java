@@ -0,0 +1,88 @@
+package com.example.collections;
+
+import java.util.Arrays;
+
+/**
+ * Работа JIT-компилятора во время прогрева и каждого замера серии
+ * Замер, во время которого компилятор работал, мог выполняться частично интерпретируемым
+ * или ещё не окончательно скомпилированным кодом
+ * Счётчик CompilationMXBean целый в миллисекундах: компиляция короче миллисекунды (частая у C2 для небольших
+ * методов) может не сдвинуть его, поэтому 0 означает «компиляция не замечена», а не «компилятор не работал»
+ */
+public class JitActivity {
+
+    /**
+     * Активность неизвестна: JVM не сообщает время компиляции
+     */
+    public static final JitActivity UNSUPPORTED = new JitActivity(false, 0, new long[0]);
+
+    private final boolean supported;
+    private final long warmupCompilationMillis;
+    private final long[] compilationMillis;
+
+    /**
+     * Конструктор
+     * @param warmupCompilationMillis время компиляции за прогрев в мс
+     * @param compilationMillis время компиляции за каждый замер в мс, в порядке выполнения
+     */
+    public JitActivity(long warmupCompilationMillis, long[] compilationMillis) {
+        this(true, warmupCompilationMillis, compilationMillis);
+    }
+
+    private JitActivity(boolean supported, long warmupCompilationMillis, long[] compilationMillis) {
+        this.supported = supported;
+        this.warmupCompilationMillis = warmupCompilationMillis;
+        this.compilationMillis = compilationMillis.clone();
+    }
+
+    /**
+     * @return известна ли активность компилятора
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * @return время компиляции за прогрев в мс
+     */
+    public long getWarmupCompilationMillis() {
+        return warmupCompilationMillis;
+    }
+
+    /**
+     * @return время компиляции за каждый замер в мс, в порядке выполнения
+     */
+    public long[] getCompilationMillis() {
+        return compilationMillis.clone();
+    }
+
+    /**
+     * @param sample номер замера в порядке выполнения
+     * @return сдвинулся ли за замер счётчик времени компиляции (короткие компиляции могут быть не видны)
+     */
+    public boolean isOverlapped(int sample) {
+        return compilationMillis[sample] > 0;
+    }
+
+    /**
+     * @return количество замеров, во время которых работал компилятор
+     */
+    public int getOverlappedCount() {
+        return (int) Arrays.stream(compilationMillis).filter(millis -> millis > 0).count();
+    }
+
+    /**
+     * @return время компиляции за все замеры в мс
+     */
+    public long getMeasurementCompilationMillis() {
+        return Arrays.stream(compilationMillis).sum();
+    }
+
+    @Override
+    public String toString() {
+        return supported
+                ? String.format("JIT: прогрев %d мс, замеры %d мс (%d из %d)", warmupCompilationMillis,
+                        getMeasurementCompilationMillis(), getOverlappedCount(), compilationMillis.length)
+                : "JIT: нет данных";
+    }
+}
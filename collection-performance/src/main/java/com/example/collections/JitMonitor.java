@@ -0,0 +1,57 @@
+package com.example.collections;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+/**
+ * Источник суммарного времени JIT-компиляции (CompilationMXBean)
+ * Время растёт, пока компилятор работает над любым методом JVM, включая повторную компиляцию
+ * после деоптимизации; сами деоптимизации и уровень (C1/C2) через этот интерфейс не видны
+ */
+public class JitMonitor {
+
+    /**
+     * Монитор без данных: для JVM без JIT и для детерминированных тестов
+     */
+    public static final JitMonitor NONE = new JitMonitor(null);
+
+    private final LongSupplier totalCompilationMillis;
+
+    /**
+     * Конструктор для текущей JVM
+     */
+    public JitMonitor() {
+        this(compilationTimeSource());
+    }
+
+    /**
+     * Конструктор
+     * @param totalCompilationMillis источник суммарного времени компиляции в мс или null, если его нет
+     */
+    JitMonitor(LongSupplier totalCompilationMillis) {
+        this.totalCompilationMillis = totalCompilationMillis;
+    }
+
+    private static LongSupplier compilationTimeSource() {
+        CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+        if (bean == null || !bean.isCompilationTimeMonitoringSupported()) {
+            return null;
+        }
+        return bean::getTotalCompilationTime;
+    }
+
+    /**
+     * @return доступно ли время компиляции
+     */
+    public boolean isSupported() {
+        return totalCompilationMillis != null;
+    }
+
+    /**
+     * @return суммарное время JIT-компиляции с запуска JVM в мс (0, если недоступно)
+     */
+    public long getTotalCompilationMillis() {
+        return totalCompilationMillis == null ? 0 : totalCompilationMillis.getAsLong();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.collections;
+
+import com.example.collections.instrument.HistogramSnapshot;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Результат теста задержки отдельных операций: гистограмма задержек одной операции по реализациям
+ */
+public class LatencyResult {
+
+    /**
+     * Начало названия результата в отчётах и выгрузке: latency.add(в конец), latency.get(по индексу) ...
+     */
+    public static final String LATENCY_PREFIX = "latency.";
+
+    /**
+     * Наибольший размер выборки, восстанавливаемой из гистограммы для TimingStatistics
+     */
+    static final int MAX_SAMPLES = 1000;
+
+    private final String scenarioName;
+    private final int batchSize;
+    private final Map<String, HistogramSnapshot> snapshots;
+
+    /**
+     * Конструктор
+     * @param scenarioName название теста
+     * @param batchSize количество операций на один замер
+     * @param snapshots гистограммы по реализациям (null - реализация не поддерживает операцию)
+     */
+    public LatencyResult(String scenarioName, int batchSize, Map<String, HistogramSnapshot> snapshots) {
+        this.scenarioName = scenarioName;
+        this.batchSize = batchSize;
+        this.snapshots = Collections.unmodifiableMap(new LinkedHashMap<>(snapshots));
+    }
+
+    /**
+     * @return название теста
+     */
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    /**
+     * @return количество операций на один замер
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return имена реализаций в порядке замеров
+     */
+    public Set<String> getImplementationNames() {
+        return snapshots.keySet();
+    }
+
+    /**
+     * @param implementationName имя реализации
+     * @return true, если реализация поддерживает операцию
+     */
+    public boolean isSupported(String implementationName) {
+        return snapshots.get(implementationName) != null;
+    }
+
+    /**
+     * @param implementationName имя реализации
+     * @return гистограмма задержек одной операции в наносекундах или null, если операция не поддерживается
+     */
+    public HistogramSnapshot getSnapshot(String implementationName) {
+        return snapshots.get(implementationName);
+    }
+
+    /**
+     * @param implementationName имя реализации
+     * @return во сколько раз p99.9 больше медианы (1 - хвоста нет) или 0, если данных нет
+     */
+    public double getTailRatio(String implementationName) {
+        HistogramSnapshot snapshot = snapshots.get(implementationName);
+        if (snapshot == null || snapshot.getCount() == 0) {
+            return 0;
+        }
+        long median = snapshot.getPercentile(50);
+        return (double) snapshot.getPercentile(99.9) / Math.max(median, 1);
+    }
+
+    /**
+     * Переводит распределения в результат для отчётов Main, выгрузки и сравнения с базой
+     * Время в результате - задержка одной операции (количество операций 1); выбросы не отсекаются,
+     * чтобы хвост распределения попадал в выгрузку и сравнение с базой
+     * @return результат производительности с названием latency.тест
+     */
+    public PerformanceResult toPerformanceResult() {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        for (Map.Entry<String, HistogramSnapshot> entry : snapshots.entrySet()) {
+            HistogramSnapshot snapshot = entry.getValue();
+            long[] samples = snapshot == null ? new long[0] : snapshot.toSamples(MAX_SAMPLES);
+            statistics.put(entry.getKey(), samples.length == 0 ? null
+                    : TimingStatistics.ofDistribution(samples, snapshot.getCount()));
+        }
+        return new PerformanceResult(LATENCY_PREFIX + scenarioName, 1, statistics);
+    }
+
+    @Override
+    public String toString() {
+        return scenarioName + " (пакет " + batchSize + "): " + snapshots;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.collections;
+
+import com.example.collections.instrument.HistogramSnapshot;
+import com.example.collections.instrument.LatencyHistogram;
+import com.example.collections.lists.IntList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Тест задержки отдельных операций: вместо одного времени на весь цикл замеряется каждая операция
+ * (или пакет из batchSize операций, чтобы окупить цену System.nanoTime) и записывается в заранее
+ * выделенную гистограмму. Так видны хвосты, которые теряются в сумме: редкое копирование массива
+ * в ArrayList.grow, паузы GC при заполнении LinkedList, дорогие удаления из начала.
+ * При пакетах время пакета делится на его размер, поэтому одиночный выброс размывается в batchSize раз
+ */
+public class LatencyTester {
+
+    private static final long SEED = 42;
+    private static final int TIMER_PROBES = 1001;
+
+    private final int operationCount;
+    private final int batchSize;
+    private final MeasurementConfig config;
+    private final ListRegistry registry;
+    private final int[] positions;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final Blackhole blackhole = new Blackhole();
+
+    /**
+     * Конструктор
+     * @param operationCount количество операций за один проход
+     * @param batchSize количество операций между двумя вызовами System.nanoTime (1 - каждая операция)
+     * @param config настройки прогрева и количества проходов
+     * @param registry реестр тестируемых реализаций
+     */
+    public LatencyTester(int operationCount, int batchSize, MeasurementConfig config, ListRegistry registry) {
+        if (operationCount < 1) {
+            throw new IllegalArgumentException("Количество операций должно быть положительным");
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Размер пакета должен быть положительным");
+        }
+        this.operationCount = operationCount;
+        this.batchSize = batchSize;
+        this.config = config;
+        this.registry = registry;
+        // Случайные позиции генерируются до замеров, чтобы в задержку не попадал Random
+        Random random = new Random(SEED);
+        this.positions = new int[operationCount];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+    }
+
+    /**
+     * @return количество операций между двумя вызовами System.nanoTime
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return названия тестов в порядке выполнения
+     */
+    public List<String> getScenarioNames() {
+        List<String> names = new ArrayList<>();
+        for (Scenario scenario : scenarios()) {
+            names.add(scenario.name);
+        }
+        return names;
+    }
+
+    /**
+     * Прогоняет отобранные тесты на каждой реализации из реестра
+     * Проходы прогрева пишутся в ту же гистограмму и затем сбрасываются
+     * @param scenarioFilter фильтр по названию теста
+     * @return распределения задержек по тестам
+     */
+    public List<LatencyResult> run(Predicate<String> scenarioFilter) {
+        List<LatencyResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios()) {
+            if (scenarioFilter.test(scenario.name)) {
+                results.add(run(scenario));
+            }
+        }
+        return results;
+    }
+
+    private LatencyResult run(Scenario scenario) {
+        Map<String, HistogramSnapshot> snapshots = new LinkedHashMap<>();
+        for (String name : registry.getNames()) {
+            Supplier<List<Integer>> supplier = registry.get(name);
+            try {
+                snapshots.put(name, measure(() -> {
+                    List<Integer> list = supplier.get();
+                    try {
+                        prepare(list, scenario.prefill);
+                        record(list, scenario.step);
+                    } finally {
+                        ListPerformanceTester.release(list);
+                    }
+                }));
+            } catch (UnsupportedOperationException e) {
+                // Например, списки фиксированного размера не поддерживают add/remove
+                snapshots.put(name, null);
+            }
+        }
+        for (String name : registry.getPrimitiveNames()) {
+            Supplier<IntList> supplier = registry.getPrimitive(name);
+            try {
+                snapshots.put(name, measure(() -> {
+                    IntList list = supplier.get();
+                    try {
+                        prepare(list, scenario.prefill);
+                        record(list, scenario.intStep);
+                    } finally {
+                        ListPerformanceTester.release(list);
+                    }
+                }));
+            } catch (UnsupportedOperationException e) {
+                snapshots.put(name, null);
+            }
+        }
+        return new LatencyResult(scenario.name, batchSize, snapshots);
+    }
+
+    private HistogramSnapshot measure(Runnable pass) {
+        histogram.reset();
+        for (int i = 0; i < config.getMinWarmupIterations(); i++) {
+            pass.run();
+        }
+        histogram.reset();
+        for (int i = 0; i < config.getMeasurementIterations(); i++) {
+            pass.run();
+        }
+        return histogram.snapshot();
+    }
+
+    private void record(List<Integer> list, Step step) {
+        long sum = 0;
+        for (int from = 0; from < operationCount; from += batchSize) {
+            int to = Math.min(operationCount, from + batchSize);
+            long startTime = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                sum += step.apply(list, i);
+            }
+            histogram.record((System.nanoTime() - startTime) / (to - from));
+        }
+        blackhole.consume(sum);
+    }
+
+    private void record(IntList list, IntStep step) {
+        long sum = 0;
+        for (int from = 0; from < operationCount; from += batchSize) {
+            int to = Math.min(operationCount, from + batchSize);
+            long startTime = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                sum += step.apply(list, i);
+            }
+            histogram.record((System.nanoTime() - startTime) / (to - from));
+        }
+        blackhole.consume(sum);
+    }
+
+    /**
+     * Готовит список к проходу: заполняет до operationCount элементов или, для тестов вставки,
+     * оставляет пустым (списки фиксированного размера приходят уже заполненными)
+     */
+    private void prepare(List<Integer> list, boolean prefill) {
+        for (int i = list.size(); prefill && i < operationCount; i++) {
+            list.add(i);
+        }
+    }
+
+    private void prepare(IntList list, boolean prefill) {
+        for (int i = list.size(); prefill && i < operationCount; i++) {
+            list.add(i);
+        }
+    }
+
+    private List<Scenario> scenarios() {
+        return Arrays.asList(
+                new Scenario("add(в начало)", false,
+                        (list, i) -> { list.add(0, i); return 0; },
+                        (list, i) -> { list.add(0, i); return 0; }),
+                new Scenario("add(в конец)", false,
+                        (list, i) -> { list.add(i); return 0; },
+                        (list, i) -> { list.add(i); return 0; }),
+                new Scenario("add(случайная позиция)", false,
+                        (list, i) -> { list.add(positions[i] % (list.size() + 1), i); return 0; },
+                        (list, i) -> { list.add(positions[i] % (list.size() + 1), i); return 0; }),
+                new Scenario("get(по индексу)", true,
+                        (list, i) -> list.get(i % list.size()),
+                        (list, i) -> list.getInt(i % list.size())),
+                new Scenario("get(случайный индекс)", true,
+                        (list, i) -> list.get(positions[i] % list.size()),
+                        (list, i) -> list.getInt(positions[i] % list.size())),
+                new Scenario("remove(из начала)", true,
+                        (list, i) -> list.remove(0),
+                        (list, i) -> list.removeAt(0)),
+                new Scenario("remove(из конца)", true,
+                        (list, i) -> list.remove(list.size() - 1),
+                        (list, i) -> list.removeAt(list.size() - 1)),
+                new Scenario("remove(случайная позиция)", true,
+                        (list, i) -> list.remove(positions[i] % list.size()),
+                        (list, i) -> list.removeAt(positions[i] % list.size())),
+                new Scenario("search(contains)", true,
+                        (list, i) -> list.contains(i) ? 1 : 0,
+                        (list, i) -> list.contains(i) ? 1 : 0)
+        );
+    }
+
+    /**
+     * Оценивает цену пары вызовов System.nanoTime: медиана разностей соседних вызовов
+     * Задержки одиночных операций ниже этой величины неотличимы от шума таймера
+     * @return оценка в наносекундах
+     */
+    public static long timerOverhead() {
+        long[] deltas = new long[TIMER_PROBES];
+        for (int i = 0; i < deltas.length; i++) {
+            long startTime = System.nanoTime();
+            deltas[i] = System.nanoTime() - startTime;
+        }
+        Arrays.sort(deltas);
+        return deltas[deltas.length / 2];
+    }
+
+    /**
+     * Тест: название, нужно ли заполнять список заранее, и одна операция для упакованных и примитивных списков
+     */
+    private static final class Scenario {
+        private final String name;
+        private final boolean prefill;
+        private final Step step;
+        private final IntStep intStep;
+
+        Scenario(String name, boolean prefill, Step step, IntStep intStep) {
+            this.name = name;
+            this.prefill = prefill;
+            this.step = step;
+            this.intStep = intStep;
+        }
+    }
+
+    /**
+     * Одна операция над упакованным списком
+     */
+    @FunctionalInterface
+    private interface Step {
+        long apply(List<Integer> list, int i);
+    }
+
+    /**
+     * Одна операция над примитивным списком
+     */
+    @FunctionalInterface
+    private interface IntStep {
+        long apply(IntList list, int i);
+    }
+}
@@ -1,26 +1,80 @@
 package com.example.collections;
 
+import com.example.collections.lists.IntList;
+import com.example.collections.trace.TraceReplayer;
+
 import java.util.ArrayList;
-import java.util.LinkedList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.PrimitiveIterator;
 import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
- * Класс для сравнения производительности ArrayList и LinkedList
- * Тестирует основные операции: добавление, удаление, получение элементов
+ * Класс для сравнения производительности реализаций List из реестра
+ * Тестирует основные операции: добавление, удаление, получение элементов,
+ * а отдельным набором (префикс bulk.) - пакетные операции рядом с их поэлементными вариантами
  */
 public class ListPerformanceTester {
 
+    /**
+     * Название теста занимаемой памяти (выполняется отдельно от замеров времени)
+     */
+    public static final String FOOTPRINT_SCENARIO = "memory(footprint)";
+
+    /**
+     * Начало названий тестов пакетных операций (запускаются отдельно, см. runBulkTests)
+     */
+    public static final String BULK_PREFIX = "bulk.";
+
+    /**
+     * Окончание названия поэлементного варианта пакетного теста
+     */
+    public static final String LOOP_SUFFIX = " поэлементно";
+
     private final int operationCount;
     private final Random random;
+    private final MeasurementEngine engine;
+    private final ListRegistry registry;
+    private final ResourceMeter meter = new ResourceMeter();
+    private final FootprintMeter footprintMeter = new FootprintMeter();
+    private final Blackhole blackhole = new Blackhole();
+    private FootprintResult lastFootprint;
 
     /**
-     * Конструктор
+     * Конструктор с настройками измерений по умолчанию
      * @param operationCount количество операций для тестирования
      */
     public ListPerformanceTester(int operationCount) {
+        this(operationCount, MeasurementConfig.defaults());
+    }
+
+    /**
+     * Конструктор
+     * @param operationCount количество операций для тестирования
+     * @param config настройки прогрева и замеров
+     */
+    public ListPerformanceTester(int operationCount, MeasurementConfig config) {
+        this(operationCount, config, ListRegistry.defaults(operationCount));
+    }
+
+    /**
+     * Конструктор
+     * @param operationCount количество операций для тестирования
+     * @param config настройки прогрева и замеров
+     * @param registry реестр тестируемых реализаций списков
+     */
+    public ListPerformanceTester(int operationCount, MeasurementConfig config, ListRegistry registry) {
         this.operationCount = operationCount;
         this.random = new Random();
+        this.engine = new MeasurementEngine(config);
+        this.registry = registry;
     }
 
     /**
@@ -30,19 +84,26 @@ public class ListPerformanceTester {
         return operationCount;
     }
 
+    /**
+     * @return реестр тестируемых реализаций списков
+     */
+    public ListRegistry getRegistry() {
+        return registry;
+    }
+
     /**
      * Тестирует операцию добавления элементов в начало списка
      * @param list тестируемый список
      * @return время выполнения в наносекундах
      */
     public long testAddToBeginning(List<Integer> list) {
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         for (int i = 0; i < operationCount; i++) {
             list.add(0, i);
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -51,13 +112,13 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testAddToEnd(List<Integer> list) {
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         for (int i = 0; i < operationCount; i++) {
             list.add(i);
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -67,18 +128,18 @@ public class ListPerformanceTester {
      */
     public long testAddToRandomPosition(List<Integer> list) {
         // Сначала добавляем немного элементов для возможности вставки
-        for (int i = 0; i < Math.min(operationCount, 100); i++) {
+        for (int i = list.size(); i < Math.min(operationCount, 100); i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         for (int i = 0; i < operationCount; i++) {
             int position = list.isEmpty() ? 0 : random.nextInt(list.size());
             list.add(position, i);
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -87,18 +148,18 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testGetByIndex(List<Integer> list) {
-        // Сначала заполняем список
-        for (int i = 0; i < operationCount; i++) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         for (int i = 0; i < operationCount; i++) {
-            list.get(i % list.size());
+            blackhole.consume(list.get(i % list.size()));
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -107,19 +168,19 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testGetByRandomIndex(List<Integer> list) {
-        // Сначала заполняем список
-        for (int i = 0; i < operationCount; i++) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         for (int i = 0; i < operationCount; i++) {
             int index = random.nextInt(list.size());
-            list.get(index);
+            blackhole.consume(list.get(index));
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -128,18 +189,18 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testRemoveFromBeginning(List<Integer> list) {
-        // Сначала заполняем список
-        for (int i = 0; i < operationCount; i++) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         while (!list.isEmpty()) {
-            list.remove(0);
+            blackhole.consume(list.remove(0));
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -148,18 +209,18 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testRemoveFromEnd(List<Integer> list) {
-        // Сначала заполняем список
-        for (int i = 0; i < operationCount; i++) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         while (!list.isEmpty()) {
-            list.remove(list.size() - 1);
+            blackhole.consume(list.remove(list.size() - 1));
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -168,19 +229,19 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testRemoveFromRandomPosition(List<Integer> list) {
-        // Сначала заполняем список
-        for (int i = 0; i < operationCount; i++) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         while (!list.isEmpty()) {
             int position = random.nextInt(list.size());
-            list.remove(position);
+            blackhole.consume(list.remove(position));
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -189,18 +250,18 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testSearchElement(List<Integer> list) {
-        // Сначала заполняем список
-        for (int i = 0; i < operationCount; i++) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         for (int i = 0; i < operationCount; i++) {
-            list.contains(i);
+            blackhole.consume(list.contains(i));
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
@@ -209,62 +270,1149 @@ public class ListPerformanceTester {
      * @return время выполнения в наносекундах
      */
     public long testIteration(List<Integer> list) {
-        // Сначала заполняем список
-        for (int i = 0; i < operationCount; i++) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
             list.add(i);
         }
 
-        long startTime = System.nanoTime();
+        long startTime = startTimer();
 
         for (Integer value : list) {
-            // Просто итерация, без операций
+            blackhole.consume(value);
         }
 
-        return System.nanoTime() - startTime;
+        return stopTimer(startTime);
     }
 
     /**
-     * Запускает все тесты и возвращает результаты
-     * @return массив результатов производительности
+     * Тестирует вставку через ListIterator.add после каждого элемента во время обхода
+     * Вставка идёт в позицию курсора, поэтому LinkedList не ищет узел по индексу
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
      */
-    public PerformanceResult[] runAllTests() {
-        return new PerformanceResult[] {
-                runTest("add(в начало)", this::testAddToBeginning),
-                runTest("add(в конец)", this::testAddToEnd),
-                runTest("add(случайная позиция)", this::testAddToRandomPosition),
-                runTest("get(по индексу)", this::testGetByIndex),
-                runTest("get(случайный индекс)", this::testGetByRandomIndex),
-                runTest("remove(из начала)", this::testRemoveFromBeginning),
-                runTest("remove(из конца)", this::testRemoveFromEnd),
-                runTest("remove(случайная позиция)", this::testRemoveFromRandomPosition),
-                runTest("search(contains)", this::testSearchElement),
-                runTest("iteration(foreach)", this::testIteration)
-        };
-    }
-
-    /**
-     * Выполняет тест для обоих типов списков и возвращает результат
-     * @param testName название теста
-     * @param testFunction функция тестирования
-     * @return результат производительности
+    public long testIteratorInsert(List<Integer> list) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
+            list.add(i);
+        }
+
+        long startTime = startTimer();
+
+        ListIterator<Integer> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+            iterator.add(-1);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует удаление каждого второго элемента через ListIterator.remove во время обхода
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
      */
-    private PerformanceResult runTest(String testName, TestFunction testFunction) {
-        // Выполняем "прогрев" JVM
-        testFunction.test(new ArrayList<>());
-        testFunction.test(new LinkedList<>());
+    public long testIteratorRemove(List<Integer> list) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
+            list.add(i);
+        }
 
-        // Основные замеры
-        long arrayListTime = testFunction.test(new ArrayList<>());
-        long linkedListTime = testFunction.test(new LinkedList<>());
+        long startTime = startTimer();
 
-        return new PerformanceResult(testName, operationCount, arrayListTime, linkedListTime);
+        ListIterator<Integer> iterator = list.listIterator();
+        boolean remove = true;
+        while (iterator.hasNext()) {
+            Integer value = iterator.next();
+            if (remove) {
+                iterator.remove();
+                blackhole.consume(value);
+            }
+            remove = !remove;
+        }
+
+        return stopTimer(startTime);
     }
 
     /**
-     * Функциональный интерфейс для тестирования
+     * Тестирует фильтрацию removeIf: удаляется каждый второй элемент
+     * Условие считает позиции, а не значения, поэтому не зависит от содержимого списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
      */
-    @FunctionalInterface
-    private interface TestFunction {
-        long test(List<Integer> list);
+    public long testRemoveIf(List<Integer> list) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
+            list.add(i);
+        }
+
+        long startTime = startTimer();
+
+        int[] position = {0};
+        blackhole.consume(list.removeIf(value -> (position[0]++ & 1) == 0));
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует пакетную замену средней половины списка: subList(...).clear() и addAll(index, ...)
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testReplaceMiddle(List<Integer> list) {
+        // Сначала заполняем список (списки фиксированного размера приходят уже заполненными)
+        for (int i = list.size(); i < operationCount; i++) {
+            list.add(i);
+        }
+        int from = list.size() / 4;
+        int to = from + list.size() / 2;
+        List<Integer> replacement = new ArrayList<>(list.subList(from, to));
+
+        long startTime = startTimer();
+
+        list.subList(from, to).clear();
+        list.addAll(from, replacement);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует нагрузку со сменой фазы: operationCount вставок в начало, затем operationCount чтений
+     * по случайному индексу. Первая фаза выгодна связному списку, вторая - массиву
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testPhaseShift(List<Integer> list) {
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            list.add(0, i);
+        }
+        for (int i = 0; i < operationCount; i++) {
+            blackhole.consume(list.get(random.nextInt(list.size())));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует пакетную вставку addAll(index, ...) operationCount элементов в заполненный список
+     * @param list тестируемый список
+     * @param position место вставки как доля размера списка: 0 - начало, 0.5 - середина, 1 - конец
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkAddAll(List<Integer> list, double position) {
+        fill(list);
+        List<Integer> batch = batch();
+        int index = (int) (list.size() * position);
+
+        long startTime = startTimer();
+
+        blackhole.consume(list.addAll(index, batch));
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkAddAll: вставка по одному элементу через ListIterator.add
+     * @param list тестируемый список
+     * @param position место вставки как доля размера списка
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopAddAll(List<Integer> list, double position) {
+        fill(list);
+        List<Integer> batch = batch();
+        int index = (int) (list.size() * position);
+
+        long startTime = startTimer();
+
+        ListIterator<Integer> iterator = list.listIterator(index);
+        for (Integer value : batch) {
+            iterator.add(value);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует removeIf с заданной долей удаляемых элементов
+     * Условие считает позиции: удаляются элементы, у которых позиция по модулю 100 меньше percent
+     * @param list тестируемый список
+     * @param percent доля удаляемых элементов в процентах
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkRemoveIf(List<Integer> list, int percent) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        int[] position = {0};
+        blackhole.consume(list.removeIf(value -> position[0]++ % 100 < percent));
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkRemoveIf: удаление тех же позиций через Iterator.remove
+     * @param list тестируемый список
+     * @param percent доля удаляемых элементов в процентах
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopRemoveIf(List<Integer> list, int percent) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        Iterator<Integer> iterator = list.iterator();
+        for (int position = 0; iterator.hasNext(); position++) {
+            Integer value = iterator.next();
+            if (position % 100 < percent) {
+                iterator.remove();
+                blackhole.consume(value);
+            }
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует замену всех элементов через replaceAll
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkReplaceAll(List<Integer> list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        list.replaceAll(value -> value + 1);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkReplaceAll: замена через ListIterator.set
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopReplaceAll(List<Integer> list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        ListIterator<Integer> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            iterator.set(iterator.next() + 1);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует сортировку List.sort перемешанного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkSort(List<Integer> list) {
+        fill(list);
+        Collections.shuffle(list, random);
+
+        long startTime = startTimer();
+
+        list.sort(null);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует удаление средней половины списка через subList(...).clear()
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkClearRange(List<Integer> list) {
+        fill(list);
+        int from = list.size() / 4;
+        int to = from + list.size() / 2;
+
+        long startTime = startTimer();
+
+        list.subList(from, to).clear();
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkClearRange: удаление тех же элементов через ListIterator.remove
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopClearRange(List<Integer> list) {
+        fill(list);
+        int from = list.size() / 4;
+        int count = list.size() / 2;
+
+        long startTime = startTimer();
+
+        ListIterator<Integer> iterator = list.listIterator(from);
+        for (int i = 0; i < count; i++) {
+            blackhole.consume(iterator.next());
+            iterator.remove();
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует копирование в массив через toArray
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkToArray(List<Integer> list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        blackhole.consume(list.toArray(new Integer[0]));
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkToArray: копирование в массив обходом списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopToArray(List<Integer> list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        Integer[] array = new Integer[list.size()];
+        int index = 0;
+        for (Integer value : list) {
+            array[index++] = value;
+        }
+        blackhole.consume(array);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует копирующий конструктор new ArrayList&lt;&gt;(list)
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkCopy(List<Integer> list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        blackhole.consume(new ArrayList<>(list));
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkCopy: копирование добавлением по одному элементу
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopCopy(List<Integer> list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        List<Integer> copy = new ArrayList<>();
+        for (Integer value : list) {
+            copy.add(value);
+        }
+        blackhole.consume(copy);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует добавление элементов в начало примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testAddToBeginning(IntList list) {
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            list.add(0, i);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует добавление элементов в конец примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testAddToEnd(IntList list) {
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            list.add(i);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует добавление элементов в случайную позицию примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testAddToRandomPosition(IntList list) {
+        for (int i = list.size(); i < Math.min(operationCount, 100); i++) {
+            list.add(i);
+        }
+
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            int position = list.isEmpty() ? 0 : random.nextInt(list.size());
+            list.add(position, i);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует получение элементов примитивного списка по индексу
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testGetByIndex(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            blackhole.consume(list.getInt(i % list.size()));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует получение элементов примитивного списка по случайному индексу
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testGetByRandomIndex(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            int index = random.nextInt(list.size());
+            blackhole.consume(list.getInt(index));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует удаление элементов из начала примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testRemoveFromBeginning(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        while (!list.isEmpty()) {
+            blackhole.consume(list.removeAt(0));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует удаление элементов из конца примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testRemoveFromEnd(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        while (!list.isEmpty()) {
+            blackhole.consume(list.removeAt(list.size() - 1));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует удаление элементов из случайной позиции примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testRemoveFromRandomPosition(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        while (!list.isEmpty()) {
+            int position = random.nextInt(list.size());
+            blackhole.consume(list.removeAt(position));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует поиск элемента в примитивном списке
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testSearchElement(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            blackhole.consume(list.contains(i));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует итерацию по всем элементам примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testIteration(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.nextInt());
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует вставку после каждого элемента во время обхода примитивного списка
+     * У IntList нет ListIterator, поэтому курсором служит индекс
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testIteratorInsert(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        for (int i = 0; i < list.size(); i += 2) {
+            blackhole.consume(list.getInt(i));
+            list.add(i + 1, -1);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует удаление каждого второго элемента во время обхода примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testIteratorRemove(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        // После удаления следующий элемент сдвигается на место курсора и пропускается
+        for (int i = 0; i < list.size(); i++) {
+            blackhole.consume(list.removeAt(i));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует фильтрацию removeIf примитивного списка: удаляется каждый второй элемент
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testRemoveIf(IntList list) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        int[] position = {0};
+        blackhole.consume(list.removeIf(value -> (position[0]++ & 1) == 0));
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует пакетную замену средней половины примитивного списка: removeRange и addAll
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testReplaceMiddle(IntList list) {
+        fill(list);
+        int from = list.size() / 4;
+        int to = from + list.size() / 2;
+        int[] replacement = new int[to - from];
+        for (int i = 0; i < replacement.length; i++) {
+            replacement[i] = list.getInt(from + i);
+        }
+
+        long startTime = startTimer();
+
+        list.removeRange(from, to);
+        list.addAll(from, replacement);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует нагрузку со сменой фазы на примитивном списке: вставки в начало, затем случайные чтения
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testPhaseShift(IntList list) {
+        long startTime = startTimer();
+
+        for (int i = 0; i < operationCount; i++) {
+            list.add(0, i);
+        }
+        for (int i = 0; i < operationCount; i++) {
+            blackhole.consume(list.getInt(random.nextInt(list.size())));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует пакетную вставку addAll(index, int[]) в заполненный примитивный список
+     * @param list тестируемый список
+     * @param position место вставки как доля размера списка: 0 - начало, 0.5 - середина, 1 - конец
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkAddAll(IntList list, double position) {
+        fill(list);
+        int[] batch = intBatch();
+        int index = (int) (list.size() * position);
+
+        long startTime = startTimer();
+
+        list.addAll(index, batch);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkAddAll для примитивного списка
+     * @param list тестируемый список
+     * @param position место вставки как доля размера списка
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopAddAll(IntList list, double position) {
+        fill(list);
+        int[] batch = intBatch();
+        int index = (int) (list.size() * position);
+
+        long startTime = startTimer();
+
+        for (int i = 0; i < batch.length; i++) {
+            list.add(index + i, batch[i]);
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует removeIf примитивного списка с заданной долей удаляемых элементов
+     * @param list тестируемый список
+     * @param percent доля удаляемых элементов в процентах
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkRemoveIf(IntList list, int percent) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        int[] position = {0};
+        blackhole.consume(list.removeIf(value -> position[0]++ % 100 < percent));
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkRemoveIf для примитивного списка: removeAt с конца,
+     * чтобы позиции ещё не просмотренных элементов не сдвигались
+     * @param list тестируемый список
+     * @param percent доля удаляемых элементов в процентах
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopRemoveIf(IntList list, int percent) {
+        fill(list);
+
+        long startTime = startTimer();
+
+        for (int position = list.size() - 1; position >= 0; position--) {
+            if (position % 100 < percent) {
+                blackhole.consume(list.removeAt(position));
+            }
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Тестирует удаление средней половины примитивного списка через removeRange
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testBulkClearRange(IntList list) {
+        fill(list);
+        int from = list.size() / 4;
+        int to = from + list.size() / 2;
+
+        long startTime = startTimer();
+
+        list.removeRange(from, to);
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Поэлементный вариант testBulkClearRange для примитивного списка
+     * @param list тестируемый список
+     * @return время выполнения в наносекундах
+     */
+    public long testLoopClearRange(IntList list) {
+        fill(list);
+        int from = list.size() / 4;
+        int count = list.size() / 2;
+
+        long startTime = startTimer();
+
+        for (int i = 0; i < count; i++) {
+            blackhole.consume(list.removeAt(from));
+        }
+
+        return stopTimer(startTime);
+    }
+
+    /**
+     * Начинает замер: запоминает счётчики ресурсов и время
+     * @return время начала в наносекундах
+     */
+    private long startTimer() {
+        meter.start();
+        return System.nanoTime();
+    }
+
+    /**
+     * Завершает замер; потребление ресурсов доступно через getLastResourceUsage
+     * @param startTime время начала в наносекундах
+     * @return время выполнения в наносекундах
+     */
+    private long stopTimer(long startTime) {
+        long elapsed = System.nanoTime() - startTime;
+        meter.stop();
+        return elapsed;
+    }
+
+    /**
+     * @return выделенная память и работа GC за последний выполненный тест
+     */
+    public ResourceUsage getLastResourceUsage() {
+        return meter.getLastUsage();
+    }
+
+    /**
+     * @return результат последнего теста памяти или null, если он не выполнялся
+     */
+    public FootprintResult getLastFootprint() {
+        return lastFootprint;
+    }
+
+    /**
+     * Заполняет список до operationCount элементов (списки фиксированного размера приходят уже заполненными)
+     * @param list заполняемый список
+     */
+    private void fill(List<Integer> list) {
+        for (int i = list.size(); i < operationCount; i++) {
+            list.add(i);
+        }
+    }
+
+    /**
+     * @return пакет из operationCount элементов для пакетных тестов
+     */
+    private List<Integer> batch() {
+        List<Integer> batch = new ArrayList<>(operationCount);
+        for (int i = 0; i < operationCount; i++) {
+            batch.add(-i);
+        }
+        return batch;
+    }
+
+    /**
+     * @return пакет из operationCount значений для пакетных тестов примитивных списков
+     */
+    private int[] intBatch() {
+        int[] batch = new int[operationCount];
+        for (int i = 0; i < batch.length; i++) {
+            batch[i] = -i;
+        }
+        return batch;
+    }
+
+    /**
+     * Заполняет примитивный список до operationCount элементов
+     * @param list заполняемый список
+     */
+    private void fill(IntList list) {
+        for (int i = list.size(); i < operationCount; i++) {
+            list.add(i);
+        }
+    }
+
+    /**
+     * Запускает все поэлементные тесты (без пакетных) и следом тест памяти FOOTPRINT_SCENARIO
+     * @return массив результатов производительности; память доступна через getLastFootprint
+     */
+    public PerformanceResult[] runAllTests() {
+        PerformanceResult[] results = runTests(name -> !isBulk(name));
+        runFootprintTest();
+        return results;
+    }
+
+    /**
+     * Запускает тесты пакетных операций вместе с их поэлементными вариантами
+     * @return массив результатов производительности
+     */
+    public PerformanceResult[] runBulkTests() {
+        return runTests(ListPerformanceTester::isBulk);
+    }
+
+    /**
+     * @param scenarioName название теста
+     * @return true, если тест относится к пакетным операциям
+     */
+    public static boolean isBulk(String scenarioName) {
+        return scenarioName.startsWith(BULK_PREFIX);
+    }
+
+    /**
+     * Запускает тесты, отобранные фильтром, в стандартном порядке
+     * @param scenarioFilter фильтр по названию теста
+     * @return массив результатов производительности
+     */
+    public PerformanceResult[] runTests(Predicate<String> scenarioFilter) {
+        List<PerformanceResult> results = new ArrayList<>();
+        for (Scenario scenario : scenarios()) {
+            if (scenarioFilter.test(scenario.name)) {
+                results.add(runTest(scenario));
+            }
+        }
+        return results.toArray(new PerformanceResult[0]);
+    }
+
+    /**
+     * @return названия всех тестов, включая пакетные, в порядке выполнения
+     */
+    public List<String> getScenarioNames() {
+        List<String> names = new ArrayList<>();
+        for (Scenario scenario : scenarios()) {
+            names.add(scenario.name);
+        }
+        return names;
+    }
+
+    private List<Scenario> scenarios() {
+        List<Scenario> scenarios = new ArrayList<>(Arrays.asList(
+                new Scenario("add(в начало)", this::testAddToBeginning, this::testAddToBeginning),
+                new Scenario("add(в конец)", this::testAddToEnd, this::testAddToEnd),
+                new Scenario("add(случайная позиция)", this::testAddToRandomPosition, this::testAddToRandomPosition),
+                new Scenario("get(по индексу)", this::testGetByIndex, this::testGetByIndex),
+                new Scenario("get(случайный индекс)", this::testGetByRandomIndex, this::testGetByRandomIndex),
+                new Scenario("remove(из начала)", this::testRemoveFromBeginning, this::testRemoveFromBeginning),
+                new Scenario("remove(из конца)", this::testRemoveFromEnd, this::testRemoveFromEnd),
+                new Scenario("remove(случайная позиция)", this::testRemoveFromRandomPosition,
+                        this::testRemoveFromRandomPosition),
+                new Scenario("search(contains)", this::testSearchElement, this::testSearchElement),
+                new Scenario("iteration(foreach)", this::testIteration, this::testIteration),
+                new Scenario("listIterator.add(при обходе)", this::testIteratorInsert, this::testIteratorInsert),
+                new Scenario("listIterator.remove(при обходе)", this::testIteratorRemove, this::testIteratorRemove),
+                new Scenario("removeIf(каждый второй)", this::testRemoveIf, this::testRemoveIf),
+                new Scenario("subList(замена середины)", this::testReplaceMiddle, this::testReplaceMiddle),
+                new Scenario("phases(в начало, затем get)", this::testPhaseShift, this::testPhaseShift)
+        ));
+        addBulk(scenarios, "addAll(в начало)", list -> testBulkAddAll(list, 0), list -> testBulkAddAll(list, 0),
+                list -> testLoopAddAll(list, 0), list -> testLoopAddAll(list, 0));
+        addBulk(scenarios, "addAll(в середину)", list -> testBulkAddAll(list, 0.5), list -> testBulkAddAll(list, 0.5),
+                list -> testLoopAddAll(list, 0.5), list -> testLoopAddAll(list, 0.5));
+        addBulk(scenarios, "addAll(в конец)", list -> testBulkAddAll(list, 1), list -> testBulkAddAll(list, 1),
+                list -> testLoopAddAll(list, 1), list -> testLoopAddAll(list, 1));
+        for (int percent : new int[] {10, 50, 90}) {
+            addBulk(scenarios, "removeIf(" + percent + "%)",
+                    list -> testBulkRemoveIf(list, percent), list -> testBulkRemoveIf(list, percent),
+                    list -> testLoopRemoveIf(list, percent), list -> testLoopRemoveIf(list, percent));
+        }
+        addBulk(scenarios, "replaceAll", this::testBulkReplaceAll, UNSUPPORTED,
+                this::testLoopReplaceAll, UNSUPPORTED);
+        scenarios.add(new Scenario(BULK_PREFIX + "sort", this::testBulkSort, UNSUPPORTED));
+        addBulk(scenarios, "subList.clear(середина)", this::testBulkClearRange, this::testBulkClearRange,
+                this::testLoopClearRange, this::testLoopClearRange);
+        addBulk(scenarios, "toArray", this::testBulkToArray, UNSUPPORTED, this::testLoopToArray, UNSUPPORTED);
+        addBulk(scenarios, "new ArrayList(копия)", this::testBulkCopy, UNSUPPORTED, this::testLoopCopy, UNSUPPORTED);
+        return scenarios;
+    }
+
+    /**
+     * Добавляет пакетный тест и следом его поэлементный вариант
+     * @param scenarios список тестов
+     * @param operation название операции без префикса
+     * @param bulk пакетный вариант для упакованных списков
+     * @param intBulk пакетный вариант для примитивных списков
+     * @param loop поэлементный вариант для упакованных списков
+     * @param intLoop поэлементный вариант для примитивных списков
+     */
+    private static void addBulk(List<Scenario> scenarios, String operation, TestFunction bulk, IntTestFunction intBulk,
+                                TestFunction loop, IntTestFunction intLoop) {
+        scenarios.add(new Scenario(BULK_PREFIX + operation, bulk, intBulk));
+        scenarios.add(new Scenario(BULK_PREFIX + operation + LOOP_SUFFIX, loop, intLoop));
+    }
+
+    /**
+     * Измеряет память, занимаемую каждой реализацией из реестра после заполнения до operationCount элементов
+     * @return занимаемая память по реализациям
+     */
+    public FootprintResult runFootprintTest() {
+        Map<String, MemoryFootprint> footprints = new LinkedHashMap<>();
+        for (String name : registry.getNames()) {
+            Supplier<List<Integer>> supplier = registry.get(name);
+            footprints.put(name, measureFootprint(() -> {
+                List<Integer> list = supplier.get();
+                // Списки фиксированного размера приходят уже заполненными
+                for (int i = list.size(); i < operationCount; i++) {
+                    list.add(i);
+                }
+                return list;
+            }, Integer.class));
+        }
+        for (String name : registry.getPrimitiveNames()) {
+            Supplier<IntList> supplier = registry.getPrimitive(name);
+            footprints.put(name, measureFootprint(() -> {
+                IntList list = supplier.get();
+                fill(list);
+                return list;
+            }, null));
+        }
+        lastFootprint = new FootprintResult(operationCount, footprints);
+        return lastFootprint;
+    }
+
+    private MemoryFootprint measureFootprint(Supplier<Object> filledList, Class<?> elementType) {
+        Object[] created = new Object[1];
+        try {
+            return footprintMeter.measure(() -> created[0] = filledList.get(), operationCount, elementType);
+        } finally {
+            release(created[0]);
+        }
+    }
+
+    /**
+     * Воспроизводит записанную трассу на каждой реализации из реестра
+     * Каждый список перед воспроизведением заполняется до размера, который был в начале записи
+     * @param replayer трасса, отображённая в память
+     * @return результат производительности (время воспроизведения всей трассы)
+     */
+    public PerformanceResult runTrace(TraceReplayer replayer) {
+        int initialSize = replayer.getInitialSize();
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        for (String name : registry.getNames()) {
+            Supplier<List<Integer>> supplier = registry.get(name);
+            try {
+                statistics.put(name, engine.measure(() -> {
+                    List<Integer> list = supplier.get();
+                    try {
+                        for (int i = list.size(); i < initialSize; i++) {
+                            list.add(i);
+                        }
+                        long startTime = startTimer();
+                        blackhole.consume(replayer.replay(list));
+                        return stopTimer(startTime);
+                    } finally {
+                        release(list);
+                    }
+                }, meter::getLastUsage));
+            } catch (UnsupportedOperationException e) {
+                statistics.put(name, null);
+            }
+        }
+        for (String name : registry.getPrimitiveNames()) {
+            Supplier<IntList> supplier = registry.getPrimitive(name);
+            try {
+                statistics.put(name, engine.measure(() -> {
+                    IntList list = supplier.get();
+                    try {
+                        for (int i = list.size(); i < initialSize; i++) {
+                            list.add(i);
+                        }
+                        long startTime = startTimer();
+                        blackhole.consume(replayer.replay(list));
+                        return stopTimer(startTime);
+                    } finally {
+                        release(list);
+                    }
+                }, meter::getLastUsage));
+            } catch (UnsupportedOperationException e) {
+                statistics.put(name, null);
+            }
+        }
+        return new PerformanceResult("trace(" + replayer.getFile().getFileName() + ")",
+                replayer.getRecordCount(), statistics);
+    }
+
+    /**
+     * Выполняет тест несколько раз подряд без прогрева, каждый раз на новом списке (для замеров холодного старта)
+     * @param scenarioName название теста
+     * @param implementation имя реализации из реестра
+     * @param calls количество вызовов
+     * @return время каждого вызова в наносекундах в порядке выполнения
+     * @throws IllegalArgumentException если тест или реализация неизвестны
+     * @throws UnsupportedOperationException если реализация не поддерживает операцию
+     */
+    public long[] runCold(String scenarioName, String implementation, int calls) {
+        Scenario scenario = scenarios().stream()
+                .filter(candidate -> candidate.name.equals(scenarioName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Неизвестный тест: " + scenarioName));
+        long[] times = new long[calls];
+        if (registry.getNames().contains(implementation)) {
+            Supplier<List<Integer>> supplier = registry.get(implementation);
+            for (int i = 0; i < calls; i++) {
+                List<Integer> list = supplier.get();
+                try {
+                    times[i] = scenario.testFunction.test(list);
+                } finally {
+                    release(list);
+                }
+            }
+        } else {
+            Supplier<IntList> supplier = registry.getPrimitive(implementation);
+            for (int i = 0; i < calls; i++) {
+                IntList list = supplier.get();
+                try {
+                    times[i] = scenario.intTestFunction.test(list);
+                } finally {
+                    release(list);
+                }
+            }
+        }
+        return times;
+    }
+
+    /**
+     * Выполняет серию замеров теста для каждой реализации из реестра и возвращает результат
+     * Упакованные (List&lt;Integer&gt;) и примитивные (IntList) реализации попадают в один результат
+     * @param scenario тест
+     * @return результат производительности
+     */
+    private PerformanceResult runTest(Scenario scenario) {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        for (String name : registry.getNames()) {
+            Supplier<List<Integer>> supplier = registry.get(name);
+            try {
+                statistics.put(name, engine.measure(() -> {
+                    List<Integer> list = supplier.get();
+                    try {
+                        return scenario.testFunction.test(list);
+                    } finally {
+                        release(list);
+                    }
+                }, meter::getLastUsage));
+            } catch (UnsupportedOperationException e) {
+                // Например, списки фиксированного размера не поддерживают add/remove
+                statistics.put(name, null);
+            }
+        }
+        for (String name : registry.getPrimitiveNames()) {
+            Supplier<IntList> supplier = registry.getPrimitive(name);
+            try {
+                statistics.put(name, engine.measure(() -> {
+                    IntList list = supplier.get();
+                    try {
+                        return scenario.intTestFunction.test(list);
+                    } finally {
+                        release(list);
+                    }
+                }, meter::getLastUsage));
+            } catch (UnsupportedOperationException e) {
+                statistics.put(name, null);
+            }
+        }
+
+        return new PerformanceResult(scenario.name, operationCount, statistics);
+    }
+
+    /**
+     * Освобождает ресурсы списка, если он их держит (например, отображённый файл)
+     * @param list отработавший список
+     */
+    static void release(Object list) {
+        if (list instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) list).close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Не удалось освободить список", e);
+            }
+        }
+    }
+
+    /**
+     * Тест: название и функции для упакованных и примитивных списков
+     */
+    private static final class Scenario {
+        private final String name;
+        private final TestFunction testFunction;
+        private final IntTestFunction intTestFunction;
+
+        Scenario(String name, TestFunction testFunction, IntTestFunction intTestFunction) {
+            this.name = name;
+            this.testFunction = testFunction;
+            this.intTestFunction = intTestFunction;
+        }
+    }
+
+    /**
+     * Функциональный интерфейс для тестирования
+     */
+    @FunctionalInterface
+    private interface TestFunction {
+        long test(List<Integer> list);
+    }
+
+    /**
+     * Тест, которого нет у примитивных списков (в IntList нет соответствующей операции)
+     */
+    private static final IntTestFunction UNSUPPORTED = list -> {
+        throw new UnsupportedOperationException("Операция не поддерживается IntList");
+    };
+
+    /**
+     * Функциональный интерфейс для тестирования примитивных списков
+     */
+    @FunctionalInterface
+    private interface IntTestFunction {
+        long test(IntList list);
     }
 }
\ No newline at end of file
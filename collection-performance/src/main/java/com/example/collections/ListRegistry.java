@@ -0,0 +1,190 @@
+package com.example.collections;
+
+import com.example.collections.lists.AdaptiveList;
+import com.example.collections.lists.ChunkedList;
+import com.example.collections.lists.ConcurrentAppendList;
+import com.example.collections.lists.IntArrayList;
+import com.example.collections.lists.IntList;
+import com.example.collections.lists.OffHeapIntList;
+import com.example.collections.lists.ReadWriteLockList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Реестр именованных реализаций List, участвующих в тестах
+ * Порядок регистрации сохраняется и определяет порядок столбцов в отчёте
+ */
+public class ListRegistry {
+
+    /**
+     * Имена потокобезопасных реализаций из defaults (подходят для доступа из нескольких потоков)
+     */
+    public static final Set<String> THREAD_SAFE =
+            Set.of("Vector", "CopyOnWriteArrayList", "SynchronizedList", "ConcurrentAppendList");
+
+    private final Map<String, Supplier<List<Integer>>> suppliers = new LinkedHashMap<>();
+    private final Map<String, Supplier<IntList>> primitiveSuppliers = new LinkedHashMap<>();
+
+    /**
+     * Создаёт реестр со стандартными реализациями из JDK, блочным ChunkedList, самонастраивающимся AdaptiveList,
+     * неблокирующим ConcurrentAppendList и примитивными IntArrayList и OffHeapIntList
+     * @param operationCount количество операций (размер списков на основе массива фиксированной длины)
+     * @return реестр по умолчанию
+     */
+    public static ListRegistry defaults(int operationCount) {
+        return new ListRegistry()
+                .register("ArrayList", ArrayList::new)
+                .register("LinkedList", LinkedList::new)
+                .register("Vector", Vector::new)
+                .register("CopyOnWriteArrayList", CopyOnWriteArrayList::new)
+                .register("SynchronizedList", () -> Collections.synchronizedList(new ArrayList<>()))
+                .register("Arrays.asList", () -> Arrays.asList(sequence(operationCount)))
+                .register("ChunkedList", ChunkedList::new)
+                .register("AdaptiveList", AdaptiveList::new)
+                .register("ConcurrentAppendList", ConcurrentAppendList::new)
+                .registerPrimitive("IntArrayList", IntArrayList::new)
+                .registerPrimitive("OffHeapIntList", OffHeapIntList::new);
+    }
+
+    /**
+     * Создаёт реестр потокобезопасных реализаций для многопоточных тестов
+     * @return реестр потокобезопасных списков
+     */
+    public static ListRegistry concurrent() {
+        return new ListRegistry()
+                .register("SynchronizedList(ArrayList)", () -> Collections.synchronizedList(new ArrayList<>()))
+                .register("SynchronizedList(LinkedList)", () -> Collections.synchronizedList(new LinkedList<>()))
+                .register("CopyOnWriteArrayList", CopyOnWriteArrayList::new)
+                .register("ReadWriteLockList", ReadWriteLockList::new)
+                .register("ConcurrentAppendList", ConcurrentAppendList::new);
+    }
+
+    /**
+     * Регистрирует реализацию списка
+     * @param name уникальное имя реализации
+     * @param supplier фабрика, создающая новый экземпляр списка
+     * @return этот реестр
+     */
+    public ListRegistry register(String name, Supplier<List<Integer>> supplier) {
+        checkUnique(name);
+        suppliers.put(name, supplier);
+        return this;
+    }
+
+    /**
+     * Регистрирует примитивную реализацию списка
+     * @param name уникальное имя реализации
+     * @param supplier фабрика, создающая новый экземпляр списка
+     * @return этот реестр
+     */
+    public ListRegistry registerPrimitive(String name, Supplier<IntList> supplier) {
+        checkUnique(name);
+        primitiveSuppliers.put(name, supplier);
+        return this;
+    }
+
+    private void checkUnique(String name) {
+        if (suppliers.containsKey(name) || primitiveSuppliers.containsKey(name)) {
+            throw new IllegalArgumentException("Реализация уже зарегистрирована: " + name);
+        }
+    }
+
+    /**
+     * Создаёт реестр только с указанными реализациями
+     * @param names имена реализаций
+     * @return новый реестр в порядке исходной регистрации
+     */
+    public ListRegistry select(Collection<String> names) {
+        ListRegistry selected = new ListRegistry();
+        for (String name : names) {
+            if (!suppliers.containsKey(name) && !primitiveSuppliers.containsKey(name)) {
+                throw new IllegalArgumentException("Неизвестная реализация списка: " + name);
+            }
+        }
+        suppliers.forEach((name, supplier) -> {
+            if (names.contains(name)) {
+                selected.register(name, supplier);
+            }
+        });
+        primitiveSuppliers.forEach((name, supplier) -> {
+            if (names.contains(name)) {
+                selected.registerPrimitive(name, supplier);
+            }
+        });
+        return selected;
+    }
+
+    /**
+     * @return имена зарегистрированных реализаций List в порядке регистрации
+     */
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(suppliers.keySet());
+    }
+
+    /**
+     * @return имена зарегистрированных примитивных реализаций в порядке регистрации
+     */
+    public Set<String> getPrimitiveNames() {
+        return Collections.unmodifiableSet(primitiveSuppliers.keySet());
+    }
+
+    /**
+     * @return имена всех реализаций: сначала List, затем примитивные
+     */
+    public Set<String> getAllNames() {
+        Set<String> names = new LinkedHashSet<>(suppliers.keySet());
+        names.addAll(primitiveSuppliers.keySet());
+        return Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * @param name имя реализации
+     * @return фабрика списков
+     */
+    public Supplier<List<Integer>> get(String name) {
+        Supplier<List<Integer>> supplier = suppliers.get(name);
+        if (supplier == null) {
+            throw new IllegalArgumentException("Неизвестная реализация списка: " + name);
+        }
+        return supplier;
+    }
+
+    /**
+     * @param name имя примитивной реализации
+     * @return фабрика примитивных списков
+     */
+    public Supplier<IntList> getPrimitive(String name) {
+        Supplier<IntList> supplier = primitiveSuppliers.get(name);
+        if (supplier == null) {
+            throw new IllegalArgumentException("Неизвестная примитивная реализация списка: " + name);
+        }
+        return supplier;
+    }
+
+    /**
+     * @return количество зарегистрированных реализаций обоих видов
+     */
+    public int size() {
+        return suppliers.size() + primitiveSuppliers.size();
+    }
+
+    private static Integer[] sequence(int size) {
+        Integer[] values = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+}
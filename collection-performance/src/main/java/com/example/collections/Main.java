@@ -1,34 +1,919 @@
 package com.example.collections;
 
+import com.example.collections.instrument.HistogramSnapshot;
+import com.example.collections.instrument.InstrumentedList;
+import com.example.collections.instrument.ListMetrics;
+import com.example.collections.lists.OffHeapIntList;
+import com.example.collections.report.Baseline;
+import com.example.collections.report.BaselineComparison;
+import com.example.collections.report.ResultExporter;
+import com.example.collections.report.RunMetadata;
+import com.example.collections.trace.RecordingList;
+import com.example.collections.trace.TraceRecorder;
+import com.example.collections.trace.TraceReplayer;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
 /**
  * Главный класс приложения для запуска тестов производительности
  */
 public class Main {
 
+    private static final int DEFAULT_OPERATION_COUNT = 10000;
+    private static final int DEFAULT_WRITER_PERCENT = 20;
+    private static final int DEFAULT_DURATION_MILLIS = 500;
+    private static final int DEFAULT_MIN_SIZE = 100;
+    private static final int DEFAULT_MAX_SIZE = 1_000_000;
+    private static final int DEFAULT_BUDGET_MILLIS = 2000;
+    private static final long WORKLOAD_SEED = 42;
+    private static final int DEFAULT_REGRESSION_PERCENT = 10;
+    private static final int REGRESSION_EXIT_CODE = 1;
+    private static final int BASELINE_ERROR_EXIT_CODE = 2;
+    private static final int DEFAULT_COLD_CALLS = 100;
+    private static final int DEFAULT_COLD_RUNS = 3;
+    private static final int DEFAULT_LATENCY_BATCH = 1;
+
+    /**
+     * Типовые профили нагрузки для итоговых рекомендаций: название - смесь операций
+     */
+    private static final Map<String, String> SUMMARY_PROFILES = new LinkedHashMap<>();
+
+    static {
+        SUMMARY_PROFILES.put("Чтение по индексу", "get=90,set=10");
+        SUMMARY_PROFILES.put("Добавление в конец", "add=80,get=20");
+        SUMMARY_PROFILES.put("Вставки и удаления в середине", "insert=40,remove=40,get=20");
+    }
+
     /**
      * Точка входа в программу
-     * @param args аргументы командной строки (можно передать количество операций)
+     * @param args аргументы командной строки:
+     *             [количество операций] [--warmup N] [--iterations N] [--lists ArrayList,LinkedList,...]
+     *             [--scenarios get,iteration,...] [--mapped-dir каталог]
+     *             [--concurrent [--threads N] [--writers процент] [--duration мс] [--workload mixed|append]]
+     *             [--sweep [--min-size N] [--max-size N] [--budget мс]]
+     *             [--mix get=70,add=20,remove=10 [--distribution uniform|sequential|hotspot|zipf] [--record файл]
+     *              [--instrument]]
+     *             [--replay файл] [--self-check]
+     *             [--export файл.json|файл.csv ...] [--baseline файл.csv|файл.json [--threshold процент]]
+     *             [--fork [--jvm-flags "-Xmx1g -XX:+UseParallelGC"] [--parallel N]]
+     *             [--cold-start [--calls N] [--runs N] [--profiles default,no-cds,appcds,c1,c2]]
+     *             [--bulk] [--streams [--threads N]] [--latency [--batch N]]
+     *             [--recommend get=70,add=20,remove=10 [--threads N] [--memory 64m] [--min-size N] [--budget мс]]
      */
     public static void main(String[] args) {
-        int operationCount = 10000;
+        int operationCount = DEFAULT_OPERATION_COUNT;
+        MeasurementConfig defaults = MeasurementConfig.defaults();
+        int minWarmupIterations = defaults.getMinWarmupIterations();
+        int measurementIterations = defaults.getMeasurementIterations();
+        List<String> listNames = null;
+        List<String> scenarioPrefixes = null;
+        Path mappedDirectory = null;
+        boolean concurrent = false;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        boolean threadsSpecified = false;
+        int writerPercent = DEFAULT_WRITER_PERCENT;
+        int durationMillis = DEFAULT_DURATION_MILLIS;
+        ContentionTester.Workload workload = ContentionTester.Workload.MIXED;
+        boolean sweep = false;
+        int minSize = DEFAULT_MIN_SIZE;
+        int maxSize = DEFAULT_MAX_SIZE;
+        int budgetMillis = DEFAULT_BUDGET_MILLIS;
+        String mixSpec = null;
+        String distributionName = IndexDistribution.UNIFORM.name();
+        Path recordFile = null;
+        Path replayFile = null;
+        boolean selfCheck = false;
+        List<Path> exportFiles = new ArrayList<>();
+        Path baselineFile = null;
+        int thresholdPercent = DEFAULT_REGRESSION_PERCENT;
+        boolean fork = false;
+        List<String> jvmFlags = new ArrayList<>();
+        int parallelism = 1;
+        boolean coldStart = false;
+        int coldCalls = DEFAULT_COLD_CALLS;
+        int coldRuns = DEFAULT_COLD_RUNS;
+        String profileNames = null;
+        boolean bulk = false;
+        boolean streams = false;
+        boolean instrument = false;
+        boolean latency = false;
+        int latencyBatch = DEFAULT_LATENCY_BATCH;
+        String recommendSpec = null;
+        String memorySpec = null;
+        boolean operationCountSpecified = false;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ("--warmup".equals(arg) && i + 1 < args.length) {
+                minWarmupIterations = parseInt(args[++i], minWarmupIterations);
+            } else if ("--iterations".equals(arg) && i + 1 < args.length) {
+                measurementIterations = parseInt(args[++i], measurementIterations);
+            } else if ("--lists".equals(arg) && i + 1 < args.length) {
+                listNames = Arrays.asList(args[++i].split(","));
+            } else if ("--scenarios".equals(arg) && i + 1 < args.length) {
+                scenarioPrefixes = Arrays.asList(args[++i].split(","));
+            } else if ("--mapped-dir".equals(arg) && i + 1 < args.length) {
+                mappedDirectory = Paths.get(args[++i]);
+            } else if ("--concurrent".equals(arg)) {
+                concurrent = true;
+            } else if ("--threads".equals(arg) && i + 1 < args.length) {
+                maxThreads = parseInt(args[++i], maxThreads);
+                threadsSpecified = true;
+            } else if ("--writers".equals(arg) && i + 1 < args.length) {
+                writerPercent = parsePercent(args[++i], writerPercent);
+            } else if ("--duration".equals(arg) && i + 1 < args.length) {
+                durationMillis = parseInt(args[++i], durationMillis);
+            } else if ("--workload".equals(arg) && i + 1 < args.length) {
+                workload = parseWorkload(args[++i], workload);
+            } else if ("--sweep".equals(arg)) {
+                sweep = true;
+            } else if ("--min-size".equals(arg) && i + 1 < args.length) {
+                minSize = parseInt(args[++i], minSize);
+            } else if ("--max-size".equals(arg) && i + 1 < args.length) {
+                maxSize = parseInt(args[++i], maxSize);
+            } else if ("--budget".equals(arg) && i + 1 < args.length) {
+                budgetMillis = parseInt(args[++i], budgetMillis);
+            } else if ("--mix".equals(arg) && i + 1 < args.length) {
+                mixSpec = args[++i];
+            } else if ("--distribution".equals(arg) && i + 1 < args.length) {
+                distributionName = args[++i];
+            } else if ("--record".equals(arg) && i + 1 < args.length) {
+                recordFile = Paths.get(args[++i]);
+            } else if ("--replay".equals(arg) && i + 1 < args.length) {
+                replayFile = Paths.get(args[++i]);
+            } else if ("--self-check".equals(arg)) {
+                selfCheck = true;
+            } else if ("--export".equals(arg) && i + 1 < args.length) {
+                exportFiles.add(Paths.get(args[++i]));
+            } else if ("--baseline".equals(arg) && i + 1 < args.length) {
+                baselineFile = Paths.get(args[++i]);
+            } else if ("--threshold".equals(arg) && i + 1 < args.length) {
+                thresholdPercent = parsePercent(args[++i], thresholdPercent);
+            } else if ("--fork".equals(arg)) {
+                fork = true;
+            } else if ("--jvm-flags".equals(arg) && i + 1 < args.length) {
+                jvmFlags = Arrays.asList(args[++i].trim().split("\\s+"));
+            } else if ("--parallel".equals(arg) && i + 1 < args.length) {
+                parallelism = parseInt(args[++i], parallelism);
+            } else if ("--cold-start".equals(arg)) {
+                coldStart = true;
+            } else if ("--calls".equals(arg) && i + 1 < args.length) {
+                coldCalls = parseInt(args[++i], coldCalls);
+            } else if ("--runs".equals(arg) && i + 1 < args.length) {
+                coldRuns = parseInt(args[++i], coldRuns);
+            } else if ("--profiles".equals(arg) && i + 1 < args.length) {
+                profileNames = args[++i];
+            } else if ("--bulk".equals(arg)) {
+                bulk = true;
+            } else if ("--streams".equals(arg)) {
+                streams = true;
+            } else if ("--instrument".equals(arg)) {
+                instrument = true;
+            } else if ("--latency".equals(arg)) {
+                latency = true;
+            } else if ("--batch".equals(arg) && i + 1 < args.length) {
+                latencyBatch = parseInt(args[++i], latencyBatch);
+            } else if ("--recommend".equals(arg) && i + 1 < args.length) {
+                recommendSpec = args[++i];
+            } else if ("--memory".equals(arg) && i + 1 < args.length) {
+                memorySpec = args[++i];
+            } else if (arg.startsWith("--")) {
+                // Опечатка в параметре или параметр без значения в конце строки
+                System.out.println("Неизвестный параметр или не указано его значение: " + arg);
+                return;
+            } else if (operationCountSpecified) {
+                System.out.println("Количество операций уже задано, лишний аргумент: " + arg);
+                return;
+            } else {
+                // Позиционный аргумент - количество операций
+                operationCount = parseInt(arg, DEFAULT_OPERATION_COUNT);
+                operationCountSpecified = true;
+            }
+        }
+
+        if (concurrent) {
+            runContention(operationCount, listNames, maxThreads, writerPercent, durationMillis, workload);
+            return;
+        }
+
+        MeasurementConfig config = new MeasurementConfig(minWarmupIterations,
+                Math.max(minWarmupIterations, defaults.getMaxWarmupIterations()), measurementIterations);
+
+        ListRegistry registry;
+        try {
+            registry = createRegistry(operationCount, mappedDirectory, listNames);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage() + ". Доступны: "
+                    + ListRegistry.defaults(operationCount).getAllNames());
+            return;
+        }
+        Predicate<String> scenarioFilter = scenarioFilter(scenarioPrefixes, bulk);
+
+        if (mixSpec != null) {
+            WorkloadPlan plan;
+            try {
+                plan = WorkloadPlan.generate(WorkloadMix.parse(mixSpec),
+                        IndexDistribution.valueOf(distributionName.toUpperCase(Locale.ROOT)),
+                        operationCount, operationCount, WORKLOAD_SEED);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Некорректная нагрузка: " + e.getMessage() + ". Распределения: "
+                        + Arrays.toString(IndexDistribution.values()));
+                return;
+            }
+            if (recordFile != null) {
+                recordTrace(plan, recordFile);
+                return;
+            }
+            System.out.printf("🎛️ Смешанная нагрузка: %s, позиции %s, %d операций на списке из %d элементов%n",
+                    plan.getMix(), plan.getDistribution(), plan.size(), plan.getInitialSize());
+            if (instrument) {
+                PerformanceResult[] observed = ListMetrics.toResults(observe(plan, config, registry));
+                if (observed.length > 0) {
+                    printResults(observed);
+                    printStatistics(observed);
+                    exitOnRegression(report(observed, exportFiles, baselineFile, thresholdPercent));
+                }
+                return;
+            }
+            printWorkload(new WorkloadRunner(plan, config, registry).run());
+            return;
+        }
+
+        if (replayFile != null) {
+            TraceReplayer replayer;
+            try {
+                replayer = new TraceReplayer(replayFile);
+            } catch (IllegalArgumentException | UncheckedIOException e) {
+                System.out.println("Не удалось открыть трассу: " + e.getMessage());
+                return;
+            }
+            System.out.printf("⏯️ Воспроизведение трассы %s: %d операций, начальный размер %d%n",
+                    replayFile, replayer.getRecordCount(), replayer.getInitialSize());
+            // Списки фиксированной длины (Arrays.asList) должны совпасть с начальным размером трассы
+            ListRegistry traceRegistry = createRegistry(replayer.getInitialSize(), mappedDirectory, listNames);
+            PerformanceResult[] traceResults = {
+                    new ListPerformanceTester(replayer.getRecordCount(), config, traceRegistry).runTrace(replayer)};
+            printResults(traceResults);
+            printStatistics(traceResults);
+            exitOnRegression(report(traceResults, exportFiles, baselineFile, thresholdPercent));
+            return;
+        }
 
-        // Если передан аргумент, используем его как количество операций
-        if (args.length > 0) {
+        if (coldStart) {
+            List<ColdStartProfile> profiles = new ArrayList<>();
+            try {
+                if (profileNames == null) {
+                    profiles.addAll(Arrays.asList(ColdStartProfile.values()));
+                } else {
+                    for (String name : profileNames.split(",")) {
+                        profiles.add(ColdStartProfile.parse(name));
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage() + ". Доступны: default, no-cds, appcds, c1, c2");
+                return;
+            }
+            System.out.printf("🧊 Холодный старт: %d вызовов по %d операций в новой JVM, запусков JVM на профиль: %d%n",
+                    coldCalls, operationCount, coldRuns);
             try {
-                operationCount = Integer.parseInt(args[0]);
-            } catch (NumberFormatException e) {
-                System.out.println("Неверный формат числа. Использую значение по умолчанию: 10000");
+                printColdStart(new ColdStartRunner(operationCount, coldCalls, coldRuns, jvmFlags, profiles)
+                        .run(scenarioFilter, registry, message -> System.out.println("Пропущено: " + message)));
+            } catch (IllegalStateException | UncheckedIOException e) {
+                System.out.println("Ошибка в дочерней JVM: " + e.getMessage());
             }
+            return;
+        }
+
+        if (streams) {
+            System.out.printf("🌊 Потоки Stream: %s, %d элементов, параллелизм до %d (ядер: %d)%n",
+                    registry.getNames(), operationCount, maxThreads, Runtime.getRuntime().availableProcessors());
+            printStreams(new StreamTester(operationCount, config, registry).run(maxThreads));
+            return;
         }
 
-        System.out.println("🚀 Запуск тестов производительности ArrayList vs LinkedList");
+        if (latency) {
+            LatencyTester latencyTester = new LatencyTester(operationCount, latencyBatch, config, registry);
+            System.out.printf("⏱️ Задержка отдельных операций: %s, %d операций, замер на каждые %d операций, "
+                            + "цена System.nanoTime ≈ %d нс%n",
+                    registry.getAllNames(), operationCount, latencyBatch, LatencyTester.timerOverhead());
+            List<LatencyResult> latencies = latencyTester.run(scenarioFilter);
+            if (latencies.isEmpty()) {
+                System.out.println("Не выбрано ни одного теста. Доступны: " + latencyTester.getScenarioNames());
+                return;
+            }
+            printLatencies(latencies);
+            PerformanceResult[] latencyResults = new PerformanceResult[latencies.size()];
+            for (int i = 0; i < latencyResults.length; i++) {
+                latencyResults[i] = latencies.get(i).toPerformanceResult();
+            }
+            exitOnRegression(report(latencyResults, exportFiles, baselineFile, thresholdPercent));
+            return;
+        }
+
+        if (recommendSpec != null) {
+            WorkloadProfile profile;
+            try {
+                profile = new WorkloadProfile(WorkloadMix.parse(recommendSpec), operationCount,
+                        threadsSpecified ? maxThreads : 1,
+                        memorySpec == null ? WorkloadProfile.UNLIMITED_MEMORY : WorkloadProfile.parseBytes(memorySpec));
+            } catch (IllegalArgumentException e) {
+                System.out.println("Некорректный профиль: " + e.getMessage());
+                return;
+            }
+            int topSize = Math.max(Math.min(maxSize, operationCount), 1);
+            int bottomSize = Math.min(minSize, topSize);
+            Path directory = mappedDirectory;
+            List<String> names = listNames;
+            System.out.printf("🧭 Подбор реализации под профиль %s: замеры на размерах %d..%d, бюджет %d мс на серию%n",
+                    profile, bottomSize, topSize, budgetMillis);
+            SweepResult costs = new SizeSweep(bottomSize, topSize, budgetMillis, config,
+                    size -> createRegistry(size, directory, names)).run(CostModel::isModelScenario);
+            FootprintResult footprint = new ListPerformanceTester(topSize, config,
+                    createRegistry(topSize, directory, names)).runFootprintTest();
+            printRecommendations(profile, CostModel.fromSweep(costs, footprint).recommend(profile));
+            return;
+        }
+
+        if (sweep) {
+            if (maxSize < minSize) {
+                System.out.println("Наибольший размер меньше наименьшего: " + maxSize + " < " + minSize);
+                return;
+            }
+            Path directory = mappedDirectory;
+            List<String> names = listNames;
+            System.out.printf("📏 Прогон по размерам %d..%d, бюджет %d мс на серию: %s%n",
+                    minSize, maxSize, budgetMillis, registry.getAllNames());
+            SizeSweep sizeSweep = new SizeSweep(minSize, maxSize, budgetMillis, config,
+                    size -> createRegistry(size, directory, names));
+            printSweep(sizeSweep.run(scenarioFilter));
+            return;
+        }
+
+        System.out.println("🚀 Запуск тестов производительности реализаций List: " + registry.getAllNames());
         System.out.println("==========================================================");
 
-        ListPerformanceTester tester = new ListPerformanceTester(operationCount);
-        PerformanceResult[] results = tester.runAllTests();
+        ListPerformanceTester tester = new ListPerformanceTester(operationCount, config, registry);
+        PerformanceResult[] results;
+        if (fork) {
+            System.out.printf("🍴 Каждая пара «тест - реализация» в отдельной JVM (одновременно: %d, флаги: %s)%n",
+                    parallelism, jvmFlags);
+            try {
+                results = new ForkScheduler(operationCount, config, jvmFlags, parallelism, mappedDirectory)
+                        .run(scenarioFilter, registry);
+            } catch (IllegalStateException | UncheckedIOException e) {
+                System.out.println("Ошибка в дочерней JVM: " + e.getMessage());
+                return;
+            }
+        } else {
+            results = tester.runTests(scenarioFilter);
+        }
+        boolean footprint = scenarioFilter.test(ListPerformanceTester.FOOTPRINT_SCENARIO);
+        if (results.length == 0 && !footprint) {
+            List<String> available = new ArrayList<>(tester.getScenarioNames());
+            available.add(ListPerformanceTester.FOOTPRINT_SCENARIO);
+            System.out.println("Не выбрано ни одного теста. Доступны: " + available);
+            return;
+        }
+
+        if (results.length > 0) {
+            printResults(results);
+            printStatistics(results);
+        }
+        if (selfCheck && results.length > 0) {
+            int reducedCount = operationCount / SelfCheck.SCALE;
+            PerformanceResult[] reduced = new PerformanceResult[0];
+            if (reducedCount > 0) {
+                ListPerformanceTester control = new ListPerformanceTester(reducedCount, config,
+                        createRegistry(reducedCount, mappedDirectory, listNames));
+                // Первый проход только прогревает JIT: короткие итерации нового размера иначе успевают
+                // стабилизироваться на ещё не скомпилированном коде и выглядят медленнее, чем есть
+                control.runTests(scenarioFilter);
+                reduced = control.runTests(scenarioFilter);
+            }
+            printSelfCheck(SelfCheck.check(results, reduced));
+        }
+        if (footprint) {
+            printFootprint(tester.runFootprintTest());
+        }
+        if (results.length > 0) {
+            printBatchingGain(results);
+            printBoxingComparison(results);
+            printSummary(results);
+            exitOnRegression(report(results, exportFiles, baselineFile, thresholdPercent));
+        }
+    }
+
+    /**
+     * Строит фильтр тестов: без --bulk выбираются поэлементные тесты (или явно перечисленные),
+     * с --bulk - пакетные, а префиксы сравниваются и с названием без "bulk."
+     * @param prefixes начала названий из --scenarios или null
+     * @param bulk выбран ли набор пакетных тестов
+     * @return фильтр по названию теста
+     */
+    static Predicate<String> scenarioFilter(List<String> prefixes, boolean bulk) {
+        if (!bulk) {
+            return prefixes == null
+                    ? name -> !ListPerformanceTester.isBulk(name)
+                    : name -> prefixes.stream().anyMatch(name::startsWith);
+        }
+        if (prefixes == null) {
+            return ListPerformanceTester::isBulk;
+        }
+        return name -> ListPerformanceTester.isBulk(name) && prefixes.stream().anyMatch(prefix -> name.startsWith(prefix)
+                || name.startsWith(ListPerformanceTester.BULK_PREFIX + prefix));
+    }
+
+    /**
+     * Выгружает результаты и сравнивает их с базой
+     * @param results результаты тестов
+     * @param exportFiles файлы для выгрузки (.json или .csv)
+     * @param baselineFile CSV или JSON с базой или null
+     * @param thresholdPercent допустимое замедление относительно базы в процентах
+     * @return код завершения: 0, REGRESSION_EXIT_CODE или BASELINE_ERROR_EXIT_CODE (база не прочитана
+     *         или сравнена не полностью)
+     */
+    private static int report(PerformanceResult[] results, List<Path> exportFiles, Path baselineFile,
+                              int thresholdPercent) {
+        if (!exportFiles.isEmpty()) {
+            RunMetadata metadata = RunMetadata.capture();
+            for (Path file : exportFiles) {
+                try {
+                    ResultExporter.write(file, metadata, results);
+                    System.out.println("💾 Результаты сохранены в " + file);
+                } catch (IllegalArgumentException | UncheckedIOException e) {
+                    System.out.println("Не удалось сохранить результаты: " + e.getMessage());
+                }
+            }
+        }
+        if (baselineFile == null) {
+            return 0;
+        }
+
+        Baseline baseline;
+        try {
+            baseline = Baseline.read(baselineFile);
+        } catch (IllegalArgumentException | UncheckedIOException e) {
+            System.out.println("Не удалось прочитать базу: " + e.getMessage());
+            return BASELINE_ERROR_EXIT_CODE;
+        }
+        BaselineComparison comparison = baseline.compare(results, thresholdPercent);
+        printComparison(baselineFile, comparison);
+        if (comparison.hasRegressions()) {
+            return REGRESSION_EXIT_CODE;
+        }
+        return comparison.isIncomplete() ? BASELINE_ERROR_EXIT_CODE : 0;
+    }
+
+    /**
+     * Завершает JVM с ненулевым кодом, чтобы скрипт сборки увидел регрессию
+     * @param exitCode код завершения из report
+     */
+    private static void exitOnRegression(int exitCode) {
+        if (exitCode != 0) {
+            System.exit(exitCode);
+        }
+    }
+
+    /**
+     * Выводит сравнение с базой
+     * @param baselineFile файл базы
+     * @param comparison результат сравнения
+     */
+    private static void printComparison(Path baselineFile, BaselineComparison comparison) {
+        RunMetadata before = comparison.getBaselineMetadata();
+        System.out.printf("%n🧪 Сравнение с базой %s (Java %s, ревизия %s), порог %.0f%%:%n",
+                baselineFile, before.get("javaVersion"), before.get("gitRevision"),
+                comparison.getThresholdPercent());
+        for (String entry : comparison.getMismatched()) {
+            System.out.println("⚠️ Не сравнивается, другое количество операций: " + entry);
+        }
+        for (String entry : comparison.getMissing()) {
+            System.out.println("⚠️ Нет в текущем прогоне: " + entry);
+        }
+        if (comparison.getChanges().isEmpty()) {
+            System.out.println("Нет общих замеров с базой");
+            return;
+        }
+        for (BaselineComparison.Change change : comparison.getChanges()) {
+            String marker = change.isRegression() ? "❌" : change.isSignificant() && change.getChangePercent() < 0
+                    ? "✅" : "  ";
+            System.out.println(marker + " " + change);
+        }
+        List<BaselineComparison.Change> regressions = comparison.getRegressions();
+        if (regressions.isEmpty()) {
+            System.out.println("Регрессий нет");
+        } else {
+            System.out.println("Регрессий: " + regressions.size());
+        }
+    }
+
+    /**
+     * Создаёт реестр реализаций для заданного размера
+     * @param operationCount количество операций
+     * @param mappedDirectory каталог для списка в отображённом файле или null
+     * @param listNames выбранные реализации или null для всех
+     * @return реестр
+     * @throws IllegalArgumentException если выбрана неизвестная реализация
+     */
+    static ListRegistry createRegistry(int operationCount, Path mappedDirectory, List<String> listNames) {
+        ListRegistry registry = ListRegistry.defaults(operationCount);
+        if (mappedDirectory != null) {
+            registry.registerPrimitive("MappedIntList", () -> OffHeapIntList.mappedTemp(mappedDirectory, 1024));
+        }
+        return listNames == null ? registry : registry.select(listNames);
+    }
+
+    /**
+     * Выполняет план смешанной нагрузки на каждой упакованной реализации через InstrumentedList
+     * Первые прогоны прогревают код и не учитываются; задержка замеряется у каждого вызова
+     * @param plan план нагрузки
+     * @param config настройки: число прогревочных и учитываемых прогонов плана
+     * @param registry реестр реализаций
+     * @return метрики по имени реализации (реализации, не поддерживающие операции плана, пропускаются)
+     */
+    private static Map<String, ListMetrics> observe(WorkloadPlan plan, MeasurementConfig config, ListRegistry registry) {
+        System.out.println("👁️ Наблюдаемые задержки одного вызова через InstrumentedList (нс):");
+        Map<String, ListMetrics> byImplementation = new LinkedHashMap<>();
+        WorkloadRunner runner = new WorkloadRunner(plan, config, new ListRegistry());
+        for (String name : registry.getNames()) {
+            ListMetrics metrics = new ListMetrics();
+            try {
+                for (int run = 0; run < config.getMinWarmupIterations() + config.getMeasurementIterations(); run++) {
+                    if (run == config.getMinWarmupIterations()) {
+                        metrics.reset();
+                    }
+                    List<Integer> list = registry.get(name).get();
+                    for (int i = list.size(); i < plan.getInitialSize(); i++) {
+                        list.add(i);
+                    }
+                    try {
+                        runner.execute(new InstrumentedList<>(list, metrics));
+                    } finally {
+                        ListPerformanceTester.release(list);
+                    }
+                }
+            } catch (UnsupportedOperationException e) {
+                System.out.println("Пропущено: " + name + " не поддерживает операции смеси");
+                continue;
+            }
+            System.out.printf("%-21s наблюдаемая смесь %s, вызовов %d%n", name, metrics.toWorkloadMix(),
+                    metrics.getTotalCount());
+            byImplementation.put(name, metrics);
+        }
+        return byImplementation;
+    }
+
+    /**
+     * Выполняет план смешанной нагрузки на ArrayList, записывая операции в трассу
+     * @param plan план нагрузки
+     * @param file файл трассы
+     */
+    private static void recordTrace(WorkloadPlan plan, Path file) {
+        List<Integer> list = new ArrayList<>();
+        for (int i = 0; i < plan.getInitialSize(); i++) {
+            list.add(i);
+        }
+        try (TraceRecorder recorder = new TraceRecorder(file, list.size())) {
+            new WorkloadRunner(plan, MeasurementConfig.defaults(), new ListRegistry())
+                    .execute(new RecordingList(list, recorder));
+            System.out.printf("⏺️ Записано операций: %d в %s%n", recorder.getRecordCount(), file);
+        } catch (UncheckedIOException e) {
+            System.out.println("Не удалось записать трассу: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Выводит пропускную способность и задержки операций смешанной нагрузки
+     * @param result результат смешанной нагрузки
+     */
+    private static void printWorkload(WorkloadResult result) {
+        List<WorkloadMix.Operation> operations = new ArrayList<>();
+        for (WorkloadMix.Operation operation : WorkloadMix.Operation.values()) {
+            if (result.getPlan().count(operation) > 0) {
+                operations.add(operation);
+            }
+        }
+
+        StringBuilder header = new StringBuilder(String.format("%-21s %-14s %-6s", "Список", "Оп/с", "Место"));
+        for (WorkloadMix.Operation operation : operations) {
+            header.append(String.format(" %-20s", operation.getKey() + " p50/p99 нс"));
+        }
+        System.out.println("=".repeat(header.length()));
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+
+        PerformanceResult performance = result.getPerformance();
+        for (String name : result.getImplementationNames()) {
+            if (!performance.isSupported(name)) {
+                System.out.printf("%-21s %s%n", name, "операции не поддерживаются");
+                continue;
+            }
+            StringBuilder row = new StringBuilder(String.format("%-21s %-14.0f %-6d",
+                    name, result.getOperationsPerSecond(name), performance.getRank(name)));
+            for (WorkloadMix.Operation operation : operations) {
+                row.append(String.format(" %-20s", String.format("%.0f / %.0f",
+                        result.getLatencyPercentile(name, operation, 50),
+                        result.getLatencyPercentile(name, operation, 99))));
+            }
+            System.out.println(row);
+        }
+        System.out.println("🏆 Быстрее: " + performance.getFasterList()
+                + " (задержки включают стоимость замера System.nanoTime)");
+    }
+
+    /**
+     * Выводит кривые задержек холодного старта по тестам, реализациям и профилям
+     * @param results результаты холодного старта
+     */
+    private static void printColdStart(List<ColdStartResult> results) {
+        if (results.isEmpty()) {
+            System.out.println("Нет результатов: выбранные реализации не поддерживают выбранные тесты");
+            return;
+        }
+        int calls = results.get(0).getCurve().length;
+        List<Integer> points = new ArrayList<>();
+        for (int call = 1; call <= calls; call = nextCurvePoint(call)) {
+            points.add(call);
+        }
+        if (points.get(points.size() - 1) != calls) {
+            points.add(calls);
+        }
+
+        StringBuilder header = new StringBuilder(String.format("%-21s %-8s %-10s %-12s",
+                "Список", "Профиль", "До main мс", "До 1-й оп. мс"));
+        for (int point : points) {
+            header.append(String.format(" %-9s", "#" + point));
+        }
+        header.append(String.format(" %-10s %-8s", "Плато", "С вызова"));
+
+        String scenario = null;
+        for (ColdStartResult result : results) {
+            if (!result.getScenario().equals(scenario)) {
+                scenario = result.getScenario();
+                System.out.printf("%n%s (время вызова в мкс, медиана по запускам):%n", scenario);
+                System.out.println("=".repeat(header.length()));
+                System.out.println(header);
+                System.out.println("-".repeat(header.length()));
+            }
+            double[] curve = result.getCurve();
+            StringBuilder row = new StringBuilder(String.format("%-21s %-8s %-10.1f %-12.1f",
+                    result.getImplementation(), result.getProfile().getName(),
+                    result.getStartupNanos() / 1e6, result.getTimeToFirstOperationNanos() / 1e6));
+            for (int point : points) {
+                row.append(String.format(" %-9.1f", curve[point - 1] / 1e3));
+            }
+            row.append(String.format(" %-10.1f %-8d", result.getSteadyNanos() / 1e3, result.getSteadyCall()));
+            System.out.println(row);
+        }
+        System.out.println("\nДо 1-й оп. - от старта JVM до завершения первого вызова; плато - медиана последней четверти"
+                + " вызовов;\nС вызова - с какого вызова время держится в пределах 20% от плато."
+                + " Профили: " + Arrays.stream(ColdStartProfile.values())
+                .map(profile -> profile.getName() + " - " + profile.getDescription())
+                .collect(Collectors.joining("; ")));
+    }
+
+    /**
+     * @param call текущая точка кривой
+     * @return следующая точка в ряду 1, 2, 5, 10, 20, 50 ...
+     */
+    private static int nextCurvePoint(int call) {
+        int magnitude = 1;
+        while (magnitude * 10 <= call) {
+            magnitude *= 10;
+        }
+        int leading = call / magnitude;
+        return leading < 2 ? 2 * magnitude : leading < 5 ? 5 * magnitude : 10 * magnitude;
+    }
+
+    /**
+     * Выводит время одной операции по размерам, подобранную сложность и смены лидера
+     * @param result результаты прогона по размерам
+     */
+    private static void printSweep(SweepResult result) {
+        if (result.getScenarioNames().isEmpty()) {
+            System.out.println("Не выбрано ни одного теста");
+            return;
+        }
+        List<Integer> sizes = result.getSizes();
+        for (String scenario : result.getScenarioNames()) {
+            System.out.printf("%n📏 %s: время одной операции в нс%n", scenario);
+            StringBuilder header = new StringBuilder(String.format("%-21s", "Список"));
+            for (int size : sizes) {
+                header.append(String.format(" %-11s", "n=" + size));
+            }
+            header.append(String.format(" %-12s %-6s", "Сложность", "Ошибка"));
+            System.out.println("=".repeat(header.length()));
+            System.out.println(header);
+            System.out.println("-".repeat(header.length()));
+
+            for (String name : result.getImplementationNames(scenario)) {
+                StringBuilder row = new StringBuilder(String.format("%-21s", name));
+                double[] times = result.getPerOperationNanos(scenario, name);
+                Integer skippedFrom = result.getSkippedFrom(scenario, name);
+                for (int i = 0; i < times.length; i++) {
+                    String cell;
+                    if (!Double.isNaN(times[i])) {
+                        cell = String.format("%.1f", times[i]);
+                    } else {
+                        cell = skippedFrom != null && sizes.get(i) >= skippedFrom ? "бюджет" : "n/a";
+                    }
+                    row.append(String.format(" %-11s", cell));
+                }
+                ComplexityFit fit = result.getComplexity(scenario, name);
+                row.append(fit == null
+                        ? String.format(" %-12s %-6s", "?", "")
+                        : String.format(" %-12s %-6s", fit.getComplexity().getLabel(),
+                        String.format("%.0f%%", fit.getError() * 100)));
+                System.out.println(row);
+            }
+
+            List<SweepResult.Crossover> crossovers = result.getCrossovers(scenario);
+            if (crossovers.isEmpty()) {
+                System.out.println("Лидер не меняется");
+            }
+            for (SweepResult.Crossover crossover : crossovers) {
+                System.out.printf("🔀 Между n=%d и n=%d лидер меняется: %s -> %s%n",
+                        crossover.getLastSizeOfPrevious(), crossover.getFirstSizeOfNext(),
+                        crossover.getPreviousLeader(), crossover.getNextLeader());
+            }
+        }
+        System.out.println("(бюджет - пропущено: ожидаемое время серии замеров превышает --budget; "
+                + "? - меньше " + ComplexityFit.MIN_POINTS + " размеров для подбора сложности)");
+    }
+
+    /**
+     * Запускает многопоточный тест общих списков и выводит масштабирование по числу потоков
+     * @param initialSize начальный размер общего списка
+     * @param listNames выбранные реализации или null для всех
+     * @param maxThreads максимальное количество потоков
+     * @param writerPercent доля писателей в процентах
+     * @param durationMillis длительность одного прогона в миллисекундах
+     * @param workload вид нагрузки писателей
+     */
+    private static void runContention(int initialSize, List<String> listNames, int maxThreads,
+                                      int writerPercent, int durationMillis, ContentionTester.Workload workload) {
+        ListRegistry registry = ListRegistry.concurrent();
+        if (listNames != null) {
+            try {
+                registry = registry.select(listNames);
+            } catch (IllegalArgumentException e) {
+                System.out.println(e.getMessage() + ". Доступны: " + registry.getAllNames());
+                return;
+            }
+        }
+
+        System.out.printf("🧵 Многопоточный тест (%s): %s, до %d потоков, писателей %d%%, "
+                        + "%d мс на прогон и столько же на прогрев%n",
+                workload, registry.getNames(), maxThreads, writerPercent, durationMillis);
+        ContentionTester tester = new ContentionTester(initialSize, durationMillis, registry, workload);
+        List<ContentionResult> results = tester.runScaling(maxThreads, writerPercent);
 
-        printResults(results);
-        printSummary(results);
+        System.out.println("=========================================================================================================");
+        System.out.printf("%-29s %-8s %-8s %-14s %-14s %-14s %-14s %-8s%n",
+                "Список", "Чтение", "Запись", "Всего оп/с", "Чтений/с", "Записей/с", "Справедл.", "Мин/макс");
+        System.out.println("---------------------------------------------------------------------------------------------------------");
+        for (ContentionResult result : results) {
+            System.out.printf("%-29s %-8d %-8d %-14.0f %-14.0f %-14.0f %-14.2f %-8.2f%n",
+                    result.getImplementationName(),
+                    result.getReaderThreads(),
+                    result.getWriterThreads(),
+                    result.getOperationsPerSecond(),
+                    result.getReadsPerSecond(),
+                    result.getWritesPerSecond(),
+                    result.getFairness(),
+                    result.getMinMaxRatio());
+        }
+        System.out.println("(справедливость - индекс Джайна: 1 - потоки выполнили поровну; мин/макс - самый медленный поток к самому быстрому)");
+    }
+
+    /**
+     * Выводит ускорение параллельных конвейеров относительно последовательных
+     * @param results результаты потоковых тестов
+     */
+    private static void printStreams(List<StreamResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        int[] levels = results.get(0).getParallelism();
+        StringBuilder header = new StringBuilder(String.format("%-21s %-13s %-12s", "Список", "Конвейер", "Послед. нс"));
+        for (int level : levels) {
+            header.append(String.format(" %-16s", "x" + level + " (баланс)"));
+        }
+        header.append(String.format(" %-10s", "Окупается"));
+        System.out.println("=".repeat(header.length()));
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+
+        for (StreamResult result : results) {
+            StringBuilder row = new StringBuilder(String.format("%-21s %-13s %-12.0f",
+                    result.getImplementationName(), result.getPipeline().getName(), result.getSequential().getMean()));
+            for (int level : levels) {
+                row.append(String.format(" %-16s", String.format("%.2fx (%.2f)",
+                        result.getSpeedup(level), result.getSplitBalance(level))));
+            }
+            int breakEven = result.getBreakEvenParallelism();
+            row.append(String.format(" %-10s", breakEven == 0 ? "нет" : "с x" + breakEven));
+            System.out.println(row);
+        }
+        System.out.println("(xN - ускорение параллельного потока в ForkJoinPool из N потоков относительно последовательного;");
+        System.out.println(" баланс - отношение самой маленькой части разбиения Spliterator на N частей к самой большой;");
+        System.out.println(" окупается - наименьший N, при котором параллельный поток значимо быстрее последовательного)");
+    }
+
+    /**
+     * Печатает перцентили задержки одной операции по тестам и реализациям
+     * @param results результаты теста задержки
+     */
+    private static void printLatencies(List<LatencyResult> results) {
+        String header = String.format("%-25s %-21s %-10s %-10s %-10s %-12s %-10s %-8s",
+                "Метод", "Список", "p50", "p99", "p99.9", "max", "Среднее", "Хвост");
+        System.out.println("=".repeat(header.length()));
+        System.out.println(header);
+        System.out.println("-".repeat(header.length()));
+
+        for (LatencyResult result : results) {
+            String operation = result.getScenarioName();
+            for (String name : result.getImplementationNames()) {
+                HistogramSnapshot snapshot = result.getSnapshot(name);
+                if (snapshot == null) {
+                    System.out.printf("%-25s %-21s n/a%n", operation, name);
+                } else {
+                    System.out.printf(Locale.ROOT, "%-25s %-21s %-10d %-10d %-10d %-12d %-10.0f x%-7.1f%n",
+                            operation, name, snapshot.getPercentile(50), snapshot.getPercentile(99),
+                            snapshot.getPercentile(99.9), snapshot.getMax(), snapshot.getMean(),
+                            result.getTailRatio(name));
+                }
+                operation = "";
+            }
+        }
+        int batchSize = results.get(0).getBatchSize();
+        System.out.println(batchSize == 1 ? "(время одной операции в нс;"
+                : "(время одной операции в нс - среднее по пакету из " + batchSize + " операций;");
+        System.out.println(" хвост - отношение p99.9 к медиане; точность корзин гистограммы - 12.5%)");
+    }
+
+    /**
+     * Разбирает вид многопоточной нагрузки
+     * @param value строковое значение (mixed или append)
+     * @param defaultValue значение по умолчанию при ошибке
+     * @return вид нагрузки
+     */
+    private static ContentionTester.Workload parseWorkload(String value, ContentionTester.Workload defaultValue) {
+        try {
+            return ContentionTester.Workload.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.out.println("Неизвестная нагрузка. Использую значение по умолчанию: " + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Разбирает процент от 0 до 100 из аргумента командной строки
+     * @param value строковое значение
+     * @param defaultValue значение по умолчанию при ошибке
+     * @return разобранный процент или значение по умолчанию
+     */
+    private static int parsePercent(String value, int defaultValue) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= 0 && parsed <= 100) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Сообщение ниже
+        }
+        System.out.println("Процент должен быть от 0 до 100. Использую значение по умолчанию: " + defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Разбирает положительное целое число из аргумента командной строки
+     * @param value строковое значение
+     * @param defaultValue значение по умолчанию при ошибке
+     * @return разобранное число или значение по умолчанию
+     */
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // Сообщение ниже
+        }
+        System.out.println("Неверный формат числа. Использую значение по умолчанию: " + defaultValue);
+        return defaultValue;
     }
 
     /**
@@ -36,53 +921,305 @@ public class Main {
      * @param results массив результатов тестирования
      */
     private static void printResults(PerformanceResult[] results) {
-        System.out.printf("\n📊 Результаты тестирования (%d операций):\n", results[0].getOperationCount());
-        System.out.println("==================================================================================");
-        System.out.printf("%-25s %-15s %-15s %-12s %-10s%n",
-                "Метод", "ArrayList (нс)", "LinkedList (нс)", "Быстрее", "Разница");
-        System.out.println("----------------------------------------------------------------------------------");
+        Set<String> names = results[0].getImplementationNames();
+
+        System.out.printf("\n📊 Результаты тестирования (%d операций, среднее время в нс):\n",
+                results[0].getOperationCount());
+        StringBuilder header = new StringBuilder(String.format("%-25s", "Метод"));
+        for (String name : names) {
+            header.append(String.format(" %-" + columnWidth(name) + "s", name));
+        }
+        header.append(String.format(" %-20s %-10s", "Быстрее", "Разница"));
+        String separator = "-".repeat(header.length());
+
+        System.out.println("=".repeat(header.length()));
+        System.out.println(header);
+        System.out.println(separator);
 
         for (PerformanceResult result : results) {
-            System.out.printf("%-25s %-15d %-15d %-12s %-10.2fx%n",
+            StringBuilder row = new StringBuilder(String.format("%-25s", result.getOperationName()));
+            for (String name : names) {
+                String cell = result.isSupported(name)
+                        ? result.getTime(name) + " (" + result.getRank(name) + ")"
+                        : "n/a";
+                row.append(String.format(" %-" + columnWidth(name) + "s", cell));
+            }
+            row.append(String.format(" %-20s %-10.2fx", result.getFasterList(), result.getPerformanceRatio()));
+            System.out.println(row);
+        }
+        System.out.println("(в скобках - место в рейтинге, n/a - операция не поддерживается)");
+    }
+
+    private static int columnWidth(String name) {
+        return Math.max(name.length(), 14);
+    }
+
+    /**
+     * Выводит распределение замеров и потребление ресурсов по каждой операции
+     * @param results массив результатов тестирования
+     */
+    private static void printStatistics(PerformanceResult[] results) {
+        System.out.println("\n📐 Статистика замеров (время в нс, выделения и GC - среднее на замер):");
+        System.out.println("=======================================================================================================================================");
+        System.out.printf("%-25s %-21s %-12s %-12s %-12s %-12s %-12s %-27s %-6s %-10s %-5s %-6s %-5s%n",
+                "Метод", "Список", "Среднее", "Медиана", "p90", "p99", "Ст.откл.", "ДИ 95%", "n", "Байт/оп", "GC", "GC мс",
+                "JIT");
+        System.out.println("---------------------------------------------------------------------------------------------------------------------------------------");
+
+        for (PerformanceResult result : results) {
+            String operationName = result.getOperationName();
+            for (String name : result.getImplementationNames()) {
+                printStatisticsRow(operationName, name, result.getStatistics(name), result.getOperationCount());
+                operationName = "";
+            }
+        }
+        System.out.println("* - стабильное состояние (время и JIT-компиляция) не достигнуто за отведённый прогрев");
+        System.out.println("JIT - замеров, во время которых работал JIT-компилятор: их время может включать"
+                + " интерпретируемый или ещё не окончательно скомпилированный код");
+    }
+
+    private static void printStatisticsRow(String operationName, String listName, TimingStatistics statistics,
+                                           int operationCount) {
+        if (statistics == null) {
+            System.out.printf("%-25s %-21s %s%n", operationName, listName, "операция не поддерживается");
+            return;
+        }
+        ResourceUsage usage = statistics.getResourceUsage();
+        JitActivity jit = statistics.getJitActivity();
+        System.out.printf("%-25s %-21s %-12.0f %-12.0f %-12.0f %-12.0f %-12.0f %-27s %-6s %-10s %-5.2f %-6.1f %-5s%n",
+                operationName,
+                listName,
+                statistics.getMean(),
+                statistics.getMedian(),
+                statistics.getP90(),
+                statistics.getP99(),
+                statistics.getStandardDeviation(),
+                String.format("[%.0f; %.0f]", statistics.getConfidenceLow(), statistics.getConfidenceHigh()),
+                statistics.getSampleCount() + (statistics.isSteadyState() ? "" : "*"),
+                usage.isAllocationSupported()
+                        ? String.format("%.1f", usage.getAllocatedBytesPerOperation(operationCount))
+                        : "n/a",
+                usage.getGcCount(),
+                usage.getGcTimeMillis(),
+                jit.isSupported() ? String.valueOf(jit.getOverlappedCount()) : "n/a");
+    }
+
+    /**
+     * Выводит занимаемую память с разбивкой на массивы хранения, узлы и упакованные элементы
+     * @param footprint результат измерения памяти
+     */
+    private static void printFootprint(FootprintResult footprint) {
+        System.out.printf("\n🧮 Занимаемая память (%d элементов, байт на элемент):\n", footprint.getElementCount());
+        System.out.println("===================================================================================================");
+        System.out.printf("%-21s %-10s %-10s %-10s %-10s %-12s %-12s %-10s%n",
+                "Список", "Всего", "Массивы", "Узлы", "Элементы", "Всего (КБ)", "Куча (GC)", "Вне кучи");
+        System.out.println("---------------------------------------------------------------------------------------------------");
+
+        for (String name : footprint.getRanking()) {
+            MemoryFootprint memory = footprint.getFootprint(name);
+            System.out.printf("%-21s %-10.1f %-10.1f %-10.1f %-10.1f %-12.1f %-12.1f %-10.1f%n",
+                    name,
+                    memory.perElement(memory.getTotalBytes()),
+                    memory.perElement(memory.getBackingArrayBytes()),
+                    memory.perElement(memory.getNodeBytes()),
+                    memory.perElement(memory.getElementBytes()),
+                    memory.getTotalBytes() / 1024.0,
+                    memory.perElement(memory.getRetainedHeapBytes()),
+                    memory.perElement(memory.getOffHeapBytes()));
+        }
+        System.out.println("(по графу объектов JOL; \"Куча (GC)\" - прирост кучи после сборки мусора, оценка с шумом)");
+    }
+
+    /**
+     * Сравнивает ArrayList&lt;Integer&gt; с примитивным IntArrayList по каждой операции
+     * @param results массив результатов тестирования
+     */
+    private static void printBoxingComparison(PerformanceResult[] results) {
+        String boxed = "ArrayList";
+        String primitive = "IntArrayList";
+        if (!results[0].getImplementationNames().contains(boxed)
+                || !results[0].getImplementationNames().contains(primitive)) {
+            return;
+        }
+
+        System.out.println("\n📦 Упаковка: " + boxed + "<Integer> против " + primitive + ":");
+        System.out.println("=============================================================");
+        System.out.printf("%-25s %-15s %-15s %-10s%n", "Метод", boxed + " (нс)", primitive + " (нс)", "Ускорение");
+        System.out.println("-------------------------------------------------------------");
+
+        for (PerformanceResult result : results) {
+            if (!result.isSupported(boxed) || !result.isSupported(primitive)) {
+                continue;
+            }
+            long boxedTime = result.getTime(boxed);
+            long primitiveTime = result.getTime(primitive);
+            System.out.printf("%-25s %-15d %-15d %-10.2fx%n",
                     result.getOperationName(),
-                    result.getArrayListTime(),
-                    result.getLinkedListTime(),
-                    result.getFasterList(),
-                    result.getPerformanceRatio());
+                    boxedTime,
+                    primitiveTime,
+                    primitiveTime == 0 ? 0 : (double) boxedTime / primitiveTime);
         }
     }
 
+    /**
+     * Выводит выигрыш пакетных операций: во сколько раз поэлементный вариант медленнее пакетного
+     * @param results результаты тестов
+     */
+    private static void printBatchingGain(PerformanceResult[] results) {
+        Map<String, PerformanceResult> byName = new LinkedHashMap<>();
+        for (PerformanceResult result : results) {
+            byName.put(result.getOperationName(), result);
+        }
+        Set<String> names = results[0].getImplementationNames();
+        boolean header = false;
+        for (PerformanceResult bulk : results) {
+            PerformanceResult loop = byName.get(bulk.getOperationName() + ListPerformanceTester.LOOP_SUFFIX);
+            if (!ListPerformanceTester.isBulk(bulk.getOperationName()) || loop == null) {
+                continue;
+            }
+            if (!header) {
+                System.out.println("\n🧱 Пакетные операции против поэлементных (во сколько раз цикл медленнее):");
+                System.out.println("=============================================================");
+                System.out.printf("%-32s", "Метод");
+                names.forEach(name -> System.out.printf(" %-" + columnWidth(name) + "s", name));
+                System.out.println();
+                System.out.println("-------------------------------------------------------------");
+                header = true;
+            }
+            System.out.printf("%-32s", bulk.getOperationName());
+            for (String name : names) {
+                if (bulk.isSupported(name) && loop.isSupported(name) && bulk.getTime(name) > 0) {
+                    System.out.printf(" %-" + columnWidth(name) + "s",
+                            String.format("%.2fx", (double) loop.getTime(name) / bulk.getTime(name)));
+                } else {
+                    System.out.printf(" %-" + columnWidth(name) + "s", "n/a");
+                }
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Выводит результаты самопроверки
+     * @param findings подозрительные замеры
+     */
+    private static void printSelfCheck(List<SelfCheck.Finding> findings) {
+        System.out.println("\n🔍 Самопроверка на удаление кода JIT-компилятором:");
+        if (findings.isEmpty()) {
+            System.out.println("Подозрительных замеров нет");
+            return;
+        }
+        for (SelfCheck.Finding finding : findings) {
+            System.out.println("⚠️ " + finding);
+        }
+        System.out.println("Такие замеры, вероятно, измеряют пустой цикл и не отражают стоимость операции");
+    }
+
     /**
      * Выводит итоговую статистику по тестированию
      * @param results массив результатов тестирования
      */
     private static void printSummary(PerformanceResult[] results) {
-        int arrayListWins = 0;
-        int linkedListWins = 0;
+        Map<String, Integer> wins = new LinkedHashMap<>();
+        for (String name : results[0].getImplementationNames()) {
+            wins.put(name, 0);
+        }
+        int ties = 0;
 
         for (PerformanceResult result : results) {
-            if ("ArrayList".equals(result.getFasterList())) {
-                arrayListWins++;
+            String faster = result.getFasterList();
+            if (wins.containsKey(faster)) {
+                wins.merge(faster, 1, Integer::sum);
             } else {
-                linkedListWins++;
+                ties++;
             }
         }
 
         System.out.println("\n📈 Итоговая статистика:");
         System.out.println("=====================");
-        System.out.println("Побед ArrayList: " + arrayListWins);
-        System.out.println("Побед LinkedList: " + linkedListWins);
+        wins.forEach((name, count) -> System.out.println("Побед " + name + ": " + count));
+        System.out.println("Статистически незначимых различий: " + ties);
+
+        int bestCount = wins.values().stream().max(Integer::compare).orElse(0);
+        List<String> leaders = new ArrayList<>();
+        wins.forEach((name, count) -> {
+            if (count == bestCount) {
+                leaders.add(name);
+            }
+        });
 
-        if (arrayListWins > linkedListWins) {
-            System.out.println("🏆 ArrayList показал лучшую производительность в большинстве тестов");
-        } else if (linkedListWins > arrayListWins) {
-            System.out.println("🏆 LinkedList показал лучшую производительность в большинстве тестов");
+        if (bestCount > 0 && leaders.size() == 1) {
+            System.out.println("🏆 " + leaders.get(0) + " показал лучшую производительность в большинстве тестов");
         } else {
             System.out.println("⚖️ Производительность примерно одинаковая");
         }
 
-        System.out.println("\n💡 Рекомендации по использованию:");
-        System.out.println("- ArrayList лучше для частого доступа по индексу и добавления в конец");
-        System.out.println("- LinkedList лучше для частых вставок/удалений в начале/середине списка");
+        System.out.println("\n💡 Рекомендации по замерам этого запуска:");
+        CostModel model = CostModel.fromResults(results, null);
+        int size = results[0].getOperationCount();
+        SUMMARY_PROFILES.forEach((title, spec) -> {
+            List<Recommendation> ranking = model.recommend(
+                    new WorkloadProfile(WorkloadMix.parse(spec), size, 1, WorkloadProfile.UNLIMITED_MEMORY));
+            List<Recommendation> eligible = new ArrayList<>();
+            for (Recommendation recommendation : ranking) {
+                if (recommendation.isEligible()) {
+                    eligible.add(recommendation);
+                }
+            }
+            if (eligible.isEmpty()) {
+                System.out.printf("- %s (%s): недостаточно замеров%n", title, spec);
+            } else if (eligible.size() == 1) {
+                System.out.printf(Locale.ROOT, "- %s (%s): %s, %.1f нс/оп%n", title, spec,
+                        eligible.get(0).getImplementationName(), eligible.get(0).getNanosPerOperation());
+            } else {
+                System.out.printf(Locale.ROOT, "- %s (%s): %s, %.1f нс/оп (следом %s, %.1f нс/оп)%n", title, spec,
+                        eligible.get(0).getImplementationName(), eligible.get(0).getNanosPerOperation(),
+                        eligible.get(1).getImplementationName(), eligible.get(1).getNanosPerOperation());
+            }
+        });
+        System.out.println("(для своей смеси операций, размера, потоков и памяти: --recommend get=70,add=20,...)");
+    }
+
+    /**
+     * Печатает реализации в порядке прогноза для профиля нагрузки
+     * @param profile профиль нагрузки
+     * @param recommendations прогнозы CostModel.recommend
+     */
+    private static void printRecommendations(WorkloadProfile profile, List<Recommendation> recommendations) {
+        boolean contended = profile.getThreads() > 1;
+        if (contended) {
+            // Предупреждение до таблицы: иначе ранжирование читается как прогноз для многопоточной нагрузки
+            System.out.println("⚠️ ВНИМАНИЕ: потоков " + profile.getThreads() + ", но прогноз построен по однопоточным"
+                    + " замерам. Конкуренция за блокировки не учтена:");
+            System.out.println("   синхронизированные списки могут оказаться медленнее неблокирующих, а оп/с"
+                    + " ниже указанных. Проверьте масштабирование: --concurrent --threads " + profile.getThreads());
+        }
+        String header = String.format("%-6s %-21s %-12s %-14s %-12s %s",
+                "Место", "Список", "нс/оп", "оп/с", "Память (КБ)", "Примечание");
+        System.out.println("=".repeat(header.length() + 10));
+        System.out.println(header);
+        System.out.println("-".repeat(header.length() + 10));
+
+        int place = 0;
+        for (Recommendation recommendation : recommendations) {
+            String nanos = Double.isNaN(recommendation.getNanosPerOperation()) ? "n/a"
+                    : String.format(Locale.ROOT, "%.1f", recommendation.getNanosPerOperation());
+            String throughput = recommendation.getOperationsPerSecond() == 0 ? "n/a"
+                    : String.format(Locale.ROOT, "%.0f", recommendation.getOperationsPerSecond());
+            String memory = recommendation.getFootprintBytes() < 0 ? "n/a"
+                    : String.format(Locale.ROOT, "%.1f", recommendation.getFootprintBytes() / 1024.0);
+            System.out.printf("%-6s %-21s %-12s %-14s %-12s %s%n",
+                    recommendation.isEligible() ? String.valueOf(++place) : "-",
+                    recommendation.getImplementationName(), nanos, throughput, memory,
+                    recommendation.isEligible() ? "" : recommendation.getRejection());
+        }
+        if (place == 0) {
+            System.out.println("Ни одна реализация не подходит под профиль");
+        } else {
+            System.out.println("🏆 Рекомендуется " + recommendations.get(0).getImplementationName()
+                    + " для " + profile + (contended ? " (⚠️ без учёта конкуренции потоков)" : ""));
+        }
+        System.out.println("(прогноз по подобранной сложности операций; set оценивается по get"
+                + (contended ? "; время однопоточное" : "") + ")");
     }
 }
\ No newline at end of file
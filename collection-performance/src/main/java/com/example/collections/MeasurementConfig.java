@@ -0,0 +1,101 @@
+package com.example.collections;
+
+/**
+ * Настройки измерений: количество итераций прогрева и замеров,
+ * а также критерий стабильного состояния
+ */
+public class MeasurementConfig {
+
+    private static final int DEFAULT_MIN_WARMUP_ITERATIONS = 3;
+    private static final int DEFAULT_MAX_WARMUP_ITERATIONS = 15;
+    private static final int DEFAULT_MEASUREMENT_ITERATIONS = 10;
+    private static final int DEFAULT_STEADY_STATE_WINDOW = 3;
+    private static final double DEFAULT_STEADY_STATE_THRESHOLD = 0.10;
+
+    private final int minWarmupIterations;
+    private final int maxWarmupIterations;
+    private final int measurementIterations;
+    private final int steadyStateWindow;
+    private final double steadyStateThreshold;
+
+    /**
+     * Конструктор с окном и порогом стабильности по умолчанию
+     * @param minWarmupIterations минимальное количество итераций прогрева
+     * @param maxWarmupIterations максимальное количество итераций прогрева
+     * @param measurementIterations количество замеров
+     */
+    public MeasurementConfig(int minWarmupIterations, int maxWarmupIterations, int measurementIterations) {
+        this(minWarmupIterations, maxWarmupIterations, measurementIterations,
+                DEFAULT_STEADY_STATE_WINDOW, DEFAULT_STEADY_STATE_THRESHOLD);
+    }
+
+    /**
+     * Конструктор
+     * @param minWarmupIterations минимальное количество итераций прогрева
+     * @param maxWarmupIterations максимальное количество итераций прогрева
+     * @param measurementIterations количество замеров
+     * @param steadyStateWindow сколько последних итераций прогрева проверять на стабильность
+     * @param steadyStateThreshold допустимый коэффициент вариации в окне (0.1 = 10%)
+     */
+    public MeasurementConfig(int minWarmupIterations, int maxWarmupIterations, int measurementIterations,
+                             int steadyStateWindow, double steadyStateThreshold) {
+        if (minWarmupIterations < 0 || maxWarmupIterations < minWarmupIterations) {
+            throw new IllegalArgumentException("Некорректные границы прогрева: "
+                    + minWarmupIterations + ".." + maxWarmupIterations);
+        }
+        if (measurementIterations < 1) {
+            throw new IllegalArgumentException("Нужен хотя бы один замер");
+        }
+        if (steadyStateWindow < 2) {
+            throw new IllegalArgumentException("Окно стабильности должно включать хотя бы две итерации");
+        }
+        this.minWarmupIterations = minWarmupIterations;
+        this.maxWarmupIterations = maxWarmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.steadyStateWindow = steadyStateWindow;
+        this.steadyStateThreshold = steadyStateThreshold;
+    }
+
+    /**
+     * @return настройки по умолчанию
+     */
+    public static MeasurementConfig defaults() {
+        return new MeasurementConfig(DEFAULT_MIN_WARMUP_ITERATIONS, DEFAULT_MAX_WARMUP_ITERATIONS,
+                DEFAULT_MEASUREMENT_ITERATIONS);
+    }
+
+    /**
+     * @return минимальное количество итераций прогрева
+     */
+    public int getMinWarmupIterations() {
+        return minWarmupIterations;
+    }
+
+    /**
+     * @return максимальное количество итераций прогрева
+     */
+    public int getMaxWarmupIterations() {
+        return maxWarmupIterations;
+    }
+
+    /**
+     * @return количество замеров
+     */
+    public int getMeasurementIterations() {
+        return measurementIterations;
+    }
+
+    /**
+     * @return размер окна проверки стабильности
+     */
+    public int getSteadyStateWindow() {
+        return steadyStateWindow;
+    }
+
+    /**
+     * @return допустимый коэффициент вариации в окне стабильности
+     */
+    public double getSteadyStateThreshold() {
+        return steadyStateThreshold;
+    }
+}
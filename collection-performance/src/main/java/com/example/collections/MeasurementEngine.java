@@ -0,0 +1,141 @@
+package com.example.collections;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Движок измерений: прогревает тест до стабильного состояния,
+ * затем выполняет серию замеров и считает по ним статистику
+ * Стабильным считается состояние, когда время итераций перестало меняться и JIT-компилятор
+ * не работал на последних итерациях окна; замеры, пересёкшиеся с компиляцией, помечаются в JitActivity
+ * Работа компилятора видна только по счётчику CompilationMXBean с точностью до миллисекунды: компиляции короче
+ * миллисекунды могут не сдвинуть его, и итерация, пересёкшаяся с ними, всё равно считается «тихой».
+ * Поэтому стабильность подтверждается ещё и разбросом времени по окну, а не одной тишиной счётчика
+ */
+public class MeasurementEngine {
+
+    private final MeasurementConfig config;
+    private final JitMonitor jitMonitor;
+
+    /**
+     * Конструктор
+     * @param config настройки измерений
+     */
+    public MeasurementEngine(MeasurementConfig config) {
+        this(config, new JitMonitor());
+    }
+
+    /**
+     * Конструктор
+     * @param config настройки измерений
+     * @param jitMonitor источник времени JIT-компиляции
+     */
+    public MeasurementEngine(MeasurementConfig config, JitMonitor jitMonitor) {
+        this.config = config;
+        this.jitMonitor = jitMonitor;
+    }
+
+    /**
+     * @return настройки измерений
+     */
+    public MeasurementConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Выполняет прогрев и замеры
+     * @param iteration одна итерация теста, возвращающая время в наносекундах
+     * @return статистика по замерам
+     */
+    public TimingStatistics measure(LongSupplier iteration) {
+        return measure(iteration, () -> ResourceUsage.NONE);
+    }
+
+    /**
+     * Выполняет прогрев и замеры с учётом потребления ресурсов
+     * @param iteration одна итерация теста, возвращающая время в наносекундах
+     * @param lastUsage потребление ресурсов последней выполненной итерацией
+     * @return статистика по замерам со средним потреблением ресурсов
+     */
+    public TimingStatistics measure(LongSupplier iteration, Supplier<ResourceUsage> lastUsage) {
+        long[] warmup = new long[config.getMaxWarmupIterations()];
+        long[] warmupCompilation = new long[warmup.length];
+        int warmupCount = 0;
+        boolean steadyState = config.getMaxWarmupIterations() == 0;
+
+        long warmupStart = jitMonitor.getTotalCompilationMillis();
+        while (warmupCount < config.getMaxWarmupIterations()) {
+            long compilationBefore = jitMonitor.getTotalCompilationMillis();
+            warmup[warmupCount] = iteration.getAsLong();
+            warmupCompilation[warmupCount] = jitMonitor.getTotalCompilationMillis() - compilationBefore;
+            warmupCount++;
+            if (warmupCount >= config.getMinWarmupIterations() && isSteady(warmup, warmupCount)
+                    && isCompilationQuiet(warmupCompilation, warmupCount)) {
+                steadyState = true;
+                break;
+            }
+        }
+        long warmupCompilationMillis = jitMonitor.getTotalCompilationMillis() - warmupStart;
+
+        long[] samples = new long[config.getMeasurementIterations()];
+        long[] compilation = new long[samples.length];
+        ResourceUsage[] usages = new ResourceUsage[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            long compilationBefore = jitMonitor.getTotalCompilationMillis();
+            samples[i] = iteration.getAsLong();
+            compilation[i] = jitMonitor.getTotalCompilationMillis() - compilationBefore;
+            usages[i] = lastUsage.get();
+        }
+
+        JitActivity jitActivity = jitMonitor.isSupported()
+                ? new JitActivity(warmupCompilationMillis, compilation)
+                : JitActivity.UNSUPPORTED;
+        return new TimingStatistics(samples, warmupCount, steadyState, ResourceUsage.average(usages), jitActivity);
+    }
+
+    /**
+     * Проверяет, что компилятор не работал на последних итерациях окна стабильности
+     * Нулевой прирост счётчика в мс не исключает коротких компиляций (см. описание класса)
+     * @param compilation время компиляции по итерациям прогрева в мс
+     * @param count количество выполненных итераций прогрева
+     * @return true, если компиляция затихла (или её время недоступно)
+     */
+    boolean isCompilationQuiet(long[] compilation, int count) {
+        int window = Math.min(config.getSteadyStateWindow(), count);
+        for (int i = count - window; i < count; i++) {
+            if (compilation[i] > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Проверяет, что коэффициент вариации последних итераций не превышает порог
+     * @param warmup замеры прогрева
+     * @param count количество выполненных итераций прогрева
+     * @return true, если время выполнения стабилизировалось
+     */
+    boolean isSteady(long[] warmup, int count) {
+        int window = config.getSteadyStateWindow();
+        if (count < window) {
+            return false;
+        }
+
+        double mean = 0;
+        for (int i = count - window; i < count; i++) {
+            mean += warmup[i];
+        }
+        mean /= window;
+        if (mean == 0) {
+            return true;
+        }
+
+        double sumOfSquares = 0;
+        for (int i = count - window; i < count; i++) {
+            sumOfSquares += (warmup[i] - mean) * (warmup[i] - mean);
+        }
+        double standardDeviation = Math.sqrt(sumOfSquares / (window - 1));
+        return standardDeviation / mean <= config.getSteadyStateThreshold();
+    }
+}
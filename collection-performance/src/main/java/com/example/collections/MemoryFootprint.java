@@ -0,0 +1,99 @@
+package com.example.collections;
+
+/**
+ * Занимаемая списком память после заполнения
+ * Размер графа объектов разбит на массивы хранения, узлы и служебные объекты, упакованные элементы;
+ * дополнительно приводится прирост занятой кучи после принудительной сборки мусора и память вне кучи
+ */
+public class MemoryFootprint {
+
+    private final int elementCount;
+    private final long backingArrayBytes;
+    private final long nodeBytes;
+    private final long elementBytes;
+    private final long retainedHeapBytes;
+    private final long offHeapBytes;
+
+    /**
+     * Конструктор
+     * @param elementCount количество элементов в списке
+     * @param backingArrayBytes байт в массивах хранения
+     * @param nodeBytes байт в узлах и прочих служебных объектах
+     * @param elementBytes байт в упакованных элементах
+     * @param retainedHeapBytes прирост занятой кучи по MemoryMXBean
+     * @param offHeapBytes прирост памяти прямых и отображённых буферов
+     */
+    public MemoryFootprint(int elementCount, long backingArrayBytes, long nodeBytes, long elementBytes,
+                           long retainedHeapBytes, long offHeapBytes) {
+        this.elementCount = elementCount;
+        this.backingArrayBytes = backingArrayBytes;
+        this.nodeBytes = nodeBytes;
+        this.elementBytes = elementBytes;
+        this.retainedHeapBytes = retainedHeapBytes;
+        this.offHeapBytes = offHeapBytes;
+    }
+
+    /**
+     * @return количество элементов в списке
+     */
+    public int getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * @return байт в массивах хранения (Object[], int[] и т.п.)
+     */
+    public long getBackingArrayBytes() {
+        return backingArrayBytes;
+    }
+
+    /**
+     * @return байт в узлах и прочих служебных объектах
+     */
+    public long getNodeBytes() {
+        return nodeBytes;
+    }
+
+    /**
+     * @return байт в упакованных элементах
+     */
+    public long getElementBytes() {
+        return elementBytes;
+    }
+
+    /**
+     * @return суммарный размер графа объектов списка
+     */
+    public long getTotalBytes() {
+        return backingArrayBytes + nodeBytes + elementBytes;
+    }
+
+    /**
+     * @return прирост занятой кучи после сборки мусора (независимая оценка, с шумом)
+     */
+    public long getRetainedHeapBytes() {
+        return retainedHeapBytes;
+    }
+
+    /**
+     * @return память вне кучи (прямые и отображённые буферы)
+     */
+    public long getOffHeapBytes() {
+        return offHeapBytes;
+    }
+
+    /**
+     * @param bytes количество байт
+     * @return байт на элемент
+     */
+    public double perElement(long bytes) {
+        return elementCount == 0 ? 0 : (double) bytes / elementCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%.1f B/element (array=%d, nodes=%d, elements=%d, heap=%d, off-heap=%d)",
+                perElement(getTotalBytes()), backingArrayBytes, nodeBytes, elementBytes,
+                retainedHeapBytes, offHeapBytes);
+    }
+}
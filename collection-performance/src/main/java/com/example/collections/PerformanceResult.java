@@ -1,14 +1,27 @@
 package com.example.collections;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Класс для хранения результатов производительности
- * Содержит информацию о времени выполнения операций для разных типов списков
+ * Содержит информацию о времени выполнения операции для каждой реализации списка
  */
 public class PerformanceResult {
+    /**
+     * Значение getFasterList, когда доверительные интервалы лидеров пересекаются
+     */
+    public static final String TIE = "Ничья";
+
     private final String operationName;
     private final int operationCount;
-    private final long arrayListTime;
-    private final long linkedListTime;
+    private final Map<String, TimingStatistics> statistics;
+    private final List<String> ranking;
     private final String fasterList;
 
     /**
@@ -16,16 +29,44 @@ public class PerformanceResult {
      *
      * @param operationName название операции
      * @param operationCount количество операций
-     * @param arrayListTime время выполнения для ArrayList в наносекундах
-     * @param linkedListTime время выполнения для LinkedList в наносекундах
+     * @param statistics статистика замеров по имени реализации;
+     *                   значение null означает, что реализация не поддерживает операцию
      */
     public PerformanceResult(String operationName, int operationCount,
-                             long arrayListTime, long linkedListTime) {
+                             Map<String, TimingStatistics> statistics) {
         this.operationName = operationName;
         this.operationCount = operationCount;
-        this.arrayListTime = arrayListTime;
-        this.linkedListTime = linkedListTime;
-        this.fasterList = arrayListTime < linkedListTime ? "ArrayList" : "LinkedList";
+        this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+        this.ranking = rank(this.statistics);
+        this.fasterList = determineFasterList();
+    }
+
+    private static List<String> rank(Map<String, TimingStatistics> statistics) {
+        List<String> ranking = new ArrayList<>();
+        statistics.forEach((name, stats) -> {
+            if (stats != null) {
+                ranking.add(name);
+            }
+        });
+        ranking.sort(Comparator.comparingDouble(name -> statistics.get(name).getMean()));
+        return Collections.unmodifiableList(ranking);
+    }
+
+    /**
+     * Победитель определяется, только если его доверительный интервал
+     * не пересекается с интервалом ближайшего соперника
+     * @return имя самой быстрой реализации или TIE
+     */
+    private String determineFasterList() {
+        if (ranking.isEmpty()) {
+            return TIE;
+        }
+        if (ranking.size() == 1) {
+            return ranking.get(0);
+        }
+        TimingStatistics best = statistics.get(ranking.get(0));
+        TimingStatistics runnerUp = statistics.get(ranking.get(1));
+        return best.overlaps(runnerUp) ? TIE : ranking.get(0);
     }
 
     /**
@@ -43,44 +84,88 @@ public class PerformanceResult {
     }
 
     /**
-     * @return время выполнения для ArrayList в наносекундах
+     * @return имена всех протестированных реализаций, включая не поддерживающие операцию
+     */
+    public Set<String> getImplementationNames() {
+        return statistics.keySet();
+    }
+
+    /**
+     * @param implementationName имя реализации
+     * @return поддерживает ли реализация данную операцию
+     */
+    public boolean isSupported(String implementationName) {
+        return statistics.get(implementationName) != null;
+    }
+
+    /**
+     * @param implementationName имя реализации
+     * @return статистика замеров реализации или null, если операция не поддерживается
+     */
+    public TimingStatistics getStatistics(String implementationName) {
+        return statistics.get(implementationName);
+    }
+
+    /**
+     * @param implementationName имя реализации
+     * @return среднее время выполнения в наносекундах
+     */
+    public long getTime(String implementationName) {
+        TimingStatistics stats = statistics.get(implementationName);
+        if (stats == null) {
+            throw new IllegalArgumentException("Нет замеров для реализации: " + implementationName);
+        }
+        return Math.round(stats.getMean());
+    }
+
+    /**
+     * @return имена реализаций, поддерживающих операцию, от самой быстрой к самой медленной
      */
-    public long getArrayListTime() {
-        return arrayListTime;
+    public List<String> getRanking() {
+        return ranking;
     }
 
     /**
-     * @return время выполнения для LinkedList в наносекундах
+     * @param implementationName имя реализации
+     * @return место в рейтинге начиная с 1 или 0, если операция не поддерживается
      */
-    public long getLinkedListTime() {
-        return linkedListTime;
+    public int getRank(String implementationName) {
+        return ranking.indexOf(implementationName) + 1;
     }
 
     /**
-     * @return какой список быстрее для данной операции
+     * @return какая реализация быстрее для данной операции (TIE, если различие не значимо)
      */
     public String getFasterList() {
         return fasterList;
     }
 
     /**
-     * @return разница во времени выполнения между списками
+     * @return разница во времени выполнения между самой медленной и самой быстрой реализацией
      */
     public long getTimeDifference() {
-        return Math.abs(arrayListTime - linkedListTime);
+        if (ranking.isEmpty()) return 0;
+        return getTime(ranking.get(ranking.size() - 1)) - getTime(ranking.get(0));
     }
 
     /**
-     * @return процентное соотношение производительности
+     * @return во сколько раз самая медленная реализация медленнее самой быстрой
      */
     public double getPerformanceRatio() {
-        if (arrayListTime == 0 || linkedListTime == 0) return 0;
-        return (double) Math.max(arrayListTime, linkedListTime) / Math.min(arrayListTime, linkedListTime);
+        if (ranking.size() < 2) return 0;
+        long fastest = getTime(ranking.get(0));
+        long slowest = getTime(ranking.get(ranking.size() - 1));
+        if (fastest == 0 || slowest == 0) return 0;
+        return (double) slowest / fastest;
     }
 
     @Override
     public String toString() {
-        return String.format("%s: ArrayList=%d ns, LinkedList=%d ns, Faster=%s (%.2fx)",
-                operationName, arrayListTime, linkedListTime, fasterList, getPerformanceRatio());
+        StringBuilder builder = new StringBuilder(operationName).append(":");
+        statistics.forEach((name, stats) -> {
+            builder.append(' ').append(name).append('=');
+            builder.append(stats == null ? "n/a" : Math.round(stats.getMean()) + " ns").append(',');
+        });
+        return builder.append(String.format(" Faster=%s (%.2fx)", fasterList, getPerformanceRatio())).toString();
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package com.example.collections;
+
+/**
+ * Прогноз для одной реализации: время операции смеси, пропускная способность и занимаемая память
+ * Неподходящая реализация (нет замеров, не потокобезопасна, не помещается в память) содержит причину
+ */
+public class Recommendation {
+
+    private final String implementationName;
+    private final double nanosPerOperation;
+    private final long footprintBytes;
+    private final String rejection;
+
+    /**
+     * Конструктор
+     * @param implementationName имя реализации
+     * @param nanosPerOperation предсказанное среднее время одной операции смеси (NaN - нет замеров)
+     * @param footprintBytes предсказанный размер списка в байтах (-1 - не измерялся)
+     * @param rejection причина, по которой реализация не подходит, или null
+     */
+    public Recommendation(String implementationName, double nanosPerOperation, long footprintBytes,
+                          String rejection) {
+        this.implementationName = implementationName;
+        this.nanosPerOperation = nanosPerOperation;
+        this.footprintBytes = footprintBytes;
+        this.rejection = rejection;
+    }
+
+    /**
+     * @return имя реализации
+     */
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    /**
+     * @return предсказанное среднее время одной операции смеси в наносекундах (NaN - нет замеров)
+     */
+    public double getNanosPerOperation() {
+        return nanosPerOperation;
+    }
+
+    /**
+     * @return предсказанная пропускная способность одного потока в операциях в секунду (0 - нет замеров)
+     */
+    public double getOperationsPerSecond() {
+        return Double.isNaN(nanosPerOperation) || nanosPerOperation <= 0 ? 0 : 1e9 / nanosPerOperation;
+    }
+
+    /**
+     * @return предсказанный размер списка в байтах или -1, если память не измерялась
+     */
+    public long getFootprintBytes() {
+        return footprintBytes;
+    }
+
+    /**
+     * @return true, если реализация подходит под профиль
+     */
+    public boolean isEligible() {
+        return rejection == null;
+    }
+
+    /**
+     * @return причина, по которой реализация не подходит, или null
+     */
+    public String getRejection() {
+        return rejection;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.1f нс/оп, %d байт%s", implementationName, nanosPerOperation, footprintBytes,
+                rejection == null ? "" : " (" + rejection + ")");
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.collections;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Измеряет выделение памяти текущим потоком (com.sun.management.ThreadMXBean)
+ * и работу сборщика мусора (GarbageCollectorMXBean) между start и stop
+ */
+public class ResourceMeter {
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final List<GarbageCollectorMXBean> gcBeans;
+    private final long calibrationBytes;
+
+    private long startAllocatedBytes;
+    private long startGcCount;
+    private long startGcTime;
+    private ResourceUsage lastUsage = ResourceUsage.NONE;
+
+    /**
+     * Конструктор; калибрует собственные выделения памяти пары start/stop
+     */
+    public ResourceMeter() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocationBean = null;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+            if (allocationBean.isThreadAllocatedMemorySupported() && !allocationBean.isThreadAllocatedMemoryEnabled()) {
+                allocationBean.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (!allocationBean.isThreadAllocatedMemorySupported()) {
+                allocationBean = null;
+            }
+        }
+        this.threadBean = allocationBean;
+        this.gcBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        this.calibrationBytes = calibrate();
+    }
+
+    private long calibrate() {
+        if (threadBean == null) {
+            return 0;
+        }
+        long minimum = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            long before = currentAllocatedBytes();
+            long after = currentAllocatedBytes();
+            minimum = Math.min(minimum, after - before);
+        }
+        return minimum;
+    }
+
+    /**
+     * @return true, если JVM поддерживает учёт выделений по потокам
+     */
+    public boolean isAllocationSupported() {
+        return threadBean != null;
+    }
+
+    /**
+     * Запоминает счётчики перед замером
+     */
+    public void start() {
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            gcCount += Math.max(0, gcBean.getCollectionCount());
+            gcTime += Math.max(0, gcBean.getCollectionTime());
+        }
+        startGcCount = gcCount;
+        startGcTime = gcTime;
+        // Последним, чтобы не учитывать выделения при опросе GC
+        startAllocatedBytes = currentAllocatedBytes();
+    }
+
+    /**
+     * Вычисляет потребление ресурсов с момента start
+     * @return потребление за замер
+     */
+    public ResourceUsage stop() {
+        long allocated = threadBean == null
+                ? ResourceUsage.UNSUPPORTED
+                : Math.max(0, currentAllocatedBytes() - startAllocatedBytes - calibrationBytes);
+        long gcCount = 0;
+        long gcTime = 0;
+        for (GarbageCollectorMXBean gcBean : gcBeans) {
+            gcCount += Math.max(0, gcBean.getCollectionCount());
+            gcTime += Math.max(0, gcBean.getCollectionTime());
+        }
+        lastUsage = new ResourceUsage(allocated, gcCount - startGcCount, gcTime - startGcTime);
+        return lastUsage;
+    }
+
+    /**
+     * @return потребление за последний завершённый замер
+     */
+    public ResourceUsage getLastUsage() {
+        return lastUsage;
+    }
+
+    private long currentAllocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.collections;
+
+import java.util.Locale;
+
+/**
+ * Потребление ресурсов за один замер: выделенная память потока и работа сборщика мусора
+ * Сборки мусора редки, поэтому их среднее на замер дробное (3 сборки на 10 замеров - 0.3)
+ */
+public class ResourceUsage {
+
+    /**
+     * Значение allocatedBytes, если JVM не поддерживает учёт выделений по потокам
+     */
+    public static final long UNSUPPORTED = -1;
+
+    /**
+     * Пустое потребление
+     */
+    public static final ResourceUsage NONE = new ResourceUsage(0, 0, 0);
+
+    private final long allocatedBytes;
+    private final double gcCount;
+    private final double gcTimeMillis;
+
+    /**
+     * Конструктор
+     * @param allocatedBytes байт выделено текущим потоком или UNSUPPORTED
+     * @param gcCount количество сборок мусора (среднее - дробное)
+     * @param gcTimeMillis суммарное время сборок мусора в миллисекундах
+     */
+    public ResourceUsage(long allocatedBytes, double gcCount, double gcTimeMillis) {
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+    }
+
+    /**
+     * Усредняет потребление по нескольким замерам
+     * @param usages потребление по каждому замеру
+     * @return среднее потребление на замер
+     */
+    public static ResourceUsage average(ResourceUsage[] usages) {
+        if (usages.length == 0) {
+            return NONE;
+        }
+        long allocated = 0;
+        double count = 0;
+        double time = 0;
+        boolean allocationSupported = true;
+        for (ResourceUsage usage : usages) {
+            allocationSupported &= usage.isAllocationSupported();
+            allocated += usage.allocatedBytes;
+            count += usage.gcCount;
+            time += usage.gcTimeMillis;
+        }
+        return new ResourceUsage(allocationSupported ? allocated / usages.length : UNSUPPORTED,
+                count / usages.length, time / usages.length);
+    }
+
+    /**
+     * @return true, если выделенная память измерена
+     */
+    public boolean isAllocationSupported() {
+        return allocatedBytes != UNSUPPORTED;
+    }
+
+    /**
+     * @return байт выделено текущим потоком или UNSUPPORTED
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @param operationCount количество операций в замере
+     * @return байт на одну операцию
+     */
+    public double getAllocatedBytesPerOperation(int operationCount) {
+        return operationCount == 0 || !isAllocationSupported() ? 0 : (double) allocatedBytes / operationCount;
+    }
+
+    /**
+     * @return количество сборок мусора
+     */
+    public double getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * @return суммарное время сборок мусора в миллисекундах
+     */
+    public double getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "allocated=%s B, gc=%.2f (%.1f ms)",
+                isAllocationSupported() ? String.valueOf(allocatedBytes) : "n/a", gcCount, gcTimeMillis);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Самопроверка результатов на признаки удаления замеряемого кода JIT-компилятором
+ * Подозрительными считаются замеры быстрее такта процессора на операцию и замеры, время которых
+ * почти не растёт при увеличении числа операций в SCALE раз: все сценарии выполняют не меньше одного
+ * действия на операцию, поэтому их время должно расти хотя бы линейно
+ */
+public final class SelfCheck {
+
+    /**
+     * Во сколько раз контрольный прогон меньше основного
+     */
+    public static final int SCALE = 10;
+
+    /**
+     * Нижняя граница правдоподобного времени одной операции, нс (порядка такта процессора)
+     */
+    static final double MIN_NANOS_PER_OPERATION = 0.25;
+
+    /**
+     * Минимальный рост времени при росте числа операций в SCALE раз; запас оставлен на шум
+     */
+    static final double MIN_GROWTH = 3;
+
+    private SelfCheck() {
+    }
+
+    /**
+     * Проверяет результаты только по времени на операцию
+     * @param results результаты основного прогона
+     * @return подозрительные замеры
+     */
+    public static List<Finding> check(PerformanceResult[] results) {
+        return check(results, new PerformanceResult[0]);
+    }
+
+    /**
+     * Проверяет результаты по времени на операцию и по росту времени относительно контрольного прогона
+     * @param results результаты основного прогона
+     * @param reduced результаты того же набора сценариев на числе операций в SCALE раз меньше
+     * @return подозрительные замеры
+     */
+    public static List<Finding> check(PerformanceResult[] results, PerformanceResult[] reduced) {
+        Map<String, PerformanceResult> reducedByName = new LinkedHashMap<>();
+        for (PerformanceResult result : reduced) {
+            reducedByName.put(result.getOperationName(), result);
+        }
+
+        List<Finding> findings = new ArrayList<>();
+        for (PerformanceResult result : results) {
+            PerformanceResult control = reducedByName.get(result.getOperationName());
+            for (String name : result.getImplementationNames()) {
+                TimingStatistics statistics = result.getStatistics(name);
+                if (statistics == null) {
+                    continue;
+                }
+                double perOperation = statistics.getMean() / result.getOperationCount();
+                if (perOperation < MIN_NANOS_PER_OPERATION) {
+                    findings.add(new Finding(result.getOperationName(), name, Reason.TOO_FAST, perOperation));
+                    continue;
+                }
+                if (control == null || !control.getImplementationNames().contains(name)
+                        || control.getStatistics(name) == null) {
+                    continue;
+                }
+                double controlMean = control.getStatistics(name).getMean();
+                double growth = controlMean > 0 ? statistics.getMean() / controlMean : Double.POSITIVE_INFINITY;
+                double expected = (double) result.getOperationCount() / control.getOperationCount();
+                if (expected >= SCALE && growth < MIN_GROWTH) {
+                    findings.add(new Finding(result.getOperationName(), name, Reason.FLAT, growth));
+                }
+            }
+        }
+        return Collections.unmodifiableList(findings);
+    }
+
+    /**
+     * Признак подозрительного замера
+     */
+    public enum Reason {
+        TOO_FAST("%.3f нс на операцию - быстрее такта процессора"),
+        FLAT("время выросло лишь в %.1f раза при %d-кратном росте числа операций");
+
+        private final String format;
+
+        Reason(String format) {
+            this.format = format;
+        }
+
+        /**
+         * @param value время на операцию или рост времени
+         * @return описание признака
+         */
+        public String describe(double value) {
+            return this == TOO_FAST ? String.format(format, value) : String.format(format, value, SCALE);
+        }
+    }
+
+    /**
+     * Подозрительный замер одной реализации в одном сценарии
+     */
+    public static final class Finding {
+        private final String operationName;
+        private final String implementationName;
+        private final Reason reason;
+        private final double value;
+
+        Finding(String operationName, String implementationName, Reason reason, double value) {
+            this.operationName = operationName;
+            this.implementationName = implementationName;
+            this.reason = reason;
+            this.value = value;
+        }
+
+        /**
+         * @return название сценария
+         */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * @return имя реализации
+         */
+        public String getImplementationName() {
+            return implementationName;
+        }
+
+        /**
+         * @return признак
+         */
+        public Reason getReason() {
+            return reason;
+        }
+
+        /**
+         * @return время на операцию (TOO_FAST) или рост времени (FLAT)
+         */
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return operationName + " / " + implementationName + ": " + reason.describe(value);
+        }
+    }
+}
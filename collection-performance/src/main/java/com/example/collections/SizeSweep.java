@@ -0,0 +1,188 @@
+package com.example.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Прогон тестов на геометрическом ряде размеров (10^2, 10^3 ... 10^k)
+ * Перед прогоном по размерам каждый тест однократно выполняется на среднем размере, чтобы малые размеры
+ * измерялись на скомпилированном JIT коде, а не в интерпретаторе. Перед каждым замером время предсказывается
+ * по предыдущим размерам; если серия замеров не укладывается в бюджет, реализация пропускается на этом
+ * и всех больших размерах
+ */
+public class SizeSweep {
+
+    private static final int SIZE_FACTOR = 10;
+    private static final int JIT_WARMUP_SIZE = 10_000;
+    private static final double UNKNOWN_GROWTH_EXPONENT = 2;
+
+    private final List<Integer> sizes;
+    private final long timeBudgetNanos;
+    private final MeasurementConfig config;
+    private final IntFunction<ListRegistry> registryFactory;
+
+    /**
+     * Конструктор с реализациями по умолчанию
+     * @param minSize наименьший размер
+     * @param maxSize наибольший размер
+     * @param timeBudgetMillis бюджет времени на серию замеров одной реализации на одном размере
+     * @param config настройки прогрева и замеров
+     */
+    public SizeSweep(int minSize, int maxSize, long timeBudgetMillis, MeasurementConfig config) {
+        this(minSize, maxSize, timeBudgetMillis, config, ListRegistry::defaults);
+    }
+
+    /**
+     * Конструктор
+     * @param minSize наименьший размер
+     * @param maxSize наибольший размер
+     * @param timeBudgetMillis бюджет времени на серию замеров одной реализации на одном размере
+     * @param config настройки прогрева и замеров
+     * @param registryFactory реестр реализаций для заданного размера
+     */
+    public SizeSweep(int minSize, int maxSize, long timeBudgetMillis, MeasurementConfig config,
+                     IntFunction<ListRegistry> registryFactory) {
+        if (timeBudgetMillis < 1) {
+            throw new IllegalArgumentException("Бюджет времени должен быть положительным");
+        }
+        this.sizes = geometricSizes(minSize, maxSize);
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.config = config;
+        this.registryFactory = registryFactory;
+    }
+
+    /**
+     * @return размеры по возрастанию
+     */
+    public List<Integer> getSizes() {
+        return Collections.unmodifiableList(sizes);
+    }
+
+    /**
+     * Прогоняет отобранные тесты на всех размерах
+     * @param scenarioFilter фильтр по названию теста
+     * @return результаты по тестам и размерам
+     */
+    public SweepResult run(Predicate<String> scenarioFilter) {
+        int firstSize = sizes.get(0);
+        ListRegistry firstRegistry = registryFactory.apply(firstSize);
+        List<String> scenarios = new ArrayList<>();
+        for (String scenario : new ListPerformanceTester(firstSize, config, firstRegistry).getScenarioNames()) {
+            if (scenarioFilter.test(scenario)) {
+                scenarios.add(scenario);
+            }
+        }
+
+        Map<String, List<PerformanceResult>> results = new LinkedHashMap<>();
+        Map<String, Map<String, Integer>> skippedFrom = new LinkedHashMap<>();
+        for (String scenario : scenarios) {
+            List<PerformanceResult> scenarioResults = new ArrayList<>();
+            Map<String, Integer> skipped = new LinkedHashMap<>();
+            Map<String, List<long[]>> history = new LinkedHashMap<>();
+            List<String> stopped = new ArrayList<>();
+            warmUp(scenario, firstRegistry);
+
+            for (int size : sizes) {
+                Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+                for (String name : firstRegistry.getAllNames()) {
+                    List<long[]> measured = history.computeIfAbsent(name, key -> new ArrayList<>());
+                    if (!stopped.contains(name) && predictSeriesNanos(measured, size) > timeBudgetNanos) {
+                        stopped.add(name);
+                        skipped.put(name, size);
+                    }
+                    if (stopped.contains(name)) {
+                        statistics.put(name, null);
+                        continue;
+                    }
+
+                    TimingStatistics cell = measure(scenario, name, size);
+                    statistics.put(name, cell);
+                    if (cell == null) {
+                        // Операция не поддерживается - на больших размерах тоже
+                        stopped.add(name);
+                    } else {
+                        // Без стабильного состояния прогрев доходит до максимума и на следующем размере
+                        long warmup = cell.isSteadyState()
+                                ? cell.getWarmupIterations() : config.getMaxWarmupIterations();
+                        measured.add(new long[] {size, Math.round(cell.getMean()), warmup});
+                    }
+                }
+                scenarioResults.add(new PerformanceResult(scenario, size, statistics));
+            }
+            results.put(scenario, scenarioResults);
+            skippedFrom.put(scenario, skipped);
+        }
+        return new SweepResult(sizes, results, skippedFrom);
+    }
+
+    /**
+     * Однократно выполняет тест для всех реализаций на среднем размере; результат отбрасывается
+     */
+    private void warmUp(String scenario, ListRegistry registry) {
+        int size = Math.min(sizes.get(sizes.size() - 1), JIT_WARMUP_SIZE);
+        MeasurementConfig once = new MeasurementConfig(0, 0, 1);
+        for (String name : registry.getAllNames()) {
+            ListRegistry single = registryFactory.apply(size).select(Collections.singletonList(name));
+            new ListPerformanceTester(size, once, single).runTests(scenario::equals);
+        }
+    }
+
+    private TimingStatistics measure(String scenario, String name, int size) {
+        ListRegistry registry = registryFactory.apply(size).select(Collections.singletonList(name));
+        ListPerformanceTester tester = new ListPerformanceTester(size, config, registry);
+        return tester.runTests(scenario::equals)[0].getStatistics(name);
+    }
+
+    /**
+     * Предсказывает длительность серии замеров на новом размере по степенному закону,
+     * показатель которого оценивается по двум последним размерам (не меньше 1, так как тест выполняет n операций)
+     * Итераций прогрева столько же, сколько было на последнем размере, а если их число неизвестно - максимум
+     * @param measured тройки (размер, среднее время итерации, итераций прогрева) по возрастанию размера;
+     *                 без третьего значения число итераций прогрева неизвестно
+     * @param size новый размер
+     * @return ожидаемая длительность прогрева и замеров в наносекундах
+     */
+    long predictSeriesNanos(List<long[]> measured, int size) {
+        if (measured.isEmpty()) {
+            return 0;
+        }
+        long[] last = measured.get(measured.size() - 1);
+        double exponent = UNKNOWN_GROWTH_EXPONENT;
+        if (measured.size() > 1) {
+            long[] previous = measured.get(measured.size() - 2);
+            if (previous[1] > 0 && last[1] > 0) {
+                exponent = Math.max(1, Math.log((double) last[1] / previous[1])
+                        / Math.log((double) last[0] / previous[0]));
+            }
+        }
+        double iteration = Math.max(1, last[1]) * Math.pow((double) size / last[0], exponent);
+        long warmup = last.length > 2 ? Math.max(last[2], config.getMinWarmupIterations())
+                : config.getMaxWarmupIterations();
+        long iterations = warmup + config.getMeasurementIterations();
+        return (long) Math.min(Long.MAX_VALUE, iteration * iterations);
+    }
+
+    /**
+     * @param minSize наименьший размер
+     * @param maxSize наибольший размер
+     * @return minSize, minSize * 10 ... и maxSize
+     */
+    static List<Integer> geometricSizes(int minSize, int maxSize) {
+        if (minSize < 1 || maxSize < minSize) {
+            throw new IllegalArgumentException("Некорректный диапазон размеров: " + minSize + ".." + maxSize);
+        }
+        List<Integer> sizes = new ArrayList<>();
+        long size = minSize;
+        while (size < maxSize) {
+            sizes.add((int) size);
+            size *= SIZE_FACTOR;
+        }
+        sizes.add(maxSize);
+        return sizes;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.collections;
+
+import java.util.Arrays;
+
+/**
+ * Результат потокового теста одной реализации: время последовательного конвейера
+ * и параллельного при каждом уровне параллелизма, а также равномерность разбиения Spliterator
+ */
+public class StreamResult {
+
+    private final String implementationName;
+    private final StreamTester.Pipeline pipeline;
+    private final TimingStatistics sequential;
+    private final int[] parallelism;
+    private final TimingStatistics[] parallel;
+    private final double[] splitBalance;
+
+    /**
+     * Конструктор
+     * @param implementationName имя реализации списка
+     * @param pipeline конвейер
+     * @param sequential замеры последовательного конвейера
+     * @param parallelism уровни параллелизма
+     * @param parallel замеры параллельного конвейера для каждого уровня
+     * @param splitBalance равномерность разбиения для каждого уровня (см. StreamTester.splitBalance)
+     */
+    public StreamResult(String implementationName, StreamTester.Pipeline pipeline, TimingStatistics sequential,
+                        int[] parallelism, TimingStatistics[] parallel, double[] splitBalance) {
+        if (parallel.length != parallelism.length || splitBalance.length != parallelism.length) {
+            throw new IllegalArgumentException("Количество замеров не совпадает с количеством уровней параллелизма");
+        }
+        this.implementationName = implementationName;
+        this.pipeline = pipeline;
+        this.sequential = sequential;
+        this.parallelism = parallelism.clone();
+        this.parallel = parallel.clone();
+        this.splitBalance = splitBalance.clone();
+    }
+
+    /**
+     * @return имя реализации списка
+     */
+    public String getImplementationName() {
+        return implementationName;
+    }
+
+    /**
+     * @return конвейер
+     */
+    public StreamTester.Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * @return замеры последовательного конвейера
+     */
+    public TimingStatistics getSequential() {
+        return sequential;
+    }
+
+    /**
+     * @return уровни параллелизма в порядке замеров
+     */
+    public int[] getParallelism() {
+        return parallelism.clone();
+    }
+
+    /**
+     * @param level уровень параллелизма
+     * @return замеры параллельного конвейера
+     */
+    public TimingStatistics getParallel(int level) {
+        return parallel[indexOf(level)];
+    }
+
+    /**
+     * @param level уровень параллелизма
+     * @return ускорение параллельного конвейера относительно последовательного (по среднему времени)
+     */
+    public double getSpeedup(int level) {
+        double parallelMean = getParallel(level).getMean();
+        return parallelMean == 0 ? 0 : sequential.getMean() / parallelMean;
+    }
+
+    /**
+     * @param level уровень параллелизма
+     * @return эффективность: ускорение на одно ядро, 1 - идеальное масштабирование
+     */
+    public double getEfficiency(int level) {
+        return getSpeedup(level) / level;
+    }
+
+    /**
+     * @param level уровень параллелизма
+     * @return отношение самой маленькой части разбиения к самой большой
+     */
+    public double getSplitBalance(int level) {
+        return splitBalance[indexOf(level)];
+    }
+
+    /**
+     * @return наименьший уровень параллелизма, при котором параллельный конвейер значимо быстрее
+     *         последовательного (доверительные интервалы не пересекаются), или 0, если такого нет
+     */
+    public int getBreakEvenParallelism() {
+        for (int i = 0; i < parallelism.length; i++) {
+            if (parallel[i].getMean() < sequential.getMean() && !parallel[i].overlaps(sequential)) {
+                return parallelism[i];
+            }
+        }
+        return 0;
+    }
+
+    private int indexOf(int level) {
+        for (int i = 0; i < parallelism.length; i++) {
+            if (parallelism[i] == level) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Нет замеров для параллелизма " + level
+                + ", есть: " + Arrays.toString(parallelism));
+    }
+
+    @Override
+    public String toString() {
+        int last = parallelism[parallelism.length - 1];
+        return String.format("%s %s: sequential=%.0f ns, x%d speedup=%.2f, balance=%.2f",
+                implementationName, pipeline.getName(), sequential.getMean(), last, getSpeedup(last),
+                getSplitBalance(last));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Потоковый тест: последовательные и параллельные конвейеры Stream над заполненным списком
+ * Параллельный конвейер запускается внутри отдельного ForkJoinPool заданного параллелизма:
+ * задачи параллельного потока выполняются в пуле, из которого он запущен, а не в общем пуле.
+ * Масштабирование зависит от Spliterator списка: массивы делятся пополам, LinkedList - пачками
+ * растущего размера с начала списка, поэтому части получаются неравными
+ */
+public class StreamTester {
+
+    /**
+     * Конвейеры потоков
+     */
+    public enum Pipeline {
+        MAP_REDUCE("map+reduce", stream -> stream.mapToLong(value -> value * 31L).reduce(0, Long::sum)),
+        FILTER_COUNT("filter+count", stream -> stream.filter(value -> (value & 1) == 0).count()),
+        MAP_COLLECT("map+collect", stream -> stream.map(value -> value + 1).collect(Collectors.toList())),
+        FOR_EACH("forEach", stream -> {
+            LongAdder sum = new LongAdder();
+            stream.forEach(sum::add);
+            return sum.sum();
+        });
+
+        private final String name;
+        private final Function<Stream<Integer>, Object> body;
+
+        Pipeline(String name, Function<Stream<Integer>, Object> body) {
+            this.name = name;
+            this.body = body;
+        }
+
+        /**
+         * @return название конвейера
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Выполняет конвейер
+         * @param stream источник (последовательный или параллельный)
+         * @return результат конвейера
+         */
+        public Object apply(Stream<Integer> stream) {
+            return body.apply(stream);
+        }
+    }
+
+    private final int size;
+    private final MeasurementEngine engine;
+    private final ListRegistry registry;
+    private final Blackhole blackhole = new Blackhole();
+
+    /**
+     * Конструктор
+     * @param size размер списка
+     * @param config настройки прогрева и замеров
+     * @param registry реестр реализаций (примитивные списки не участвуют: у IntList нет потоков)
+     */
+    public StreamTester(int size, MeasurementConfig config, ListRegistry registry) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Размер списка должен быть положительным");
+        }
+        this.size = size;
+        this.engine = new MeasurementEngine(config);
+        this.registry = registry;
+    }
+
+    /**
+     * @return реестр тестируемых реализаций
+     */
+    public ListRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * Прогоняет все конвейеры для каждой реализации: последовательно и при параллелизме 1, 2, 4 ... maxParallelism
+     * @param maxParallelism наибольший параллелизм пула
+     * @return результаты по реализациям и конвейерам
+     */
+    public List<StreamResult> run(int maxParallelism) {
+        List<Integer> levels = ContentionTester.threadCounts(maxParallelism);
+        List<StreamResult> results = new ArrayList<>();
+        for (String name : registry.getNames()) {
+            List<Integer> list = filledList(registry.get(name));
+            try {
+                for (Pipeline pipeline : Pipeline.values()) {
+                    results.add(run(name, list, pipeline, levels));
+                }
+            } finally {
+                ListPerformanceTester.release(list);
+            }
+        }
+        return results;
+    }
+
+    private StreamResult run(String name, List<Integer> list, Pipeline pipeline, List<Integer> levels) {
+        TimingStatistics sequential = engine.measure(() -> {
+            long startTime = System.nanoTime();
+            blackhole.consume(pipeline.apply(list.stream()));
+            return System.nanoTime() - startTime;
+        });
+
+        int[] parallelism = new int[levels.size()];
+        TimingStatistics[] parallel = new TimingStatistics[levels.size()];
+        double[] balance = new double[levels.size()];
+        for (int i = 0; i < parallelism.length; i++) {
+            parallelism[i] = levels.get(i);
+            parallel[i] = measureParallel(list, pipeline, parallelism[i]);
+            balance[i] = splitBalance(list.spliterator(), parallelism[i]);
+        }
+        return new StreamResult(name, pipeline, sequential, parallelism, parallel, balance);
+    }
+
+    private TimingStatistics measureParallel(List<Integer> list, Pipeline pipeline, int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return engine.measure(() -> {
+                long startTime = System.nanoTime();
+                try {
+                    blackhole.consume(pool.submit(() -> pipeline.apply(list.parallelStream())).get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Прогон прерван", e);
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Ошибка в параллельном конвейере", e.getCause());
+                }
+                return System.nanoTime() - startTime;
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private List<Integer> filledList(Supplier<List<Integer>> supplier) {
+        List<Integer> list = supplier.get();
+        for (int i = list.size(); i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Делит Spliterator на части, каждый раз разделяя самую большую, пока частей меньше parts
+     * или пока деление возможно
+     * @param spliterator делимый источник
+     * @param parts желаемое количество частей
+     * @return отношение размера самой маленькой части к самой большой: 1 - поровну, около 0 - одна часть
+     *         забирает почти всё (или деление не удалось)
+     */
+    static double splitBalance(Spliterator<Integer> spliterator, int parts) {
+        List<Spliterator<Integer>> chunks = new ArrayList<>();
+        chunks.add(spliterator);
+        while (chunks.size() < parts) {
+            int largest = 0;
+            for (int i = 1; i < chunks.size(); i++) {
+                if (chunks.get(i).estimateSize() > chunks.get(largest).estimateSize()) {
+                    largest = i;
+                }
+            }
+            Spliterator<Integer> prefix = chunks.get(largest).trySplit();
+            if (prefix == null) {
+                break;
+            }
+            chunks.add(prefix);
+        }
+        if (chunks.size() < parts) {
+            return parts == 1 ? 1 : 0;
+        }
+
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (Spliterator<Integer> chunk : chunks) {
+            min = Math.min(min, chunk.estimateSize());
+            max = Math.max(max, chunk.estimateSize());
+        }
+        return max == 0 ? 1 : (double) min / max;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.collections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Результаты прогона тестов на ряде размеров: по каждому тесту - результат на каждом размере,
+ * подобранная сложность и размеры, на которых меняется лидер
+ */
+public class SweepResult {
+
+    private final List<Integer> sizes;
+    private final Map<String, List<PerformanceResult>> results;
+    private final Map<String, Map<String, Integer>> skippedFrom;
+
+    /**
+     * Конструктор
+     * @param sizes размеры по возрастанию
+     * @param results результаты по названию теста, по одному на каждый размер
+     * @param skippedFrom по названию теста: реализация и размер, начиная с которого она пропущена по бюджету времени
+     */
+    public SweepResult(List<Integer> sizes, Map<String, List<PerformanceResult>> results,
+                       Map<String, Map<String, Integer>> skippedFrom) {
+        this.sizes = Collections.unmodifiableList(new ArrayList<>(sizes));
+        this.results = new LinkedHashMap<>(results);
+        this.skippedFrom = new LinkedHashMap<>(skippedFrom);
+        for (List<PerformanceResult> scenarioResults : results.values()) {
+            if (scenarioResults.size() != sizes.size()) {
+                throw new IllegalArgumentException("Нужен ровно один результат на каждый размер");
+            }
+        }
+    }
+
+    /**
+     * @return размеры по возрастанию
+     */
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    /**
+     * @return названия тестов в порядке выполнения
+     */
+    public Set<String> getScenarioNames() {
+        return Collections.unmodifiableSet(results.keySet());
+    }
+
+    /**
+     * @param scenario название теста
+     * @return результаты на каждом размере; пропущенная или неподдерживаемая реализация - null в результате
+     */
+    public List<PerformanceResult> getResults(String scenario) {
+        List<PerformanceResult> scenarioResults = results.get(scenario);
+        if (scenarioResults == null) {
+            throw new IllegalArgumentException("Неизвестный тест: " + scenario);
+        }
+        return Collections.unmodifiableList(scenarioResults);
+    }
+
+    /**
+     * @param scenario название теста
+     * @return имена реализаций
+     */
+    public Set<String> getImplementationNames(String scenario) {
+        return getResults(scenario).get(0).getImplementationNames();
+    }
+
+    /**
+     * @param scenario название теста
+     * @param implementation имя реализации
+     * @return размер, начиная с которого реализация пропущена по бюджету времени, или null
+     */
+    public Integer getSkippedFrom(String scenario, String implementation) {
+        return skippedFrom.getOrDefault(scenario, Collections.emptyMap()).get(implementation);
+    }
+
+    /**
+     * Время одной операции: среднее время серии, делённое на размер (каждый тест выполняет n операций)
+     * @param scenario название теста
+     * @param implementation имя реализации
+     * @return время одной операции в нс на каждом размере; NaN - замера нет
+     */
+    public double[] getPerOperationNanos(String scenario, String implementation) {
+        List<PerformanceResult> scenarioResults = getResults(scenario);
+        double[] times = new double[sizes.size()];
+        for (int i = 0; i < times.length; i++) {
+            TimingStatistics statistics = scenarioResults.get(i).getStatistics(implementation);
+            times[i] = statistics == null ? Double.NaN : statistics.getMean() / sizes.get(i);
+        }
+        return times;
+    }
+
+    /**
+     * @param scenario название теста
+     * @param implementation имя реализации
+     * @return подобранная сложность операции или null, если замеров недостаточно
+     */
+    public ComplexityFit getComplexity(String scenario, String implementation) {
+        int[] sizeArray = sizes.stream().mapToInt(Integer::intValue).toArray();
+        return ComplexityFit.fit(sizeArray, getPerOperationNanos(scenario, implementation));
+    }
+
+    /**
+     * Находит размеры, между которыми статистически значимый лидер сменился; ничьи пропускаются
+     * @param scenario название теста
+     * @return смены лидера по возрастанию размера
+     */
+    public List<Crossover> getCrossovers(String scenario) {
+        List<Crossover> crossovers = new ArrayList<>();
+        List<PerformanceResult> scenarioResults = getResults(scenario);
+        String leader = null;
+        int leaderSize = 0;
+        for (int i = 0; i < sizes.size(); i++) {
+            String winner = scenarioResults.get(i).getFasterList();
+            if (PerformanceResult.TIE.equals(winner)) {
+                continue;
+            }
+            if (leader != null && !leader.equals(winner)) {
+                crossovers.add(new Crossover(leaderSize, sizes.get(i), leader, winner));
+            }
+            leader = winner;
+            leaderSize = sizes.get(i);
+        }
+        return crossovers;
+    }
+
+    /**
+     * Смена лидера между двумя размерами
+     */
+    public static final class Crossover {
+        private final int lastSizeOfPrevious;
+        private final int firstSizeOfNext;
+        private final String previousLeader;
+        private final String nextLeader;
+
+        Crossover(int lastSizeOfPrevious, int firstSizeOfNext, String previousLeader, String nextLeader) {
+            this.lastSizeOfPrevious = lastSizeOfPrevious;
+            this.firstSizeOfNext = firstSizeOfNext;
+            this.previousLeader = previousLeader;
+            this.nextLeader = nextLeader;
+        }
+
+        /**
+         * @return последний размер, на котором лидировал прежний лидер
+         */
+        public int getLastSizeOfPrevious() {
+            return lastSizeOfPrevious;
+        }
+
+        /**
+         * @return первый размер, на котором лидирует новый лидер
+         */
+        public int getFirstSizeOfNext() {
+            return firstSizeOfNext;
+        }
+
+        /**
+         * @return прежний лидер
+         */
+        public String getPreviousLeader() {
+            return previousLeader;
+        }
+
+        /**
+         * @return новый лидер
+         */
+        public String getNextLeader() {
+            return nextLeader;
+        }
+
+        @Override
+        public String toString() {
+            return previousLeader + " -> " + nextLeader + " (" + lastSizeOfPrevious + ".." + firstSizeOfNext + ")";
+        }
+    }
+}
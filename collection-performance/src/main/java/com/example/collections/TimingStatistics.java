@@ -0,0 +1,305 @@
+package com.example.collections;
+
+import java.util.Arrays;
+
+/**
+ * Статистика по серии замеров времени одной реализации списка
+ * Выбросы отсекаются по правилу Тьюки (1.5 межквартильного размаха),
+ * доверительный интервал 95% строится по t-распределению Стьюдента
+ * Распределения задержек (ofDistribution) хранятся целиком: их хвост - сама измеряемая величина
+ */
+public class TimingStatistics {
+
+    /**
+     * Критические значения t-распределения (двусторонние, 95%) для 1..30 степеней свободы
+     */
+    private static final double[] T_CRITICAL_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_95 = 1.96;
+    private static final double TUKEY_FENCE = 1.5;
+    private static final int MIN_SAMPLES_FOR_OUTLIERS = 4;
+
+    private final long[] rawSamples;
+    private final long[] samples;
+    private final int rejectedCount;
+    private final double mean;
+    private final double median;
+    private final double p90;
+    private final double p99;
+    private final double standardDeviation;
+    private final double confidenceLow;
+    private final double confidenceHigh;
+    private final int warmupIterations;
+    private final boolean steadyState;
+    private final ResourceUsage resourceUsage;
+    private final JitActivity jitActivity;
+
+    /**
+     * Конструктор для серии замеров без сведений о прогреве
+     * @param rawSamples замеры времени в наносекундах
+     */
+    public TimingStatistics(long[] rawSamples) {
+        this(rawSamples, 0, true);
+    }
+
+    /**
+     * Конструктор для серии замеров
+     * @param rawSamples замеры времени в наносекундах
+     * @param warmupIterations количество выполненных итераций прогрева
+     * @param steadyState достигнуто ли стабильное состояние во время прогрева
+     */
+    public TimingStatistics(long[] rawSamples, int warmupIterations, boolean steadyState) {
+        this(rawSamples, warmupIterations, steadyState, ResourceUsage.NONE);
+    }
+
+    /**
+     * Конструктор для серии замеров с учётом потребления ресурсов
+     * @param rawSamples замеры времени в наносекундах
+     * @param warmupIterations количество выполненных итераций прогрева
+     * @param steadyState достигнуто ли стабильное состояние во время прогрева
+     * @param resourceUsage среднее потребление ресурсов на замер
+     */
+    public TimingStatistics(long[] rawSamples, int warmupIterations, boolean steadyState,
+                            ResourceUsage resourceUsage) {
+        this(rawSamples, warmupIterations, steadyState, resourceUsage, JitActivity.UNSUPPORTED);
+    }
+
+    /**
+     * Конструктор для серии замеров с учётом потребления ресурсов и работы JIT-компилятора
+     * @param rawSamples замеры времени в наносекундах
+     * @param warmupIterations количество выполненных итераций прогрева
+     * @param steadyState достигнуто ли стабильное состояние во время прогрева
+     * @param resourceUsage среднее потребление ресурсов на замер
+     * @param jitActivity работа компилятора за прогрев и каждый замер
+     */
+    public TimingStatistics(long[] rawSamples, int warmupIterations, boolean steadyState,
+                            ResourceUsage resourceUsage, JitActivity jitActivity) {
+        this(rawSamples, warmupIterations, steadyState, resourceUsage, jitActivity, true, rawSamples.length);
+    }
+
+    private TimingStatistics(long[] rawSamples, int warmupIterations, boolean steadyState,
+                             ResourceUsage resourceUsage, JitActivity jitActivity,
+                             boolean withOutlierRejection, long observationCount) {
+        if (rawSamples.length == 0) {
+            throw new IllegalArgumentException("Нужен хотя бы один замер");
+        }
+        this.rawSamples = rawSamples.clone();
+        this.samples = withOutlierRejection ? rejectOutliers(rawSamples) : sorted(rawSamples);
+        this.rejectedCount = rawSamples.length - samples.length;
+        this.warmupIterations = warmupIterations;
+        this.steadyState = steadyState;
+        this.resourceUsage = resourceUsage;
+        this.jitActivity = jitActivity;
+
+        this.mean = Arrays.stream(samples).average().orElse(0);
+        this.median = percentile(samples, 50);
+        this.p90 = percentile(samples, 90);
+        this.p99 = percentile(samples, 99);
+
+        double sumOfSquares = 0;
+        for (long sample : samples) {
+            sumOfSquares += (sample - mean) * (sample - mean);
+        }
+        this.standardDeviation = samples.length > 1 ? Math.sqrt(sumOfSquares / (samples.length - 1)) : 0;
+
+        long observations = Math.max(observationCount, samples.length);
+        double halfWidth = samples.length > 1
+                ? tCritical(observations - 1) * standardDeviation / Math.sqrt(observations)
+                : 0;
+        this.confidenceLow = mean - halfWidth;
+        this.confidenceHigh = mean + halfWidth;
+    }
+
+    /**
+     * Создаёт статистику из одного замера
+     * @param time время выполнения в наносекундах
+     * @return статистика с вырожденным доверительным интервалом
+     */
+    public static TimingStatistics single(long time) {
+        return new TimingStatistics(new long[] {time});
+    }
+
+    /**
+     * Создаёт статистику по распределению задержек, восстановленному из гистограммы
+     * Выбросы не отсекаются, иначе p99 и максимум занижаются; точки выборки - квантили распределения,
+     * а не независимые замеры, поэтому доверительный интервал среднего строится по числу наблюдений гистограммы
+     * @param samples точки распределения в наносекундах
+     * @param observationCount количество наблюдений, которое представляет выборка
+     * @return статистика без отсечения выбросов
+     */
+    public static TimingStatistics ofDistribution(long[] samples, long observationCount) {
+        return new TimingStatistics(samples, 0, true, ResourceUsage.NONE, JitActivity.UNSUPPORTED,
+                false, observationCount);
+    }
+
+    /**
+     * Отбрасывает выбросы за пределами границ Тьюки
+     * @param rawSamples исходные замеры
+     * @return отсортированные замеры без выбросов
+     */
+    private static long[] rejectOutliers(long[] rawSamples) {
+        long[] sorted = sorted(rawSamples);
+        if (sorted.length < MIN_SAMPLES_FOR_OUTLIERS) {
+            return sorted;
+        }
+
+        double q1 = percentile(sorted, 25);
+        double q3 = percentile(sorted, 75);
+        double iqr = q3 - q1;
+        double lowFence = q1 - TUKEY_FENCE * iqr;
+        double highFence = q3 + TUKEY_FENCE * iqr;
+
+        return Arrays.stream(sorted)
+                .filter(sample -> sample >= lowFence && sample <= highFence)
+                .toArray();
+    }
+
+    private static long[] sorted(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Вычисляет перцентиль с линейной интерполяцией
+     * @param sorted отсортированные значения
+     * @param percentile перцентиль от 0 до 100
+     * @return значение перцентиля
+     */
+    static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 1) {
+            return sorted[0];
+        }
+        double rank = percentile / 100.0 * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    private static double tCritical(long degreesOfFreedom) {
+        return degreesOfFreedom <= T_CRITICAL_95.length ? T_CRITICAL_95[(int) degreesOfFreedom - 1] : Z_95;
+    }
+
+    /**
+     * Проверяет, пересекаются ли доверительные интервалы
+     * @param other статистика другой реализации
+     * @return true, если различие статистически не значимо
+     */
+    public boolean overlaps(TimingStatistics other) {
+        return confidenceLow <= other.confidenceHigh && other.confidenceLow <= confidenceHigh;
+    }
+
+    /**
+     * @return замеры, оставшиеся после отсечения выбросов, по возрастанию
+     */
+    public long[] getSamples() {
+        return samples.clone();
+    }
+
+    /**
+     * @return все замеры в порядке выполнения, включая выбросы
+     */
+    public long[] getRawSamples() {
+        return rawSamples.clone();
+    }
+
+    /**
+     * @return количество учтённых замеров
+     */
+    public int getSampleCount() {
+        return samples.length;
+    }
+
+    /**
+     * @return количество отброшенных выбросов
+     */
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return среднее время в наносекундах
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return медиана в наносекундах
+     */
+    public double getMedian() {
+        return median;
+    }
+
+    /**
+     * @return 90-й перцентиль в наносекундах
+     */
+    public double getP90() {
+        return p90;
+    }
+
+    /**
+     * @return 99-й перцентиль в наносекундах
+     */
+    public double getP99() {
+        return p99;
+    }
+
+    /**
+     * @return стандартное отклонение в наносекундах
+     */
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    /**
+     * @return нижняя граница 95% доверительного интервала среднего
+     */
+    public double getConfidenceLow() {
+        return confidenceLow;
+    }
+
+    /**
+     * @return верхняя граница 95% доверительного интервала среднего
+     */
+    public double getConfidenceHigh() {
+        return confidenceHigh;
+    }
+
+    /**
+     * @return количество выполненных итераций прогрева
+     */
+    public int getWarmupIterations() {
+        return warmupIterations;
+    }
+
+    /**
+     * @return достигнуто ли стабильное состояние во время прогрева
+     */
+    public boolean isSteadyState() {
+        return steadyState;
+    }
+
+    /**
+     * @return среднее потребление ресурсов на замер (выделения памяти и GC)
+     */
+    public ResourceUsage getResourceUsage() {
+        return resourceUsage;
+    }
+
+    /**
+     * @return работа JIT-компилятора за прогрев и каждый замер
+     */
+    public JitActivity getJitActivity() {
+        return jitActivity;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mean=%.0f ns, median=%.0f, p90=%.0f, p99=%.0f, sd=%.0f, CI95=[%.0f; %.0f], n=%d",
+                mean, median, p90, p99, standardDeviation, confidenceLow, confidenceHigh, samples.length);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.collections;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Смесь операций с весами, например 70% get, 20% add в конец, 10% remove из случайной позиции
+ */
+public class WorkloadMix {
+
+    /**
+     * Операция смешанной нагрузки
+     */
+    public enum Operation {
+        GET("get"),
+        SET("set"),
+        ADD("add"),
+        INSERT("insert"),
+        REMOVE("remove"),
+        REMOVE_LAST("removeLast"),
+        CONTAINS("contains");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        /**
+         * @return имя операции в описании смеси
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @param key имя операции в описании смеси
+         * @return операция
+         */
+        public static Operation fromKey(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equalsIgnoreCase(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Неизвестная операция: " + key);
+        }
+    }
+
+    private final Map<Operation, Integer> weights;
+    private final int totalWeight;
+
+    /**
+     * Конструктор
+     * @param weights веса операций (доли нормируются по сумме)
+     */
+    public WorkloadMix(Map<Operation, Integer> weights) {
+        int total = 0;
+        for (int weight : weights.values()) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("Вес операции не может быть отрицательным");
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Нужна хотя бы одна операция с положительным весом");
+        }
+        this.weights = Collections.unmodifiableMap(new EnumMap<>(weights));
+        this.totalWeight = total;
+    }
+
+    /**
+     * Разбирает описание смеси вида get=70,add=20,remove=10
+     * Операции: get, set, add (в конец), insert (в позицию), remove (из позиции), removeLast, contains
+     * @param spec описание смеси
+     * @return смесь операций
+     */
+    public static WorkloadMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Ожидалось операция=вес: " + part);
+            }
+            try {
+                weights.merge(Operation.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()), Integer::sum);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Некорректный вес: " + part, e);
+            }
+        }
+        return new WorkloadMix(weights);
+    }
+
+    /**
+     * @return веса операций
+     */
+    public Map<Operation, Integer> getWeights() {
+        return weights;
+    }
+
+    /**
+     * @param operation операция
+     * @return доля операции от 0 до 1
+     */
+    public double getShare(Operation operation) {
+        return (double) weights.getOrDefault(operation, 0) / totalWeight;
+    }
+
+    /**
+     * Генерирует последовательность операций в заданных пропорциях
+     * @param count количество операций
+     * @param random генератор случайных чисел
+     * @return операции
+     */
+    public Operation[] sample(int count, Random random) {
+        Operation[] operations = new Operation[count];
+        for (int i = 0; i < count; i++) {
+            int point = random.nextInt(totalWeight);
+            for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+                point -= entry.getValue();
+                if (point < 0) {
+                    operations[i] = entry.getKey();
+                    break;
+                }
+            }
+        }
+        return operations;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        weights.forEach((operation, weight) -> {
+            if (weight > 0) {
+                if (text.length() > 0) {
+                    text.append(", ");
+                }
+                text.append(String.format(Locale.ROOT, "%s %.0f%%", operation.getKey(), getShare(operation) * 100));
+            }
+        });
+        return text.toString();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.collections;
+
+import java.util.Random;
+
+/**
+ * Заранее сгенерированная последовательность операций и позиций смешанной нагрузки
+ * Генератор случайных чисел работает только здесь, вне замеряемого участка;
+ * все реализации списков выполняют одну и ту же последовательность
+ */
+public class WorkloadPlan {
+
+    private final WorkloadMix mix;
+    private final IndexDistribution distribution;
+    private final int initialSize;
+    private final WorkloadMix.Operation[] operations;
+    private final int[] positions;
+
+    private WorkloadPlan(WorkloadMix mix, IndexDistribution distribution, int initialSize,
+                         WorkloadMix.Operation[] operations, int[] positions) {
+        this.mix = mix;
+        this.distribution = distribution;
+        this.initialSize = initialSize;
+        this.operations = operations;
+        this.positions = positions;
+    }
+
+    /**
+     * Генерирует план нагрузки
+     * @param mix смесь операций
+     * @param distribution распределение позиций
+     * @param operationCount количество операций
+     * @param initialSize начальный размер списка (позиции генерируются в диапазоне [0, initialSize))
+     * @param seed начальное значение генератора для воспроизводимости
+     * @return план нагрузки
+     */
+    public static WorkloadPlan generate(WorkloadMix mix, IndexDistribution distribution, int operationCount,
+                                        int initialSize, long seed) {
+        if (operationCount < 1 || initialSize < 1) {
+            throw new IllegalArgumentException("Количество операций и начальный размер должны быть положительными");
+        }
+        Random random = new Random(seed);
+        return new WorkloadPlan(mix, distribution, initialSize, mix.sample(operationCount, random),
+                distribution.sample(operationCount, initialSize, random));
+    }
+
+    /**
+     * @return смесь операций
+     */
+    public WorkloadMix getMix() {
+        return mix;
+    }
+
+    /**
+     * @return распределение позиций
+     */
+    public IndexDistribution getDistribution() {
+        return distribution;
+    }
+
+    /**
+     * @return начальный размер списка
+     */
+    public int getInitialSize() {
+        return initialSize;
+    }
+
+    /**
+     * @return количество операций
+     */
+    public int size() {
+        return operations.length;
+    }
+
+    /**
+     * @param i номер операции
+     * @return операция
+     */
+    public WorkloadMix.Operation getOperation(int i) {
+        return operations[i];
+    }
+
+    /**
+     * Позиция из распределения; при выполнении приводится к текущему размеру списка
+     * @param i номер операции
+     * @return позиция в диапазоне [0, initialSize)
+     */
+    public int getPosition(int i) {
+        return positions[i];
+    }
+
+    /**
+     * @param operation операция
+     * @return сколько раз операция встречается в плане
+     */
+    public int count(WorkloadMix.Operation operation) {
+        int count = 0;
+        for (WorkloadMix.Operation planned : operations) {
+            if (planned == operation) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.collections;
+
+import java.util.Locale;
+
+/**
+ * Описание целевой нагрузки для подбора реализации: смесь операций, ожидаемый размер списка,
+ * количество потоков и ограничение памяти
+ */
+public class WorkloadProfile {
+
+    /**
+     * Ограничение памяти, означающее «без ограничения»
+     */
+    public static final long UNLIMITED_MEMORY = Long.MAX_VALUE;
+
+    private final WorkloadMix mix;
+    private final int size;
+    private final int threads;
+    private final long memoryBudgetBytes;
+
+    /**
+     * Конструктор
+     * @param mix смесь операций
+     * @param size ожидаемый размер списка
+     * @param threads количество потоков, работающих со списком
+     * @param memoryBudgetBytes допустимый размер списка в байтах (UNLIMITED_MEMORY - без ограничения)
+     */
+    public WorkloadProfile(WorkloadMix mix, int size, int threads, long memoryBudgetBytes) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Размер списка должен быть положительным");
+        }
+        if (threads < 1) {
+            throw new IllegalArgumentException("Количество потоков должно быть положительным");
+        }
+        if (memoryBudgetBytes < 1) {
+            throw new IllegalArgumentException("Ограничение памяти должно быть положительным");
+        }
+        this.mix = mix;
+        this.size = size;
+        this.threads = threads;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * @return смесь операций
+     */
+    public WorkloadMix getMix() {
+        return mix;
+    }
+
+    /**
+     * @return ожидаемый размер списка
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return количество потоков
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return допустимый размер списка в байтах
+     */
+    public long getMemoryBudgetBytes() {
+        return memoryBudgetBytes;
+    }
+
+    /**
+     * Разбирает размер памяти: число байт или число с суффиксом k, m, g (степени 1024)
+     * @param value строка вида 512k, 64m, 2g или 1048576
+     * @return количество байт
+     */
+    public static long parseBytes(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        long multiplier = 1;
+        if (text.endsWith("k")) {
+            multiplier = 1L << 10;
+        } else if (text.endsWith("m")) {
+            multiplier = 1L << 20;
+        } else if (text.endsWith("g")) {
+            multiplier = 1L << 30;
+        }
+        if (multiplier > 1) {
+            text = text.substring(0, text.length() - 1);
+        }
+        try {
+            long bytes = Long.parseLong(text) * multiplier;
+            if (bytes < 1) {
+                throw new IllegalArgumentException("Размер памяти должен быть положительным: " + value);
+            }
+            return bytes;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Некорректный размер памяти: " + value, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s, %d элементов, потоков: %d%s", mix, size, threads,
+                memoryBudgetBytes == UNLIMITED_MEMORY ? "" : ", память до " + memoryBudgetBytes + " байт");
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.collections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Результат смешанной нагрузки: время выполнения всего плана и задержки отдельных операций по реализациям
+ */
+public class WorkloadResult {
+
+    private final WorkloadPlan plan;
+    private final PerformanceResult performance;
+    private final Map<String, Map<WorkloadMix.Operation, long[]>> latencies;
+
+    /**
+     * Конструктор
+     * @param plan выполненный план
+     * @param statistics время выполнения плана по реализациям (null - операции не поддерживаются)
+     * @param latencies задержки отдельных операций в нс по реализациям и операциям
+     */
+    public WorkloadResult(WorkloadPlan plan, Map<String, TimingStatistics> statistics,
+                          Map<String, Map<WorkloadMix.Operation, long[]>> latencies) {
+        this.plan = plan;
+        this.performance = new PerformanceResult("mix(" + plan.getMix() + ", " + plan.getDistribution() + ")",
+                plan.size(), statistics);
+        this.latencies = new LinkedHashMap<>();
+        latencies.forEach((name, byOperation) -> {
+            Map<WorkloadMix.Operation, long[]> sorted = new EnumMap<>(WorkloadMix.Operation.class);
+            byOperation.forEach((operation, samples) -> {
+                long[] copy = samples.clone();
+                Arrays.sort(copy);
+                sorted.put(operation, copy);
+            });
+            this.latencies.put(name, Collections.unmodifiableMap(sorted));
+        });
+    }
+
+    /**
+     * @return выполненный план
+     */
+    public WorkloadPlan getPlan() {
+        return plan;
+    }
+
+    /**
+     * @return время выполнения плана как результат производительности (ранжирование, победитель по ДИ)
+     */
+    public PerformanceResult getPerformance() {
+        return performance;
+    }
+
+    /**
+     * @return имена реализаций в порядке регистрации
+     */
+    public Set<String> getImplementationNames() {
+        return performance.getImplementationNames();
+    }
+
+    /**
+     * @param name имя реализации
+     * @return пропускная способность, операций в секунду; 0, если операции не поддерживаются
+     */
+    public double getOperationsPerSecond(String name) {
+        TimingStatistics statistics = performance.getStatistics(name);
+        return statistics == null || statistics.getMean() == 0 ? 0 : plan.size() * 1e9 / statistics.getMean();
+    }
+
+    /**
+     * @param name имя реализации
+     * @param operation операция
+     * @param percentile перцентиль от 0 до 100
+     * @return задержка операции в нс или NaN, если замеров нет
+     */
+    public double getLatencyPercentile(String name, WorkloadMix.Operation operation, double percentile) {
+        long[] samples = latencies.getOrDefault(name, Collections.emptyMap()).get(operation);
+        if (samples == null || samples.length == 0) {
+            return Double.NaN;
+        }
+        return TimingStatistics.percentile(samples, percentile);
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.collections;
+
+import com.example.collections.lists.IntList;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Выполняет план смешанной нагрузки на каждой реализации из реестра
+ * Пропускная способность измеряется по времени всего плана (с прогревом и серией замеров),
+ * задержки отдельных операций - в отдельном проходе, где каждая операция замеряется System.nanoTime
+ * (поэтому в них входит и стоимость самого замера, порядка десятков нс)
+ */
+public class WorkloadRunner {
+
+    private final WorkloadPlan plan;
+    private final MeasurementEngine engine;
+    private final ListRegistry registry;
+    private final Blackhole blackhole = new Blackhole();
+
+    /**
+     * Конструктор
+     * @param plan план нагрузки
+     * @param config настройки прогрева и замеров
+     * @param registry реестр тестируемых реализаций
+     */
+    public WorkloadRunner(WorkloadPlan plan, MeasurementConfig config, ListRegistry registry) {
+        this.plan = plan;
+        this.engine = new MeasurementEngine(config);
+        this.registry = registry;
+    }
+
+    /**
+     * Выполняет план на всех реализациях
+     * @return пропускная способность и задержки по реализациям
+     */
+    public WorkloadResult run() {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        Map<String, Map<WorkloadMix.Operation, long[]>> latencies = new LinkedHashMap<>();
+        for (String name : registry.getNames()) {
+            Supplier<List<Integer>> supplier = registry.get(name);
+            try {
+                statistics.put(name, engine.measure(() -> {
+                    List<Integer> list = filled(supplier);
+                    try {
+                        long startTime = System.nanoTime();
+                        for (int i = 0; i < plan.size(); i++) {
+                            blackhole.consume(apply(list, i));
+                        }
+                        return System.nanoTime() - startTime;
+                    } finally {
+                        ListPerformanceTester.release(list);
+                    }
+                }));
+                latencies.put(name, recordLatencies(filled(supplier)));
+            } catch (UnsupportedOperationException e) {
+                // Например, списки фиксированного размера не поддерживают add/remove
+                statistics.put(name, null);
+            }
+        }
+        for (String name : registry.getPrimitiveNames()) {
+            Supplier<IntList> supplier = registry.getPrimitive(name);
+            statistics.put(name, engine.measure(() -> {
+                IntList list = filledPrimitive(supplier);
+                try {
+                    long startTime = System.nanoTime();
+                    for (int i = 0; i < plan.size(); i++) {
+                        blackhole.consume(apply(list, i));
+                    }
+                    return System.nanoTime() - startTime;
+                } finally {
+                    ListPerformanceTester.release(list);
+                }
+            }));
+            latencies.put(name, recordLatencies(filledPrimitive(supplier)));
+        }
+        return new WorkloadResult(plan, statistics, latencies);
+    }
+
+    /**
+     * Однократно выполняет план на переданном списке без замеров (например, для записи трассы)
+     * @param list список, заполненный до начального размера плана
+     * @return сумма прочитанных значений
+     */
+    public long execute(List<Integer> list) {
+        long sum = 0;
+        for (int i = 0; i < plan.size(); i++) {
+            sum += apply(list, i);
+        }
+        return sum;
+    }
+
+    private Map<WorkloadMix.Operation, long[]> recordLatencies(List<Integer> list) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try {
+            for (int i = 0; i < plan.size(); i++) {
+                long startTime = System.nanoTime();
+                blackhole.consume(apply(list, i));
+                recorder.record(plan.getOperation(i), System.nanoTime() - startTime);
+            }
+        } finally {
+            ListPerformanceTester.release(list);
+        }
+        return recorder.toMap();
+    }
+
+    private Map<WorkloadMix.Operation, long[]> recordLatencies(IntList list) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        try {
+            for (int i = 0; i < plan.size(); i++) {
+                long startTime = System.nanoTime();
+                blackhole.consume(apply(list, i));
+                recorder.record(plan.getOperation(i), System.nanoTime() - startTime);
+            }
+        } finally {
+            ListPerformanceTester.release(list);
+        }
+        return recorder.toMap();
+    }
+
+    private List<Integer> filled(Supplier<List<Integer>> supplier) {
+        List<Integer> list = supplier.get();
+        // Списки фиксированного размера приходят уже заполненными
+        for (int i = list.size(); i < plan.getInitialSize(); i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    private IntList filledPrimitive(Supplier<IntList> supplier) {
+        IntList list = supplier.get();
+        for (int i = list.size(); i < plan.getInitialSize(); i++) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    /**
+     * Выполняет i-ю операцию плана; если список опустел, операции чтения и удаления заменяются добавлением
+     * @return прочитанное или удалённое значение
+     */
+    private long apply(List<Integer> list, int i) {
+        int size = list.size();
+        WorkloadMix.Operation operation = plan.getOperation(i);
+        int position = plan.getPosition(i);
+        if (size == 0 && operation != WorkloadMix.Operation.ADD && operation != WorkloadMix.Operation.INSERT) {
+            list.add(i);
+            return 0;
+        }
+        switch (operation) {
+            case GET:
+                return list.get(position < size ? position : position % size);
+            case SET:
+                return list.set(position < size ? position : position % size, i);
+            case ADD:
+                list.add(i);
+                return 0;
+            case INSERT:
+                list.add(position <= size ? position : position % (size + 1), i);
+                return 0;
+            case REMOVE:
+                return list.remove(position < size ? position : position % size);
+            case REMOVE_LAST:
+                return list.remove(size - 1);
+            default:
+                return list.contains(position) ? 1 : 0;
+        }
+    }
+
+    private long apply(IntList list, int i) {
+        int size = list.size();
+        WorkloadMix.Operation operation = plan.getOperation(i);
+        int position = plan.getPosition(i);
+        if (size == 0 && operation != WorkloadMix.Operation.ADD && operation != WorkloadMix.Operation.INSERT) {
+            list.add(i);
+            return 0;
+        }
+        switch (operation) {
+            case GET:
+                return list.getInt(position < size ? position : position % size);
+            case SET:
+                return list.set(position < size ? position : position % size, i);
+            case ADD:
+                list.add(i);
+                return 0;
+            case INSERT:
+                list.add(position <= size ? position : position % (size + 1), i);
+                return 0;
+            case REMOVE:
+                return list.removeAt(position < size ? position : position % size);
+            case REMOVE_LAST:
+                return list.removeAt(size - 1);
+            default:
+                return list.contains(position) ? 1 : 0;
+        }
+    }
+
+    /**
+     * Накопитель задержек по операциям; массивы заранее выделены по числу операций в плане
+     */
+    private final class LatencyRecorder {
+        private final long[][] samples = new long[WorkloadMix.Operation.values().length][];
+        private final int[] counts = new int[samples.length];
+
+        LatencyRecorder() {
+            for (WorkloadMix.Operation operation : WorkloadMix.Operation.values()) {
+                samples[operation.ordinal()] = new long[plan.count(operation)];
+            }
+        }
+
+        void record(WorkloadMix.Operation operation, long nanos) {
+            int index = operation.ordinal();
+            samples[index][counts[index]++] = nanos;
+        }
+
+        Map<WorkloadMix.Operation, long[]> toMap() {
+            Map<WorkloadMix.Operation, long[]> byOperation = new EnumMap<>(WorkloadMix.Operation.class);
+            for (WorkloadMix.Operation operation : WorkloadMix.Operation.values()) {
+                if (counts[operation.ordinal()] > 0) {
+                    byOperation.put(operation, samples[operation.ordinal()]);
+                }
+            }
+            return byOperation;
+        }
+    }
+}
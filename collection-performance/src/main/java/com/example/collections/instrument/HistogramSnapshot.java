@@ -0,0 +1,103 @@
+package com.example.collections.instrument;
+
+/**
+ * Неизменяемый снимок LatencyHistogram
+ * Перцентили возвращают наибольшее значение корзины (но не больше максимума), то есть оценку сверху
+ */
+public class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Конструктор
+     * @param counts счётчики корзин
+     * @param totalNanos сумма записанных значений
+     * @param maxNanos наибольшее записанное значение
+     */
+    HistogramSnapshot(long[] counts, long totalNanos, long maxNanos) {
+        this.counts = counts;
+        long sum = 0;
+        for (long bucketCount : counts) {
+            sum += bucketCount;
+        }
+        this.count = sum;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * @return количество записанных значений
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return среднее значение в наносекундах (по точной сумме)
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) totalNanos / count;
+    }
+
+    /**
+     * @return наибольшее значение в наносекундах
+     */
+    public long getMax() {
+        return maxNanos;
+    }
+
+    /**
+     * @param percentile перцентиль от 0 до 100
+     * @return значение перцентиля в наносекундах или 0 для пустой гистограммы
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Перцентиль должен быть от 0 до 100: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        return valueAtRank(rank);
+    }
+
+    /**
+     * Восстанавливает выборку по гистограмме: значения на равноотстоящих квантилях
+     * Нужна, чтобы построить по наблюдениям TimingStatistics, как по замерам теста
+     * @param maxSamples наибольший размер выборки
+     * @return не более maxSamples значений по возрастанию (пустой массив для пустой гистограммы)
+     */
+    public long[] toSamples(int maxSamples) {
+        if (maxSamples < 1) {
+            throw new IllegalArgumentException("Размер выборки должен быть положительным");
+        }
+        int size = (int) Math.min(count, maxSamples);
+        long[] samples = new long[size];
+        for (int i = 0; i < size; i++) {
+            // Середина i-й из size равных долей: ранги от 1 до count
+            long rank = Math.max(1, (long) Math.ceil((i + 0.5) / size * count));
+            samples[i] = valueAtRank(rank);
+        }
+        return samples;
+    }
+
+    private long valueAtRank(long rank) {
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.upperBound(bucket), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.0f ns, p50=%d, p99=%d, max=%d",
+                count, getMean(), getPercentile(50), getPercentile(99), maxNanos);
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.collections.instrument;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Обёртка над списком для боевого кода: считает вызовы get/add/remove/contains/iterate
+ * и выборочно замеряет их задержку в ListMetrics
+ * Все методы делегируются без изменения семантики; потокобезопасность определяется оборачиваемым списком.
+ * Итерация замеряется от создания итератора iterator() до исчерпания (hasNext() == false) или forEach целиком;
+ * listIterator и spliterator только считаются. Операции через subList идут мимо метрик.
+ * Обёртка не реализует RandomAccess, даже если его реализует оборачиваемый список
+ */
+public class InstrumentedList<E> implements List<E> {
+
+    private final List<E> delegate;
+    private final ListMetrics metrics;
+
+    /**
+     * Конструктор
+     * @param delegate оборачиваемый список
+     * @param metrics метрики (могут быть общими для нескольких списков)
+     */
+    public InstrumentedList(List<E> delegate, ListMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return метрики списка
+     */
+    public ListMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return оборачиваемый список
+     */
+    public List<E> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public E get(int index) {
+        if (!metrics.sample(Operation.GET)) {
+            return delegate.get(index);
+        }
+        long start = System.nanoTime();
+        E value = delegate.get(index);
+        metrics.record(Operation.GET, System.nanoTime() - start);
+        return value;
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (!metrics.sample(Operation.ADD)) {
+            return delegate.add(element);
+        }
+        long start = System.nanoTime();
+        boolean changed = delegate.add(element);
+        metrics.record(Operation.ADD, System.nanoTime() - start);
+        return changed;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (!metrics.sample(Operation.ADD)) {
+            delegate.add(index, element);
+            return;
+        }
+        long start = System.nanoTime();
+        delegate.add(index, element);
+        metrics.record(Operation.ADD, System.nanoTime() - start);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> elements) {
+        if (!metrics.sample(Operation.ADD)) {
+            return delegate.addAll(elements);
+        }
+        long start = System.nanoTime();
+        boolean changed = delegate.addAll(elements);
+        metrics.record(Operation.ADD, System.nanoTime() - start);
+        return changed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        if (!metrics.sample(Operation.ADD)) {
+            return delegate.addAll(index, elements);
+        }
+        long start = System.nanoTime();
+        boolean changed = delegate.addAll(index, elements);
+        metrics.record(Operation.ADD, System.nanoTime() - start);
+        return changed;
+    }
+
+    @Override
+    public E remove(int index) {
+        if (!metrics.sample(Operation.REMOVE)) {
+            return delegate.remove(index);
+        }
+        long start = System.nanoTime();
+        E removed = delegate.remove(index);
+        metrics.record(Operation.REMOVE, System.nanoTime() - start);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!metrics.sample(Operation.REMOVE)) {
+            return delegate.remove(o);
+        }
+        long start = System.nanoTime();
+        boolean changed = delegate.remove(o);
+        metrics.record(Operation.REMOVE, System.nanoTime() - start);
+        return changed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> elements) {
+        if (!metrics.sample(Operation.REMOVE)) {
+            return delegate.removeAll(elements);
+        }
+        long start = System.nanoTime();
+        boolean changed = delegate.removeAll(elements);
+        metrics.record(Operation.REMOVE, System.nanoTime() - start);
+        return changed;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> elements) {
+        if (!metrics.sample(Operation.REMOVE)) {
+            return delegate.retainAll(elements);
+        }
+        long start = System.nanoTime();
+        boolean changed = delegate.retainAll(elements);
+        metrics.record(Operation.REMOVE, System.nanoTime() - start);
+        return changed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (!metrics.sample(Operation.REMOVE)) {
+            return delegate.removeIf(filter);
+        }
+        long start = System.nanoTime();
+        boolean changed = delegate.removeIf(filter);
+        metrics.record(Operation.REMOVE, System.nanoTime() - start);
+        return changed;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!metrics.sample(Operation.CONTAINS)) {
+            return delegate.contains(o);
+        }
+        long start = System.nanoTime();
+        boolean found = delegate.contains(o);
+        metrics.record(Operation.CONTAINS, System.nanoTime() - start);
+        return found;
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> elements) {
+        if (!metrics.sample(Operation.CONTAINS)) {
+            return delegate.containsAll(elements);
+        }
+        long start = System.nanoTime();
+        boolean found = delegate.containsAll(elements);
+        metrics.record(Operation.CONTAINS, System.nanoTime() - start);
+        return found;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (!metrics.sample(Operation.CONTAINS)) {
+            return delegate.indexOf(o);
+        }
+        long start = System.nanoTime();
+        int index = delegate.indexOf(o);
+        metrics.record(Operation.CONTAINS, System.nanoTime() - start);
+        return index;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (!metrics.sample(Operation.CONTAINS)) {
+            return delegate.lastIndexOf(o);
+        }
+        long start = System.nanoTime();
+        int index = delegate.lastIndexOf(o);
+        metrics.record(Operation.CONTAINS, System.nanoTime() - start);
+        return index;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        if (!metrics.sample(Operation.ITERATE)) {
+            return delegate.iterator();
+        }
+        return new TimedIterator(delegate.iterator(), System.nanoTime());
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        if (!metrics.sample(Operation.ITERATE)) {
+            delegate.forEach(action);
+            return;
+        }
+        long start = System.nanoTime();
+        delegate.forEach(action);
+        metrics.record(Operation.ITERATE, System.nanoTime() - start);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        metrics.sample(Operation.ITERATE);
+        return delegate.listIterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        metrics.sample(Operation.ITERATE);
+        return delegate.listIterator(index);
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        metrics.sample(Operation.ITERATE);
+        return delegate.spliterator();
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return delegate.set(index, element);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        delegate.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        delegate.sort(comparator);
+    }
+
+    @Override
+    public List<E> subList(int fromIndex, int toIndex) {
+        return delegate.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return delegate.toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return delegate.toArray(array);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || delegate.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+
+    /**
+     * Итератор, записывающий время полного обхода при исчерпании
+     */
+    private final class TimedIterator implements Iterator<E> {
+        private final Iterator<E> iterator;
+        private final long start;
+        private boolean recorded;
+
+        TimedIterator(Iterator<E> iterator, long start) {
+            this.iterator = iterator;
+            this.start = start;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean hasNext = iterator.hasNext();
+            if (!hasNext && !recorded) {
+                recorded = true;
+                metrics.record(Operation.ITERATE, System.nanoTime() - start);
+            }
+            return hasNext;
+        }
+
+        @Override
+        public E next() {
+            return iterator.next();
+        }
+
+        @Override
+        public void remove() {
+            iterator.remove();
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            iterator.forEachRemaining(action);
+            hasNext();
+        }
+    }
+}
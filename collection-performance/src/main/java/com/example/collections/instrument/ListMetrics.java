@@ -0,0 +1,237 @@
+package com.example.collections.instrument;
+
+import com.example.collections.PerformanceResult;
+import com.example.collections.TimingStatistics;
+import com.example.collections.WorkloadMix;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Метрики одного или нескольких InstrumentedList: счётчики вызовов по операциям
+ * и лог-линейные гистограммы задержек с выборкой каждого N-го вызова
+ * Счётчики точные; задержка замеряется выборочно, чтобы два вызова System.nanoTime
+ * не добавлялись к каждой операции. Счётчики - LongAdder, а выборка решается по счётчику вызовов
+ * своего потока, поэтому вызовы из разных потоков не конкурируют за общую ячейку памяти.
+ * Снимки публикуются через JMX и переводятся в PerformanceResult для тех же отчётов, что и результаты тестов
+ */
+public class ListMetrics implements ListMetricsMXBean {
+
+    /**
+     * Начало названия результата с наблюдаемыми задержками: observed(get), observed(add) ...
+     */
+    public static final String OBSERVED_PREFIX = "observed(";
+
+    /**
+     * Наибольший размер выборки, восстанавливаемой из гистограммы для TimingStatistics
+     */
+    static final int MAX_SAMPLES = 1000;
+    private static final int MIX_SCALE = 1000;
+
+    private final LongAdder[] counts = new LongAdder[Operation.values().length];
+    private final ThreadLocal<long[]> threadCalls =
+            ThreadLocal.withInitial(() -> new long[Operation.values().length]);
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Operation.values().length];
+    private volatile int sampleMask;
+    private ObjectName objectName;
+
+    /**
+     * Конструктор с замером задержки каждого вызова
+     */
+    public ListMetrics() {
+        this(1);
+    }
+
+    /**
+     * Конструктор
+     * @param sampleInterval интервал выборки: задержка замеряется у каждого N-го вызова операции
+     */
+    public ListMetrics(int sampleInterval) {
+        for (int i = 0; i < latencies.length; i++) {
+            counts[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+        setSampleInterval(sampleInterval);
+    }
+
+    /**
+     * Учитывает вызов операции и решает, замерять ли его задержку: замеряется каждый N-й вызов
+     * в каждом потоке, начиная с первого
+     * @param operation операция
+     * @return true, если задержку этого вызова нужно передать в record
+     */
+    boolean sample(Operation operation) {
+        counts[operation.ordinal()].increment();
+        return (threadCalls.get()[operation.ordinal()]++ & sampleMask) == 0;
+    }
+
+    /**
+     * Записывает задержку выборочного вызова
+     * @param operation операция
+     * @param nanos задержка в наносекундах
+     */
+    void record(Operation operation, long nanos) {
+        latencies[operation.ordinal()].record(nanos);
+    }
+
+    /**
+     * @param operation операция
+     * @return количество вызовов
+     */
+    public long getCount(Operation operation) {
+        return counts[operation.ordinal()].sum();
+    }
+
+    /**
+     * @param operation операция
+     * @return снимок гистограммы задержек выборочных вызовов
+     */
+    public HistogramSnapshot getLatency(Operation operation) {
+        return latencies[operation.ordinal()].snapshot();
+    }
+
+    @Override
+    public List<OperationStats> getOperations() {
+        List<OperationStats> operations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            operations.add(new OperationStats(operation, getCount(operation), getLatency(operation)));
+        }
+        return operations;
+    }
+
+    @Override
+    public long getTotalCount() {
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            total += getCount(operation);
+        }
+        return total;
+    }
+
+    @Override
+    public int getSampleInterval() {
+        return sampleMask + 1;
+    }
+
+    @Override
+    public void setSampleInterval(int sampleInterval) {
+        if (sampleInterval < 1 || sampleInterval > 1 << 30) {
+            throw new IllegalArgumentException("Интервал выборки должен быть от 1 до 2^30: " + sampleInterval);
+        }
+        int powerOfTwo = Integer.highestOneBit(sampleInterval);
+        sampleMask = (powerOfTwo == sampleInterval ? powerOfTwo : powerOfTwo << 1) - 1;
+    }
+
+    @Override
+    public void reset() {
+        for (Operation operation : Operation.values()) {
+            counts[operation.ordinal()].reset();
+            latencies[operation.ordinal()].reset();
+        }
+    }
+
+    /**
+     * Регистрирует метрики в платформенном MBeanServer
+     * @param name имя в ObjectName (например, имя поля или кэша, который хранит список)
+     * @return имя зарегистрированного MBean
+     * @throws IllegalStateException если регистрация не удалась (например, имя занято)
+     */
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Метрики уже зарегистрированы как " + objectName);
+        }
+        try {
+            ObjectName candidate = new ObjectName("com.example.collections:type=ListMetrics,name="
+                    + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            objectName = candidate;
+            return candidate;
+        } catch (JMException e) {
+            throw new IllegalStateException("Не удалось зарегистрировать метрики " + name, e);
+        }
+    }
+
+    /**
+     * Снимает регистрацию в MBeanServer, если она была
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Не удалось снять регистрацию " + objectName, e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    /**
+     * Переводит наблюдаемое соотношение операций в смесь для --mix (итерация в смесь не входит)
+     * @return смесь get/add/remove/contains с весами в тысячных долях
+     * @throws IllegalArgumentException если не было ни одной такой операции
+     */
+    public WorkloadMix toWorkloadMix() {
+        Map<Operation, WorkloadMix.Operation> mapping = new EnumMap<>(Operation.class);
+        mapping.put(Operation.GET, WorkloadMix.Operation.GET);
+        mapping.put(Operation.ADD, WorkloadMix.Operation.ADD);
+        mapping.put(Operation.REMOVE, WorkloadMix.Operation.REMOVE);
+        mapping.put(Operation.CONTAINS, WorkloadMix.Operation.CONTAINS);
+
+        long total = 0;
+        for (Operation operation : mapping.keySet()) {
+            total += getCount(operation);
+        }
+        Map<WorkloadMix.Operation, Integer> weights = new EnumMap<>(WorkloadMix.Operation.class);
+        for (Map.Entry<Operation, WorkloadMix.Operation> entry : mapping.entrySet()) {
+            long count = getCount(entry.getKey());
+            if (count > 0) {
+                weights.put(entry.getValue(), (int) Math.max(1, Math.round((double) count * MIX_SCALE / total)));
+            }
+        }
+        return new WorkloadMix(weights);
+    }
+
+    /**
+     * Строит статистику задержек по выборке, восстановленной из гистограммы (без отсечения выбросов)
+     * @param operation операция
+     * @return статистика одного вызова операции или null, если замеров не было
+     */
+    public TimingStatistics toStatistics(Operation operation) {
+        HistogramSnapshot latency = getLatency(operation);
+        long[] samples = latency.toSamples(MAX_SAMPLES);
+        return samples.length == 0 ? null : TimingStatistics.ofDistribution(samples, latency.getCount());
+    }
+
+    /**
+     * Переводит метрики нескольких списков в результаты для отчётов Main:
+     * по результату observed(операция) на каждую операцию, в которой есть замеры
+     * Время в результатах - задержка одного вызова (количество операций 1)
+     * @param byImplementation метрики по имени реализации
+     * @return результаты в порядке Operation
+     */
+    public static PerformanceResult[] toResults(Map<String, ListMetrics> byImplementation) {
+        List<PerformanceResult> results = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+            boolean observed = false;
+            for (Map.Entry<String, ListMetrics> entry : byImplementation.entrySet()) {
+                TimingStatistics stats = entry.getValue().toStatistics(operation);
+                statistics.put(entry.getKey(), stats);
+                observed |= stats != null;
+            }
+            if (observed) {
+                results.add(new PerformanceResult(OBSERVED_PREFIX + operation.getKey() + ")", 1, statistics));
+            }
+        }
+        return results.toArray(new PerformanceResult[0]);
+    }
+}
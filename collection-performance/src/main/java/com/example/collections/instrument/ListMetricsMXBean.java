@@ -0,0 +1,35 @@
+package com.example.collections.instrument;
+
+import java.util.List;
+
+/**
+ * JMX-интерфейс метрик InstrumentedList
+ */
+public interface ListMetricsMXBean {
+
+    /**
+     * @return снимки метрик по операциям
+     */
+    List<OperationStats> getOperations();
+
+    /**
+     * @return суммарное количество вызовов всех операций
+     */
+    long getTotalCount();
+
+    /**
+     * @return интервал выборки: задержка замеряется у каждого N-го вызова операции
+     */
+    int getSampleInterval();
+
+    /**
+     * Меняет интервал выборки на ходу; округляется вверх до степени двойки
+     * @param sampleInterval интервал выборки, не меньше 1
+     */
+    void setSampleInterval(int sampleInterval);
+
+    /**
+     * Обнуляет счётчики и гистограммы
+     */
+    void reset();
+}
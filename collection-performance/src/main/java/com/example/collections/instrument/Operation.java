@@ -0,0 +1,40 @@
+package com.example.collections.instrument;
+
+/**
+ * Тип операции, учитываемой InstrumentedList
+ */
+public enum Operation {
+    /**
+     * get(index)
+     */
+    GET("get"),
+    /**
+     * add, add(index), addAll
+     */
+    ADD("add"),
+    /**
+     * remove(index), remove(Object), removeAll, retainAll, removeIf
+     */
+    REMOVE("remove"),
+    /**
+     * contains, containsAll, indexOf, lastIndexOf
+     */
+    CONTAINS("contains"),
+    /**
+     * iterator, listIterator, forEach, spliterator
+     */
+    ITERATE("iterate");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return короткое имя операции
+     */
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.collections.instrument;
+
+/**
+ * Снимок метрик одной операции для JMX: счётчик вызовов и задержки по выборочным замерам
+ */
+public class OperationStats {
+
+    private final String operation;
+    private final long count;
+    private final long sampledCount;
+    private final double meanNanos;
+    private final long p50Nanos;
+    private final long p90Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    /**
+     * Конструктор
+     * @param operation операция
+     * @param count количество вызовов
+     * @param latency снимок гистограммы задержек
+     */
+    OperationStats(Operation operation, long count, HistogramSnapshot latency) {
+        this.operation = operation.getKey();
+        this.count = count;
+        this.sampledCount = latency.getCount();
+        this.meanNanos = latency.getMean();
+        this.p50Nanos = latency.getPercentile(50);
+        this.p90Nanos = latency.getPercentile(90);
+        this.p99Nanos = latency.getPercentile(99);
+        this.maxNanos = latency.getMax();
+    }
+
+    /**
+     * @return имя операции
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return количество вызовов
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return количество вызовов с замером задержки
+     */
+    public long getSampledCount() {
+        return sampledCount;
+    }
+
+    /**
+     * @return средняя задержка в наносекундах
+     */
+    public double getMeanNanos() {
+        return meanNanos;
+    }
+
+    /**
+     * @return медиана задержки в наносекундах
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * @return 90-й перцентиль задержки в наносекундах
+     */
+    public long getP90Nanos() {
+        return p90Nanos;
+    }
+
+    /**
+     * @return 99-й перцентиль задержки в наносекундах
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * @return наибольшая задержка в наносекундах
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: count=%d, sampled=%d, mean=%.0f ns, p50=%d, p99=%d, max=%d",
+                operation, count, sampledCount, meanNanos, p50Nanos, p99Nanos, maxNanos);
+    }
+}
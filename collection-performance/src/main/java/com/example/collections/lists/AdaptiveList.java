@@ -0,0 +1,555 @@
+package com.example.collections.lists;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Список, который сам выбирает внутреннее представление по наблюдаемой нагрузке:
+ * массив (ArrayList), блоки (ChunkedList) или связный список (LinkedList)
+ * Каждые WINDOW операций стоимость окна пересчитывается для всех представлений по простой модели
+ * (сдвиги элементов массива, поиск блока, проход по узлам). Представление меняется, только если другое
+ * дешевле текущего больше чем на четверть и выигрыш за несколько окон окупает перенос элементов.
+ * Перенос идёт постепенно: каждая операция переносит не больше MIGRATION_STEP элементов, поэтому
+ * пауза ограничена. Итераторы, пакетные операции и смена представления во время правок через итератор
+ * завершают перенос сразу: они и так проходят весь список. Не потокобезопасен
+ */
+public class AdaptiveList<E> extends AbstractList<E> {
+
+    /**
+     * Внутреннее представление
+     */
+    public enum Representation {
+        ARRAY, CHUNKED, LINKED
+    }
+
+    /**
+     * Количество операций между пересчётами модели
+     */
+    static final int WINDOW = 1024;
+
+    /**
+     * Наибольшее количество элементов, переносимых за одну операцию
+     */
+    static final int MIGRATION_STEP = 256;
+
+    private static final int CHUNK_CAPACITY = 512;
+    private static final double HYSTERESIS = 0.25;
+    private static final int PAYBACK_WINDOWS = 4;
+
+    // Цены модели в долях одного get из массива
+    private static final double SHIFT = 0.05;
+    private static final double HOP = 1.5;
+    private static final double NODE = 5;
+    private static final double COPY = 2;
+
+    private List<E> backing;
+    private Representation representation;
+    private List<E> source;
+    private int sourceStart;
+    private int migrationCount;
+
+    private int windowOperations;
+    private long gets;
+    private long getWalk;
+    private long appends;
+    private long edits;
+    private long editShift;
+    private long editWalk;
+    private long iteratorEdits;
+    private long iteratorShift;
+
+    /**
+     * Конструктор: начинает с массива
+     */
+    public AdaptiveList() {
+        this(Representation.ARRAY);
+    }
+
+    /**
+     * Конструктор
+     * @param initial начальное представление
+     */
+    public AdaptiveList(Representation initial) {
+        this.representation = initial;
+        this.backing = create(initial, 0);
+    }
+
+    /**
+     * @return текущее представление (при переносе - то, в которое идёт перенос)
+     */
+    public Representation getRepresentation() {
+        return representation;
+    }
+
+    /**
+     * @return true, если перенос в новое представление ещё не завершён
+     */
+    public boolean isMigrating() {
+        return source != null;
+    }
+
+    /**
+     * @return сколько раз менялось представление
+     */
+    public int getMigrationCount() {
+        return migrationCount;
+    }
+
+    /**
+     * Начинает постепенный перенос в заданное представление независимо от модели
+     * (например, если нагрузка известна заранее); начатый ранее перенос сначала завершается
+     * @param target новое представление
+     */
+    public void migrateTo(Representation target) {
+        finishMigration();
+        if (target != representation) {
+            startMigration(target);
+        }
+    }
+
+    @Override
+    public int size() {
+        return source == null ? backing.size() : backing.size() + source.size() - sourceStart;
+    }
+
+    @Override
+    public E get(int index) {
+        int size = size();
+        checkIndex(index, size);
+        gets++;
+        getWalk += Math.min(index, size - index);
+        observe();
+        return elementAt(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        int size = size();
+        checkIndex(index, size);
+        gets++;
+        getWalk += Math.min(index, size - index);
+        observe();
+        if (source != null && index >= backing.size()) {
+            return source.set(sourceStart + index - backing.size(), element);
+        }
+        return backing.set(index, element);
+    }
+
+    @Override
+    public boolean add(E element) {
+        appends++;
+        observe();
+        if (source != null) {
+            source.add(element);
+        } else {
+            backing.add(element);
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        observeEdit(index, size);
+        observe();
+        if (source != null && index > backing.size()) {
+            source.add(sourceStart + index - backing.size(), element);
+        } else {
+            backing.add(index, element);
+        }
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        int size = size();
+        checkIndex(index, size);
+        observeEdit(index, size);
+        observe();
+        E removed;
+        if (source != null && index >= backing.size()) {
+            removed = source.remove(sourceStart + index - backing.size());
+            if (source.size() == sourceStart) {
+                source = null;
+                sourceStart = 0;
+            }
+        } else {
+            removed = backing.remove(index);
+        }
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        finishMigration();
+        boolean changed = backing.addAll(index, elements);
+        modCount++;
+        observeEdit(index, size);
+        observe();
+        return changed;
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        finishMigration();
+        boolean changed = backing.removeIf(filter);
+        if (changed) {
+            modCount++;
+        }
+        return changed;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        finishMigration();
+        backing.replaceAll(operator);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        finishMigration();
+        backing.sort(comparator);
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        source = null;
+        sourceStart = 0;
+        backing = create(representation, 0);
+        modCount++;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        finishMigration();
+        int size = size();
+        backing.subList(fromIndex, toIndex).clear();
+        modCount++;
+        if (fromIndex < toIndex) {
+            observeEdit(fromIndex, size);
+            observe();
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return listIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int index) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        finishMigration();
+        return new AdaptiveIterator(index);
+    }
+
+    private E elementAt(int index) {
+        if (source != null && index >= backing.size()) {
+            return source.get(sourceStart + index - backing.size());
+        }
+        return backing.get(index);
+    }
+
+    private void observeEdit(int index, int size) {
+        if (index >= size - 1) {
+            // Вставка в конец и удаление последнего дёшевы во всех представлениях
+            appends++;
+        } else {
+            edits++;
+            editShift += size - index;
+            editWalk += Math.min(index, size - index);
+        }
+    }
+
+    /**
+     * Учитывает операцию в окне, переносит очередную порцию элементов и в конце окна пересчитывает модель
+     */
+    private void observe() {
+        migrateStep();
+        if (++windowOperations >= WINDOW) {
+            evaluate();
+        }
+    }
+
+    private void evaluate() {
+        if (source == null) {
+            Representation cheapest = cheapest(size());
+            if (cheapest != representation) {
+                startMigration(cheapest);
+            }
+        }
+        resetWindow();
+    }
+
+    /**
+     * Выбирает представление по стоимости окна: смена должна быть заметно выгоднее текущего
+     * и окупать перенос size элементов за PAYBACK_WINDOWS окон
+     * @param size текущий размер списка
+     * @return представление, в которое стоит перейти (или текущее)
+     */
+    Representation cheapest(int size) {
+        double current = cost(representation, size);
+        Representation best = representation;
+        double bestCost = current;
+        for (Representation candidate : Representation.values()) {
+            double candidateCost = cost(candidate, size);
+            if (candidateCost < bestCost) {
+                best = candidate;
+                bestCost = candidateCost;
+            }
+        }
+        boolean significant = bestCost < current * (1 - HYSTERESIS);
+        boolean paysBack = (current - bestCost) * PAYBACK_WINDOWS > size * COPY;
+        return significant && paysBack ? best : representation;
+    }
+
+    /**
+     * @param candidate представление
+     * @param size размер списка
+     * @return оценка стоимости операций текущего окна в долях одного get из массива
+     */
+    double cost(Representation candidate, int size) {
+        switch (candidate) {
+            case ARRAY:
+                return gets + appends + edits + iteratorEdits + (editShift + iteratorShift) * SHIFT;
+            case CHUNKED:
+                double lookup = 2 + log2(size / CHUNK_CAPACITY + 1);
+                double chunkEdit = lookup + CHUNK_CAPACITY / 2.0 * SHIFT;
+                return gets * lookup + appends + (edits + iteratorEdits) * chunkEdit;
+            default:
+                return gets + getWalk * HOP + appends * NODE + edits * NODE + editWalk * HOP + iteratorEdits * NODE;
+        }
+    }
+
+    private static double log2(int value) {
+        return 31 - Integer.numberOfLeadingZeros(value);
+    }
+
+    private void resetWindow() {
+        windowOperations = 0;
+        gets = 0;
+        getWalk = 0;
+        appends = 0;
+        edits = 0;
+        editShift = 0;
+        editWalk = 0;
+        iteratorEdits = 0;
+        iteratorShift = 0;
+    }
+
+    private void startMigration(Representation target) {
+        int size = size();
+        source = backing;
+        sourceStart = 0;
+        backing = create(target, size);
+        representation = target;
+        migrationCount++;
+        if (size <= MIGRATION_STEP) {
+            finishMigration();
+        }
+    }
+
+    /**
+     * Переносит следующую порцию элементов в начало нового представления
+     * Источник с произвольным доступом только читается (прочитанная часть отбрасывается в конце),
+     * из связного источника элементы забираются с головы за O(1)
+     */
+    private void migrateStep() {
+        if (source == null) {
+            return;
+        }
+        int count = Math.min(MIGRATION_STEP, source.size() - sourceStart);
+        if (source instanceof RandomAccess) {
+            for (int i = 0; i < count; i++) {
+                backing.add(source.get(sourceStart++));
+            }
+        } else {
+            for (int i = 0; i < count; i++) {
+                backing.add(source.remove(0));
+            }
+        }
+        if (source.size() == sourceStart) {
+            source = null;
+            sourceStart = 0;
+        }
+    }
+
+    private void finishMigration() {
+        while (source != null) {
+            migrateStep();
+        }
+    }
+
+    private static <E> List<E> create(Representation representation, int capacity) {
+        switch (representation) {
+            case ARRAY:
+                return new ArrayList<>(capacity);
+            case CHUNKED:
+                return new ChunkedList<>(CHUNK_CAPACITY);
+            default:
+                return new LinkedList<>();
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Итератор поверх итератора текущего представления
+     * Если представление сменилось во время обхода (перенос запустили операции самого списка),
+     * перенос завершается, а итератор пересоздаётся на той же позиции
+     */
+    private final class AdaptiveIterator implements ListIterator<E> {
+        private List<E> owner;
+        private ListIterator<E> delegate;
+        private int cursor;
+        private int lastReturned = -1;
+        private boolean delegateHasLast;
+        private int expectedModCount = modCount;
+
+        AdaptiveIterator(int index) {
+            cursor = index;
+            owner = backing;
+            delegate = backing.listIterator(index);
+        }
+
+        private ListIterator<E> delegate() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            finishMigration();
+            if (owner != backing) {
+                owner = backing;
+                delegate = backing.listIterator(cursor);
+                delegateHasLast = false;
+            }
+            return delegate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size();
+        }
+
+        @Override
+        public E next() {
+            ListIterator<E> iterator = delegate();
+            if (!iterator.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E element = iterator.next();
+            lastReturned = cursor++;
+            delegateHasLast = true;
+            return element;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public E previous() {
+            ListIterator<E> iterator = delegate();
+            if (!iterator.hasPrevious()) {
+                throw new NoSuchElementException();
+            }
+            E element = iterator.previous();
+            lastReturned = --cursor;
+            delegateHasLast = true;
+            return element;
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            ListIterator<E> iterator = delegate();
+            if (delegateHasLast) {
+                iterator.remove();
+            } else {
+                backing.remove(lastReturned);
+                delegate = backing.listIterator(lastReturned);
+            }
+            cursor = lastReturned;
+            lastReturned = -1;
+            delegateHasLast = false;
+            observeIteratorEdit();
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            ListIterator<E> iterator = delegate();
+            if (delegateHasLast) {
+                iterator.set(element);
+            } else {
+                backing.set(lastReturned, element);
+            }
+        }
+
+        @Override
+        public void add(E element) {
+            delegate().add(element);
+            cursor++;
+            lastReturned = -1;
+            delegateHasLast = false;
+            observeIteratorEdit();
+        }
+
+        /**
+         * Учитывает правку через итератор; если в конце окна модель выбирает другое представление,
+         * следующий шаг итератора переносит весь список сразу (окно правок уже стоило не меньше)
+         * и продолжает обход нового представления с той же позиции
+         */
+        private void observeIteratorEdit() {
+            modCount++;
+            expectedModCount = modCount;
+            iteratorEdits++;
+            iteratorShift += backing.size() - cursor;
+            if (++windowOperations >= WINDOW) {
+                evaluate();
+            }
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.collections.lists;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * Список из массивов-блоков фиксированной ёмкости с индексом по размерам блоков
+ * Размеры блоков хранятся в дереве Фенвика, поэтому поиск блока по позиции занимает O(log n),
+ * а вставка и удаление в произвольной позиции сдвигают элементы только внутри одного блока.
+ * Переполненный блок делится пополам, опустевший удаляется, соседние малые блоки сливаются
+ */
+public class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int DEFAULT_CHUNK_CAPACITY = 512;
+    private static final int MIN_CHUNK_CAPACITY = 4;
+
+    private final int chunkCapacity;
+    private Object[][] chunks;
+    private int[] chunkSizes;
+    private int chunkCount;
+    private int size;
+
+    /**
+     * Дерево Фенвика по chunkSizes (индексация с 1)
+     */
+    private int[] tree;
+
+    /**
+     * Смещение внутри блока, найденное последним вызовом findChunk
+     */
+    private int foundOffset;
+
+    /**
+     * Конструктор с ёмкостью блока по умолчанию
+     */
+    public ChunkedList() {
+        this(DEFAULT_CHUNK_CAPACITY);
+    }
+
+    /**
+     * Конструктор
+     * @param chunkCapacity ёмкость одного блока
+     */
+    public ChunkedList(int chunkCapacity) {
+        if (chunkCapacity < MIN_CHUNK_CAPACITY) {
+            throw new IllegalArgumentException("Ёмкость блока должна быть не меньше " + MIN_CHUNK_CAPACITY);
+        }
+        this.chunkCapacity = chunkCapacity;
+        initStorage();
+    }
+
+    private void initStorage() {
+        chunks = new Object[8][];
+        chunkSizes = new int[8];
+        tree = new int[9];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        checkIndex(index);
+        int chunk = findChunk(index);
+        return (E) chunks[chunk][foundOffset];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        checkIndex(index);
+        int chunk = findChunk(index);
+        int offset = foundOffset;
+        E previous = (E) chunks[chunk][offset];
+        chunks[chunk][offset] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(E element) {
+        if (chunkCount == 0 || chunkSizes[chunkCount - 1] == chunkCapacity) {
+            insertChunk(chunkCount, new Object[chunkCapacity], 0);
+        }
+        int last = chunkCount - 1;
+        chunks[last][chunkSizes[last]] = element;
+        chunkSizes[last]++;
+        treeUpdate(last, 1);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index == size) {
+            add(element);
+            return;
+        }
+
+        int chunk = findChunk(index);
+        int offset = foundOffset;
+        if (chunkSizes[chunk] == chunkCapacity) {
+            splitChunk(chunk);
+            if (offset > chunkSizes[chunk]) {
+                offset -= chunkSizes[chunk];
+                chunk++;
+            }
+        }
+
+        Object[] data = chunks[chunk];
+        System.arraycopy(data, offset, data, offset + 1, chunkSizes[chunk] - offset);
+        data[offset] = element;
+        chunkSizes[chunk]++;
+        treeUpdate(chunk, 1);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E remove(int index) {
+        checkIndex(index);
+        int chunk = findChunk(index);
+        int offset = foundOffset;
+
+        Object[] data = chunks[chunk];
+        E removed = (E) data[offset];
+        int moved = chunkSizes[chunk] - offset - 1;
+        if (moved > 0) {
+            System.arraycopy(data, offset + 1, data, offset, moved);
+        }
+        chunkSizes[chunk]--;
+        data[chunkSizes[chunk]] = null;
+        treeUpdate(chunk, -1);
+        size--;
+        modCount++;
+
+        if (chunkSizes[chunk] == 0) {
+            removeChunk(chunk);
+        } else if (chunkSizes[chunk] < chunkCapacity / 4) {
+            mergeWithNeighbour(chunk);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        initStorage();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ChunkIterator();
+    }
+
+    /**
+     * @return количество блоков
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Находит блок, содержащий элемент с данным индексом (index &lt; size),
+     * спуском по дереву Фенвика; смещение внутри блока сохраняется в foundOffset
+     * @param index позиция элемента
+     * @return номер блока
+     */
+    private int findChunk(int index) {
+        int position = 0;
+        int remaining = index;
+        for (int step = Integer.highestOneBit(chunkCount); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= chunkCount && tree[next] <= remaining) {
+                position = next;
+                remaining -= tree[next];
+            }
+        }
+        foundOffset = remaining;
+        return position;
+    }
+
+    private void treeUpdate(int chunk, int delta) {
+        for (int i = chunk + 1; i <= chunkCount; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Перестраивает дерево Фенвика за O(число блоков) после изменения структуры блоков
+     */
+    private void rebuildTree() {
+        if (tree.length < chunks.length + 1) {
+            tree = new int[chunks.length + 1];
+        } else {
+            Arrays.fill(tree, 0);
+        }
+        for (int i = 1; i <= chunkCount; i++) {
+            tree[i] += chunkSizes[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= chunkCount) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void insertChunk(int position, Object[] data, int dataSize) {
+        if (chunkCount == chunks.length) {
+            int newLength = chunks.length * 2;
+            chunks = Arrays.copyOf(chunks, newLength);
+            chunkSizes = Arrays.copyOf(chunkSizes, newLength);
+        }
+        System.arraycopy(chunks, position, chunks, position + 1, chunkCount - position);
+        System.arraycopy(chunkSizes, position, chunkSizes, position + 1, chunkCount - position);
+        chunks[position] = data;
+        chunkSizes[position] = dataSize;
+        chunkCount++;
+        if (position == chunkCount - 1 && tree.length > chunkCount) {
+            appendTreeNode();
+        } else {
+            rebuildTree();
+        }
+    }
+
+    /**
+     * Добавляет в дерево узел для нового последнего блока за O(log n):
+     * остальные узлы покрывают только предшествующие блоки и не меняются
+     */
+    private void appendTreeNode() {
+        int node = chunkCount;
+        int sum = chunkSizes[node - 1];
+        int lowerBound = node - (node & -node);
+        for (int child = node - 1; child > lowerBound; child -= child & -child) {
+            sum += tree[child];
+        }
+        tree[node] = sum;
+    }
+
+    private void removeChunk(int position) {
+        System.arraycopy(chunks, position + 1, chunks, position, chunkCount - position - 1);
+        System.arraycopy(chunkSizes, position + 1, chunkSizes, position, chunkCount - position - 1);
+        chunkCount--;
+        chunks[chunkCount] = null;
+        chunkSizes[chunkCount] = 0;
+        rebuildTree();
+    }
+
+    private void splitChunk(int chunk) {
+        Object[] data = chunks[chunk];
+        int half = chunkSizes[chunk] / 2;
+        int moved = chunkSizes[chunk] - half;
+
+        Object[] tail = new Object[chunkCapacity];
+        System.arraycopy(data, half, tail, 0, moved);
+        Arrays.fill(data, half, chunkSizes[chunk], null);
+        chunkSizes[chunk] = half;
+        treeUpdate(chunk, -moved);
+        insertChunk(chunk + 1, tail, moved);
+    }
+
+    /**
+     * Сливает малый блок с соседом, если их суммарный размер не превышает трёх четвертей ёмкости
+     */
+    private void mergeWithNeighbour(int chunk) {
+        int limit = chunkCapacity - chunkCapacity / 4;
+        if (chunk + 1 < chunkCount && chunkSizes[chunk] + chunkSizes[chunk + 1] <= limit) {
+            mergeInto(chunk, chunk + 1);
+        } else if (chunk > 0 && chunkSizes[chunk - 1] + chunkSizes[chunk] <= limit) {
+            mergeInto(chunk - 1, chunk);
+        }
+    }
+
+    private void mergeInto(int left, int right) {
+        System.arraycopy(chunks[right], 0, chunks[left], chunkSizes[left], chunkSizes[right]);
+        chunkSizes[left] += chunkSizes[right];
+        removeChunk(right);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Последовательный обход блок за блоком без поиска по дереву
+     */
+    private final class ChunkIterator implements Iterator<E> {
+        private int chunk;
+        private int offset;
+        private int returned;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return returned < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (returned >= size) {
+                throw new NoSuchElementException();
+            }
+            while (offset >= chunkSizes[chunk]) {
+                chunk++;
+                offset = 0;
+            }
+            lastReturned = returned++;
+            return (E) chunks[chunk][offset++];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            ChunkedList.this.remove(lastReturned);
+            // Удаление может слить или убрать блоки, поэтому позиция пересчитывается
+            returned = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+            if (returned < size) {
+                chunk = findChunk(returned);
+                offset = foundOffset;
+            }
+        }
+    }
+}
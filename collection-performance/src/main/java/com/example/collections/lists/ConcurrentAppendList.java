@@ -0,0 +1,164 @@
+package com.example.collections.lists;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Потокобезопасный список только для добавления в конец, без блокировок
+ * Элементы лежат в сегментах удваивающейся ёмкости, которые создаются через CAS и никогда не копируются.
+ * Добавление резервирует позицию атомарным счётчиком и публикует элемент; size() - длина
+ * непрерывно опубликованного префикса, который продвигает любой добавляющий поток.
+ * Чтение по индексу внутри size() не ждёт и не блокируется; итератор слабо согласован
+ * и видит элементы, опубликованные во время обхода. Удаление и вставка в середину не поддерживаются,
+ * null-элементы запрещены
+ */
+public class ConcurrentAppendList<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int FIRST_SEGMENT_SHIFT = 4;
+    private static final int FIRST_SEGMENT_CAPACITY = 1 << FIRST_SEGMENT_SHIFT;
+    private static final int SEGMENT_COUNT = Integer.SIZE - FIRST_SEGMENT_SHIFT;
+    private static final int MAX_SIZE = Integer.MAX_VALUE - FIRST_SEGMENT_CAPACITY;
+
+    /**
+     * Сегмент k имеет ёмкость FIRST_SEGMENT_CAPACITY * 2^k
+     */
+    private final AtomicReferenceArray<AtomicReferenceArray<E>> segments =
+            new AtomicReferenceArray<>(SEGMENT_COUNT);
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicInteger published = new AtomicInteger();
+    private final int maxSize;
+
+    /**
+     * Создаёт пустой список наибольшего поддерживаемого размера
+     */
+    public ConcurrentAppendList() {
+        this(MAX_SIZE);
+    }
+
+    /**
+     * Создаёт пустой список с ограничением размера (для проверки переполнения)
+     * @param maxSize наибольший размер, от 0 до MAX_SIZE
+     */
+    ConcurrentAppendList(int maxSize) {
+        if (maxSize < 0 || maxSize > MAX_SIZE) {
+            throw new IllegalArgumentException("Некорректный наибольший размер: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int size() {
+        return published.get();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= published.get()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + published.get());
+        }
+        return slot(index);
+    }
+
+    @Override
+    public E set(int index, E element) {
+        Objects.requireNonNull(element, "Элемент не может быть null");
+        if (index < 0 || index >= published.get()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + published.get());
+        }
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        return segments.get(segmentOf(position)).getAndSet(offsetOf(position), element);
+    }
+
+    @Override
+    public boolean add(E element) {
+        Objects.requireNonNull(element, "Элемент не может быть null");
+        // Граница проверяется до резервирования: позиция за ней так и осталась бы пустой,
+        // а счётчик мог бы переполниться повторными попытками
+        int index;
+        do {
+            index = reserved.get();
+            if (index >= maxSize) {
+                throw new IllegalStateException("Превышен максимальный размер " + maxSize);
+            }
+        } while (!reserved.compareAndSet(index, index + 1));
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        segment(segmentOf(position)).set(offsetOf(position), element);
+        advancePublished();
+        return true;
+    }
+
+    /**
+     * @return итератор, видящий элементы, добавленные во время обхода; не бросает ConcurrentModificationException
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < published.get();
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= published.get()) {
+                    throw new NoSuchElementException();
+                }
+                return slot(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Продвигает опубликованный префикс по всем заполненным позициям;
+     * поток, отставший с записью, задерживает рост size(), но не блокирует других.
+     * Запись и проверка позиций - volatile: при release/acquire два потока, заполнившие соседние
+     * позиции, могли бы не увидеть записи друг друга, и префикс остановился бы
+     */
+    private void advancePublished() {
+        int current = published.get();
+        while (current < reserved.get() && isFilled(current)) {
+            published.compareAndSet(current, current + 1);
+            current = published.get();
+        }
+    }
+
+    private boolean isFilled(int index) {
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        AtomicReferenceArray<E> segment = segments.get(segmentOf(position));
+        return segment != null && segment.get(offsetOf(position)) != null;
+    }
+
+    private E slot(int index) {
+        int position = index + FIRST_SEGMENT_CAPACITY;
+        return segments.get(segmentOf(position)).get(offsetOf(position));
+    }
+
+    /**
+     * Возвращает сегмент, создавая его при первом обращении; проигравший CAS поток берёт чужой сегмент
+     * @param number номер сегмента
+     * @return сегмент
+     */
+    private AtomicReferenceArray<E> segment(int number) {
+        AtomicReferenceArray<E> segment = segments.get(number);
+        if (segment != null) {
+            return segment;
+        }
+        AtomicReferenceArray<E> created = new AtomicReferenceArray<>(FIRST_SEGMENT_CAPACITY << number);
+        return segments.compareAndSet(number, null, created) ? created : segments.get(number);
+    }
+
+    private static int segmentOf(int position) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_SEGMENT_SHIFT;
+    }
+
+    private static int offsetOf(int position) {
+        return position - Integer.highestOneBit(position);
+    }
+}
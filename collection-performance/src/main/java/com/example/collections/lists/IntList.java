@@ -0,0 +1,155 @@
+package com.example.collections.lists;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Список примитивных int без упаковки в Integer
+ * Повторяет основные операции List, но работает напрямую с int
+ */
+public interface IntList {
+
+    /**
+     * @return количество элементов
+     */
+    int size();
+
+    /**
+     * @return true, если список пуст
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Добавляет элемент в конец списка
+     * @param value значение
+     */
+    void add(int value);
+
+    /**
+     * Вставляет элемент в указанную позицию
+     * @param index позиция от 0 до size() включительно
+     * @param value значение
+     */
+    void add(int index, int value);
+
+    /**
+     * @param index позиция элемента
+     * @return значение элемента
+     */
+    int getInt(int index);
+
+    /**
+     * Заменяет элемент в указанной позиции
+     * @param index позиция элемента
+     * @param value новое значение
+     * @return прежнее значение
+     */
+    int set(int index, int value);
+
+    /**
+     * Удаляет элемент по индексу
+     * @param index позиция элемента
+     * @return удалённое значение
+     */
+    int removeAt(int index);
+
+    /**
+     * @param value искомое значение
+     * @return индекс первого вхождения или -1
+     */
+    int indexOf(int value);
+
+    /**
+     * @param value искомое значение
+     * @return true, если значение есть в списке
+     */
+    default boolean contains(int value) {
+        return indexOf(value) >= 0;
+    }
+
+    /**
+     * Удаляет элементы, удовлетворяющие условию, за один проход:
+     * оставшиеся значения сдвигаются к началу, затем хвост отрезается через removeRange
+     * @param filter условие удаления
+     * @return true, если что-то было удалено
+     */
+    default boolean removeIf(IntPredicate filter) {
+        int size = size();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            int value = getInt(i);
+            if (!filter.test(value)) {
+                if (kept != i) {
+                    set(kept, value);
+                }
+                kept++;
+            }
+        }
+        removeRange(kept, size);
+        return kept < size;
+    }
+
+    /**
+     * Удаляет элементы в диапазоне [fromIndex, toIndex) одним сдвигом хвоста
+     * @param fromIndex начало диапазона включительно
+     * @param toIndex конец диапазона не включительно
+     */
+    default void removeRange(int fromIndex, int toIndex) {
+        int size = size();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("From: " + fromIndex + ", To: " + toIndex + ", Size: " + size);
+        }
+        int removed = toIndex - fromIndex;
+        for (int i = toIndex; i < size; i++) {
+            set(i - removed, getInt(i));
+        }
+        for (int i = size - 1; i >= size - removed; i--) {
+            removeAt(i);
+        }
+    }
+
+    /**
+     * Вставляет значения начиная с указанной позиции одним сдвигом хвоста
+     * @param index позиция от 0 до size() включительно
+     * @param values вставляемые значения
+     */
+    default void addAll(int index, int[] values) {
+        int size = size();
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        for (int value : values) {
+            add(value);
+        }
+        for (int i = size - 1; i >= index; i--) {
+            set(i + values.length, getInt(i));
+        }
+        for (int i = 0; i < values.length; i++) {
+            set(index + i, values[i]);
+        }
+    }
+
+    /**
+     * Удаляет все элементы
+     */
+    void clear();
+
+    /**
+     * @return итератор по значениям без упаковки
+     */
+    PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Выполняет действие для каждого элемента
+     * @param action действие
+     */
+    default void forEach(IntConsumer action) {
+        PrimitiveIterator.OfInt iterator = iterator();
+        while (iterator.hasNext()) {
+            action.accept(iterator.nextInt());
+        }
+    }
+}
@@ -0,0 +1,293 @@
+package com.example.collections.lists;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Список int, хранящий элементы вне кучи Java
+ * Данные лежат в прямом ByteBuffer либо в файле, отображённом в память через FileChannel.map,
+ * поэтому сборщик мусора не сканирует и не копирует их
+ */
+public class OffHeapIntList implements IntList, AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+    private final FileChannel channel;
+    private final Path file;
+    private final boolean deleteOnClose;
+    private IntBuffer elements;
+    private int size;
+    private int modCount;
+
+    /**
+     * Конструктор списка в прямом буфере с ёмкостью по умолчанию
+     */
+    public OffHeapIntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Конструктор списка в прямом буфере
+     * @param initialCapacity начальная ёмкость в элементах
+     */
+    public OffHeapIntList(int initialCapacity) {
+        checkCapacity(initialCapacity);
+        this.channel = null;
+        this.file = null;
+        this.deleteOnClose = false;
+        this.elements = allocateDirect(Math.max(initialCapacity, 1));
+    }
+
+    private OffHeapIntList(FileChannel channel, Path file, boolean deleteOnClose, int initialCapacity) {
+        this.channel = channel;
+        this.file = file;
+        this.deleteOnClose = deleteOnClose;
+        this.elements = map(Math.max(initialCapacity, 1));
+    }
+
+    /**
+     * Создаёт список, отображённый на файл; файл остаётся после закрытия
+     * @param file путь к файлу данных (создаётся или перезаписывается)
+     * @param initialCapacity начальная ёмкость в элементах
+     * @return список в отображённой памяти
+     */
+    public static OffHeapIntList mapped(Path file, int initialCapacity) {
+        return openMapped(file, false, initialCapacity);
+    }
+
+    /**
+     * Создаёт список во временном файле, который удаляется при закрытии
+     * @param directory каталог для временного файла
+     * @param initialCapacity начальная ёмкость в элементах
+     * @return список в отображённой памяти
+     */
+    public static OffHeapIntList mappedTemp(Path directory, int initialCapacity) {
+        try {
+            return openMapped(Files.createTempFile(directory, "int-list", ".bin"), true, initialCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось создать временный файл в " + directory, e);
+        }
+    }
+
+    private static OffHeapIntList openMapped(Path file, boolean deleteOnClose, int initialCapacity) {
+        checkCapacity(initialCapacity);
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            return new OffHeapIntList(channel, file, deleteOnClose, initialCapacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось отобразить файл " + file, e);
+        }
+    }
+
+    /**
+     * @return true, если список отображён на файл
+     */
+    public boolean isMapped() {
+        return channel != null;
+    }
+
+    /**
+     * @return текущая ёмкость в элементах
+     */
+    public int capacity() {
+        return elements.capacity();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void add(int value) {
+        ensureCapacity(size + 1);
+        elements.put(size++, value);
+        modCount++;
+    }
+
+    @Override
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        elements.put(index, value);
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public int getInt(int index) {
+        checkIndex(index);
+        return elements.get(index);
+    }
+
+    @Override
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements.get(index);
+        elements.put(index, value);
+        return previous;
+    }
+
+    @Override
+    public int removeAt(int index) {
+        checkIndex(index);
+        int removed = elements.get(index);
+        move(index + 1, index, size - index - 1);
+        size--;
+        modCount++;
+        return removed;
+    }
+
+    @Override
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private final int expectedModCount = modCount;
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements.get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Закрывает файл данных; прямой буфер освобождается сборщиком мусора
+     */
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+            if (deleteOnClose) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось закрыть файл " + file, e);
+        }
+    }
+
+    /**
+     * Увеличивает хранилище в полтора раза; отображённый файл просто расширяется без копирования
+     * @param minCapacity требуемая ёмкость
+     */
+    private void ensureCapacity(int minCapacity) {
+        int capacity = elements.capacity();
+        if (minCapacity <= capacity) {
+            return;
+        }
+        if (minCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException("Превышена максимальная ёмкость " + MAX_CAPACITY);
+        }
+        int newCapacity = Math.min(MAX_CAPACITY, Math.max(minCapacity, capacity + (capacity >> 1)));
+
+        if (channel != null) {
+            elements = map(newCapacity);
+        } else {
+            IntBuffer grown = allocateDirect(newCapacity);
+            IntBuffer source = elements.duplicate();
+            source.position(0).limit(size);
+            grown.put(source);
+            grown.clear();
+            elements = grown;
+        }
+    }
+
+    /**
+     * Сдвигает элементы копированием памяти; пересечение областей допускается
+     * Сдвиг влево копируется напрямую: при чтении вперёд источник не затирается. Сдвиг вправо идёт
+     * через промежуточный массив - IntBuffer.put(IntBuffer) гарантирует копирование пересекающихся
+     * областей только с JDK 16, а проект собирается под Java 11
+     * @param from начало исходной области
+     * @param to начало целевой области
+     * @param length количество элементов
+     */
+    private void move(int from, int to, int length) {
+        if (length == 0) {
+            return;
+        }
+        IntBuffer source = elements.duplicate();
+        source.position(from).limit(from + length);
+        IntBuffer target = elements.duplicate();
+        target.position(to);
+        if (to > from) {
+            int[] moved = new int[length];
+            source.get(moved);
+            target.put(moved);
+        } else {
+            target.put(source);
+        }
+    }
+
+    private IntBuffer map(int capacity) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * Integer.BYTES)
+                    .order(ByteOrder.nativeOrder())
+                    .asIntBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось отобразить файл " + file, e);
+        }
+    }
+
+    private static IntBuffer allocateDirect(int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES)
+                .order(ByteOrder.nativeOrder())
+                .asIntBuffer();
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Некорректная ёмкость: " + capacity);
+        }
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+}
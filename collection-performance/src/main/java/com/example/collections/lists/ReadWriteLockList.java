@@ -0,0 +1,165 @@
+package com.example.collections.lists;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Потокобезопасная обёртка над списком на ReentrantReadWriteLock
+ * В отличие от Collections.synchronizedList читатели не блокируют друг друга;
+ * итератор обходит неизменяемый снимок, сделанный под блокировкой чтения
+ */
+public class ReadWriteLockList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<E> delegate;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    /**
+     * Конструктор поверх нового ArrayList
+     */
+    public ReadWriteLockList() {
+        this(new ArrayList<>());
+    }
+
+    /**
+     * Конструктор
+     * @param delegate оборачиваемый список; обращаться к нему напрямую после обёртывания нельзя
+     */
+    public ReadWriteLockList(List<E> delegate) {
+        this.delegate = delegate;
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+    }
+
+    @Override
+    public int size() {
+        readLock.lock();
+        try {
+            return delegate.size();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        readLock.lock();
+        try {
+            return delegate.get(index);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        readLock.lock();
+        try {
+            return delegate.contains(o);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        readLock.lock();
+        try {
+            return delegate.indexOf(o);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public E set(int index, E element) {
+        writeLock.lock();
+        try {
+            return delegate.set(index, element);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean add(E element) {
+        writeLock.lock();
+        try {
+            delegate.add(element);
+            modCount++;
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void add(int index, E element) {
+        writeLock.lock();
+        try {
+            delegate.add(index, element);
+            modCount++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public E remove(int index) {
+        writeLock.lock();
+        try {
+            E removed = delegate.remove(index);
+            modCount++;
+            return removed;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            delegate.clear();
+            modCount++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * @return итератор по снимку списка; изменения после создания итератора не видны
+     */
+    @Override
+    public Iterator<E> iterator() {
+        readLock.lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<>(delegate)).iterator();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Обходит элементы под блокировкой чтения без копирования
+     * @param action действие для каждого элемента
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        readLock.lock();
+        try {
+            delegate.forEach(action);
+        } finally {
+            readLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.collections.report;
+
+import com.example.collections.PerformanceResult;
+import com.example.collections.TimingStatistics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Сохранённые результаты прогона (CSV или JSON, выгруженный ResultExporter), с которыми сравнивается текущий прогон
+ * Сравнивается среднее время одной операции при том же количестве операций: для сценариев O(n)
+ * время операции зависит от размера списка, поэтому замеры с другим количеством не сравниваются
+ */
+public class Baseline {
+
+    private static final int SCENARIO_COLUMN = 0;
+    private static final int IMPLEMENTATION_COLUMN = 1;
+    private static final int OPERATIONS_COLUMN = 2;
+    private static final int MEAN_COLUMN = 3;
+    private static final int CI_LOW_COLUMN = 8;
+    private static final int CI_HIGH_COLUMN = 9;
+    private static final int OPERATIONS_INDEX = 3;
+
+    private final RunMetadata metadata;
+    private final Map<String, Map<String, double[]>> perOperation;
+
+    /**
+     * Конструктор
+     * @param metadata метаданные прогона, снявшего базу
+     * @param perOperation по сценарию и реализации - {среднее, нижняя и верхняя граница ДИ 95%} на операцию, нс,
+     *                     и количество операций замера
+     */
+    public Baseline(RunMetadata metadata, Map<String, Map<String, double[]>> perOperation) {
+        this.metadata = metadata;
+        this.perOperation = perOperation;
+    }
+
+    /**
+     * Читает базу из CSV или JSON; формат выбирается по расширению, как в ResultExporter.write
+     * @param file файл, выгруженный через ResultExporter
+     * @return база
+     * @throws IllegalArgumentException если файл не в формате ResultExporter
+     * @throws UncheckedIOException если файл не удалось прочитать
+     */
+    public static Baseline read(Path file) {
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать базу " + file, e);
+        }
+        if (file.getFileName().toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+            return fromJson(file, String.join("\n", lines));
+        }
+        return fromCsv(file, lines);
+    }
+
+    private static Baseline fromCsv(Path file, List<String> lines) {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        Map<String, Map<String, double[]>> perOperation = new LinkedHashMap<>();
+        boolean headerSeen = false;
+        for (String line : lines) {
+            if (line.startsWith("# ")) {
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    metadata.put(line.substring(2, separator), line.substring(separator + 1));
+                }
+            } else if (!headerSeen) {
+                if (!line.equals(ResultExporter.CSV_HEADER)) {
+                    throw new IllegalArgumentException("Файл " + file + " не является CSV с результатами тестов");
+                }
+                headerSeen = true;
+            } else if (!line.isEmpty()) {
+                List<String> fields = parseCsvLine(line);
+                if (fields.size() <= CI_HIGH_COLUMN || fields.get(MEAN_COLUMN).isEmpty()) {
+                    // Операция не поддерживалась - сравнивать не с чем
+                    continue;
+                }
+                double operations = Double.parseDouble(fields.get(OPERATIONS_COLUMN));
+                perOperation.computeIfAbsent(fields.get(SCENARIO_COLUMN), scenario -> new LinkedHashMap<>())
+                        .put(fields.get(IMPLEMENTATION_COLUMN), new double[] {
+                                Double.parseDouble(fields.get(MEAN_COLUMN)) / operations,
+                                Double.parseDouble(fields.get(CI_LOW_COLUMN)) / operations,
+                                Double.parseDouble(fields.get(CI_HIGH_COLUMN)) / operations,
+                                operations});
+            }
+        }
+        if (!headerSeen) {
+            throw new IllegalArgumentException("Файл " + file + " не является CSV с результатами тестов");
+        }
+        return new Baseline(new RunMetadata(metadata), perOperation);
+    }
+
+    private static Baseline fromJson(Path file, String text) {
+        Map<String, String> metadata = new LinkedHashMap<>();
+        Map<String, Map<String, double[]>> perOperation = new LinkedHashMap<>();
+        try {
+            Map<?, ?> root = (Map<?, ?>) JsonReader.parse(text);
+            Map<?, ?> entries = (Map<?, ?>) root.get("metadata");
+            List<?> results = (List<?>) root.get("results");
+            if (entries == null || results == null) {
+                throw new IllegalArgumentException("нет полей metadata и results");
+            }
+            entries.forEach((key, value) -> metadata.put((String) key, String.valueOf(value)));
+            for (Object item : results) {
+                Map<?, ?> result = (Map<?, ?>) item;
+                String scenario = (String) result.get("scenario");
+                double operations = (Double) result.get("operations");
+                for (Object implementationItem : (List<?>) result.get("implementations")) {
+                    Map<?, ?> implementation = (Map<?, ?>) implementationItem;
+                    Object mean = implementation.get("meanNs");
+                    Object confidenceLow = implementation.get("ciLowNs");
+                    Object confidenceHigh = implementation.get("ciHighNs");
+                    if (mean == null || confidenceLow == null || confidenceHigh == null) {
+                        // Операция не поддерживалась - сравнивать не с чем
+                        continue;
+                    }
+                    perOperation.computeIfAbsent(scenario, key -> new LinkedHashMap<>())
+                            .put((String) implementation.get("name"), new double[] {
+                                    (Double) mean / operations,
+                                    (Double) confidenceLow / operations,
+                                    (Double) confidenceHigh / operations,
+                                    operations});
+                }
+            }
+        } catch (ClassCastException | NullPointerException e) {
+            throw new IllegalArgumentException("Файл " + file + " не является JSON с результатами тестов", e);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Файл " + file + " не является JSON с результатами тестов: "
+                    + e.getMessage(), e);
+        }
+        return new Baseline(new RunMetadata(metadata), perOperation);
+    }
+
+    /**
+     * Разбирает строку CSV с полями, экранированными по RFC 4180
+     * @param line строка
+     * @return значения полей
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Сравнивает текущий прогон с базой
+     * Изменение считается значимым, только если доверительные интервалы не пересекаются,
+     * и регрессией - если оно значимо и среднее выросло больше чем на thresholdPercent
+     * Замеры базы, которых нет в текущем прогоне (или реализация перестала поддерживать операцию),
+     * и замеры с другим количеством операций не сравниваются и перечисляются в результате отдельно
+     * @param results результаты текущего прогона
+     * @param thresholdPercent допустимое замедление в процентах
+     * @return сравнение по всем замерам, присутствующим в обоих прогонах
+     */
+    public BaselineComparison compare(PerformanceResult[] results, double thresholdPercent) {
+        List<BaselineComparison.Change> changes = new ArrayList<>();
+        List<String> mismatched = new ArrayList<>();
+        Map<String, Set<String>> matched = new LinkedHashMap<>();
+        for (PerformanceResult result : results) {
+            Map<String, double[]> baseline = perOperation.getOrDefault(result.getOperationName(),
+                    Collections.emptyMap());
+            for (String name : result.getImplementationNames()) {
+                TimingStatistics statistics = result.getStatistics(name);
+                double[] before = baseline.get(name);
+                if (statistics == null || before == null) {
+                    continue;
+                }
+                matched.computeIfAbsent(result.getOperationName(), key -> new HashSet<>()).add(name);
+                int operations = result.getOperationCount();
+                if (before.length > OPERATIONS_INDEX && before[OPERATIONS_INDEX] != operations) {
+                    mismatched.add(String.format(Locale.ROOT, "%s / %s: %.0f операций в базе, %d сейчас",
+                            result.getOperationName(), name, before[OPERATIONS_INDEX], operations));
+                    continue;
+                }
+                double mean = statistics.getMean() / operations;
+                double confidenceLow = statistics.getConfidenceLow() / operations;
+                double confidenceHigh = statistics.getConfidenceHigh() / operations;
+                boolean significant = confidenceLow > before[2] || confidenceHigh < before[1];
+                double changePercent = before[0] > 0 ? (mean - before[0]) / before[0] * 100 : 0;
+                changes.add(new BaselineComparison.Change(result.getOperationName(), name, before[0], mean,
+                        changePercent, significant, significant && changePercent > thresholdPercent));
+            }
+        }
+        List<String> missing = new ArrayList<>();
+        perOperation.forEach((scenario, byImplementation) -> {
+            for (String name : byImplementation.keySet()) {
+                if (!matched.getOrDefault(scenario, Collections.emptySet()).contains(name)) {
+                    missing.add(scenario + " / " + name);
+                }
+            }
+        });
+        return new BaselineComparison(metadata, thresholdPercent, changes, missing, mismatched);
+    }
+
+    /**
+     * @return метаданные прогона, снявшего базу
+     */
+    public RunMetadata getMetadata() {
+        return metadata;
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.collections.report;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Результат сравнения текущего прогона с базой
+ */
+public class BaselineComparison {
+
+    private final RunMetadata baselineMetadata;
+    private final double thresholdPercent;
+    private final List<Change> changes;
+    private final List<String> missing;
+    private final List<String> mismatched;
+
+    /**
+     * Конструктор для сравнения, в котором все замеры базы нашлись в текущем прогоне
+     * @param baselineMetadata метаданные прогона, снявшего базу
+     * @param thresholdPercent допустимое замедление в процентах
+     * @param changes изменения по замерам, присутствующим в обоих прогонах
+     */
+    public BaselineComparison(RunMetadata baselineMetadata, double thresholdPercent, List<Change> changes) {
+        this(baselineMetadata, thresholdPercent, changes, Collections.emptyList(), Collections.emptyList());
+    }
+
+    /**
+     * Конструктор
+     * @param baselineMetadata метаданные прогона, снявшего базу
+     * @param thresholdPercent допустимое замедление в процентах
+     * @param changes изменения по замерам, присутствующим в обоих прогонах
+     * @param missing замеры базы ("сценарий / реализация"), которых нет в текущем прогоне
+     * @param mismatched замеры, снятые в базе и сейчас на разном количестве операций
+     */
+    public BaselineComparison(RunMetadata baselineMetadata, double thresholdPercent, List<Change> changes,
+                              List<String> missing, List<String> mismatched) {
+        this.baselineMetadata = baselineMetadata;
+        this.thresholdPercent = thresholdPercent;
+        this.changes = Collections.unmodifiableList(changes);
+        this.missing = Collections.unmodifiableList(missing);
+        this.mismatched = Collections.unmodifiableList(mismatched);
+    }
+
+    /**
+     * @return метаданные прогона, снявшего базу
+     */
+    public RunMetadata getBaselineMetadata() {
+        return baselineMetadata;
+    }
+
+    /**
+     * @return допустимое замедление в процентах
+     */
+    public double getThresholdPercent() {
+        return thresholdPercent;
+    }
+
+    /**
+     * @return изменения по всем сравнённым замерам
+     */
+    public List<Change> getChanges() {
+        return changes;
+    }
+
+    /**
+     * @return значимые замедления сверх порога
+     */
+    public List<Change> getRegressions() {
+        return changes.stream().filter(Change::isRegression).collect(Collectors.toList());
+    }
+
+    /**
+     * @return есть ли хотя бы одна регрессия
+     */
+    public boolean hasRegressions() {
+        return changes.stream().anyMatch(Change::isRegression);
+    }
+
+    /**
+     * @return замеры базы ("сценарий / реализация"), которых нет в текущем прогоне или которые не поддерживаются
+     */
+    public List<String> getMissing() {
+        return missing;
+    }
+
+    /**
+     * @return замеры, не сравнённые из-за разного количества операций
+     */
+    public List<String> getMismatched() {
+        return mismatched;
+    }
+
+    /**
+     * @return true, если часть базы не удалось сравнить (пропавшие замеры или другое количество операций)
+     */
+    public boolean isIncomplete() {
+        return !missing.isEmpty() || !mismatched.isEmpty();
+    }
+
+    /**
+     * Изменение времени одной реализации в одном сценарии
+     */
+    public static final class Change {
+        private final String operationName;
+        private final String implementationName;
+        private final double baselineNanos;
+        private final double currentNanos;
+        private final double changePercent;
+        private final boolean significant;
+        private final boolean regression;
+
+        Change(String operationName, String implementationName, double baselineNanos, double currentNanos,
+               double changePercent, boolean significant, boolean regression) {
+            this.operationName = operationName;
+            this.implementationName = implementationName;
+            this.baselineNanos = baselineNanos;
+            this.currentNanos = currentNanos;
+            this.changePercent = changePercent;
+            this.significant = significant;
+            this.regression = regression;
+        }
+
+        /**
+         * @return название сценария
+         */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * @return имя реализации
+         */
+        public String getImplementationName() {
+            return implementationName;
+        }
+
+        /**
+         * @return среднее время одной операции в базе, нс
+         */
+        public double getBaselineNanos() {
+            return baselineNanos;
+        }
+
+        /**
+         * @return среднее время одной операции сейчас, нс
+         */
+        public double getCurrentNanos() {
+            return currentNanos;
+        }
+
+        /**
+         * @return изменение в процентах (положительное - замедление)
+         */
+        public double getChangePercent() {
+            return changePercent;
+        }
+
+        /**
+         * @return не пересекаются ли доверительные интервалы
+         */
+        public boolean isSignificant() {
+            return significant;
+        }
+
+        /**
+         * @return значимое замедление сверх порога
+         */
+        public boolean isRegression() {
+            return regression;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s / %s: %.2f -> %.2f нс/оп (%+.1f%%%s)", operationName, implementationName,
+                    baselineNanos, currentNanos, changePercent, significant ? "" : ", незначимо");
+        }
+    }
+}
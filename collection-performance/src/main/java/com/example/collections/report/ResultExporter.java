@@ -0,0 +1,213 @@
+package com.example.collections.report;
+
+import com.example.collections.JitActivity;
+import com.example.collections.PerformanceResult;
+import com.example.collections.ResourceUsage;
+import com.example.collections.TimingStatistics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Выгружает результаты тестов в JSON или CSV вместе с метаданными прогона
+ * В CSV метаданные записываются строками-комментариями «# ключ=значение» перед заголовком;
+ * строки неподдерживаемых операций содержат пустые значения
+ */
+public final class ResultExporter {
+
+    /**
+     * Заголовок CSV; первые три колонки идентифицируют замер, остальные - статистика в наносекундах
+     */
+    public static final String CSV_HEADER = "scenario,implementation,operations,mean_ns,median_ns,p90_ns,p99_ns,"
+            + "stddev_ns,ci_low_ns,ci_high_ns,samples,warmup_iterations,steady_state,"
+            + "allocated_bytes,gc_count,gc_ms,jit_warmup_ms,jit_overlapped_samples";
+
+    private ResultExporter() {
+    }
+
+    /**
+     * Записывает результаты в файл; формат выбирается по расширению (.json или .csv)
+     * @param file файл для записи
+     * @param metadata метаданные прогона
+     * @param results результаты тестов
+     * @throws IllegalArgumentException если расширение не поддерживается
+     */
+    public static void write(Path file, RunMetadata metadata, PerformanceResult[] results) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        String content;
+        if (name.endsWith(".json")) {
+            content = toJson(metadata, results);
+        } else if (name.endsWith(".csv")) {
+            content = toCsv(metadata, results);
+        } else {
+            throw new IllegalArgumentException("Неизвестный формат выгрузки: " + file + " (нужен .json или .csv)");
+        }
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось записать результаты в " + file, e);
+        }
+    }
+
+    /**
+     * @param metadata метаданные прогона
+     * @param results результаты тестов
+     * @return результаты в формате JSON
+     */
+    public static String toJson(RunMetadata metadata, PerformanceResult[] results) {
+        StringBuilder json = new StringBuilder("{\n  \"metadata\": {");
+        String separator = "\n";
+        for (Map.Entry<String, String> entry : metadata.getEntries().entrySet()) {
+            json.append(separator).append("    ").append(quote(entry.getKey())).append(": ")
+                    .append(quote(entry.getValue()));
+            separator = ",\n";
+        }
+        json.append("\n  },\n  \"results\": [");
+
+        separator = "\n";
+        for (PerformanceResult result : results) {
+            json.append(separator)
+                    .append("    {\"scenario\": ").append(quote(result.getOperationName()))
+                    .append(", \"operations\": ").append(result.getOperationCount())
+                    .append(", \"fasterList\": ").append(quote(result.getFasterList()))
+                    .append(", \"implementations\": [");
+            String implementationSeparator = "\n";
+            for (String name : result.getImplementationNames()) {
+                json.append(implementationSeparator).append("      {\"name\": ").append(quote(name));
+                TimingStatistics statistics = result.getStatistics(name);
+                if (statistics == null) {
+                    json.append(", \"supported\": false}");
+                } else {
+                    ResourceUsage usage = statistics.getResourceUsage();
+                    json.append(", \"supported\": true")
+                            .append(", \"meanNs\": ").append(number(statistics.getMean()))
+                            .append(", \"medianNs\": ").append(number(statistics.getMedian()))
+                            .append(", \"p90Ns\": ").append(number(statistics.getP90()))
+                            .append(", \"p99Ns\": ").append(number(statistics.getP99()))
+                            .append(", \"stddevNs\": ").append(number(statistics.getStandardDeviation()))
+                            .append(", \"ciLowNs\": ").append(number(statistics.getConfidenceLow()))
+                            .append(", \"ciHighNs\": ").append(number(statistics.getConfidenceHigh()))
+                            .append(", \"samples\": ").append(statistics.getSampleCount())
+                            .append(", \"warmupIterations\": ").append(statistics.getWarmupIterations())
+                            .append(", \"steadyState\": ").append(statistics.isSteadyState())
+                            .append(", \"allocatedBytes\": ").append(usage.isAllocationSupported()
+                                    ? String.valueOf(usage.getAllocatedBytes()) : "null")
+                            .append(", \"gcCount\": ").append(usage.getGcCount())
+                            .append(", \"gcMs\": ").append(usage.getGcTimeMillis());
+                    JitActivity jit = statistics.getJitActivity();
+                    if (jit.isSupported()) {
+                        json.append(", \"jitWarmupMs\": ").append(jit.getWarmupCompilationMillis())
+                                .append(", \"jitOverlappedSamples\": ").append(jit.getOverlappedCount());
+                    }
+                    json.append('}');
+                }
+                implementationSeparator = ",\n";
+            }
+            json.append("\n    ]}");
+            separator = ",\n";
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    /**
+     * @param metadata метаданные прогона
+     * @param results результаты тестов
+     * @return результаты в формате CSV
+     */
+    public static String toCsv(RunMetadata metadata, PerformanceResult[] results) {
+        StringBuilder csv = new StringBuilder();
+        metadata.getEntries().forEach((key, value) ->
+                csv.append("# ").append(key).append('=').append(value.replace('\n', ' ')).append('\n'));
+        csv.append(CSV_HEADER).append('\n');
+
+        for (PerformanceResult result : results) {
+            for (String name : result.getImplementationNames()) {
+                csv.append(csvField(result.getOperationName())).append(',')
+                        .append(csvField(name)).append(',')
+                        .append(result.getOperationCount());
+                TimingStatistics statistics = result.getStatistics(name);
+                if (statistics == null) {
+                    csv.append(",,,,,,,,,,,,,,,");
+                } else {
+                    ResourceUsage usage = statistics.getResourceUsage();
+                    csv.append(',').append(csvNumber(statistics.getMean()))
+                            .append(',').append(csvNumber(statistics.getMedian()))
+                            .append(',').append(csvNumber(statistics.getP90()))
+                            .append(',').append(csvNumber(statistics.getP99()))
+                            .append(',').append(csvNumber(statistics.getStandardDeviation()))
+                            .append(',').append(csvNumber(statistics.getConfidenceLow()))
+                            .append(',').append(csvNumber(statistics.getConfidenceHigh()))
+                            .append(',').append(statistics.getSampleCount())
+                            .append(',').append(statistics.getWarmupIterations())
+                            .append(',').append(statistics.isSteadyState())
+                            .append(',').append(usage.isAllocationSupported() ? usage.getAllocatedBytes() : "")
+                            .append(',').append(usage.getGcCount())
+                            .append(',').append(usage.getGcTimeMillis());
+                    JitActivity jit = statistics.getJitActivity();
+                    csv.append(',').append(jit.isSupported() ? String.valueOf(jit.getWarmupCompilationMillis()) : "")
+                            .append(',').append(jit.isSupported() ? String.valueOf(jit.getOverlappedCount()) : "");
+                }
+                csv.append('\n');
+            }
+        }
+        return csv.toString();
+    }
+
+    private static String number(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return "null";
+        }
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String csvNumber(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? "" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    quoted.append("\\\"");
+                    break;
+                case '\\':
+                    quoted.append("\\\\");
+                    break;
+                case '\n':
+                    quoted.append("\\n");
+                    break;
+                case '\r':
+                    quoted.append("\\r");
+                    break;
+                case '\t':
+                    quoted.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Экранирует поле CSV по RFC 4180, если в нём есть запятая, кавычка или перевод строки
+     * @param value значение поля
+     * @return поле, готовое к записи в строку CSV
+     */
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
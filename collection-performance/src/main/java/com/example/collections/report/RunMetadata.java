@@ -0,0 +1,128 @@
+package com.example.collections.report;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Сведения об окружении прогона: версия JVM, процессор, флаги кучи и GC, ревизия git
+ * Сохраняются вместе с результатами, чтобы сравнение с базой показывало, что именно изменилось
+ */
+public class RunMetadata {
+
+    /**
+     * Значение сведений, которые не удалось получить
+     */
+    public static final String UNKNOWN = "unknown";
+    private static final long GIT_TIMEOUT_SECONDS = 5;
+
+    private final Map<String, String> entries;
+
+    /**
+     * Конструктор
+     * @param entries пары «ключ - значение» в порядке вывода
+     */
+    public RunMetadata(Map<String, String> entries) {
+        this.entries = Collections.unmodifiableMap(new LinkedHashMap<>(entries));
+    }
+
+    /**
+     * Собирает сведения о текущей JVM
+     * @return метаданные прогона
+     */
+    public static RunMetadata capture() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("timestamp", Instant.now().toString());
+        entries.put("javaVersion", System.getProperty("java.version"));
+        entries.put("vm", System.getProperty("java.vm.name") + " " + System.getProperty("java.vm.version"));
+        entries.put("os", System.getProperty("os.name") + " " + System.getProperty("os.arch"));
+        entries.put("cpu", cpuModel());
+        entries.put("processors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+        entries.put("maxHeapBytes", String.valueOf(Runtime.getRuntime().maxMemory()));
+        entries.put("gc", ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .map(GarbageCollectorMXBean::getName)
+                .collect(Collectors.joining(", ")));
+        entries.put("jvmFlags", ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .filter(argument -> argument.startsWith("-X"))
+                .collect(Collectors.joining(" ")));
+        entries.put("gitRevision", gitRevision());
+        return new RunMetadata(entries);
+    }
+
+    /**
+     * @return модель процессора из /proc/cpuinfo или архитектура, если файл недоступен
+     */
+    private static String cpuModel() {
+        Path cpuInfo = Paths.get("/proc/cpuinfo");
+        if (Files.isReadable(cpuInfo)) {
+            try {
+                List<String> lines = Files.readAllLines(cpuInfo, StandardCharsets.UTF_8);
+                for (String line : lines) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim();
+                    }
+                }
+            } catch (IOException e) {
+                // Ниже используется архитектура из свойств JVM
+            }
+        }
+        return System.getProperty("os.arch");
+    }
+
+    /**
+     * @return ревизия HEAD рабочего каталога или UNKNOWN вне репозитория git
+     */
+    private static String gitRevision() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "HEAD").redirectErrorStream(true).start();
+            String revision;
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                revision = reader.readLine();
+            }
+            if (!process.waitFor(GIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return UNKNOWN;
+            }
+            return process.exitValue() == 0 && revision != null ? revision.trim() : UNKNOWN;
+        } catch (IOException e) {
+            return UNKNOWN;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNKNOWN;
+        }
+    }
+
+    /**
+     * @param key ключ
+     * @return значение или UNKNOWN, если ключ не записан
+     */
+    public String get(String key) {
+        return entries.getOrDefault(key, UNKNOWN);
+    }
+
+    /**
+     * @return все пары «ключ - значение» в порядке вывода
+     */
+    public Map<String, String> getEntries() {
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        return entries.toString();
+    }
+}
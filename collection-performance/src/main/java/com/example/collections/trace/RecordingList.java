@@ -0,0 +1,107 @@
+package com.example.collections.trace;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Обёртка над списком, записывающая каждую успешно выполненную операцию в трассу
+ * Составные операции AbstractList (addAll, итерация, indexOf и т.п.) выражаются через
+ * get/set/add/remove и записываются как последовательность этих операций.
+ * Операция и её запись выполняются под одной блокировкой (записью трассы), поэтому порядок в трассе
+ * совпадает с порядком выполнения и при обращении из нескольких потоков. Обращения к оборачиваемому списку
+ * в обход обёртки в трассу не попадают; null записывается как значение 0
+ */
+public class RecordingList extends AbstractList<Integer> implements RandomAccess {
+
+    private final List<Integer> delegate;
+    private final TraceRecorder recorder;
+
+    /**
+     * Конструктор
+     * @param delegate оборачиваемый список
+     * @param recorder запись трассы (начальный размер в ней должен совпадать с размером delegate)
+     */
+    public RecordingList(List<Integer> delegate, TraceRecorder recorder) {
+        this.delegate = delegate;
+        this.recorder = recorder;
+    }
+
+    @Override
+    public int size() {
+        synchronized (recorder) {
+            return delegate.size();
+        }
+    }
+
+    @Override
+    public Integer get(int index) {
+        synchronized (recorder) {
+            Integer value = delegate.get(index);
+            recorder.record(TraceFormat.GET, index, 0);
+            return value;
+        }
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        synchronized (recorder) {
+            Integer previous = delegate.set(index, element);
+            recorder.record(TraceFormat.SET, index, valueOf(element));
+            return previous;
+        }
+    }
+
+    @Override
+    public boolean add(Integer element) {
+        synchronized (recorder) {
+            delegate.add(element);
+            recorder.record(TraceFormat.ADD, 0, valueOf(element));
+            modCount++;
+            return true;
+        }
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        synchronized (recorder) {
+            delegate.add(index, element);
+            recorder.record(TraceFormat.INSERT, index, valueOf(element));
+            modCount++;
+        }
+    }
+
+    @Override
+    public Integer remove(int index) {
+        synchronized (recorder) {
+            Integer removed = delegate.remove(index);
+            recorder.record(TraceFormat.REMOVE, index, 0);
+            modCount++;
+            return removed;
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        synchronized (recorder) {
+            boolean found = delegate.contains(o);
+            if (o instanceof Integer) {
+                recorder.record(TraceFormat.CONTAINS, 0, (Integer) o);
+            }
+            return found;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (recorder) {
+            delegate.clear();
+            recorder.record(TraceFormat.CLEAR, 0, 0);
+            modCount++;
+        }
+    }
+
+    private static int valueOf(Integer element) {
+        return element == null ? 0 : element;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.collections.trace;
+
+/**
+ * Двоичный формат трассы операций над списком
+ * Заголовок: сигнатура (int), версия (int), размер списка в начале записи (int).
+ * Далее записи фиксированной длины: код операции (byte), индекс (int), значение (int).
+ * Порядок байт - big-endian; количество записей определяется по длине файла
+ */
+public final class TraceFormat {
+
+    /**
+     * Сигнатура файла: "LTRC"
+     */
+    public static final int MAGIC = 0x4C545243;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 3 * Integer.BYTES;
+    public static final int RECORD_SIZE = 1 + 2 * Integer.BYTES;
+
+    /**
+     * get(index)
+     */
+    public static final byte GET = 0;
+    /**
+     * set(index, value)
+     */
+    public static final byte SET = 1;
+    /**
+     * add(value) в конец
+     */
+    public static final byte ADD = 2;
+    /**
+     * add(index, value)
+     */
+    public static final byte INSERT = 3;
+    /**
+     * remove(index)
+     */
+    public static final byte REMOVE = 4;
+    /**
+     * contains(value)
+     */
+    public static final byte CONTAINS = 5;
+    /**
+     * clear()
+     */
+    public static final byte CLEAR = 6;
+
+    private TraceFormat() {
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.collections.trace;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Записывает трассу операций в файл; безопасен для использования из нескольких потоков
+ */
+public class TraceRecorder implements AutoCloseable {
+
+    private final Path file;
+    private final DataOutputStream output;
+    private long recordCount;
+
+    /**
+     * Создаёт (или перезаписывает) файл трассы и записывает заголовок
+     * @param file путь к файлу трассы
+     * @param initialSize размер списка в начале записи
+     */
+    public TraceRecorder(Path file, int initialSize) {
+        this.file = file;
+        try {
+            this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+            output.writeInt(TraceFormat.MAGIC);
+            output.writeInt(TraceFormat.VERSION);
+            output.writeInt(initialSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось создать файл трассы " + file, e);
+        }
+    }
+
+    /**
+     * Записывает одну операцию
+     * @param operation код операции из TraceFormat
+     * @param index индекс (0, если операция без индекса)
+     * @param value значение (0, если операция без значения)
+     */
+    public synchronized void record(byte operation, int index, int value) {
+        try {
+            output.writeByte(operation);
+            output.writeInt(index);
+            output.writeInt(value);
+            recordCount++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось записать трассу " + file, e);
+        }
+    }
+
+    /**
+     * @return количество записанных операций
+     */
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Дописывает буфер и закрывает файл
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            output.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось закрыть файл трассы " + file, e);
+        }
+    }
+}
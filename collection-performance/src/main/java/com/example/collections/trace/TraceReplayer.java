@@ -0,0 +1,159 @@
+package com.example.collections.trace;
+
+import com.example.collections.lists.IntList;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Воспроизводит трассу из файла, отображённого в память через FileChannel.map
+ * Записи читаются по абсолютным смещениям без создания объектов; для List&lt;Integer&gt; упаковка
+ * добавляемых значений остаётся частью замеряемой стоимости, как и в исходном сервисе.
+ * Трасса одного файла ограничена 2 ГБ (около 238 млн операций)
+ */
+public class TraceReplayer {
+
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final int initialSize;
+    private final int recordCount;
+
+    /**
+     * Отображает файл трассы в память и проверяет заголовок
+     * @param file путь к файлу трассы
+     */
+    public TraceReplayer(Path file) {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < TraceFormat.HEADER_SIZE || length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Некорректный размер файла трассы " + file + ": " + length);
+            }
+            // Отображение остаётся действительным после закрытия канала
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось отобразить файл трассы " + file, e);
+        }
+        if (buffer.getInt(0) != TraceFormat.MAGIC) {
+            throw new IllegalArgumentException("Файл не является трассой: " + file);
+        }
+        if (buffer.getInt(Integer.BYTES) != TraceFormat.VERSION) {
+            throw new IllegalArgumentException("Неподдерживаемая версия трассы: " + buffer.getInt(Integer.BYTES));
+        }
+        this.initialSize = buffer.getInt(2 * Integer.BYTES);
+        this.recordCount = (buffer.capacity() - TraceFormat.HEADER_SIZE) / TraceFormat.RECORD_SIZE;
+    }
+
+    /**
+     * @return путь к файлу трассы
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return размер списка в начале записи
+     */
+    public int getInitialSize() {
+        return initialSize;
+    }
+
+    /**
+     * @return количество записанных операций
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Воспроизводит трассу на списке, уже заполненном до getInitialSize() элементов
+     * @param list список
+     * @return сумма прочитанных значений (чтобы JIT не удалил чтения)
+     */
+    public long replay(List<Integer> list) {
+        long sink = 0;
+        int position = TraceFormat.HEADER_SIZE;
+        for (int i = 0; i < recordCount; i++, position += TraceFormat.RECORD_SIZE) {
+            byte operation = buffer.get(position);
+            int index = buffer.getInt(position + 1);
+            int value = buffer.getInt(position + 1 + Integer.BYTES);
+            switch (operation) {
+                case TraceFormat.GET:
+                    sink += list.get(index);
+                    break;
+                case TraceFormat.SET:
+                    list.set(index, value);
+                    break;
+                case TraceFormat.ADD:
+                    list.add(value);
+                    break;
+                case TraceFormat.INSERT:
+                    list.add(index, value);
+                    break;
+                case TraceFormat.REMOVE:
+                    sink += list.remove(index);
+                    break;
+                case TraceFormat.CONTAINS:
+                    sink += list.contains(value) ? 1 : 0;
+                    break;
+                case TraceFormat.CLEAR:
+                    list.clear();
+                    break;
+                default:
+                    throw unknownOperation(operation, i);
+            }
+        }
+        return sink;
+    }
+
+    /**
+     * Воспроизводит трассу на примитивном списке, уже заполненном до getInitialSize() элементов
+     * @param list список
+     * @return сумма прочитанных значений (чтобы JIT не удалил чтения)
+     */
+    public long replay(IntList list) {
+        long sink = 0;
+        int position = TraceFormat.HEADER_SIZE;
+        for (int i = 0; i < recordCount; i++, position += TraceFormat.RECORD_SIZE) {
+            byte operation = buffer.get(position);
+            int index = buffer.getInt(position + 1);
+            int value = buffer.getInt(position + 1 + Integer.BYTES);
+            switch (operation) {
+                case TraceFormat.GET:
+                    sink += list.getInt(index);
+                    break;
+                case TraceFormat.SET:
+                    list.set(index, value);
+                    break;
+                case TraceFormat.ADD:
+                    list.add(value);
+                    break;
+                case TraceFormat.INSERT:
+                    list.add(index, value);
+                    break;
+                case TraceFormat.REMOVE:
+                    sink += list.removeAt(index);
+                    break;
+                case TraceFormat.CONTAINS:
+                    sink += list.contains(value) ? 1 : 0;
+                    break;
+                case TraceFormat.CLEAR:
+                    list.clear();
+                    break;
+                default:
+                    throw unknownOperation(operation, i);
+            }
+        }
+        return sink;
+    }
+
+    private IllegalStateException unknownOperation(byte operation, int record) {
+        return new IllegalStateException("Неизвестный код операции " + operation + " в записи " + record
+                + " трассы " + file);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса Blackhole
+ */
+class BlackholeTest {
+
+    @Test
+    void testConsumedValuesNeverEscape() {
+        Blackhole blackhole = new Blackhole();
+        for (int i = -5; i < 5; i++) {
+            blackhole.consume(i);
+            blackhole.consume((long) i);
+            blackhole.consume(i % 2 == 0);
+            blackhole.consume(Integer.valueOf(i));
+        }
+        blackhole.consume((Object) null);
+
+        assertEquals("Blackhole", blackhole.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ColdStartResult
+ */
+class ColdStartResultTest {
+
+    @Test
+    void testCurveIsMedianAcrossRuns() {
+        ColdStartResult result = new ColdStartResult(ColdStartProfile.DEFAULT, "get", "ArrayList",
+                new long[] {50_000_000, 70_000_000, 60_000_000},
+                new long[][] {
+                        {1000, 500, 100, 100},
+                        {3000, 700, 120, 100},
+                        {2000, 600, 110, 100}});
+
+        assertEquals(3, result.getRuns());
+        assertArrayEquals(new double[] {2000, 600, 110, 100}, result.getCurve(), 1e-9);
+        assertEquals(60_000_000, result.getStartupNanos(), 1e-9);
+        // Медиана сумм: 50 001 000, 70 003 000, 60 002 000
+        assertEquals(60_002_000, result.getTimeToFirstOperationNanos(), 1e-9);
+    }
+
+    @Test
+    void testSteadyCall() {
+        long[] curve = new long[40];
+        for (int call = 0; call < curve.length; call++) {
+            curve[call] = call < 10 ? 10_000 : 100;
+        }
+        ColdStartResult result = new ColdStartResult(ColdStartProfile.C1_ONLY, "get", "ArrayList",
+                new long[] {1}, new long[][] {curve});
+
+        assertEquals(100, result.getSteadyNanos(), 1e-9);
+        // Медиана окна из пяти вызовов опускается до плато, когда в окне три быстрых вызова
+        assertEquals(9, result.getSteadyCall());
+    }
+
+    @Test
+    void testInvalidRuns() {
+        assertThrows(IllegalArgumentException.class, () -> new ColdStartResult(ColdStartProfile.DEFAULT,
+                "get", "ArrayList", new long[0], new long[0][]));
+        assertThrows(IllegalArgumentException.class, () -> new ColdStartResult(ColdStartProfile.DEFAULT,
+                "get", "ArrayList", new long[] {1, 2}, new long[][] {{1}}));
+    }
+}
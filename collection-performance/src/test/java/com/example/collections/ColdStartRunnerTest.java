@@ -0,0 +1,74 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ColdStartRunner
+ */
+class ColdStartRunnerTest {
+
+    @Test
+    void testResultLineRoundTrip() {
+        long[][] parsed = ColdStartRunner.parseResult(ColdStartRunner.formatResult(42, new long[] {5, 6, 7}));
+
+        assertArrayEquals(new long[] {42}, parsed[0]);
+        assertArrayEquals(new long[] {5, 6, 7}, parsed[1]);
+        assertNull(ColdStartRunner.parseResult(ColdStartRunner.formatResult(42, null)));
+        assertThrows(IllegalArgumentException.class, () -> ColdStartRunner.parseResult("garbage"));
+    }
+
+    @Test
+    void testCommandCombinesCommonAndProfileFlags() {
+        ColdStartRunner runner = new ColdStartRunner(100, 5, 1, Collections.singletonList("-Xmx64m"),
+                Collections.singletonList(ColdStartProfile.C1_ONLY));
+
+        List<String> command = runner.command(ColdStartProfile.C1_ONLY.getFlags(null), 2, "ArrayList");
+
+        assertEquals(Arrays.asList("-Xmx64m", "-XX:TieredStopAtLevel=1"), command.subList(1, 3));
+        int entryPoint = command.indexOf(ColdStartRunner.class.getName());
+        assertEquals(Arrays.asList("2", "ArrayList", "100", "5"), command.subList(entryPoint + 1, command.size()));
+    }
+
+    @Test
+    void testProfiles() {
+        assertEquals(ColdStartProfile.NO_CDS, ColdStartProfile.parse(" No-CDS "));
+        assertThrows(IllegalArgumentException.class, () -> ColdStartProfile.parse("graal"));
+        assertEquals(Collections.singletonList("-XX:SharedArchiveFile=" + Paths.get("a.jsa")),
+                ColdStartProfile.APP_CDS.getFlags(Paths.get("a.jsa")));
+    }
+
+    @Test
+    void testRunsFreshJvmPerProfile() {
+        ListRegistry registry = ListRegistry.defaults(50).select(Arrays.asList("ArrayList", "Arrays.asList"));
+        ColdStartRunner runner = new ColdStartRunner(50, 4, 1, Collections.singletonList("-Xmx64m"),
+                Arrays.asList(ColdStartProfile.DEFAULT, ColdStartProfile.C1_ONLY));
+        List<String> skipped = new ArrayList<>();
+
+        List<ColdStartResult> results = runner.run("add(в конец)"::equals, registry, skipped::add);
+
+        // Arrays.asList не поддерживает add и в результаты не попадает
+        assertEquals(2, results.size());
+        assertEquals(ColdStartProfile.DEFAULT, results.get(0).getProfile());
+        assertEquals(ColdStartProfile.C1_ONLY, results.get(1).getProfile());
+        assertEquals("ArrayList", results.get(0).getImplementation());
+        assertEquals(4, results.get(0).getCurve().length);
+        assertTrue(results.get(0).getStartupNanos() > 0);
+        assertTrue(skipped.isEmpty());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ColdStartRunner(10, 0, 1,
+                Collections.emptyList(), Collections.singletonList(ColdStartProfile.DEFAULT)));
+        assertThrows(IllegalArgumentException.class, () -> new ColdStartRunner(10, 1, 1,
+                Collections.emptyList(), Collections.emptyList()));
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ComplexityFit
+ */
+class ComplexityFitTest {
+
+    private static final int[] SIZES = {100, 1000, 10000, 100000, 1000000};
+
+    @ParameterizedTest
+    @EnumSource(ComplexityFit.Complexity.class)
+    void testRecognizesSyntheticCurves(ComplexityFit.Complexity complexity) {
+        double[] times = new double[SIZES.length];
+        for (int i = 0; i < SIZES.length; i++) {
+            // Постоянная составляющая плюс рост и небольшой шум
+            times[i] = (20 + 5 * complexity.apply(SIZES[i])) * (i % 2 == 0 ? 1.02 : 0.98);
+        }
+
+        ComplexityFit fit = ComplexityFit.fit(SIZES, times);
+
+        assertEquals(complexity, fit.getComplexity());
+        assertTrue(fit.getError() < 0.05);
+    }
+
+    @Test
+    void testPredict() {
+        double[] times = {10, 100, 1000, 10000, 100000};
+
+        ComplexityFit fit = ComplexityFit.fit(SIZES, times);
+
+        assertEquals(ComplexityFit.Complexity.LINEAR, fit.getComplexity());
+        assertEquals(1e6, fit.predict(1e7), 1e3);
+    }
+
+    @Test
+    void testMissingPointsAreIgnored() {
+        double[] times = {50, 50, Double.NaN, Double.NaN, Double.NaN};
+        assertNull(ComplexityFit.fit(SIZES, times));
+
+        double[] partial = {50, 51, 49, Double.NaN, Double.NaN};
+        assertEquals(ComplexityFit.Complexity.CONSTANT, ComplexityFit.fit(SIZES, partial).getComplexity());
+    }
+
+    @Test
+    void testLengthMismatch() {
+        assertThrows(IllegalArgumentException.class, () -> ComplexityFit.fit(SIZES, new double[] {1, 2}));
+    }
+}
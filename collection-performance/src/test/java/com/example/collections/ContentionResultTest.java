@@ -0,0 +1,39 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ContentionResult
+ */
+class ContentionResultTest {
+
+    @Test
+    void testThroughput() {
+        ContentionResult result = new ContentionResult("ArrayList", 2, 1, 500_000_000L, new long[] {100, 200, 50});
+
+        assertEquals(3, result.getThreadCount());
+        assertEquals(350, result.getTotalOperations());
+        assertEquals(700, result.getOperationsPerSecond(), 1e-9);
+        assertEquals(600, result.getReadsPerSecond(), 1e-9);
+        assertEquals(100, result.getWritesPerSecond(), 1e-9);
+    }
+
+    @Test
+    void testFairness() {
+        ContentionResult equal = new ContentionResult("A", 4, 0, 1, new long[] {10, 10, 10, 10});
+        ContentionResult starved = new ContentionResult("B", 4, 0, 1, new long[] {40, 0, 0, 0});
+
+        assertEquals(1.0, equal.getFairness(), 1e-9);
+        assertEquals(1.0, equal.getMinMaxRatio(), 1e-9);
+        assertEquals(0.25, starved.getFairness(), 1e-9);
+        assertEquals(0.0, starved.getMinMaxRatio(), 1e-9);
+    }
+
+    @Test
+    void testThreadCountMismatch() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ContentionResult("A", 2, 2, 1, new long[] {1, 2, 3}));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ContentionTester
+ */
+class ContentionTesterTest {
+
+    private static final int INITIAL_SIZE = 100;
+    private static final long DURATION_MILLIS = 50;
+
+    @Test
+    void testRunCountsEveryThread() {
+        ListRegistry registry = ListRegistry.concurrent().select(Arrays.asList("SynchronizedList(ArrayList)",
+                "SynchronizedList(LinkedList)", "CopyOnWriteArrayList", "ReadWriteLockList"));
+        ContentionTester tester = new ContentionTester(INITIAL_SIZE, DURATION_MILLIS, registry);
+
+        for (String name : tester.getRegistry().getNames()) {
+            ContentionResult result = tester.run(name, 2, 2);
+
+            assertEquals(name, result.getImplementationName());
+            assertEquals(4, result.getOperationsPerThread().length);
+            assertTrue(result.getDurationNanos() >= DURATION_MILLIS * 1_000_000L);
+            for (long operations : result.getOperationsPerThread()) {
+                assertTrue(operations > 0, name + ": каждый поток должен успеть выполнить операции");
+            }
+        }
+    }
+
+    @Test
+    void testRunScalingWarmsUpEachConfiguration() {
+        AtomicInteger created = new AtomicInteger();
+        ListRegistry registry = new ListRegistry().register("Counted", () -> {
+            created.incrementAndGet();
+            return Collections.synchronizedList(new ArrayList<>());
+        });
+        ContentionTester tester = new ContentionTester(INITIAL_SIZE, 10, registry);
+
+        // Конфигурации 1 и 2 потока, перед каждым учитываемым прогоном - прогрев на новом списке
+        assertEquals(2, tester.runScaling(2, 50).size());
+        assertEquals(4, created.get());
+    }
+
+    @Test
+    void testRunScaling() {
+        ListRegistry registry = ListRegistry.concurrent().select(Arrays.asList("ReadWriteLockList"));
+        ContentionTester tester = new ContentionTester(INITIAL_SIZE, 20, registry);
+
+        List<ContentionResult> results = tester.runScaling(3, 50);
+
+        assertEquals(3, results.size());
+        assertEquals(1, results.get(0).getThreadCount());
+        assertEquals(2, results.get(1).getThreadCount());
+        assertEquals(3, results.get(2).getThreadCount());
+        assertEquals(1, results.get(1).getWriterThreads());
+    }
+
+    @Test
+    void testAppendWorkload() {
+        ContentionTester tester = new ContentionTester(INITIAL_SIZE, DURATION_MILLIS, ListRegistry.concurrent(),
+                ContentionTester.Workload.APPEND);
+
+        for (String name : tester.getRegistry().getNames()) {
+            ContentionResult result = tester.run(name, 1, 2);
+            assertTrue(result.getWritesPerSecond() > 0, name);
+            assertTrue(result.getReadsPerSecond() > 0, name);
+        }
+    }
+
+    @Test
+    void testUnsupportedWorkloadIsSkipped() {
+        ListRegistry registry = ListRegistry.concurrent()
+                .select(Arrays.asList("ReadWriteLockList", "ConcurrentAppendList"));
+        ContentionTester tester = new ContentionTester(INITIAL_SIZE, 20, registry);
+
+        assertThrows(UnsupportedOperationException.class, () -> tester.run("ConcurrentAppendList", 0, 1));
+        List<ContentionResult> results = tester.runScaling(2, 50);
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(r -> r.getImplementationName().equals("ReadWriteLockList")));
+    }
+
+    @Test
+    void testThreadCounts() {
+        assertEquals(Arrays.asList(1), ContentionTester.threadCounts(1));
+        assertEquals(Arrays.asList(1, 2, 4, 6), ContentionTester.threadCounts(6));
+        assertEquals(Arrays.asList(1, 2, 4, 8), ContentionTester.threadCounts(8));
+        assertThrows(IllegalArgumentException.class, () -> ContentionTester.threadCounts(0));
+    }
+
+    @Test
+    void testWritersFor() {
+        assertEquals(0, ContentionTester.writersFor(1, 20));
+        assertEquals(2, ContentionTester.writersFor(8, 20));
+        assertEquals(4, ContentionTester.writersFor(4, 100));
+        assertThrows(IllegalArgumentException.class, () -> ContentionTester.writersFor(4, 101));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ContentionTester(0, DURATION_MILLIS));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ContentionTester(INITIAL_SIZE, DURATION_MILLIS).run("ReadWriteLockList", 0, 0));
+    }
+}
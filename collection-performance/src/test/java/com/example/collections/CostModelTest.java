@@ -0,0 +1,171 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса CostModel
+ */
+class CostModelTest {
+
+    private static final List<Integer> SIZES = Arrays.asList(100, 1000, 10000);
+    private static final String GET = CostModel.getScenario(WorkloadMix.Operation.GET);
+    private static final String INSERT = CostModel.getScenario(WorkloadMix.Operation.INSERT);
+
+    @Test
+    void testModelScenarios() {
+        assertTrue(CostModel.isModelScenario("get(случайный индекс)"));
+        assertTrue(CostModel.isModelScenario("search(contains)"));
+        assertFalse(CostModel.isModelScenario("iteration(for-each)"));
+        assertEquals(GET, CostModel.getScenario(WorkloadMix.Operation.SET));
+    }
+
+    @Test
+    void testExtrapolatesFittedComplexity() {
+        CostModel model = CostModel.fromSweep(sweep(), null);
+
+        // ArrayList: get 10 нс на любом размере; LinkedList: get растёт линейно, 0.1 нс на элемент
+        assertEquals(10, model.predictNanos("ArrayList", WorkloadMix.Operation.GET, 1_000_000), 0.5);
+        assertEquals(100_000, model.predictNanos("LinkedList", WorkloadMix.Operation.GET, 1_000_000), 5_000);
+        assertTrue(Double.isNaN(model.predictNanos("ArrayList", WorkloadMix.Operation.CONTAINS, 1000)));
+        assertTrue(Double.isNaN(model.predictNanos("Unknown", WorkloadMix.Operation.GET, 1000)));
+        assertEquals(-1, model.predictBytes("ArrayList", 1000));
+    }
+
+    @Test
+    void testRanking() {
+        CostModel model = CostModel.fromSweep(sweep(), null);
+
+        List<Recommendation> reads = model.recommend(profile("get=100", 10000, 1, WorkloadProfile.UNLIMITED_MEMORY));
+        assertEquals(Arrays.asList("ArrayList", "Vector", "LinkedList"), names(reads));
+        assertTrue(reads.get(0).isEligible());
+        assertEquals(1e8, reads.get(0).getOperationsPerSecond(), 1e6);
+
+        // Вставки: у LinkedList 20 нс против 0.05 нс на элемент у массивов, на 100000 элементов выигрывает он
+        List<Recommendation> inserts = model.recommend(profile("insert=100", 100_000, 1,
+                WorkloadProfile.UNLIMITED_MEMORY));
+        assertEquals("LinkedList", inserts.get(0).getImplementationName());
+    }
+
+    @Test
+    void testMixIsWeighted() {
+        CostModel model = CostModel.fromSweep(sweep(), null);
+
+        Recommendation arrayList = model.recommend(profile("get=50,insert=50", 1000, 1,
+                WorkloadProfile.UNLIMITED_MEMORY)).stream()
+                .filter(r -> r.getImplementationName().equals("ArrayList")).findFirst().orElseThrow();
+        assertEquals(0.5 * 10 + 0.5 * 50, arrayList.getNanosPerOperation(), 1);
+    }
+
+    @Test
+    void testRejections() {
+        Map<String, MemoryFootprint> footprints = new LinkedHashMap<>();
+        footprints.put("ArrayList", new MemoryFootprint(1000, 4000, 0, 16000, 0, 0));
+        footprints.put("LinkedList", new MemoryFootprint(1000, 0, 24000, 16000, 0, 0));
+        footprints.put("Vector", new MemoryFootprint(1000, 4000, 0, 16000, 0, 0));
+        CostModel model = CostModel.fromSweep(sweep(), new FootprintResult(1000, footprints));
+
+        assertEquals(200_000, model.predictBytes("ArrayList", 10000));
+
+        // Несколько потоков: подходит только Vector
+        List<Recommendation> shared = model.recommend(profile("get=100", 10000, 4, WorkloadProfile.UNLIMITED_MEMORY));
+        assertEquals("Vector", shared.get(0).getImplementationName());
+        assertEquals("не потокобезопасен", shared.get(1).getRejection());
+
+        // 10000 элементов: 200 КБ у массивов, 400 КБ у LinkedList
+        List<Recommendation> small = model.recommend(profile("insert=100", 10000, 1, 300 * 1024));
+        assertEquals(Arrays.asList("ArrayList", "Vector", "LinkedList"), names(small));
+        assertFalse(small.get(2).isEligible());
+        assertEquals("больше ограничения памяти", small.get(2).getRejection());
+
+        // Без замера памяти реализация не проходит ограничение, но подходит без него
+        CostModel unmeasured = CostModel.fromSweep(sweep(), null);
+        List<Recommendation> budgeted = unmeasured.recommend(profile("get=100", 10000, 1, 300 * 1024));
+        assertTrue(budgeted.stream().noneMatch(Recommendation::isEligible));
+        assertEquals("память не измерена", budgeted.get(0).getRejection());
+        assertTrue(unmeasured.recommend(profile("get=100", 10000, 1, WorkloadProfile.UNLIMITED_MEMORY))
+                .get(0).isEligible());
+
+        List<Recommendation> unsupported = model.recommend(profile("contains=100", 1000, 1,
+                WorkloadProfile.UNLIMITED_MEMORY));
+        assertTrue(unsupported.stream().noneMatch(Recommendation::isEligible));
+        assertEquals("нет замеров: contains", unsupported.get(0).getRejection());
+    }
+
+    @Test
+    void testFromResultsUsesSingleSize() {
+        Map<String, TimingStatistics> gets = new LinkedHashMap<>();
+        gets.put("ArrayList", TimingStatistics.single(10_000));
+        gets.put("Arrays.asList", TimingStatistics.single(8_000));
+        Map<String, TimingStatistics> adds = new LinkedHashMap<>();
+        adds.put("ArrayList", TimingStatistics.single(30_000));
+        adds.put("Arrays.asList", null);
+        PerformanceResult[] results = {
+                new PerformanceResult(GET, 1000, gets),
+                new PerformanceResult(CostModel.getScenario(WorkloadMix.Operation.ADD), 1000, adds),
+                new PerformanceResult("iteration(for-each)", 1000, gets)};
+
+        CostModel model = CostModel.fromResults(results, null);
+
+        assertEquals(10, model.predictNanos("ArrayList", WorkloadMix.Operation.GET, 1000), 1e-9);
+        // Выше единственного размера время растёт линейно (оценка сверху), ниже - не меняется
+        assertEquals(20, model.predictNanos("ArrayList", WorkloadMix.Operation.GET, 2000), 1e-9);
+        assertEquals(10, model.predictNanos("ArrayList", WorkloadMix.Operation.GET, 10), 1e-9);
+
+        List<Recommendation> ranking = model.recommend(profile("get=50,add=50", 1000, 1,
+                WorkloadProfile.UNLIMITED_MEMORY));
+        assertEquals(Arrays.asList("ArrayList", "Arrays.asList"), names(ranking));
+        assertEquals(20, ranking.get(0).getNanosPerOperation(), 1e-9);
+        assertEquals("нет замеров: add", ranking.get(1).getRejection());
+    }
+
+    /**
+     * Замеры get и вставки на трёх размерах: ArrayList и Vector - O(1) и O(n) с малой константой,
+     * LinkedList - O(n) и O(1)
+     */
+    private static SweepResult sweep() {
+        Map<String, List<PerformanceResult>> results = new LinkedHashMap<>();
+        results.put(GET, perSize(new double[] {10, 0}, new double[] {12, 0}, new double[] {0, 0.1}));
+        results.put(INSERT, perSize(new double[] {0, 0.05}, new double[] {0, 0.06}, new double[] {20, 0}));
+        return new SweepResult(SIZES, results, Collections.emptyMap());
+    }
+
+    /**
+     * Результаты на каждом размере по времени одной операции {константа, нс на элемент} у каждой реализации
+     */
+    private static List<PerformanceResult> perSize(double[] arrayList, double[] vector, double[] linkedList) {
+        List<PerformanceResult> perSize = new ArrayList<>();
+        for (int size : SIZES) {
+            Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+            statistics.put("ArrayList", total(arrayList, size));
+            statistics.put("Vector", total(vector, size));
+            statistics.put("LinkedList", total(linkedList, size));
+            perSize.add(new PerformanceResult("test", size, statistics));
+        }
+        return perSize;
+    }
+
+    private static TimingStatistics total(double[] cost, int size) {
+        return TimingStatistics.single(Math.round((cost[0] + cost[1] * size) * size));
+    }
+
+    private static WorkloadProfile profile(String mix, int size, int threads, long memory) {
+        return new WorkloadProfile(WorkloadMix.parse(mix), size, threads, memory);
+    }
+
+    private static List<String> names(List<Recommendation> recommendations) {
+        List<String> names = new ArrayList<>();
+        for (Recommendation recommendation : recommendations) {
+            names.add(recommendation.getImplementationName());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.collections;
+
+import com.example.collections.lists.IntArrayList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Тесты для FootprintMeter
+ */
+class FootprintMeterTest {
+
+    private static final int SIZE = 1000;
+
+    private final FootprintMeter meter = new FootprintMeter();
+
+    @Test
+    void testArrayListBreakdown() {
+        MemoryFootprint footprint = meter.measure(() -> filled(new ArrayList<>()), SIZE, Integer.class);
+
+        assertEquals(SIZE, footprint.getElementCount());
+        assertTrue(footprint.getBackingArrayBytes() >= SIZE * 4L, "Массив ссылок не меньше 4 байт на элемент");
+        assertTrue(footprint.getElementBytes() >= SIZE * 12L, "Integer занимает не меньше 12 байт");
+        assertTrue(footprint.getNodeBytes() > 0, "Сам объект ArrayList");
+        assertEquals(footprint.getBackingArrayBytes() + footprint.getNodeBytes() + footprint.getElementBytes(),
+                footprint.getTotalBytes());
+    }
+
+    @Test
+    void testLinkedListHasNodes() {
+        MemoryFootprint linked = meter.measure(() -> filled(new LinkedList<>()), SIZE, Integer.class);
+        MemoryFootprint array = meter.measure(() -> filled(new ArrayList<>()), SIZE, Integer.class);
+
+        assertEquals(0, linked.getBackingArrayBytes());
+        assertTrue(linked.getNodeBytes() >= SIZE * 16L, "Узел LinkedList не меньше 16 байт");
+        assertTrue(linked.getTotalBytes() > array.getTotalBytes());
+    }
+
+    @Test
+    void testPrimitiveListHasNoBoxedElements() {
+        MemoryFootprint footprint = meter.measure(() -> {
+            IntArrayList list = new IntArrayList();
+            for (int i = 0; i < SIZE; i++) {
+                list.add(i);
+            }
+            return list;
+        }, SIZE, null);
+
+        assertEquals(0, footprint.getElementBytes());
+        assertTrue(footprint.getBackingArrayBytes() >= SIZE * 4L);
+        assertTrue(footprint.perElement(footprint.getTotalBytes()) < 8);
+    }
+
+    private static List<Integer> filled(List<Integer> list) {
+        for (int i = 0; i < SIZE; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
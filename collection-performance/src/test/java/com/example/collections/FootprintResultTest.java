@@ -0,0 +1,36 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Тесты для FootprintResult
+ */
+class FootprintResultTest {
+
+    @Test
+    void testRankingByTotalBytes() {
+        Map<String, MemoryFootprint> footprints = new LinkedHashMap<>();
+        footprints.put("LinkedList", new MemoryFootprint(10, 0, 240, 160, 0, 0));
+        footprints.put("ArrayList", new MemoryFootprint(10, 56, 24, 160, 0, 0));
+        footprints.put("IntArrayList", new MemoryFootprint(10, 56, 24, 0, 0, 0));
+        FootprintResult result = new FootprintResult(10, footprints);
+
+        assertEquals(Arrays.asList("IntArrayList", "ArrayList", "LinkedList"), result.getRanking());
+        assertEquals(Arrays.asList("LinkedList", "ArrayList", "IntArrayList"),
+                Arrays.asList(result.getImplementationNames().toArray()));
+        assertEquals(24.0, result.getFootprint("ArrayList").perElement(240));
+    }
+
+    @Test
+    void testUnknownImplementation() {
+        FootprintResult result = new FootprintResult(10, new LinkedHashMap<>());
+        assertThrows(IllegalArgumentException.class, () -> result.getFootprint("ArrayList"));
+    }
+}
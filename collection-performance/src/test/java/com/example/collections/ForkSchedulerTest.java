@@ -0,0 +1,84 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ForkScheduler
+ */
+class ForkSchedulerTest {
+
+    private static final MeasurementConfig QUICK = new MeasurementConfig(1, 2, 3);
+
+    @Test
+    void testResultLineRoundTrip() {
+        TimingStatistics statistics = new TimingStatistics(new long[] {300, 100, 200, 100000}, 7, false,
+                new ResourceUsage(64, 1, 2), new JitActivity(12, new long[] {0, 3, 0, 0}));
+
+        TimingStatistics parsed = ForkScheduler.parseResult(ForkScheduler.formatResult(statistics));
+
+        assertArrayEquals(new long[] {300, 100, 200, 100000}, parsed.getRawSamples());
+        assertEquals(statistics.getMean(), parsed.getMean());
+        assertEquals(statistics.getRejectedCount(), parsed.getRejectedCount());
+        assertEquals(7, parsed.getWarmupIterations());
+        assertFalse(parsed.isSteadyState());
+        assertEquals(64, parsed.getResourceUsage().getAllocatedBytes());
+        assertEquals(1, parsed.getResourceUsage().getGcCount());
+        assertEquals(2, parsed.getResourceUsage().getGcTimeMillis());
+        assertEquals(12, parsed.getJitActivity().getWarmupCompilationMillis());
+        assertArrayEquals(new long[] {0, 3, 0, 0}, parsed.getJitActivity().getCompilationMillis());
+
+        TimingStatistics withoutJit = ForkScheduler.parseResult(
+                ForkScheduler.formatResult(new TimingStatistics(new long[] {5, 6})));
+        assertFalse(withoutJit.getJitActivity().isSupported());
+    }
+
+    @Test
+    void testUnsupportedAndMalformedLines() {
+        assertNull(ForkScheduler.parseResult(ForkScheduler.formatResult(null)));
+        assertThrows(IllegalArgumentException.class, () -> ForkScheduler.parseResult("garbage"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ForkScheduler.parseResult(ForkScheduler.RESULT_PREFIX + " 1 true 0 0 0 x,y - -"));
+    }
+
+    @Test
+    void testCommand() {
+        ForkScheduler scheduler = new ForkScheduler(100, QUICK, Arrays.asList("-Xmx64m", ""), 1,
+                Paths.get("/tmp"));
+
+        List<String> command = scheduler.command(3, "LinkedList");
+
+        assertEquals("-Xmx64m", command.get(1));
+        assertEquals("-cp", command.get(2));
+        int entryPoint = command.indexOf(ForkScheduler.class.getName());
+        assertEquals(Arrays.asList("3", "LinkedList", "100", "1", "2", "3", "3", "0.1", "/tmp"),
+                command.subList(entryPoint + 1, command.size()));
+    }
+
+    @Test
+    void testRunsEachPairInSeparateJvm() {
+        ListRegistry registry = ListRegistry.defaults(100).select(Arrays.asList("ArrayList", "Arrays.asList"));
+        ForkScheduler scheduler = new ForkScheduler(100, QUICK, Collections.singletonList("-Xmx64m"), 2, null);
+
+        PerformanceResult[] results = scheduler.run("add(в конец)"::equals, registry);
+
+        assertEquals(1, results.length);
+        assertEquals("add(в конец)", results[0].getOperationName());
+        assertEquals(100, results[0].getOperationCount());
+        assertEquals(3, results[0].getStatistics("ArrayList").getRawSamples().length);
+        // Списки фиксированного размера не поддерживают add
+        assertFalse(results[0].isSupported("Arrays.asList"));
+    }
+
+    @Test
+    void testInvalidParallelism() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ForkScheduler(100, QUICK, Collections.emptyList(), 0, null));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для IndexDistribution
+ */
+class IndexDistributionTest {
+
+    private static final int COUNT = 100000;
+    private static final int RANGE = 1000;
+
+    @ParameterizedTest
+    @EnumSource(IndexDistribution.class)
+    void testIndicesInRange(IndexDistribution distribution) {
+        for (int index : distribution.sample(COUNT, RANGE, new Random(1))) {
+            assertTrue(index >= 0 && index < RANGE);
+        }
+    }
+
+    @Test
+    void testSequential() {
+        assertArrayEquals(new int[] {0, 1, 2, 0, 1}, IndexDistribution.SEQUENTIAL.sample(5, 3, new Random(1)));
+    }
+
+    @Test
+    void testHotspotConcentratesOnHotSet() {
+        int hot = 0;
+        for (int index : IndexDistribution.HOTSPOT.sample(COUNT, RANGE, new Random(1))) {
+            if (index < RANGE / 10) {
+                hot++;
+            }
+        }
+        assertEquals(0.9, (double) hot / COUNT, 0.01);
+    }
+
+    @Test
+    void testZipfFavoursFirstPositions() {
+        int[] frequency = new int[RANGE];
+        for (int index : IndexDistribution.ZIPF.sample(COUNT, RANGE, new Random(1))) {
+            frequency[index]++;
+        }
+        assertTrue(frequency[0] > frequency[1]);
+        assertTrue(frequency[1] > frequency[10]);
+        // Первая позиция получает около 1/H(1000) ~ 13% обращений
+        assertEquals(0.13, (double) frequency[0] / COUNT, 0.02);
+    }
+
+    @Test
+    void testInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () -> IndexDistribution.UNIFORM.sample(1, 0, new Random()));
+    }
+}
@@ -1,6 +1,16 @@
 package com.example.collections;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -26,6 +36,82 @@ class IntegrationTest {
         assertDoesNotThrow(() -> Main.main(new String[]{"invalid"}));
     }
 
+    @Test
+    void testMainMethodRejectsUnknownOption() {
+        // Опечатка и параметр без значения не должны сбрасывать количество операций и запускать тесты
+        assertTrue(runMain("500", "--iteration", "3")
+                .startsWith("Неизвестный параметр или не указано его значение: --iteration"));
+        assertTrue(runMain("500", "--warmup")
+                .startsWith("Неизвестный параметр или не указано его значение: --warmup"));
+        assertTrue(runMain("500", "600").startsWith("Количество операций уже задано, лишний аргумент: 600"));
+    }
+
+    private static String runMain(String... args) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        PrintStream original = System.out;
+        System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+        try {
+            Main.main(args);
+        } finally {
+            System.setOut(original);
+        }
+        return new String(output.toByteArray(), StandardCharsets.UTF_8).trim();
+    }
+
+    @Test
+    void testMainMethodWithBulkTrack() {
+        assertDoesNotThrow(() -> Main.main(new String[]{"200", "--bulk", "--scenarios", "addAll,sort",
+                "--lists", "ArrayList,IntArrayList", "--warmup", "1", "--iterations", "2"}));
+    }
+
+    @Test
+    void testReplayUsesInitialSizeOfTrace(@TempDir Path directory) throws IOException {
+        // Список фиксированной длины создаётся с начальным размером трассы, а не с количеством операций
+        String trace = directory.resolve("get.trace").toString();
+        Path export = directory.resolve("replay.csv");
+        Main.main(new String[]{"20000", "--mix", "get=100", "--record", trace});
+        Main.main(new String[]{"--replay", trace, "--lists", "ArrayList,Arrays.asList",
+                "--warmup", "1", "--iterations", "2", "--export", export.toString()});
+
+        String row = Files.readAllLines(export).stream()
+                .filter(line -> line.contains(",Arrays.asList,"))
+                .findFirst().orElseThrow();
+        assertFalse(row.contains(",,,,"), row);
+    }
+
+    @Test
+    void testMainMethodWithInstrumentedMix() {
+        assertDoesNotThrow(() -> Main.main(new String[]{"500", "--mix", "get=70,add=20,remove=10", "--instrument",
+                "--lists", "ArrayList,LinkedList", "--warmup", "1", "--iterations", "2"}));
+    }
+
+    @Test
+    void testMainMethodWithLatencyMode() {
+        assertDoesNotThrow(() -> Main.main(new String[]{"500", "--latency", "--batch", "4", "--scenarios", "add,get",
+                "--lists", "ArrayList,LinkedList,IntArrayList", "--warmup", "1", "--iterations", "2"}));
+    }
+
+    @Test
+    void testMainMethodWithRecommend() {
+        assertDoesNotThrow(() -> Main.main(new String[]{"2000", "--recommend", "get=70,add=20,insert=10",
+                "--threads", "2", "--memory", "1m", "--min-size", "100", "--budget", "200",
+                "--lists", "ArrayList,LinkedList,Vector", "--warmup", "1", "--iterations", "2"}));
+    }
+
+    @Test
+    void testScenarioFilterSeparatesBulkTrack() {
+        assertTrue(Main.scenarioFilter(null, false).test("get(по индексу)"));
+        assertFalse(Main.scenarioFilter(null, false).test("bulk.sort"));
+        assertTrue(Main.scenarioFilter(null, false).test(ListPerformanceTester.FOOTPRINT_SCENARIO));
+        assertTrue(Main.scenarioFilter(Arrays.asList("memory"), false).test(ListPerformanceTester.FOOTPRINT_SCENARIO));
+        assertFalse(Main.scenarioFilter(Arrays.asList("get"), false).test(ListPerformanceTester.FOOTPRINT_SCENARIO));
+        assertTrue(Main.scenarioFilter(null, true).test("bulk.sort"));
+        assertFalse(Main.scenarioFilter(null, true).test("get(по индексу)"));
+        assertTrue(Main.scenarioFilter(Arrays.asList("sort"), true).test("bulk.sort"));
+        assertFalse(Main.scenarioFilter(Arrays.asList("sort"), false).test("bulk.sort"));
+        assertTrue(Main.scenarioFilter(Arrays.asList("bulk.sort"), false).test("bulk.sort"));
+    }
+
     @Test
     void testLargeOperationCount() {
         // Тестируем с большим количеством операций
@@ -36,8 +122,8 @@ class IntegrationTest {
         assertTrue(results.length > 0);
 
         for (PerformanceResult result : results) {
-            assertTrue(result.getArrayListTime() >= 0);
-            assertTrue(result.getLinkedListTime() >= 0);
+            assertTrue(result.getTime("ArrayList") >= 0);
+            assertTrue(result.getTime("LinkedList") >= 0);
         }
     }
 
@@ -53,14 +139,14 @@ class IntegrationTest {
             if (operation.contains("add(в начало)") || operation.contains("remove(из начала)")) {
                 // LinkedList должен быть быстрее для операций в начале
                 // Но из-за маленьких размеров это может быть не всегда заметно
-                assertTrue(result.getArrayListTime() >= 0);
-                assertTrue(result.getLinkedListTime() >= 0);
+                assertTrue(result.getTime("ArrayList") >= 0);
+                assertTrue(result.getTime("LinkedList") >= 0);
             }
 
             if (operation.contains("get(по индексу)")) {
                 // ArrayList должен быть быстрее для доступа по индексу
-                assertTrue(result.getArrayListTime() >= 0);
-                assertTrue(result.getLinkedListTime() >= 0);
+                assertTrue(result.getTime("ArrayList") >= 0);
+                assertTrue(result.getTime("LinkedList") >= 0);
             }
         }
     }
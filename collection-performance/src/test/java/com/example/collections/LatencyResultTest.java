@@ -0,0 +1,60 @@
+package com.example.collections;
+
+import com.example.collections.instrument.HistogramSnapshot;
+import com.example.collections.instrument.LatencyHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса LatencyResult
+ */
+class LatencyResultTest {
+
+    @Test
+    void testTailRatio() {
+        LatencyResult result = createResult();
+
+        assertEquals(1.0, result.getTailRatio("IntArrayList"), 1e-9);
+        assertTrue(result.getTailRatio("ArrayList") > 100);
+        assertEquals(0, result.getTailRatio("Arrays.asList"));
+        assertFalse(result.isSupported("Arrays.asList"));
+        assertEquals(5000, result.getSnapshot("ArrayList").getPercentile(99.9));
+    }
+
+    @Test
+    void testToPerformanceResult() {
+        PerformanceResult performance = createResult().toPerformanceResult();
+
+        assertEquals(LatencyResult.LATENCY_PREFIX + "add(в конец)", performance.getOperationName());
+        assertEquals(1, performance.getOperationCount());
+        assertEquals(40, performance.getTime("IntArrayList"));
+        TimingStatistics arrayList = performance.getStatistics("ArrayList");
+        assertTrue(arrayList.getSampleCount() <= LatencyResult.MAX_SAMPLES);
+        // Копирования массива - хвост распределения, а не выбросы
+        assertEquals(0, arrayList.getRejectedCount());
+        assertEquals(5000, arrayList.getSamples()[arrayList.getSampleCount() - 1]);
+        assertTrue(arrayList.getMean() > 80, "mean = " + arrayList.getMean());
+        assertFalse(performance.isSupported("Arrays.asList"));
+    }
+
+    private static LatencyResult createResult() {
+        LatencyHistogram arrayList = new LatencyHistogram();
+        for (int i = 0; i < 10_000; i++) {
+            // Каждая сотая вставка копирует массив
+            arrayList.record(i % 100 == 99 ? 5000 : 40);
+        }
+        LatencyHistogram intArrayList = new LatencyHistogram();
+        for (int i = 0; i < 100; i++) {
+            intArrayList.record(40);
+        }
+        Map<String, HistogramSnapshot> snapshots = new LinkedHashMap<>();
+        snapshots.put("ArrayList", arrayList.snapshot());
+        snapshots.put("IntArrayList", intArrayList.snapshot());
+        snapshots.put("Arrays.asList", null);
+        return new LatencyResult("add(в конец)", 1, snapshots);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.collections;
+
+import com.example.collections.instrument.HistogramSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса LatencyTester
+ */
+class LatencyTesterTest {
+
+    private static final int OPERATIONS = 1000;
+
+    @Test
+    void testRecordsEveryOperation() {
+        ListRegistry registry = ListRegistry.defaults(OPERATIONS)
+                .select(Arrays.asList("ArrayList", "LinkedList", "Arrays.asList", "IntArrayList"));
+        LatencyTester tester = new LatencyTester(OPERATIONS, 1, new MeasurementConfig(1, 2, 3), registry);
+
+        List<LatencyResult> results = tester.run(name -> true);
+
+        assertEquals(tester.getScenarioNames().size(), results.size());
+        for (LatencyResult result : results) {
+            for (String name : Arrays.asList("ArrayList", "LinkedList", "IntArrayList")) {
+                HistogramSnapshot snapshot = result.getSnapshot(name);
+                assertEquals(3L * OPERATIONS, snapshot.getCount(), result.getScenarioName() + " " + name);
+                assertTrue(snapshot.getPercentile(99.9) <= snapshot.getMax());
+            }
+            boolean readOnly = result.getScenarioName().startsWith("get") || result.getScenarioName().startsWith("search");
+            assertEquals(readOnly, result.isSupported("Arrays.asList"), result.getScenarioName());
+        }
+    }
+
+    @Test
+    void testBatchesAmortizeTimer() {
+        ListRegistry registry = ListRegistry.defaults(OPERATIONS).select(Arrays.asList("ArrayList", "IntArrayList"));
+        LatencyTester tester = new LatencyTester(OPERATIONS, 64, new MeasurementConfig(1, 1, 2), registry);
+
+        List<LatencyResult> results = tester.run(name -> name.equals("add(в конец)"));
+
+        assertEquals(1, results.size());
+        assertEquals(64, results.get(0).getBatchSize());
+        // 15 полных пакетов и один неполный на каждый из двух проходов
+        assertEquals(2 * 16, results.get(0).getSnapshot("ArrayList").getCount());
+        assertEquals(2 * 16, results.get(0).getSnapshot("IntArrayList").getCount());
+    }
+
+    @Test
+    void testScenarioNamesMatchLoopScenarios() {
+        List<String> loopScenarios = new ListPerformanceTester(10).getScenarioNames();
+        LatencyTester tester = new LatencyTester(10, 1, MeasurementConfig.defaults(), ListRegistry.defaults(10));
+
+        assertTrue(loopScenarios.containsAll(tester.getScenarioNames()));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        ListRegistry registry = ListRegistry.defaults(10);
+        assertThrows(IllegalArgumentException.class,
+                () -> new LatencyTester(0, 1, MeasurementConfig.defaults(), registry));
+        assertThrows(IllegalArgumentException.class,
+                () -> new LatencyTester(10, 0, MeasurementConfig.defaults(), registry));
+        assertTrue(LatencyTester.timerOverhead() >= 0);
+    }
+}
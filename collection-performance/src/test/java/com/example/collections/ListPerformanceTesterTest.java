@@ -1,13 +1,24 @@
 package com.example.collections;
 
+import com.example.collections.lists.IntArrayList;
+import com.example.collections.trace.RecordingList;
+import com.example.collections.trace.TraceRecorder;
+import com.example.collections.trace.TraceReplayer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -168,10 +179,12 @@ class ListPerformanceTesterTest {
 
         for (PerformanceResult result : results) {
             assertNotNull(result.getOperationName());
-            assertTrue(result.getArrayListTime() >= 0);
-            assertTrue(result.getLinkedListTime() >= 0);
+            assertTrue(result.getTime("ArrayList") >= 0);
+            assertTrue(result.getTime("LinkedList") >= 0);
             assertTrue(result.getOperationCount() == SMALL_OPERATION_COUNT);
         }
+        assertEquals(tester.getRegistry().getAllNames(), tester.getLastFootprint().getImplementationNames());
+        assertEquals(SMALL_OPERATION_COUNT, tester.getLastFootprint().getElementCount());
     }
 
     @ParameterizedTest
@@ -202,4 +215,317 @@ class ListPerformanceTesterTest {
             assertEquals(i, linkedList.get(i));
         }
     }
+
+    @Test
+    void testRunAllTestsAcrossRegistry() {
+        ListRegistry registry = new ListRegistry()
+                .register("ArrayList", ArrayList::new)
+                .register("Vector", Vector::new)
+                .register("Arrays.asList", () -> Arrays.asList(new Integer[SMALL_OPERATION_COUNT]));
+        ListPerformanceTester registryTester =
+                new ListPerformanceTester(SMALL_OPERATION_COUNT, new MeasurementConfig(1, 2, 3), registry);
+
+        for (PerformanceResult result : registryTester.runAllTests()) {
+            assertEquals(registry.getNames(), result.getImplementationNames());
+            assertTrue(result.isSupported("ArrayList"));
+            assertTrue(result.isSupported("Vector"));
+            assertEquals(result.getOperationName().startsWith("get")
+                            || result.getOperationName().startsWith("search")
+                            || result.getOperationName().startsWith("iteration"),
+                    result.isSupported("Arrays.asList"));
+        }
+    }
+
+    @Test
+    void testPrefilledListIsNotRefilled() {
+        List<Integer> fixedSize = Arrays.asList(new Integer[SMALL_OPERATION_COUNT]);
+
+        assertTrue(tester.testIteration(fixedSize) >= 0);
+        assertEquals(SMALL_OPERATION_COUNT, fixedSize.size());
+    }
+
+    @Test
+    void testPrimitiveScenarios() {
+        IntArrayList added = new IntArrayList();
+        assertTrue(tester.testAddToEnd(added) >= 0);
+        assertEquals(SMALL_OPERATION_COUNT, added.size());
+
+        IntArrayList prepended = new IntArrayList();
+        tester.testAddToBeginning(prepended);
+        assertEquals(SMALL_OPERATION_COUNT - 1, prepended.getInt(0));
+
+        IntArrayList removed = new IntArrayList();
+        assertTrue(tester.testRemoveFromRandomPosition(removed) >= 0);
+        assertTrue(removed.isEmpty());
+
+        IntArrayList searched = new IntArrayList();
+        assertTrue(tester.testSearchElement(searched) >= 0);
+        assertEquals(SMALL_OPERATION_COUNT, searched.size());
+    }
+
+    @Test
+    void testPhaseShift() {
+        List<Integer> list = new ArrayList<>();
+        IntArrayList intList = new IntArrayList();
+
+        assertTrue(tester.testPhaseShift(list) >= 0);
+        assertTrue(tester.testPhaseShift(intList) >= 0);
+        assertEquals(SMALL_OPERATION_COUNT, list.size());
+        assertEquals(SMALL_OPERATION_COUNT - 1, list.get(0));
+        assertEquals(SMALL_OPERATION_COUNT - 1, intList.getInt(0));
+    }
+
+    @Test
+    void testIteratorScenarios() {
+        List<Integer> inserted = new LinkedList<>();
+        assertTrue(tester.testIteratorInsert(inserted) >= 0);
+        assertEquals(2 * SMALL_OPERATION_COUNT, inserted.size());
+        assertEquals(Arrays.asList(0, -1, 1, -1), inserted.subList(0, 4));
+
+        List<Integer> removed = new ArrayList<>();
+        tester.testIteratorRemove(removed);
+        assertEquals(SMALL_OPERATION_COUNT / 2, removed.size());
+        assertEquals(Arrays.asList(1, 3, 5), removed.subList(0, 3));
+
+        List<Integer> filtered = new LinkedList<>();
+        tester.testRemoveIf(filtered);
+        assertEquals(removed, filtered);
+
+        List<Integer> replaced = new ArrayList<>();
+        tester.testReplaceMiddle(replaced);
+        for (int i = 0; i < SMALL_OPERATION_COUNT; i++) {
+            assertEquals(i, replaced.get(i));
+        }
+
+        assertThrows(UnsupportedOperationException.class,
+                () -> tester.testIteratorInsert(new CopyOnWriteArrayList<>()));
+    }
+
+    @Test
+    void testPrimitiveIteratorScenarios() {
+        IntArrayList inserted = new IntArrayList();
+        tester.testIteratorInsert(inserted);
+        assertEquals(2 * SMALL_OPERATION_COUNT, inserted.size());
+        assertEquals(-1, inserted.getInt(1));
+        assertEquals(1, inserted.getInt(2));
+
+        IntArrayList removed = new IntArrayList();
+        tester.testIteratorRemove(removed);
+        IntArrayList filtered = new IntArrayList();
+        tester.testRemoveIf(filtered);
+        assertArrayEquals(filtered.toArray(), removed.toArray());
+        assertEquals(SMALL_OPERATION_COUNT / 2, removed.size());
+
+        IntArrayList replaced = new IntArrayList();
+        tester.testReplaceMiddle(replaced);
+        for (int i = 0; i < SMALL_OPERATION_COUNT; i++) {
+            assertEquals(i, replaced.getInt(i));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 0.5, 1})
+    void testBulkAndLoopAddAllAgree(double position) {
+        List<Integer> bulk = new ArrayList<>();
+        List<Integer> loop = new LinkedList<>();
+        tester.testBulkAddAll(bulk, position);
+        tester.testLoopAddAll(loop, position);
+
+        assertEquals(2 * SMALL_OPERATION_COUNT, bulk.size());
+        assertEquals(bulk, loop);
+        assertEquals(0, bulk.get((int) (SMALL_OPERATION_COUNT * position)));
+        assertEquals(-1, bulk.get((int) (SMALL_OPERATION_COUNT * position) + 1));
+
+        IntArrayList intBulk = new IntArrayList();
+        IntArrayList intLoop = new IntArrayList();
+        tester.testBulkAddAll(intBulk, position);
+        tester.testLoopAddAll(intLoop, position);
+        assertArrayEquals(intBulk.toArray(), intLoop.toArray());
+        assertEquals(bulk.get(1), intBulk.getInt(1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 50, 90})
+    void testBulkAndLoopRemoveIfAgree(int percent) {
+        List<Integer> bulk = new ArrayList<>();
+        List<Integer> loop = new LinkedList<>();
+        tester.testBulkRemoveIf(bulk, percent);
+        tester.testLoopRemoveIf(loop, percent);
+
+        assertEquals(SMALL_OPERATION_COUNT * (100 - percent) / 100, bulk.size());
+        assertEquals(bulk, loop);
+        assertEquals(percent, bulk.get(0));
+
+        IntArrayList intBulk = new IntArrayList();
+        IntArrayList intLoop = new IntArrayList();
+        tester.testBulkRemoveIf(intBulk, percent);
+        tester.testLoopRemoveIf(intLoop, percent);
+        assertArrayEquals(intBulk.toArray(), intLoop.toArray());
+        assertEquals(bulk.size(), intBulk.size());
+    }
+
+    @Test
+    void testBulkScenarios() {
+        List<Integer> replaced = new ArrayList<>();
+        List<Integer> replacedByLoop = new LinkedList<>();
+        tester.testBulkReplaceAll(replaced);
+        tester.testLoopReplaceAll(replacedByLoop);
+        assertEquals(1, replaced.get(0));
+        assertEquals(replaced, replacedByLoop);
+
+        List<Integer> sorted = new ArrayList<>();
+        tester.testBulkSort(sorted);
+        for (int i = 0; i < SMALL_OPERATION_COUNT; i++) {
+            assertEquals(i, sorted.get(i));
+        }
+
+        List<Integer> cleared = new ArrayList<>();
+        List<Integer> clearedByLoop = new LinkedList<>();
+        tester.testBulkClearRange(cleared);
+        tester.testLoopClearRange(clearedByLoop);
+        assertEquals(SMALL_OPERATION_COUNT / 2, cleared.size());
+        assertEquals(cleared, clearedByLoop);
+        IntArrayList intCleared = new IntArrayList();
+        tester.testLoopClearRange(intCleared);
+        assertEquals(cleared.get(SMALL_OPERATION_COUNT / 4), intCleared.getInt(SMALL_OPERATION_COUNT / 4));
+
+        assertTrue(tester.testBulkToArray(new LinkedList<>()) >= 0);
+        assertTrue(tester.testLoopToArray(new LinkedList<>()) >= 0);
+        assertTrue(tester.testBulkCopy(Arrays.asList(new Integer[SMALL_OPERATION_COUNT])) >= 0);
+        assertTrue(tester.testLoopCopy(new ArrayList<>()) >= 0);
+    }
+
+    @Test
+    void testRunBulkTests() {
+        ListRegistry registry = ListRegistry.defaults(SMALL_OPERATION_COUNT)
+                .select(Arrays.asList("ArrayList", "Arrays.asList", "IntArrayList"));
+        ListPerformanceTester registryTester =
+                new ListPerformanceTester(SMALL_OPERATION_COUNT, new MeasurementConfig(1, 2, 3), registry);
+
+        PerformanceResult[] results = registryTester.runBulkTests();
+
+        assertEquals(21, results.length);
+        for (int i = 0; i < results.length; i++) {
+            String name = results[i].getOperationName();
+            assertTrue(ListPerformanceTester.isBulk(name));
+            assertTrue(results[i].isSupported("ArrayList"));
+            if (name.endsWith(ListPerformanceTester.LOOP_SUFFIX)) {
+                assertEquals(results[i - 1].getOperationName() + ListPerformanceTester.LOOP_SUFFIX, name);
+            }
+        }
+        Map<String, PerformanceResult> byName = new HashMap<>();
+        for (PerformanceResult result : results) {
+            byName.put(result.getOperationName(), result);
+        }
+        assertTrue(byName.get("bulk.addAll(в середину)").isSupported("IntArrayList"));
+        assertFalse(byName.get("bulk.sort").isSupported("IntArrayList"));
+        assertTrue(byName.get("bulk.sort").isSupported("Arrays.asList"));
+        assertFalse(byName.get("bulk.removeIf(50%)").isSupported("Arrays.asList"));
+
+        for (PerformanceResult result : registryTester.runAllTests()) {
+            assertFalse(ListPerformanceTester.isBulk(result.getOperationName()));
+        }
+    }
+
+    @Test
+    void testBoxedAndPrimitiveSideBySide() {
+        ListRegistry registry = ListRegistry.defaults(SMALL_OPERATION_COUNT)
+                .select(Arrays.asList("ArrayList", "IntArrayList"));
+        ListPerformanceTester registryTester =
+                new ListPerformanceTester(SMALL_OPERATION_COUNT, new MeasurementConfig(1, 2, 3), registry);
+
+        for (PerformanceResult result : registryTester.runAllTests()) {
+            assertTrue(result.isSupported("ArrayList"));
+            assertTrue(result.isSupported("IntArrayList"));
+        }
+    }
+
+    @Test
+    void testRunTestsWithFilter() {
+        PerformanceResult[] results = tester.runTests(name -> name.startsWith("get"));
+
+        assertEquals(2, results.length);
+        assertEquals("get(по индексу)", results[0].getOperationName());
+        assertEquals(36, tester.getScenarioNames().size());
+        assertTrue(results[0].isSupported("OffHeapIntList"));
+    }
+
+    @Test
+    void testResourceUsageRecordedForTimedRegion() {
+        tester.testAddToEnd(new LinkedList<>());
+        ResourceUsage linkedListUsage = tester.getLastResourceUsage();
+        tester.testGetByIndex(new ArrayList<>());
+        ResourceUsage getUsage = tester.getLastResourceUsage();
+
+        if (linkedListUsage.isAllocationSupported()) {
+            // Узлы LinkedList выделяются в замеряемом цикле, заполнение перед get - нет
+            assertTrue(linkedListUsage.getAllocatedBytes() >= SMALL_OPERATION_COUNT * 24L);
+            assertTrue(getUsage.getAllocatedBytes() < linkedListUsage.getAllocatedBytes());
+        }
+    }
+
+    @Test
+    void testResourceUsageInResults() {
+        for (PerformanceResult result : tester.runTests(name -> name.startsWith("add"))) {
+            for (String name : result.getRanking()) {
+                assertNotNull(result.getStatistics(name).getResourceUsage());
+            }
+        }
+    }
+
+    @Test
+    void testFootprintCoversAllImplementations() {
+        FootprintResult footprint = tester.runFootprintTest();
+
+        assertEquals(tester.getRegistry().getAllNames(), footprint.getImplementationNames());
+        assertEquals(SMALL_OPERATION_COUNT, footprint.getElementCount());
+        assertTrue(footprint.getFootprint("LinkedList").getTotalBytes()
+                > footprint.getFootprint("ArrayList").getTotalBytes());
+        assertEquals(0, footprint.getFootprint("IntArrayList").getElementBytes());
+        assertTrue(footprint.getFootprint("OffHeapIntList").getOffHeapBytes() >= 0);
+    }
+
+    @Test
+    void testRunCold() {
+        ListRegistry registry = ListRegistry.defaults(SMALL_OPERATION_COUNT)
+                .select(Arrays.asList("ArrayList", "Arrays.asList", "IntArrayList"));
+        ListPerformanceTester coldTester = new ListPerformanceTester(SMALL_OPERATION_COUNT,
+                new MeasurementConfig(0, 0, 1), registry);
+
+        assertEquals(4, coldTester.runCold("add(в конец)", "ArrayList", 4).length);
+        assertEquals(2, coldTester.runCold("get(по индексу)", "IntArrayList", 2).length);
+        assertThrows(UnsupportedOperationException.class,
+                () -> coldTester.runCold("add(в конец)", "Arrays.asList", 1));
+        assertThrows(IllegalArgumentException.class, () -> coldTester.runCold("unknown", "ArrayList", 1));
+        assertThrows(IllegalArgumentException.class, () -> coldTester.runCold("add(в конец)", "Unknown", 1));
+    }
+
+    @Test
+    void testRunTrace(@TempDir Path directory) {
+        Path file = directory.resolve("tester.trace");
+        try (TraceRecorder recorder = new TraceRecorder(file, 0)) {
+            List<Integer> list = new RecordingList(new ArrayList<>(), recorder);
+            for (int i = 0; i < SMALL_OPERATION_COUNT; i++) {
+                list.add(0, i);
+            }
+        }
+
+        PerformanceResult result = tester.runTrace(new TraceReplayer(file));
+
+        assertEquals("trace(tester.trace)", result.getOperationName());
+        assertEquals(SMALL_OPERATION_COUNT, result.getOperationCount());
+        assertTrue(result.isSupported("LinkedList"));
+        assertTrue(result.isSupported("IntArrayList"));
+        assertFalse(result.isSupported("ConcurrentAppendList"));
+
+        ListRegistry appendOnly = new ListRegistry().registerPrimitive("AppendOnlyIntList", () -> new IntArrayList() {
+            @Override
+            public void add(int index, int value) {
+                throw new UnsupportedOperationException();
+            }
+        });
+        PerformanceResult primitive = new ListPerformanceTester(SMALL_OPERATION_COUNT,
+                new MeasurementConfig(1, 2, 3), appendOnly).runTrace(new TraceReplayer(file));
+        assertFalse(primitive.isSupported("AppendOnlyIntList"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ListRegistry
+ */
+class ListRegistryTest {
+
+    @Test
+    void testDefaults() {
+        ListRegistry registry = ListRegistry.defaults(10);
+
+        assertTrue(registry.getNames().containsAll(Arrays.asList(
+                "ArrayList", "LinkedList", "Vector", "CopyOnWriteArrayList", "SynchronizedList", "Arrays.asList")));
+        assertEquals("ArrayList", registry.getNames().iterator().next());
+        assertTrue(registry.get("LinkedList").get().isEmpty());
+        assertEquals(10, registry.get("Arrays.asList").get().size());
+    }
+
+    @Test
+    void testThreadSafeNamesAreRegistered() {
+        assertTrue(ListRegistry.defaults(10).getNames().containsAll(ListRegistry.THREAD_SAFE));
+        assertFalse(ListRegistry.THREAD_SAFE.contains("ArrayList"));
+    }
+
+    @Test
+    void testConcurrent() {
+        ListRegistry registry = ListRegistry.concurrent();
+
+        assertEquals(Arrays.asList("SynchronizedList(ArrayList)", "SynchronizedList(LinkedList)",
+                "CopyOnWriteArrayList", "ReadWriteLockList", "ConcurrentAppendList"),
+                new ArrayList<>(registry.getNames()));
+        assertTrue(registry.getPrimitiveNames().isEmpty());
+    }
+
+    @Test
+    void testSuppliersCreateNewInstances() {
+        ListRegistry registry = ListRegistry.defaults(10);
+        List<Integer> first = registry.get("ArrayList").get();
+        first.add(1);
+
+        assertTrue(registry.get("ArrayList").get().isEmpty());
+    }
+
+    @Test
+    void testRegisterCustomList() {
+        ListRegistry registry = new ListRegistry().register("Custom", () -> new ArrayList<>(16));
+
+        assertEquals(1, registry.size());
+        assertNotNull(registry.get("Custom").get());
+        assertThrows(IllegalArgumentException.class, () -> registry.register("Custom", ArrayList::new));
+    }
+
+    @Test
+    void testSelectKeepsRegistrationOrder() {
+        ListRegistry selected = ListRegistry.defaults(10).select(Arrays.asList("Vector", "ArrayList"));
+
+        assertEquals(Arrays.asList("ArrayList", "Vector"), new ArrayList<>(selected.getNames()));
+        assertThrows(IllegalArgumentException.class,
+                () -> ListRegistry.defaults(10).select(Arrays.asList("Unknown")));
+    }
+
+    @Test
+    void testUnknownImplementation() {
+        assertThrows(IllegalArgumentException.class, () -> ListRegistry.defaults(10).get("Unknown"));
+    }
+
+    @Test
+    void testPrimitiveImplementations() {
+        ListRegistry registry = ListRegistry.defaults(10);
+
+        assertTrue(registry.getPrimitiveNames().contains("IntArrayList"));
+        assertFalse(registry.getNames().contains("IntArrayList"));
+        assertTrue(registry.getAllNames().contains("IntArrayList"));
+        assertTrue(registry.getPrimitive("IntArrayList").get().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> registry.register("IntArrayList", ArrayList::new));
+    }
+}
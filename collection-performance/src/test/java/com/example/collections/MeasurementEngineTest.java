@@ -0,0 +1,97 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса MeasurementEngine
+ */
+class MeasurementEngineTest {
+
+    @Test
+    void testStopsWarmupAtSteadyState() {
+        MeasurementEngine engine = new MeasurementEngine(new MeasurementConfig(3, 20, 5), JitMonitor.NONE);
+        AtomicInteger calls = new AtomicInteger();
+
+        TimingStatistics statistics = engine.measure(() -> {
+            calls.incrementAndGet();
+            return 1000;
+        });
+
+        assertTrue(statistics.isSteadyState());
+        assertEquals(3, statistics.getWarmupIterations());
+        assertEquals(8, calls.get());
+        assertEquals(5, statistics.getSampleCount());
+        assertFalse(statistics.getJitActivity().isSupported());
+    }
+
+    @Test
+    void testWarmupContinuesWhileJitCompiles() {
+        AtomicInteger calls = new AtomicInteger();
+        // Компилятор работает во время первых шести итераций, затем затихает
+        JitMonitor jitMonitor = new JitMonitor(() -> Math.min(calls.get(), 6) * 10L);
+        MeasurementEngine engine = new MeasurementEngine(new MeasurementConfig(3, 20, 5), jitMonitor);
+
+        TimingStatistics statistics = engine.measure(() -> {
+            calls.incrementAndGet();
+            return 1000;
+        });
+
+        // Время стабильно с третьей итерации, но окно из трёх итераций без компиляции - только к девятой
+        assertTrue(statistics.isSteadyState());
+        assertEquals(9, statistics.getWarmupIterations());
+        assertEquals(60, statistics.getJitActivity().getWarmupCompilationMillis());
+        assertEquals(0, statistics.getJitActivity().getOverlappedCount());
+    }
+
+    @Test
+    void testMeasuredIterationsOverlappingJitAreTagged() {
+        AtomicInteger calls = new AtomicInteger();
+        // Компиляция во время второго и четвёртого замера (итерации 3 и 5 после трёх итераций прогрева)
+        JitMonitor jitMonitor = new JitMonitor(() -> (calls.get() >= 5 ? 2L : 0L) + (calls.get() >= 7 ? 3L : 0L));
+        MeasurementEngine engine = new MeasurementEngine(new MeasurementConfig(3, 3, 5), jitMonitor);
+
+        TimingStatistics statistics = engine.measure(() -> {
+            calls.incrementAndGet();
+            return 1000;
+        });
+
+        JitActivity jit = statistics.getJitActivity();
+        assertArrayEquals(new long[] {0, 2, 0, 3, 0}, jit.getCompilationMillis());
+        assertTrue(jit.isOverlapped(1));
+        assertFalse(jit.isOverlapped(2));
+        assertEquals(2, jit.getOverlappedCount());
+        assertEquals(5, jit.getMeasurementCompilationMillis());
+    }
+
+    @Test
+    void testWarmupLimitedByMaximum() {
+        MeasurementEngine engine = new MeasurementEngine(new MeasurementConfig(2, 6, 4), JitMonitor.NONE);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Время каждый раз удваивается - стабильность не наступит
+        TimingStatistics statistics = engine.measure(() -> 1L << calls.incrementAndGet());
+
+        assertFalse(statistics.isSteadyState());
+        assertEquals(6, statistics.getWarmupIterations());
+        assertEquals(10, calls.get());
+    }
+
+    @Test
+    void testIsSteady() {
+        MeasurementEngine engine = new MeasurementEngine(new MeasurementConfig(0, 10, 1, 3, 0.05));
+
+        assertTrue(engine.isSteady(new long[] {500, 100, 101, 99}, 4));
+        assertFalse(engine.isSteady(new long[] {100, 200, 300}, 3));
+        assertFalse(engine.isSteady(new long[] {100, 100}, 2));
+    }
+
+    @Test
+    void testInvalidConfig() {
+        assertThrows(IllegalArgumentException.class, () -> new MeasurementConfig(5, 2, 10));
+        assertThrows(IllegalArgumentException.class, () -> new MeasurementConfig(1, 2, 0));
+    }
+}
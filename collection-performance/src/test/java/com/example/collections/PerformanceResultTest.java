@@ -1,6 +1,11 @@
 package com.example.collections;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -8,49 +13,57 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 class PerformanceResultTest {
 
+    private static PerformanceResult result(long arrayListTime, long linkedListTime) {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("ArrayList", TimingStatistics.single(arrayListTime));
+        statistics.put("LinkedList", TimingStatistics.single(linkedListTime));
+        return new PerformanceResult("test", 1000, statistics);
+    }
+
     @Test
     void testConstructorAndGetters() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 5000, 10000);
+        PerformanceResult result = result(5000, 10000);
 
         assertEquals("test", result.getOperationName());
         assertEquals(1000, result.getOperationCount());
-        assertEquals(5000, result.getArrayListTime());
-        assertEquals(10000, result.getLinkedListTime());
+        assertEquals(5000, result.getTime("ArrayList"));
+        assertEquals(10000, result.getTime("LinkedList"));
+        assertEquals(Arrays.asList("ArrayList", "LinkedList"), Arrays.asList(result.getImplementationNames().toArray()));
     }
 
     @Test
     void testGetFasterList_ArrayListFaster() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 1000, 2000);
+        PerformanceResult result = result(1000, 2000);
         assertEquals("ArrayList", result.getFasterList());
     }
 
     @Test
     void testGetFasterList_LinkedListFaster() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 2000, 1000);
+        PerformanceResult result = result(2000, 1000);
         assertEquals("LinkedList", result.getFasterList());
     }
 
     @Test
     void testGetTimeDifference() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 1000, 3000);
+        PerformanceResult result = result(1000, 3000);
         assertEquals(2000, result.getTimeDifference());
     }
 
     @Test
     void testGetPerformanceRatio() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 1000, 3000);
+        PerformanceResult result = result(1000, 3000);
         assertEquals(3.0, result.getPerformanceRatio(), 0.01);
     }
 
     @Test
     void testGetPerformanceRatio_Reverse() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 3000, 1000);
+        PerformanceResult result = result(3000, 1000);
         assertEquals(3.0, result.getPerformanceRatio(), 0.01);
     }
 
     @Test
     void testToString() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 1000, 3000);
+        PerformanceResult result = result(1000, 3000);
         String stringResult = result.toString();
 
         assertTrue(stringResult.contains("test"));
@@ -61,8 +74,61 @@ class PerformanceResultTest {
 
     @Test
     void testZeroTimes() {
-        PerformanceResult result = new PerformanceResult("test", 1000, 0, 0);
+        PerformanceResult result = result(0, 0);
         assertEquals(0, result.getPerformanceRatio());
         assertEquals(0, result.getTimeDifference());
     }
+
+    @Test
+    void testGetFasterList_OverlappingIntervalsIsTie() {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("ArrayList", new TimingStatistics(new long[] {90, 110, 100, 105}));
+        statistics.put("LinkedList", new TimingStatistics(new long[] {95, 115, 100, 102}));
+
+        PerformanceResult result = new PerformanceResult("test", 1000, statistics);
+        assertEquals(PerformanceResult.TIE, result.getFasterList());
+    }
+
+    @Test
+    void testGetFasterList_SeparatedIntervals() {
+        TimingStatistics linkedList = new TimingStatistics(new long[] {100, 101, 99, 100});
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("ArrayList", new TimingStatistics(new long[] {300, 310, 305, 302}));
+        statistics.put("LinkedList", linkedList);
+
+        PerformanceResult result = new PerformanceResult("test", 1000, statistics);
+        assertEquals("LinkedList", result.getFasterList());
+        assertEquals(304, result.getTime("ArrayList"));
+        assertSame(linkedList, result.getStatistics("LinkedList"));
+    }
+
+    @Test
+    void testRankingAcrossImplementations() {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("ArrayList", TimingStatistics.single(300));
+        statistics.put("LinkedList", TimingStatistics.single(100));
+        statistics.put("Vector", TimingStatistics.single(200));
+
+        PerformanceResult result = new PerformanceResult("test", 1000, statistics);
+        assertEquals(Arrays.asList("LinkedList", "Vector", "ArrayList"), result.getRanking());
+        assertEquals(1, result.getRank("LinkedList"));
+        assertEquals(3, result.getRank("ArrayList"));
+        assertEquals(3.0, result.getPerformanceRatio(), 0.01);
+        assertEquals(200, result.getTimeDifference());
+    }
+
+    @Test
+    void testUnsupportedImplementation() {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("ArrayList", TimingStatistics.single(300));
+        statistics.put("Arrays.asList", null);
+
+        PerformanceResult result = new PerformanceResult("test", 1000, statistics);
+        assertTrue(result.isSupported("ArrayList"));
+        assertFalse(result.isSupported("Arrays.asList"));
+        assertEquals(0, result.getRank("Arrays.asList"));
+        assertEquals("ArrayList", result.getFasterList());
+        assertThrows(IllegalArgumentException.class, () -> result.getTime("Arrays.asList"));
+        assertTrue(result.toString().contains("Arrays.asList=n/a"));
+    }
 }
\ No newline at end of file
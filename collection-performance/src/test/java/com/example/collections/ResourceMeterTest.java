@@ -0,0 +1,87 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit тесты для классов ResourceMeter и ResourceUsage
+ */
+class ResourceMeterTest {
+
+    private static volatile Object sink;
+
+    @Test
+    void testMeasuresAllocatedBytes() {
+        ResourceMeter meter = new ResourceMeter();
+        assumeTrue(meter.isAllocationSupported());
+
+        meter.start();
+        sink = new byte[1_000_000];
+        ResourceUsage usage = meter.stop();
+
+        assertTrue(usage.getAllocatedBytes() >= 1_000_000);
+        assertTrue(usage.getAllocatedBytes() < 1_100_000);
+        assertSame(usage, meter.getLastUsage());
+    }
+
+    @Test
+    void testNoAllocationsMeasuredAsZero() {
+        ResourceMeter meter = new ResourceMeter();
+        assumeTrue(meter.isAllocationSupported());
+
+        meter.start();
+        ResourceUsage usage = meter.stop();
+
+        assertTrue(usage.getAllocatedBytes() < 1024);
+        assertTrue(usage.getGcCount() >= 0);
+    }
+
+    @Test
+    void testGcCounted() {
+        ResourceMeter meter = new ResourceMeter();
+
+        meter.start();
+        System.gc();
+        ResourceUsage usage = meter.stop();
+
+        assertTrue(usage.getGcCount() >= 1);
+    }
+
+    @Test
+    void testAverage() {
+        ResourceUsage average = ResourceUsage.average(new ResourceUsage[] {
+                new ResourceUsage(100, 1, 10),
+                new ResourceUsage(300, 3, 30)
+        });
+
+        assertEquals(200, average.getAllocatedBytes());
+        assertEquals(2, average.getGcCount());
+        assertEquals(20, average.getGcTimeMillis());
+        assertEquals(2.0, average.getAllocatedBytesPerOperation(100), 0.001);
+    }
+
+    @Test
+    void testAverageKeepsRareCollections() {
+        ResourceUsage[] usages = new ResourceUsage[10];
+        for (int i = 0; i < usages.length; i++) {
+            usages[i] = new ResourceUsage(0, i < 3 ? 1 : 0, i < 3 ? 5 : 0);
+        }
+        ResourceUsage average = ResourceUsage.average(usages);
+
+        assertEquals(0.3, average.getGcCount(), 1e-9);
+        assertEquals(1.5, average.getGcTimeMillis(), 1e-9);
+    }
+
+    @Test
+    void testAverageWithUnsupportedAllocation() {
+        ResourceUsage average = ResourceUsage.average(new ResourceUsage[] {
+                new ResourceUsage(ResourceUsage.UNSUPPORTED, 0, 0),
+                new ResourceUsage(300, 0, 0)
+        });
+
+        assertFalse(average.isAllocationSupported());
+        assertSame(ResourceUsage.NONE, ResourceUsage.average(new ResourceUsage[0]));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса SelfCheck
+ */
+class SelfCheckTest {
+
+    private static PerformanceResult result(int operationCount, long timeA, long timeB) {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("A", TimingStatistics.single(timeA));
+        statistics.put("B", TimingStatistics.single(timeB));
+        statistics.put("C", null);
+        return new PerformanceResult("get", operationCount, statistics);
+    }
+
+    @Test
+    void testTooFastIsFlagged() {
+        List<SelfCheck.Finding> findings = SelfCheck.check(new PerformanceResult[] {result(10000, 100, 50000)});
+
+        assertEquals(1, findings.size());
+        assertEquals("A", findings.get(0).getImplementationName());
+        assertEquals(SelfCheck.Reason.TOO_FAST, findings.get(0).getReason());
+        assertEquals(0.01, findings.get(0).getValue(), 1e-9);
+    }
+
+    @Test
+    void testFlatTimeIsFlagged() {
+        PerformanceResult[] full = {result(10000, 20000, 100000)};
+        PerformanceResult[] reduced = {result(1000, 15000, 10000)};
+
+        List<SelfCheck.Finding> findings = SelfCheck.check(full, reduced);
+
+        // A вырос лишь на треть при десятикратном росте числа операций, B - линейно
+        assertEquals(1, findings.size());
+        assertEquals("A", findings.get(0).getImplementationName());
+        assertEquals(SelfCheck.Reason.FLAT, findings.get(0).getReason());
+        assertTrue(findings.get(0).toString().startsWith("get / A: "));
+    }
+
+    @Test
+    void testNoFindingsForPlausibleResults() {
+        PerformanceResult[] full = {result(10000, 50000, 2000000)};
+        PerformanceResult[] reduced = {result(1000, 5000, 20000)};
+
+        assertTrue(SelfCheck.check(full, reduced).isEmpty());
+    }
+
+    @Test
+    void testGrowthCheckNeedsFullScale() {
+        // Контрольный прогон всего вдвое меньше - сравнение роста не делается
+        PerformanceResult[] full = {result(2000, 20000, 20000)};
+        PerformanceResult[] reduced = {result(1000, 20000, 20000)};
+
+        assertTrue(SelfCheck.check(full, reduced).isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса SizeSweep
+ */
+class SizeSweepTest {
+
+    private static final MeasurementConfig FAST = new MeasurementConfig(1, 1, 3);
+
+    @Test
+    void testGeometricSizes() {
+        assertEquals(Arrays.asList(100, 1000, 10000), SizeSweep.geometricSizes(100, 10000));
+        assertEquals(Arrays.asList(100, 1000, 5000), SizeSweep.geometricSizes(100, 5000));
+        assertEquals(Collections.singletonList(7), SizeSweep.geometricSizes(7, 7));
+        assertThrows(IllegalArgumentException.class, () -> SizeSweep.geometricSizes(100, 10));
+    }
+
+    @Test
+    void testRunCoversEverySize() {
+        SizeSweep sweep = new SizeSweep(10, 1000, 10_000, FAST,
+                size -> ListRegistry.defaults(size).select(Arrays.asList("ArrayList", "Arrays.asList")));
+
+        SweepResult result = sweep.run(name -> name.startsWith("get(по"));
+
+        assertEquals(Collections.singleton("get(по индексу)"), result.getScenarioNames());
+        assertEquals(3, result.getResults("get(по индексу)").size());
+        for (PerformanceResult perSize : result.getResults("get(по индексу)")) {
+            assertTrue(perSize.isSupported("ArrayList"));
+            assertTrue(perSize.isSupported("Arrays.asList"));
+        }
+    }
+
+    @Test
+    void testUnsupportedIsNotRetried() {
+        SizeSweep sweep = new SizeSweep(10, 1000, 10_000, FAST,
+                size -> ListRegistry.defaults(size).select(Arrays.asList("ArrayList", "Arrays.asList")));
+
+        SweepResult result = sweep.run(name -> name.startsWith("add(в конец)"));
+
+        for (PerformanceResult perSize : result.getResults("add(в конец)")) {
+            assertFalse(perSize.isSupported("Arrays.asList"));
+        }
+        assertNull(result.getSkippedFrom("add(в конец)", "Arrays.asList"));
+    }
+
+    @Test
+    void testBudgetSkipsLargerSizes() {
+        SizeSweep sweep = new SizeSweep(10, 100000, 1, FAST,
+                size -> ListRegistry.defaults(size).select(Collections.singletonList("LinkedList")));
+
+        SweepResult result = sweep.run(name -> name.startsWith("get(случайный"));
+
+        Integer skippedFrom = result.getSkippedFrom("get(случайный индекс)", "LinkedList");
+        assertNotNull(skippedFrom, "Квадратичный тест должен выйти за бюджет в 1 мс");
+        assertTrue(skippedFrom > 10);
+    }
+
+    @Test
+    void testPrediction() {
+        SizeSweep sweep = new SizeSweep(10, 1000, 1000, FAST);
+        List<long[]> measured = new ArrayList<>();
+        assertEquals(0, sweep.predictSeriesNanos(measured, 100));
+
+        measured.add(new long[] {100, 1000});
+        // Один замер: предполагается квадратичный рост, 4 итерации
+        assertEquals(1000L * 100 * 4, sweep.predictSeriesNanos(measured, 1000));
+
+        measured.add(new long[] {1000, 10000});
+        // Линейный рост по двум замерам
+        assertEquals(100000L * 4, sweep.predictSeriesNanos(measured, 10000));
+    }
+
+    @Test
+    void testPredictionCountsWarmupUpToMaximum() {
+        SizeSweep sweep = new SizeSweep(10, 1000, 1000, new MeasurementConfig(2, 20, 5));
+        List<long[]> measured = new ArrayList<>();
+
+        // Число итераций прогрева неизвестно - закладывается максимум
+        measured.add(new long[] {100, 1000});
+        assertEquals(1000L * 100 * (20 + 5), sweep.predictSeriesNanos(measured, 1000));
+
+        // На прошлом размере прогрев занял 7 итераций
+        measured.set(0, new long[] {100, 1000, 7});
+        assertEquals(1000L * 100 * (7 + 5), sweep.predictSeriesNanos(measured, 1000));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса StreamResult
+ */
+class StreamResultTest {
+
+    private static TimingStatistics constant(long time) {
+        return new TimingStatistics(new long[] {time, time, time, time});
+    }
+
+    @Test
+    void testSpeedupAndEfficiency() {
+        StreamResult result = new StreamResult("ArrayList", StreamTester.Pipeline.MAP_REDUCE, constant(1000),
+                new int[] {1, 2, 4}, new TimingStatistics[] {constant(1100), constant(600), constant(250)},
+                new double[] {1, 1, 0.5});
+
+        assertEquals(1000.0 / 1100, result.getSpeedup(1), 1e-9);
+        assertEquals(4.0, result.getSpeedup(4), 1e-9);
+        assertEquals(1.0, result.getEfficiency(4), 1e-9);
+        assertEquals(0.5, result.getSplitBalance(4));
+        assertEquals(2, result.getBreakEvenParallelism());
+        assertThrows(IllegalArgumentException.class, () -> result.getSpeedup(3));
+    }
+
+    @Test
+    void testNoBreakEvenWhenIntervalsOverlap() {
+        TimingStatistics noisy = new TimingStatistics(new long[] {500, 1500, 900, 1100});
+        StreamResult result = new StreamResult("LinkedList", StreamTester.Pipeline.FOR_EACH, noisy,
+                new int[] {1, 2}, new TimingStatistics[] {constant(1200), constant(950)}, new double[] {1, 0.01});
+
+        assertEquals(0, result.getBreakEvenParallelism());
+    }
+
+    @Test
+    void testMismatchedLengths() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamResult("ArrayList",
+                StreamTester.Pipeline.FILTER_COUNT, constant(1), new int[] {1, 2},
+                new TimingStatistics[] {constant(1)}, new double[] {1, 1}));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса StreamTester
+ */
+class StreamTesterTest {
+
+    private static final int SIZE = 10_000;
+
+    @Test
+    void testRunCoversPipelinesAndLevels() {
+        ListRegistry registry = ListRegistry.defaults(1000)
+                .select(Arrays.asList("ArrayList", "Arrays.asList", "IntArrayList"));
+        StreamTester tester = new StreamTester(1000, new MeasurementConfig(1, 2, 3), registry);
+
+        List<StreamResult> results = tester.run(3);
+
+        assertEquals(2 * StreamTester.Pipeline.values().length, results.size());
+        for (StreamResult result : results) {
+            assertArrayEquals(new int[] {1, 2, 3}, result.getParallelism());
+            assertTrue(result.getSequential().getMean() > 0);
+            assertTrue(result.getSpeedup(2) > 0);
+            assertEquals(1.0, result.getSplitBalance(1));
+        }
+        assertEquals("Arrays.asList", results.get(results.size() - 1).getImplementationName());
+    }
+
+    @Test
+    void testPipelinesGiveSameResultSequentialAndParallel() {
+        List<Integer> list = IntStream.range(0, SIZE).boxed().collect(Collectors.toList());
+
+        for (StreamTester.Pipeline pipeline : StreamTester.Pipeline.values()) {
+            assertEquals(pipeline.apply(list.stream()), pipeline.apply(list.parallelStream()), pipeline.getName());
+        }
+        assertEquals((long) SIZE / 2, StreamTester.Pipeline.FILTER_COUNT.apply(list.stream()));
+    }
+
+    @Test
+    void testSplitBalance() {
+        List<Integer> arrayList = new ArrayList<>();
+        List<Integer> linkedList = new LinkedList<>();
+        for (int i = 0; i < SIZE; i++) {
+            arrayList.add(i);
+            linkedList.add(i);
+        }
+
+        assertEquals(1.0, StreamTester.splitBalance(arrayList.spliterator(), 4), 0.01);
+        // LinkedList отдаёт пачки по 1024, 2048 ... элементов с начала списка
+        assertTrue(StreamTester.splitBalance(linkedList.spliterator(), 4) < 0.5);
+        assertEquals(0.0, StreamTester.splitBalance(Arrays.asList(1).spliterator(), 2));
+        assertEquals(1.0, StreamTester.splitBalance(linkedList.spliterator(), 1));
+    }
+
+    @Test
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamTester(0, MeasurementConfig.defaults(), ListRegistry.defaults(10)));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса SweepResult
+ */
+class SweepResultTest {
+
+    private static final List<Integer> SIZES = Arrays.asList(10, 100, 1000, 10000);
+
+    @Test
+    void testCrossoverSkipsTies() {
+        SweepResult result = sweep(
+                new long[] {100, 1000, 10000, 100000},
+                new long[] {200, 1000, 5000, 20000});
+
+        List<SweepResult.Crossover> crossovers = result.getCrossovers("get");
+
+        // На n=100 ничья, лидер сменился между 10 и 1000
+        assertEquals(1, crossovers.size());
+        assertEquals("A", crossovers.get(0).getPreviousLeader());
+        assertEquals("B", crossovers.get(0).getNextLeader());
+        assertEquals(10, crossovers.get(0).getLastSizeOfPrevious());
+        assertEquals(1000, crossovers.get(0).getFirstSizeOfNext());
+    }
+
+    @Test
+    void testPerOperationTimeAndComplexity() {
+        SweepResult result = sweep(
+                new long[] {100, 1000, 10000, 100000},
+                new long[] {1000, 100000, 10000000, 1000000000});
+
+        assertArrayEquals(new double[] {10, 10, 10, 10}, result.getPerOperationNanos("get", "A"), 1e-9);
+        assertEquals(ComplexityFit.Complexity.CONSTANT, result.getComplexity("get", "A").getComplexity());
+        assertEquals(ComplexityFit.Complexity.LINEAR, result.getComplexity("get", "B").getComplexity());
+    }
+
+    @Test
+    void testSkippedImplementation() {
+        Map<String, List<PerformanceResult>> results = new LinkedHashMap<>();
+        List<PerformanceResult> perSize = new ArrayList<>();
+        for (int size : SIZES) {
+            Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+            statistics.put("A", TimingStatistics.single(size));
+            statistics.put("B", size >= 1000 ? null : TimingStatistics.single(size));
+            perSize.add(new PerformanceResult("get", size, statistics));
+        }
+        results.put("get", perSize);
+        Map<String, Map<String, Integer>> skipped = new LinkedHashMap<>();
+        skipped.put("get", Collections.singletonMap("B", 1000));
+
+        SweepResult result = new SweepResult(SIZES, results, skipped);
+
+        assertEquals(1000, result.getSkippedFrom("get", "B"));
+        assertNull(result.getSkippedFrom("get", "A"));
+        assertTrue(Double.isNaN(result.getPerOperationNanos("get", "B")[2]));
+        assertNull(result.getComplexity("get", "B"));
+        assertThrows(IllegalArgumentException.class, () -> result.getResults("unknown"));
+    }
+
+    /**
+     * Строит результат с узкими доверительными интервалами; на n=100 интервалы пересекаются (ничья)
+     */
+    private static SweepResult sweep(long[] timesA, long[] timesB) {
+        List<PerformanceResult> perSize = new ArrayList<>();
+        for (int i = 0; i < SIZES.size(); i++) {
+            Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+            statistics.put("A", samples(timesA[i], i == 1 ? timesA[i] : 1));
+            statistics.put("B", samples(timesB[i], i == 1 ? timesB[i] : 1));
+            perSize.add(new PerformanceResult("get", SIZES.get(i), statistics));
+        }
+        Map<String, List<PerformanceResult>> results = new LinkedHashMap<>();
+        results.put("get", perSize);
+        return new SweepResult(SIZES, results, Collections.emptyMap());
+    }
+
+    private static TimingStatistics samples(long mean, long spread) {
+        return new TimingStatistics(new long[] {mean - spread, mean, mean + spread});
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса TimingStatistics
+ */
+class TimingStatisticsTest {
+
+    @Test
+    void testSingleSample() {
+        TimingStatistics statistics = TimingStatistics.single(500);
+
+        assertEquals(500, statistics.getMean());
+        assertEquals(500, statistics.getMedian());
+        assertEquals(0, statistics.getStandardDeviation());
+        assertEquals(500, statistics.getConfidenceLow());
+        assertEquals(500, statistics.getConfidenceHigh());
+        assertEquals(1, statistics.getSampleCount());
+    }
+
+    @Test
+    void testBasicStatistics() {
+        TimingStatistics statistics = new TimingStatistics(new long[] {10, 20, 30, 40, 50});
+
+        assertEquals(30, statistics.getMean(), 0.001);
+        assertEquals(30, statistics.getMedian(), 0.001);
+        assertEquals(46, statistics.getP90(), 0.001);
+        assertEquals(15.811, statistics.getStandardDeviation(), 0.001);
+        // t(0.975, 4) = 2.776
+        assertEquals(30 - 2.776 * 15.811 / Math.sqrt(5), statistics.getConfidenceLow(), 0.01);
+        assertEquals(30 + 2.776 * 15.811 / Math.sqrt(5), statistics.getConfidenceHigh(), 0.01);
+    }
+
+    @Test
+    void testOutlierRejection() {
+        TimingStatistics statistics = new TimingStatistics(new long[] {100, 101, 99, 100, 102, 98, 5000});
+
+        assertEquals(1, statistics.getRejectedCount());
+        assertEquals(6, statistics.getSampleCount());
+        assertEquals(100, statistics.getMean(), 0.001);
+    }
+
+    @Test
+    void testDistributionKeepsTail() {
+        long[] samples = {100, 100, 100, 100, 100, 100, 100, 100, 100, 5000};
+        TimingStatistics distribution = TimingStatistics.ofDistribution(samples, 10_000);
+        TimingStatistics measured = new TimingStatistics(samples);
+
+        assertEquals(0, distribution.getRejectedCount());
+        assertEquals(590, distribution.getMean(), 0.001);
+        assertEquals(5000, distribution.getSamples()[9]);
+        assertEquals(1, measured.getRejectedCount());
+        // Интервал по 10000 наблюдениям, а не по 10 точкам выборки
+        double halfWidth = distribution.getConfidenceHigh() - distribution.getMean();
+        assertEquals(1.96 * distribution.getStandardDeviation() / 100, halfWidth, 0.001);
+    }
+
+    @Test
+    void testSamplesAreSorted() {
+        TimingStatistics statistics = new TimingStatistics(new long[] {3, 1, 2});
+        assertArrayEquals(new long[] {1, 2, 3}, statistics.getSamples());
+    }
+
+    @Test
+    void testOverlaps() {
+        TimingStatistics fast = new TimingStatistics(new long[] {100, 101, 99, 100});
+        TimingStatistics slow = new TimingStatistics(new long[] {200, 201, 199, 200});
+        TimingStatistics noisy = new TimingStatistics(new long[] {50, 150, 250, 120});
+
+        assertFalse(fast.overlaps(slow));
+        assertTrue(fast.overlaps(noisy));
+        assertTrue(noisy.overlaps(fast));
+    }
+
+    @Test
+    void testEmptySamplesRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new TimingStatistics(new long[0]));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса WorkloadMix
+ */
+class WorkloadMixTest {
+
+    @Test
+    void testParse() {
+        WorkloadMix mix = WorkloadMix.parse("get=70, add=20,remove=10");
+
+        assertEquals(0.7, mix.getShare(WorkloadMix.Operation.GET), 1e-9);
+        assertEquals(0.2, mix.getShare(WorkloadMix.Operation.ADD), 1e-9);
+        assertEquals(0.1, mix.getShare(WorkloadMix.Operation.REMOVE), 1e-9);
+        assertEquals(0, mix.getShare(WorkloadMix.Operation.SET));
+        assertEquals("get 70%, add 20%, remove 10%", mix.toString());
+    }
+
+    @Test
+    void testWeightsAreNormalized() {
+        WorkloadMix mix = WorkloadMix.parse("get=3,removeLast=1");
+
+        assertEquals(0.75, mix.getShare(WorkloadMix.Operation.GET), 1e-9);
+        assertEquals(0.25, mix.getShare(WorkloadMix.Operation.REMOVE_LAST), 1e-9);
+    }
+
+    @Test
+    void testSampleFollowsShares() {
+        WorkloadMix mix = WorkloadMix.parse("get=70,add=20,remove=10");
+        int gets = 0;
+        for (WorkloadMix.Operation operation : mix.sample(100000, new Random(1))) {
+            if (operation == WorkloadMix.Operation.GET) {
+                gets++;
+            }
+        }
+        assertEquals(0.7, gets / 100000.0, 0.01);
+    }
+
+    @Test
+    void testInvalidSpecs() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("get"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("fly=10"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("get=x"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadMix.parse("get=0"));
+        assertThrows(IllegalArgumentException.class,
+                () -> new WorkloadMix(Collections.singletonMap(WorkloadMix.Operation.GET, -1)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса WorkloadProfile
+ */
+class WorkloadProfileTest {
+
+    @Test
+    void testParseBytes() {
+        assertEquals(1048576, WorkloadProfile.parseBytes("1048576"));
+        assertEquals(512L * 1024, WorkloadProfile.parseBytes("512k"));
+        assertEquals(64L * 1024 * 1024, WorkloadProfile.parseBytes("64M"));
+        assertEquals(2L * 1024 * 1024 * 1024, WorkloadProfile.parseBytes(" 2g "));
+    }
+
+    @Test
+    void testParseBytesRejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> WorkloadProfile.parseBytes("много"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadProfile.parseBytes("m"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadProfile.parseBytes("0k"));
+        assertThrows(IllegalArgumentException.class, () -> WorkloadProfile.parseBytes("-5"));
+    }
+
+    @Test
+    void testValidation() {
+        WorkloadMix mix = WorkloadMix.parse("get=1");
+
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadProfile(mix, 0, 1, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadProfile(mix, 10, 0, 1024));
+        assertThrows(IllegalArgumentException.class, () -> new WorkloadProfile(mix, 10, 1, 0));
+
+        WorkloadProfile profile = new WorkloadProfile(mix, 10, 4, WorkloadProfile.UNLIMITED_MEMORY);
+        assertEquals(10, profile.getSize());
+        assertEquals(4, profile.getThreads());
+        assertEquals(WorkloadProfile.UNLIMITED_MEMORY, profile.getMemoryBudgetBytes());
+    }
+}
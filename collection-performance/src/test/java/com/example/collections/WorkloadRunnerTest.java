@@ -0,0 +1,62 @@
+package com.example.collections;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса WorkloadRunner
+ */
+class WorkloadRunnerTest {
+
+    private static final MeasurementConfig FAST = new MeasurementConfig(1, 1, 3);
+
+    @Test
+    void testPlanIsReproducible() {
+        WorkloadMix mix = WorkloadMix.parse("get=70,add=20,remove=10");
+        WorkloadPlan first = WorkloadPlan.generate(mix, IndexDistribution.ZIPF, 1000, 100, 7);
+        WorkloadPlan second = WorkloadPlan.generate(mix, IndexDistribution.ZIPF, 1000, 100, 7);
+
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.getOperation(i), second.getOperation(i));
+            assertEquals(first.getPosition(i), second.getPosition(i));
+        }
+        assertEquals(1000, first.count(WorkloadMix.Operation.GET) + first.count(WorkloadMix.Operation.ADD)
+                + first.count(WorkloadMix.Operation.REMOVE));
+    }
+
+    @Test
+    void testRunReportsThroughputAndLatencies() {
+        WorkloadPlan plan = WorkloadPlan.generate(WorkloadMix.parse("get=70,add=20,remove=10"),
+                IndexDistribution.UNIFORM, 2000, 500, 1);
+        ListRegistry registry = ListRegistry.defaults(500)
+                .select(Arrays.asList("ArrayList", "LinkedList", "Arrays.asList", "IntArrayList"));
+
+        WorkloadResult result = new WorkloadRunner(plan, FAST, registry).run();
+
+        for (String name : Arrays.asList("ArrayList", "LinkedList", "IntArrayList")) {
+            assertTrue(result.getPerformance().isSupported(name));
+            assertTrue(result.getOperationsPerSecond(name) > 0);
+            assertTrue(result.getLatencyPercentile(name, WorkloadMix.Operation.GET, 99)
+                    >= result.getLatencyPercentile(name, WorkloadMix.Operation.GET, 50));
+            assertTrue(Double.isNaN(result.getLatencyPercentile(name, WorkloadMix.Operation.SET, 50)));
+        }
+        assertFalse(result.getPerformance().isSupported("Arrays.asList"));
+        assertEquals(0, result.getOperationsPerSecond("Arrays.asList"));
+    }
+
+    @Test
+    void testDrainingMixKeepsRunning() {
+        // Удалений больше, чем элементов: опустевший список пополняется вместо чтения и удаления
+        WorkloadPlan plan = WorkloadPlan.generate(WorkloadMix.parse("remove=1,removeLast=1,get=1"),
+                IndexDistribution.SEQUENTIAL, 1000, 10, 1);
+        ListRegistry registry = ListRegistry.defaults(10).select(Arrays.asList("ArrayList", "OffHeapIntList"));
+
+        WorkloadResult result = new WorkloadRunner(plan, FAST, registry).run();
+
+        assertTrue(result.getPerformance().isSupported("ArrayList"));
+        assertTrue(result.getPerformance().isSupported("OffHeapIntList"));
+    }
+}
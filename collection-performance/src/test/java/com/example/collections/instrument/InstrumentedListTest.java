@@ -0,0 +1,87 @@
+package com.example.collections.instrument;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса InstrumentedList
+ */
+class InstrumentedListTest {
+
+    @Test
+    void testDelegatesAndCountsOperations() {
+        ListMetrics metrics = new ListMetrics();
+        List<Integer> delegate = new LinkedList<>();
+        InstrumentedList<Integer> list = new InstrumentedList<>(delegate, metrics);
+
+        list.add(1);
+        list.add(0, 0);
+        list.addAll(Arrays.asList(2, 3, 4));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), delegate);
+        assertEquals(2, list.get(2));
+        assertTrue(list.contains(3));
+        assertEquals(4, list.indexOf(4));
+        assertEquals(Integer.valueOf(0), list.remove(0));
+        assertTrue(list.remove(Integer.valueOf(4)));
+        assertTrue(list.removeIf(value -> value == 3));
+        list.set(0, 10);
+
+        assertEquals(Arrays.asList(10, 2), delegate);
+        assertEquals(list, Arrays.asList(10, 2));
+        assertEquals(delegate.hashCode(), list.hashCode());
+        assertEquals(3, metrics.getCount(Operation.ADD));
+        assertEquals(1, metrics.getCount(Operation.GET));
+        assertEquals(2, metrics.getCount(Operation.CONTAINS));
+        assertEquals(3, metrics.getCount(Operation.REMOVE));
+        assertEquals(3, metrics.getLatency(Operation.REMOVE).getCount());
+    }
+
+    @Test
+    void testIterationTimedUntilExhausted() {
+        ListMetrics metrics = new ListMetrics();
+        InstrumentedList<Integer> list = new InstrumentedList<>(new ArrayList<>(Arrays.asList(1, 2, 3)), metrics);
+
+        int sum = 0;
+        for (int value : list) {
+            sum += value;
+        }
+        Iterator<Integer> partial = list.iterator();
+        partial.next();
+        list.forEach(value -> { });
+        list.stream().count();
+
+        assertEquals(6, sum);
+        assertEquals(4, metrics.getCount(Operation.ITERATE));
+        // Незавершённый обход и spliterator только считаются
+        assertEquals(2, metrics.getLatency(Operation.ITERATE).getCount());
+    }
+
+    @Test
+    void testSampledLatency() {
+        ListMetrics metrics = new ListMetrics(8);
+        InstrumentedList<Integer> list = new InstrumentedList<>(new ArrayList<>(), metrics);
+        for (int i = 0; i < 64; i++) {
+            list.add(i);
+        }
+
+        assertEquals(64, metrics.getCount(Operation.ADD));
+        assertEquals(8, metrics.getLatency(Operation.ADD).getCount());
+        assertEquals(64, list.size());
+    }
+
+    @Test
+    void testUnsupportedOperationPropagates() {
+        InstrumentedList<Integer> list = new InstrumentedList<>(Arrays.asList(1, 2), new ListMetrics());
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertEquals(1, list.getMetrics().getCount(Operation.ADD));
+        assertEquals(0, list.getMetrics().getLatency(Operation.ADD).getCount());
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.collections.instrument;
+
+import com.example.collections.PerformanceResult;
+import com.example.collections.TimingStatistics;
+import com.example.collections.WorkloadMix;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ListMetrics
+ */
+class ListMetricsTest {
+
+    @Test
+    void testSamplingCountsEveryCallAndTimesEveryNth() {
+        ListMetrics metrics = new ListMetrics(3);
+        assertEquals(4, metrics.getSampleInterval());
+
+        int sampled = 0;
+        for (int i = 0; i < 100; i++) {
+            if (metrics.sample(Operation.GET)) {
+                metrics.record(Operation.GET, 10);
+                sampled++;
+            }
+        }
+
+        assertEquals(25, sampled);
+        assertEquals(100, metrics.getCount(Operation.GET));
+        assertEquals(25, metrics.getLatency(Operation.GET).getCount());
+        assertEquals(100, metrics.getTotalCount());
+        assertThrows(IllegalArgumentException.class, () -> metrics.setSampleInterval(0));
+
+        metrics.reset();
+        assertEquals(0, metrics.getTotalCount());
+        assertEquals(0, metrics.getLatency(Operation.GET).getCount());
+    }
+
+    @Test
+    void testSamplingFromSeveralThreads() throws InterruptedException {
+        ListMetrics metrics = new ListMetrics(4);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    if (metrics.sample(Operation.ADD)) {
+                        metrics.record(Operation.ADD, 10);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Каждый поток замеряет каждый 4-й свой вызов
+        assertEquals(4000, metrics.getCount(Operation.ADD));
+        assertEquals(1000, metrics.getLatency(Operation.ADD).getCount());
+    }
+
+    @Test
+    void testToWorkloadMixAndResults() {
+        ListMetrics arrayList = metricsWith(700, 200, 100);
+        ListMetrics linkedList = metricsWith(10, 0, 0);
+
+        WorkloadMix mix = arrayList.toWorkloadMix();
+        assertEquals(0.7, mix.getShare(WorkloadMix.Operation.GET), 1e-9);
+        assertEquals(0.1, mix.getShare(WorkloadMix.Operation.REMOVE), 1e-9);
+
+        Map<String, ListMetrics> byImplementation = new LinkedHashMap<>();
+        byImplementation.put("ArrayList", arrayList);
+        byImplementation.put("LinkedList", linkedList);
+        PerformanceResult[] results = ListMetrics.toResults(byImplementation);
+
+        assertEquals(3, results.length);
+        assertEquals("observed(get)", results[0].getOperationName());
+        assertEquals(1, results[0].getOperationCount());
+        assertEquals(50, results[0].getTime("ArrayList"));
+        assertTrue(results[0].isSupported("LinkedList"));
+        assertEquals("observed(add)", results[1].getOperationName());
+        assertFalse(results[1].isSupported("LinkedList"));
+        assertThrows(IllegalArgumentException.class, () -> new ListMetrics().toWorkloadMix());
+    }
+
+    @Test
+    void testStatisticsKeepLatencyTail() {
+        ListMetrics metrics = new ListMetrics();
+        for (int i = 0; i < 1000; i++) {
+            metrics.sample(Operation.GET);
+            metrics.record(Operation.GET, i % 50 == 0 ? 1_000_000 : 100);
+        }
+
+        TimingStatistics statistics = metrics.toStatistics(Operation.GET);
+        assertEquals(0, statistics.getRejectedCount());
+        assertTrue(statistics.getP99() >= 1_000_000, "p99 = " + statistics.getP99());
+        assertEquals(metrics.getLatency(Operation.GET).getMax(), statistics.getSamples()[999]);
+    }
+
+    @Test
+    void testJmxRegistration() throws Exception {
+        ListMetrics metrics = metricsWith(5, 0, 0);
+        ObjectName name = metrics.register("ListMetricsTest");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(5L, server.getAttribute(name, "TotalCount"));
+            CompositeData[] operations = (CompositeData[]) server.getAttribute(name, "Operations");
+            assertEquals(Operation.values().length, operations.length);
+            assertEquals("get", operations[0].get("operation"));
+            assertEquals(5L, operations[0].get("count"));
+            assertEquals(50L, operations[0].get("p50Nanos"));
+            assertThrows(IllegalStateException.class, () -> metrics.register("ListMetricsTest"));
+
+            server.setAttribute(name, new javax.management.Attribute("SampleInterval", 16));
+            assertEquals(16, metrics.getSampleInterval());
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+
+    private static ListMetrics metricsWith(int gets, int adds, int removes) {
+        ListMetrics metrics = new ListMetrics();
+        for (int i = 0; i < gets; i++) {
+            metrics.sample(Operation.GET);
+            metrics.record(Operation.GET, 50);
+        }
+        for (int i = 0; i < adds; i++) {
+            metrics.sample(Operation.ADD);
+            metrics.record(Operation.ADD, 100);
+        }
+        for (int i = 0; i < removes; i++) {
+            metrics.sample(Operation.REMOVE);
+            metrics.record(Operation.REMOVE, 1000);
+        }
+        return metrics;
+    }
+}
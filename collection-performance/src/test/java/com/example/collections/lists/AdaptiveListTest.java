@@ -0,0 +1,180 @@
+package com.example.collections.lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса AdaptiveList
+ */
+class AdaptiveListTest {
+
+    @Test
+    void testHeadInsertsLeaveArray() {
+        AdaptiveList<Integer> list = new AdaptiveList<>();
+        for (int i = 0; i < 20_000; i++) {
+            list.add(0, i);
+        }
+
+        assertNotEquals(AdaptiveList.Representation.ARRAY, list.getRepresentation());
+        assertTrue(list.getMigrationCount() >= 1);
+        assertEquals(20_000, list.size());
+        for (int i = 0; i < 20_000; i += 997) {
+            assertEquals(19_999 - i, list.get(i));
+        }
+    }
+
+    @Test
+    void testRandomGetsLeaveLinked() {
+        AdaptiveList<Integer> list = new AdaptiveList<>(AdaptiveList.Representation.LINKED);
+        for (int i = 0; i < 20_000; i++) {
+            list.add(0, i);
+        }
+        Random random = new Random(3);
+        for (int i = 0; i < 4 * AdaptiveList.WINDOW; i++) {
+            int index = random.nextInt(list.size());
+            assertEquals(19_999 - index, list.get(index));
+        }
+
+        // Окно на стыке фаз выбирает блоки; переход из блоков в массив не окупается на 20000 элементах
+        assertNotEquals(AdaptiveList.Representation.LINKED, list.getRepresentation());
+    }
+
+    @Test
+    void testIteratorEditsLeaveArray() {
+        AdaptiveList<Integer> list = filled(20_000);
+        ListIterator<Integer> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            int value = iterator.next();
+            iterator.add(-value);
+        }
+
+        assertNotEquals(AdaptiveList.Representation.ARRAY, list.getRepresentation());
+        assertEquals(40_000, list.size());
+        for (int i = 0; i < 40_000; i += 2) {
+            assertEquals(i / 2, list.get(i));
+            assertEquals(-i / 2, list.get(i + 1));
+        }
+    }
+
+    @Test
+    void testMigrationIsIncremental() {
+        AdaptiveList<Integer> list = filled(10_000);
+        list.migrateTo(AdaptiveList.Representation.LINKED);
+
+        assertTrue(list.isMigrating());
+        assertEquals(AdaptiveList.Representation.LINKED, list.getRepresentation());
+        assertEquals(10_000, list.size());
+        int operations = 0;
+        while (list.isMigrating()) {
+            // Операции попадают и в перенесённую часть, и в ещё не перенесённую
+            assertEquals(9_999, list.get(list.size() - 1));
+            assertEquals(0, list.get(0));
+            operations += 2;
+        }
+        assertTrue(operations <= 10_000 / AdaptiveList.MIGRATION_STEP + 2);
+        assertEquals(filled(10_000), list);
+    }
+
+    @Test
+    void testMatchesArrayListAcrossMigrations() {
+        AdaptiveList<Integer> adaptive = new AdaptiveList<>();
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        AdaptiveList.Representation[] representations = AdaptiveList.Representation.values();
+
+        for (int step = 0; step < 30_000; step++) {
+            if (step % 2_500 == 0) {
+                adaptive.migrateTo(representations[step / 2_500 % representations.length]);
+            }
+            int operation = random.nextInt(10);
+            if (operation < 4 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                adaptive.add(index, step);
+                expected.add(index, step);
+            } else if (operation < 6) {
+                adaptive.add(step);
+                expected.add(step);
+            } else if (operation < 8) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), adaptive.remove(index));
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), adaptive.set(index, -step));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), adaptive.get(index));
+            }
+            assertEquals(expected.size(), adaptive.size());
+        }
+
+        assertEquals(expected, adaptive);
+        int from = expected.size() / 3;
+        adaptive.subList(from, from * 2).clear();
+        expected.subList(from, from * 2).clear();
+        adaptive.removeIf(value -> value % 3 == 0);
+        expected.removeIf(value -> value % 3 == 0);
+        assertEquals(expected, adaptive);
+    }
+
+    @Test
+    void testIteratorContinuesAfterMigration() {
+        AdaptiveList<Integer> list = filled(1000);
+        ListIterator<Integer> iterator = list.listIterator();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, iterator.next());
+        }
+
+        list.migrateTo(AdaptiveList.Representation.LINKED);
+        iterator.remove();
+        assertEquals(10, iterator.next());
+        iterator.set(-10);
+        assertEquals(-10, iterator.previous());
+        assertEquals(8, iterator.previous());
+
+        assertEquals(999, list.size());
+        assertEquals(-10, list.get(9));
+        assertEquals(AdaptiveList.Representation.LINKED, list.getRepresentation());
+    }
+
+    @Test
+    void testIteratorFailsFast() {
+        AdaptiveList<Integer> list = filled(10);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(10);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+        assertThrows(IllegalStateException.class, () -> list.iterator().remove());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(11));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(13, 0));
+    }
+
+    @Test
+    void testClearKeepsRepresentation() {
+        AdaptiveList<Integer> list = filled(5000);
+        list.migrateTo(AdaptiveList.Representation.CHUNKED);
+        list.clear();
+
+        assertFalse(list.isMigrating());
+        assertTrue(list.isEmpty());
+        assertEquals(AdaptiveList.Representation.CHUNKED, list.getRepresentation());
+        list.add(1);
+        assertEquals(1, list.get(0));
+    }
+
+    private static AdaptiveList<Integer> filled(int size) {
+        AdaptiveList<Integer> list = new AdaptiveList<>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.collections.lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ChunkedList
+ */
+class ChunkedListTest {
+
+    @Test
+    void testAppendAndGet() {
+        ChunkedList<Integer> list = new ChunkedList<>(8);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(1000, list.size());
+        assertEquals(125, list.getChunkCount());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.get(i));
+        }
+    }
+
+    @Test
+    void testInsertAtBeginningSplitsChunks() {
+        ChunkedList<Integer> list = new ChunkedList<>(4);
+        for (int i = 0; i < 100; i++) {
+            list.add(0, i);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(99 - i, list.get(i));
+        }
+    }
+
+    @Test
+    void testMatchesArrayListUnderRandomOperations() {
+        ChunkedList<Integer> chunked = new ChunkedList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 20_000; step++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                chunked.add(index, step);
+                expected.add(index, step);
+            } else if (operation < 9) {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.remove(index), chunked.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), chunked.set(index, -step));
+            }
+        }
+
+        assertEquals(expected, chunked);
+        assertEquals(expected, new ArrayList<>(chunked));
+    }
+
+    @Test
+    void testRemoveAllMergesAndEmpties() {
+        ChunkedList<Integer> list = new ChunkedList<>(8);
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+        }
+        Random random = new Random(3);
+        while (!list.isEmpty()) {
+            list.remove(random.nextInt(list.size()));
+        }
+
+        assertEquals(0, list.getChunkCount());
+        list.add(5);
+        assertEquals(5, list.get(0));
+    }
+
+    @Test
+    void testIteratorRemove() {
+        ChunkedList<Integer> list = new ChunkedList<>(4);
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+        }
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals(25, list.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals(2 * i + 1, list.get(i));
+        }
+    }
+
+    @Test
+    void testIteratorFailFast() {
+        ChunkedList<Integer> list = new ChunkedList<>();
+        list.add(1);
+        list.add(2);
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        list.add(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    void testBounds() {
+        ChunkedList<Integer> list = new ChunkedList<>();
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedList<Integer>(2));
+    }
+}
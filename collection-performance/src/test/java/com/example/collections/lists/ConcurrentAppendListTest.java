@@ -0,0 +1,117 @@
+package com.example.collections.lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ConcurrentAppendList
+ */
+class ConcurrentAppendListTest {
+
+    @Test
+    void testAddAcrossSegments() {
+        List<Integer> list = new ConcurrentAppendList<>();
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(10000, list.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertEquals(5000, list.indexOf(5000));
+        assertTrue(list.contains(9999));
+    }
+
+    @Test
+    void testSet() {
+        List<Integer> list = new ConcurrentAppendList<>();
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        assertEquals(2, list.set(1, 5));
+        assertEquals(Arrays.asList(1, 5, 3), list);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(3, 0));
+    }
+
+    @Test
+    void testUnsupportedOperations() {
+        List<Integer> list = new ConcurrentAppendList<>();
+        list.add(1);
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 0));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    @Test
+    void testAddBeyondMaxSizeLeavesListIntact() {
+        List<Integer> list = new ConcurrentAppendList<>(3);
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> list.add(4));
+        }
+        assertEquals(3, list.size());
+        assertEquals(Arrays.asList(1, 2, 3), new ArrayList<>(list));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentAppendList<Integer>(-1));
+    }
+
+    @Test
+    void testIteratorSeesAppendsDuringTraversal() {
+        List<Integer> list = new ConcurrentAppendList<>();
+        list.add(1);
+        Iterator<Integer> iterator = list.iterator();
+        assertEquals(1, iterator.next());
+
+        list.add(2);
+        assertTrue(iterator.hasNext());
+        assertEquals(2, iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    void testConcurrentAppendsArePublished() throws InterruptedException {
+        List<Integer> list = new ConcurrentAppendList<>();
+        int threads = 4;
+        int perThread = 50000;
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicBoolean readerFailed = new AtomicBoolean();
+
+        Thread reader = new Thread(() -> {
+            while (done.getCount() > 0) {
+                int size = list.size();
+                if (size > 0 && list.get(size - 1) == null) {
+                    readerFailed.set(true);
+                }
+            }
+        });
+        reader.start();
+        for (int t = 0; t < threads; t++) {
+            int base = t * perThread;
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    list.add(base + i);
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        reader.join();
+
+        assertFalse(readerFailed.get(), "Опубликованные элементы не должны быть null");
+        assertEquals(threads * perThread, list.size());
+        Set<Integer> unique = new HashSet<>(new ArrayList<>(list));
+        assertEquals(threads * perThread, unique.size());
+    }
+}
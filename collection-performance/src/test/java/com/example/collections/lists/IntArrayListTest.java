@@ -0,0 +1,145 @@
+package com.example.collections.lists;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса IntArrayList
+ */
+class IntArrayListTest {
+
+    private IntArrayList list;
+
+    @BeforeEach
+    void setUp() {
+        list = new IntArrayList(2);
+    }
+
+    @Test
+    void testAddAndGrow() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        assertEquals(100, list.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.getInt(i));
+        }
+    }
+
+    @Test
+    void testAddAtIndex() {
+        list.add(1);
+        list.add(3);
+        list.add(0, 0);
+        list.add(2, 2);
+        list.add(4, 4);
+
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(7, 1));
+    }
+
+    @Test
+    void testRemoveAt() {
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        assertEquals(0, list.removeAt(0));
+        assertEquals(4, list.removeAt(3));
+        assertEquals(2, list.removeAt(1));
+        assertArrayEquals(new int[] {1, 3}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+    }
+
+    @Test
+    void testSetAndSearch() {
+        list.add(10);
+        list.add(20);
+
+        assertEquals(20, list.set(1, 30));
+        assertEquals(1, list.indexOf(30));
+        assertTrue(list.contains(10));
+        assertFalse(list.contains(20));
+        assertEquals(-1, list.indexOf(20));
+    }
+
+    @Test
+    void testGetOutOfBounds() {
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(-1));
+    }
+
+    @Test
+    void testIterator() {
+        for (int i = 0; i < 3; i++) {
+            list.add(i);
+        }
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        int expected = 0;
+        while (iterator.hasNext()) {
+            assertEquals(expected++, iterator.nextInt());
+        }
+        assertEquals(3, expected);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    void testIteratorFailFast() {
+        list.add(1);
+        list.add(2);
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        iterator.nextInt();
+        list.add(3);
+
+        assertThrows(ConcurrentModificationException.class, iterator::nextInt);
+    }
+
+    @Test
+    void testForEachAndClear() {
+        for (int i = 1; i <= 4; i++) {
+            list.add(i);
+        }
+        int[] sum = {0};
+        list.forEach(value -> sum[0] += value);
+
+        assertEquals(10, sum[0]);
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testRemoveIf() {
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+
+        assertTrue(list.removeIf(value -> value % 2 == 0));
+        assertArrayEquals(new int[] {1, 3, 5, 7, 9}, list.toArray());
+        assertFalse(list.removeIf(value -> value > 100));
+    }
+
+    @Test
+    void testRemoveRangeAndAddAll() {
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        list.removeRange(2, 6);
+        assertArrayEquals(new int[] {0, 1, 6, 7}, list.toArray());
+        list.addAll(2, new int[] {20, 30, 40});
+        assertArrayEquals(new int[] {0, 1, 20, 30, 40, 6, 7}, list.toArray());
+        list.addAll(list.size(), new int[] {8});
+        assertEquals(8, list.getInt(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeRange(3, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.addAll(9, new int[] {1}));
+    }
+}
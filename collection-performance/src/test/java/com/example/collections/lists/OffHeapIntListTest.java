@@ -0,0 +1,151 @@
+package com.example.collections.lists;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса OffHeapIntList
+ */
+class OffHeapIntListTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDirectBufferGrows() {
+        OffHeapIntList list = new OffHeapIntList(4);
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        assertFalse(list.isMapped());
+        assertEquals(1000, list.size());
+        assertTrue(list.capacity() >= 1000);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, list.getInt(i));
+        }
+    }
+
+    @Test
+    void testInsertAndRemove() {
+        OffHeapIntList list = new OffHeapIntList(2);
+        list.add(1);
+        list.add(3);
+        list.add(0, 0);
+        list.add(2, 2);
+
+        assertEquals(2, list.removeAt(2));
+        assertEquals(0, list.removeAt(0));
+        assertEquals(1, list.getInt(0));
+        assertEquals(3, list.getInt(1));
+        assertEquals(2, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(5, 1));
+    }
+
+    @Test
+    void testShiftsMatchArrayList() {
+        try (OffHeapIntList direct = new OffHeapIntList(4);
+             OffHeapIntList mapped = OffHeapIntList.mapped(tempDir.resolve("shift.bin"), 4)) {
+            List<Integer> expected = new ArrayList<>();
+            Random random = new Random(42);
+            for (int i = 0; i < 2000; i++) {
+                if (expected.size() > 10 && random.nextInt(3) == 0) {
+                    int index = random.nextInt(expected.size());
+                    int removed = expected.remove(index);
+                    assertEquals(removed, direct.removeAt(index));
+                    assertEquals(removed, mapped.removeAt(index));
+                } else {
+                    int index = random.nextInt(expected.size() + 1);
+                    expected.add(index, i);
+                    direct.add(index, i);
+                    mapped.add(index, i);
+                }
+            }
+
+            assertEquals(expected.size(), direct.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals((int) expected.get(i), direct.getInt(i));
+                assertEquals((int) expected.get(i), mapped.getInt(i));
+            }
+        }
+    }
+
+    @Test
+    void testBulkDefaults() {
+        OffHeapIntList list = new OffHeapIntList(2);
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        list.removeRange(2, 6);
+        list.addAll(1, new int[] {10, 20});
+        assertTrue(list.removeIf(value -> value >= 10));
+        assertEquals(4, list.size());
+        assertEquals(0, list.getInt(0));
+        assertEquals(1, list.getInt(1));
+        assertEquals(6, list.getInt(2));
+        assertEquals(7, list.getInt(3));
+    }
+
+    @Test
+    void testSearchSetAndIterate() {
+        OffHeapIntList list = new OffHeapIntList();
+        for (int i = 0; i < 5; i++) {
+            list.add(i * 10);
+        }
+
+        assertEquals(20, list.set(2, 25));
+        assertEquals(2, list.indexOf(25));
+        assertFalse(list.contains(20));
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        assertEquals(0 + 10 + 25 + 30 + 40, sum);
+    }
+
+    @Test
+    void testMappedFileGrowsAndKeepsData() throws Exception {
+        Path file = tempDir.resolve("ints.bin");
+        try (OffHeapIntList list = OffHeapIntList.mapped(file, 8)) {
+            for (int i = 0; i < 10_000; i++) {
+                list.add(i);
+            }
+
+            assertTrue(list.isMapped());
+            assertEquals(9_999, list.getInt(9_999));
+            assertTrue(Files.size(file) >= 10_000L * Integer.BYTES);
+        }
+        assertTrue(Files.exists(file));
+    }
+
+    @Test
+    void testMappedTempFileDeletedOnClose() throws Exception {
+        OffHeapIntList list = OffHeapIntList.mappedTemp(tempDir, 16);
+        list.add(42);
+        assertEquals(42, list.getInt(0));
+        list.close();
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapIntList(-1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.collections.lists;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ReadWriteLockList
+ */
+class ReadWriteLockListTest {
+
+    @Test
+    void testListOperations() {
+        List<Integer> list = new ReadWriteLockList<>(new LinkedList<>());
+        list.add(1);
+        list.add(3);
+        list.add(1, 2);
+
+        assertEquals(Arrays.asList(1, 2, 3), list);
+        assertEquals(2, list.set(1, 5));
+        assertEquals(5, list.remove(1));
+        assertTrue(list.contains(3));
+        assertEquals(1, list.indexOf(3));
+
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void testIteratorIsSnapshot() {
+        List<Integer> list = new ReadWriteLockList<>();
+        list.addAll(Arrays.asList(1, 2, 3));
+
+        Iterator<Integer> iterator = list.iterator();
+        list.add(4);
+
+        List<Integer> seen = new ArrayList<>();
+        iterator.forEachRemaining(seen::add);
+        assertEquals(Arrays.asList(1, 2, 3), seen);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void testConcurrentAdds() throws InterruptedException {
+        List<Integer> list = new ReadWriteLockList<>();
+        int threads = 4;
+        int perThread = 10000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    list.add(i);
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+
+        assertEquals(threads * perThread, list.size());
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.collections.report;
+
+import com.example.collections.PerformanceResult;
+import com.example.collections.TimingStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса Baseline
+ */
+class BaselineTest {
+
+    @TempDir
+    Path directory;
+
+    private static PerformanceResult result(int operationCount, long[] samplesA, long[] samplesB) {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("A", new TimingStatistics(samplesA));
+        statistics.put("B", new TimingStatistics(samplesB));
+        return new PerformanceResult("get", operationCount, statistics);
+    }
+
+    private Baseline store(PerformanceResult... results) {
+        Path file = directory.resolve("baseline.csv");
+        RunMetadata metadata = new RunMetadata(Collections.singletonMap("gitRevision", "abc"));
+        ResultExporter.write(file, metadata, results);
+        return Baseline.read(file);
+    }
+
+    @Test
+    void testRegressionBeyondThreshold() {
+        Baseline baseline = store(result(1000,
+                new long[] {10000, 10100, 9900, 10000}, new long[] {20000, 20100, 19900, 20000}));
+
+        // A замедлился на 50%, B ускорился вдвое
+        BaselineComparison comparison = baseline.compare(new PerformanceResult[] {result(1000,
+                new long[] {15000, 15100, 14900, 15000}, new long[] {10000, 10100, 9900, 10000})}, 10);
+
+        assertEquals("abc", comparison.getBaselineMetadata().get("gitRevision"));
+        assertEquals(2, comparison.getChanges().size());
+        assertTrue(comparison.hasRegressions());
+        List<BaselineComparison.Change> regressions = comparison.getRegressions();
+        assertEquals(1, regressions.size());
+        assertEquals("A", regressions.get(0).getImplementationName());
+        assertEquals(50, regressions.get(0).getChangePercent(), 1e-6);
+        assertTrue(comparison.getChanges().get(1).isSignificant());
+        assertFalse(comparison.getChanges().get(1).isRegression());
+    }
+
+    @Test
+    void testSlowdownWithinThresholdOrNoiseIsNotRegression() {
+        Baseline baseline = store(result(1000,
+                new long[] {10000, 10100, 9900, 10000}, new long[] {10000, 12000, 8000, 10000}));
+
+        // A значимо медленнее, но в пределах порога; интервалы B пересекаются
+        BaselineComparison comparison = baseline.compare(new PerformanceResult[] {result(1000,
+                new long[] {10500, 10600, 10400, 10500}, new long[] {12000, 14000, 10000, 12000})}, 10);
+
+        assertTrue(comparison.getChanges().get(0).isSignificant());
+        assertFalse(comparison.getChanges().get(1).isSignificant());
+        assertFalse(comparison.hasRegressions());
+    }
+
+    @Test
+    void testDifferentOperationCountsAreNotCompared() {
+        Baseline baseline = store(result(1000,
+                new long[] {10000, 10100, 9900, 10000}, new long[] {10000, 10100, 9900, 10000}));
+
+        // Для сценариев O(n) время операции на другом размере несравнимо
+        BaselineComparison comparison = baseline.compare(new PerformanceResult[] {result(10000,
+                new long[] {900000, 901000, 899000, 900000}, new long[] {100000, 101000, 99000, 100000})}, 10);
+
+        assertTrue(comparison.getChanges().isEmpty());
+        assertFalse(comparison.hasRegressions());
+        assertEquals(2, comparison.getMismatched().size());
+        assertTrue(comparison.getMismatched().get(0).startsWith("get / A: 1000 операций в базе, 10000 сейчас"));
+        assertTrue(comparison.getMissing().isEmpty());
+        assertTrue(comparison.isIncomplete());
+    }
+
+    @Test
+    void testMissingEntriesAreReported() {
+        Map<String, TimingStatistics> removeStatistics = new LinkedHashMap<>();
+        removeStatistics.put("A", new TimingStatistics(new long[] {10000, 10100, 9900, 10000}));
+        Baseline baseline = store(result(1000,
+                new long[] {10000, 10100, 9900, 10000}, new long[] {10000, 10100, 9900, 10000}),
+                new PerformanceResult("remove", 1000, removeStatistics));
+
+        // Сценарий remove пропал, а B перестал поддерживать get
+        Map<String, TimingStatistics> getStatistics = new LinkedHashMap<>();
+        getStatistics.put("A", new TimingStatistics(new long[] {10000, 10100, 9900, 10000}));
+        getStatistics.put("B", null);
+        BaselineComparison comparison = baseline.compare(
+                new PerformanceResult[] {new PerformanceResult("get", 1000, getStatistics)}, 10);
+
+        assertEquals(1, comparison.getChanges().size());
+        assertEquals(Arrays.asList("get / B", "remove / A"), comparison.getMissing());
+        assertTrue(comparison.isIncomplete());
+
+        BaselineComparison complete = baseline.compare(new PerformanceResult[] {result(1000,
+                new long[] {10000, 10100, 9900, 10000}, new long[] {10000, 10100, 9900, 10000}),
+                new PerformanceResult("remove", 1000, removeStatistics)}, 10);
+        assertFalse(complete.isIncomplete());
+    }
+
+    @Test
+    void testReadsJsonExport() throws IOException {
+        PerformanceResult stored = result(1000,
+                new long[] {10000, 10100, 9900, 10000}, new long[] {20000, 20100, 19900, 20000});
+        Map<String, TimingStatistics> unsupported = new LinkedHashMap<>();
+        unsupported.put("A", null);
+        Path file = directory.resolve("baseline.json");
+        ResultExporter.write(file, new RunMetadata(Collections.singletonMap("gitRevision", "a\"b")),
+                new PerformanceResult[] {stored, new PerformanceResult("add \"quoted\"", 1000, unsupported)});
+
+        Baseline baseline = Baseline.read(file);
+        BaselineComparison comparison = baseline.compare(new PerformanceResult[] {result(1000,
+                new long[] {15000, 15100, 14900, 15000}, new long[] {20000, 20100, 19900, 20000})}, 10);
+
+        assertEquals("a\"b", comparison.getBaselineMetadata().get("gitRevision"));
+        assertEquals(2, comparison.getChanges().size());
+        assertEquals(50, comparison.getChanges().get(0).getChangePercent(), 1e-6);
+        assertEquals(1, comparison.getRegressions().size());
+
+        Path broken = Files.write(directory.resolve("broken.json"), Arrays.asList("{\"results\": ["));
+        assertThrows(IllegalArgumentException.class, () -> Baseline.read(broken));
+        Path foreign = Files.write(directory.resolve("foreign.json"), Arrays.asList("[1, 2]"));
+        assertThrows(IllegalArgumentException.class, () -> Baseline.read(foreign));
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path foreign = Files.write(directory.resolve("foreign.csv"), Arrays.asList("a,b,c", "1,2,3"));
+
+        assertThrows(IllegalArgumentException.class, () -> Baseline.read(foreign));
+    }
+
+    @Test
+    void testParseQuotedCsv() {
+        assertEquals(Arrays.asList("a,b", "c\"d", "", "e"), Baseline.parseCsvLine("\"a,b\",\"c\"\"d\",,e"));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.collections.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса JsonReader
+ */
+class JsonReaderTest {
+
+    @Test
+    void testParsesNestedValues() {
+        Map<?, ?> root = (Map<?, ?>) JsonReader.parse(
+                "{\"a\": [1, -2.5e1, true, false, null], \"b\": {}, \"c\": \"x\\\"\\n\\u0041\", \"d\": []}");
+
+        assertEquals(Arrays.asList(1.0, -25.0, true, false, null), root.get("a"));
+        assertEquals(Collections.emptyMap(), root.get("b"));
+        assertEquals("x\"\nA", root.get("c"));
+        assertEquals(Collections.emptyList(), (List<?>) root.get("d"));
+    }
+
+    @Test
+    void testRejectsMalformedDocuments() {
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parse("{\"a\": 1"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parse("{\"a\" 1}"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parse("[1, 2] 3"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parse("\"open"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parse("tru"));
+        assertThrows(IllegalArgumentException.class, () -> JsonReader.parse(""));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.collections.report;
+
+import com.example.collections.PerformanceResult;
+import com.example.collections.TimingStatistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса ResultExporter
+ */
+class ResultExporterTest {
+
+    @TempDir
+    Path directory;
+
+    private static final RunMetadata METADATA = new RunMetadata(Collections.singletonMap("javaVersion", "17"));
+
+    private static PerformanceResult[] results() {
+        Map<String, TimingStatistics> statistics = new LinkedHashMap<>();
+        statistics.put("ArrayList", new TimingStatistics(new long[] {1000, 1100, 900}));
+        statistics.put("Arrays.asList", null);
+        return new PerformanceResult[] {new PerformanceResult("add(\"в конец\", 1)", 100, statistics)};
+    }
+
+    @Test
+    void testCsv() {
+        String[] lines = ResultExporter.toCsv(METADATA, results()).split("\n");
+
+        assertEquals("# javaVersion=17", lines[0]);
+        assertEquals(ResultExporter.CSV_HEADER, lines[1]);
+        assertTrue(lines[2].startsWith("\"add(\"\"в конец\"\", 1)\",ArrayList,100,1000.0,1000.0,"));
+        assertEquals("\"add(\"\"в конец\"\", 1)\",Arrays.asList,100,,,,,,,,,,,,,,,", lines[3]);
+        assertEquals(ResultExporter.CSV_HEADER.split(",").length, Baseline.parseCsvLine(lines[3]).size());
+    }
+
+    @Test
+    void testJson() {
+        String json = ResultExporter.toJson(METADATA, results());
+
+        assertTrue(json.contains("\"javaVersion\": \"17\""));
+        assertTrue(json.contains("\"scenario\": \"add(\\\"в конец\\\", 1)\""));
+        assertTrue(json.contains("\"name\": \"ArrayList\", \"supported\": true, \"meanNs\": 1000.0"));
+        assertTrue(json.contains("{\"name\": \"Arrays.asList\", \"supported\": false}"));
+    }
+
+    @Test
+    void testWriteChoosesFormatByExtension() throws IOException {
+        Path csv = directory.resolve("run.csv");
+        Path json = directory.resolve("run.JSON");
+        ResultExporter.write(csv, METADATA, results());
+        ResultExporter.write(json, METADATA, results());
+
+        List<String> csvLines = Files.readAllLines(csv, StandardCharsets.UTF_8);
+        assertEquals(ResultExporter.CSV_HEADER, csvLines.get(1));
+        assertTrue(Files.readString(json).startsWith("{"));
+        assertThrows(IllegalArgumentException.class,
+                () -> ResultExporter.write(directory.resolve("run.txt"), METADATA, results()));
+    }
+}
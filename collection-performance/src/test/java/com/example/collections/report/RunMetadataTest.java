@@ -0,0 +1,31 @@
+package com.example.collections.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса RunMetadata
+ */
+class RunMetadataTest {
+
+    @Test
+    void testCaptureDescribesCurrentJvm() {
+        RunMetadata metadata = RunMetadata.capture();
+
+        assertEquals(System.getProperty("java.version"), metadata.get("javaVersion"));
+        assertEquals(String.valueOf(Runtime.getRuntime().availableProcessors()), metadata.get("processors"));
+        assertFalse(metadata.get("gc").isEmpty());
+        assertNotNull(metadata.get("gitRevision"));
+    }
+
+    @Test
+    void testMissingKey() {
+        RunMetadata metadata = new RunMetadata(Collections.singletonMap("cpu", "x"));
+
+        assertEquals("x", metadata.get("cpu"));
+        assertEquals(RunMetadata.UNKNOWN, metadata.get("gitRevision"));
+    }
+}
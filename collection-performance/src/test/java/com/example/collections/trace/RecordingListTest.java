@@ -0,0 +1,97 @@
+package com.example.collections.trace;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для классов RecordingList и TraceRecorder
+ */
+class RecordingListTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testRecordsEveryOperation() {
+        Path file = directory.resolve("ops.trace");
+        List<Integer> delegate = new ArrayList<>(Arrays.asList(1, 2, 3));
+        try (TraceRecorder recorder = new TraceRecorder(file, delegate.size())) {
+            List<Integer> list = new RecordingList(delegate, recorder);
+            list.add(4);
+            list.add(0, 0);
+            list.get(2);
+            list.set(1, 10);
+            list.remove(4);
+            list.contains(3);
+            list.clear();
+
+            assertEquals(7, recorder.getRecordCount());
+        }
+
+        assertTrue(delegate.isEmpty());
+        TraceReplayer replayer = new TraceReplayer(file);
+        assertEquals(3, replayer.getInitialSize());
+        assertEquals(7, replayer.getRecordCount());
+    }
+
+    @Test
+    void testConcurrentRecordingKeepsExecutionOrder() throws InterruptedException {
+        Path file = directory.resolve("concurrent.trace");
+        List<Integer> delegate = Collections.synchronizedList(new ArrayList<>());
+        try (TraceRecorder recorder = new TraceRecorder(file, 0)) {
+            List<Integer> list = new RecordingList(delegate, recorder);
+            Thread[] threads = new Thread[4];
+            for (int t = 0; t < threads.length; t++) {
+                int base = t * 10_000;
+                threads[t] = new Thread(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        if (i % 2 == 0) {
+                            list.add(base + i);
+                        } else {
+                            list.add(0, base + i);
+                        }
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        List<Integer> replayed = new ArrayList<>();
+        new TraceReplayer(file).replay(replayed);
+        assertEquals(delegate, replayed);
+    }
+
+    @Test
+    void testFailedOperationIsNotRecorded() {
+        Path file = directory.resolve("failed.trace");
+        try (TraceRecorder recorder = new TraceRecorder(file, 0)) {
+            List<Integer> list = new RecordingList(new ArrayList<>(), recorder);
+            assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+            assertEquals(0, recorder.getRecordCount());
+        }
+    }
+
+    @Test
+    void testCompositeOperationsAreDecomposed() {
+        Path file = directory.resolve("composite.trace");
+        try (TraceRecorder recorder = new TraceRecorder(file, 0)) {
+            List<Integer> list = new RecordingList(new ArrayList<>(), recorder);
+            list.addAll(Arrays.asList(1, 2, 3));
+            for (Integer ignored : list) {
+                // Итерация записывается как get по каждому индексу
+            }
+            assertEquals(6, recorder.getRecordCount());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.collections.trace;
+
+import com.example.collections.lists.IntArrayList;
+import com.example.collections.lists.IntList;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit тесты для класса TraceReplayer
+ */
+class TraceReplayerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReplayReproducesFinalState() {
+        Path file = directory.resolve("random.trace");
+        List<Integer> original = new ArrayList<>(Arrays.asList(0, 1, 2, 3, 4));
+        try (TraceRecorder recorder = new TraceRecorder(file, original.size())) {
+            List<Integer> list = new RecordingList(original, recorder);
+            Random random = new Random(1);
+            for (int i = 0; i < 1000; i++) {
+                switch (random.nextInt(5)) {
+                    case 0:
+                        list.add(i);
+                        break;
+                    case 1:
+                        list.add(random.nextInt(list.size() + 1), i);
+                        break;
+                    case 2:
+                        list.set(random.nextInt(list.size()), -i);
+                        break;
+                    case 3:
+                        list.remove(random.nextInt(list.size()));
+                        break;
+                    default:
+                        list.get(random.nextInt(list.size()));
+                        break;
+                }
+            }
+        }
+
+        TraceReplayer replayer = new TraceReplayer(file);
+        List<Integer> replayed = new LinkedList<>(Arrays.asList(0, 1, 2, 3, 4));
+        replayer.replay(replayed);
+        assertEquals(original, replayed);
+
+        IntList primitive = new IntArrayList();
+        for (int i = 0; i < replayer.getInitialSize(); i++) {
+            primitive.add(i);
+        }
+        replayer.replay(primitive);
+        assertEquals(original.size(), primitive.size());
+        for (int i = 0; i < original.size(); i++) {
+            assertEquals(original.get(i), primitive.getInt(i));
+        }
+    }
+
+    @Test
+    void testInvalidFiles() throws IOException {
+        Path empty = Files.write(directory.resolve("empty.trace"), new byte[0]);
+        Path foreign = Files.write(directory.resolve("foreign.trace"), new byte[TraceFormat.HEADER_SIZE]);
+
+        assertThrows(IllegalArgumentException.class, () -> new TraceReplayer(empty));
+        assertThrows(IllegalArgumentException.class, () -> new TraceReplayer(foreign));
+    }
+
+    @Test
+    void testUnknownOperation() throws IOException {
+        Path file = directory.resolve("unknown.trace");
+        try (TraceRecorder recorder = new TraceRecorder(file, 0)) {
+            recorder.record((byte) 99, 0, 0);
+        }
+
+        TraceReplayer replayer = new TraceReplayer(file);
+        assertThrows(IllegalStateException.class, () -> replayer.replay(new ArrayList<>()));
+    }
+}